@@ -0,0 +1,158 @@
+-- Transaction filter query benchmark: COALESCE catch-all vs dynamic predicates
+--
+-- Seeds 1,000,000 transactions (100 users x 10 wallets x 7 categories) into a scratch
+-- schema, then compares plans and latency of the old `x = COALESCE(:p, x)` queries
+-- against the predicate-only-when-supplied SQL generated by TransactionQueryRepositoryImpl.
+--
+-- Usage:
+--   psql -d expense_tracker_db -f performance-tests/sql/transaction-filter-benchmark.sql \
+--        > performance-tests/reports/transaction-filter-benchmark.txt
+--
+-- Everything runs inside the `bench` schema and is dropped at the end.
+
+\timing on
+SET client_min_messages = warning;
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+SET search_path = bench;
+
+-- ============================================================================
+-- 1. SCHEMA (mirrors V1 + V3 + V7 indexes)
+-- ============================================================================
+
+CREATE TABLE transactions (
+  id UUID PRIMARY KEY,
+  user_id UUID NOT NULL,
+  wallet_id UUID NOT NULL,
+  category_id UUID NOT NULL,
+  type VARCHAR(10),
+  amount NUMERIC,
+  note TEXT,
+  date TIMESTAMP,
+  created_at TIMESTAMP,
+  updated_at TIMESTAMP
+);
+
+-- ============================================================================
+-- 2. SEED 1M ROWS
+-- ============================================================================
+
+INSERT INTO transactions (id, user_id, wallet_id, category_id, type, amount, note, date, created_at, updated_at)
+SELECT gen_random_uuid(),
+       ('00000000-0000-0000-0000-' || lpad((u)::text, 12, '0'))::uuid,
+       ('00000000-0000-0000-0001-' || lpad((u * 100 + (g % 10))::text, 12, '0'))::uuid,
+       ('00000000-0000-0000-0002-' || lpad((u * 100 + (g % 7))::text, 12, '0'))::uuid,
+       CASE WHEN g % 7 < 5 THEN 'EXPENSE' ELSE 'INCOME' END,
+       (random() * 1000000)::numeric(15, 2),
+       'bench',
+       TIMESTAMP '2025-01-01' + (random() * 365) * INTERVAL '1 day',
+       now(), now()
+FROM generate_series(1, 100) AS u,
+     generate_series(1, 10000) AS g;
+
+CREATE INDEX idx_transactions_user_date ON transactions(user_id, date DESC);
+CREATE INDEX idx_transactions_user_date_type ON transactions(user_id, date DESC, type);
+CREATE INDEX idx_transactions_user_category_date ON transactions(user_id, category_id, date DESC);
+CREATE INDEX idx_transactions_user_wallet_date ON transactions(user_id, wallet_id, date DESC);
+CREATE INDEX idx_transactions_user_wallet_category_type ON transactions(user_id, wallet_id, category_id, type);
+CREATE INDEX idx_transactions_user_date_id ON transactions(user_id, date DESC, id DESC);
+ANALYZE transactions;
+
+-- Force generic plans for prepared statements, which is what the JDBC driver switches to
+-- after 5 executions (prepareThreshold) and what the COALESCE queries are stuck with.
+SET plan_cache_mode = force_generic_plan;
+
+-- ============================================================================
+-- 3. OLD: COALESCE CATCH-ALL (wallet filter supplied, category/type absent)
+-- ============================================================================
+
+PREPARE old_list(uuid, uuid, uuid, varchar, timestamp, timestamp) AS
+SELECT t.* FROM transactions t
+WHERE t.user_id = $1
+  AND t.wallet_id = COALESCE($2, t.wallet_id)
+  AND t.category_id = COALESCE($3, t.category_id)
+  AND t.type = COALESCE($4, t.type)
+  AND t.date >= COALESCE($5, t.date)
+  AND t.date <= COALESCE($6, t.date)
+ORDER BY t.date DESC
+LIMIT 20;
+
+PREPARE old_totals(uuid, uuid, uuid, varchar, timestamp, timestamp) AS
+SELECT COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0),
+       COUNT(*)
+FROM transactions t
+WHERE t.user_id = $1
+  AND t.wallet_id = COALESCE($2, t.wallet_id)
+  AND t.category_id = COALESCE($3, t.category_id)
+  AND t.type = COALESCE($4, t.type)
+  AND t.date >= COALESCE($5, t.date)
+  AND t.date <= COALESCE($6, t.date);
+
+\echo '==== OLD list (wallet filter) ===='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE old_list('00000000-0000-0000-0000-000000000042', '00000000-0000-0000-0001-000000004203',
+                 NULL, NULL, '2025-03-01', '2025-03-31 23:59:59');
+
+\echo '==== OLD totals (wallet filter) ===='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE old_totals('00000000-0000-0000-0000-000000000042', '00000000-0000-0000-0001-000000004203',
+                   NULL, NULL, '2025-03-01', '2025-03-31 23:59:59');
+
+-- ============================================================================
+-- 4. NEW: ONLY SUPPLIED PREDICATES (as emitted by TransactionQueryRepositoryImpl)
+-- ============================================================================
+
+PREPARE new_list(uuid, uuid, timestamp, timestamp) AS
+SELECT t.* FROM transactions t
+WHERE t.user_id = $1
+  AND t.wallet_id = $2
+  AND t.date >= $3
+  AND t.date <= $4
+ORDER BY t.date DESC, t.id DESC
+LIMIT 20;
+
+PREPARE new_totals(uuid, uuid, timestamp, timestamp) AS
+SELECT SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END),
+       SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END),
+       COUNT(t.id)
+FROM transactions t
+WHERE t.user_id = $1
+  AND t.wallet_id = $2
+  AND t.date >= $3
+  AND t.date <= $4;
+
+PREPARE new_list_multi(uuid, uuid[], timestamp, timestamp) AS
+SELECT t.* FROM transactions t
+WHERE t.user_id = $1
+  AND t.category_id = ANY($2)
+  AND t.date >= $3
+  AND t.date <= $4
+ORDER BY t.date DESC, t.id DESC
+LIMIT 20;
+
+\echo '==== NEW list (wallet filter) ===='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE new_list('00000000-0000-0000-0000-000000000042', '00000000-0000-0000-0001-000000004203',
+                 '2025-03-01', '2025-03-31 23:59:59');
+
+\echo '==== NEW totals (wallet filter) ===='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE new_totals('00000000-0000-0000-0000-000000000042', '00000000-0000-0000-0001-000000004203',
+                   '2025-03-01', '2025-03-31 23:59:59');
+
+\echo '==== NEW list (category IN list) ===='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE new_list_multi('00000000-0000-0000-0000-000000000042',
+                       ARRAY['00000000-0000-0000-0002-000000004201',
+                             '00000000-0000-0000-0002-000000004202']::uuid[],
+                       '2025-03-01', '2025-03-31 23:59:59');
+
+-- ============================================================================
+-- 5. CLEANUP
+-- ============================================================================
+
+RESET plan_cache_mode;
+RESET search_path;
+DROP SCHEMA bench CASCADE;
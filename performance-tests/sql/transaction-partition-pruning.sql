@@ -0,0 +1,70 @@
+-- Partition pruning check for the partitioned transactions table (V9)
+--
+-- Runs EXPLAIN on the query shapes the application sends against a migrated database.
+-- Nothing is written. With prepared statements Postgres prunes at executor startup, so
+-- look for "Subplans Removed: N" (generic plan) or only the matching
+-- transactions_YYYY_MM partitions in the plan (custom plan).
+--
+-- Usage:
+--   psql -d expense_tracker_db -v user_id="'<uuid>'" \
+--        -f performance-tests/sql/transaction-partition-pruning.sql
+
+\echo '==== Partitions ===='
+SELECT c.relname AS partition, pg_get_expr(c.relpartbound, c.oid) AS bounds,
+       pg_size_pretty(pg_total_relation_size(c.oid)) AS size
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'transactions'::regclass
+ORDER BY c.relname;
+
+-- Generic plans are what the JDBC driver ends up with after prepareThreshold executions
+SET plan_cache_mode = force_generic_plan;
+
+-- GET /transactions?from=&to= (TransactionQueryRepositoryImpl.findByQuery)
+PREPARE list_page(uuid, timestamp, timestamp) AS
+SELECT t.* FROM transactions t
+WHERE t.user_id = $1 AND t.date >= $2 AND t.date <= $3
+ORDER BY t.date DESC, t.id DESC
+LIMIT 20;
+
+-- GET /transactions/scroll?after= (TransactionQueryRepositoryImpl.scrollByQuery)
+PREPARE scroll_page(uuid, timestamp, uuid) AS
+SELECT t.* FROM transactions t
+WHERE t.user_id = $1 AND (t.date < $2 OR (t.date = $2 AND t.id < $3))
+ORDER BY t.date DESC, t.id DESC
+LIMIT 21;
+
+-- Dashboard 7-day window (findByUserIdAndDateBetween)
+PREPARE dashboard_week(uuid, timestamp, timestamp) AS
+SELECT t.* FROM transactions t
+WHERE t.user_id = $1 AND t.date >= $2 AND t.date <= $3;
+
+-- Report export (TransactionQueryRepositoryImpl.exportByQuery)
+PREPARE export_range(uuid, timestamp, timestamp) AS
+SELECT t.id, t.date, t.amount, t.type, w.name, c.name, t.note
+FROM transactions t
+JOIN wallets w ON w.id = t.wallet_id
+LEFT JOIN categories c ON c.id = t.category_id
+WHERE t.user_id = $1 AND t.date >= $2 AND t.date <= $3
+ORDER BY t.date DESC, t.id DESC
+LIMIT 1000;
+
+\echo '==== List, current month: expect all other partitions removed ===='
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY OFF)
+EXECUTE list_page(:user_id, date_trunc('month', now())::timestamp, now()::timestamp);
+
+\echo '==== Scroll without date filter: expect ordered Append stopping after LIMIT ===='
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY OFF)
+EXECUTE scroll_page(:user_id, now()::timestamp, '00000000-0000-0000-0000-000000000000');
+
+\echo '==== Dashboard week: expect at most 2 partitions scanned ===='
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY OFF)
+EXECUTE dashboard_week(:user_id, (current_date - 6)::timestamp, now()::timestamp);
+
+\echo '==== Export, previous month: expect 1 partition scanned ===='
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY OFF)
+EXECUTE export_range(:user_id, (date_trunc('month', now()) - INTERVAL '1 month')::timestamp,
+                     (date_trunc('month', now()) - INTERVAL '1 microsecond')::timestamp);
+
+DEALLOCATE ALL;
+RESET plan_cache_mode;
@@ -9,12 +9,14 @@ import com.fajars.expensetracker.auth.dto.WalletInfo;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.util.JwtUtil;
+import com.fajars.expensetracker.common.util.VerifiedTokenCache;
 import com.fajars.expensetracker.subscription.domain.Subscription;
 import com.fajars.expensetracker.subscription.usecase.createtrialsubscription.CreateTrialSubscription;
 import com.fajars.expensetracker.user.domain.User;
 import com.fajars.expensetracker.user.domain.UserRepository;
 import com.fajars.expensetracker.wallet.domain.Wallet;
 import com.fajars.expensetracker.wallet.usecase.createwallet.CreateWalletUseCase;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Date;
 import java.util.UUID;
@@ -35,6 +37,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final AuthenticationManager authenticationManager;
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
@@ -43,6 +46,7 @@ public class AuthService {
 
     public AuthService(
         UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
+        VerifiedTokenCache verifiedTokenCache,
         AuthenticationManager authenticationManager, MetricsService metricsService,
         BusinessEventLogger businessEventLogger,
         CreateTrialSubscription createTrialSubscription,
@@ -51,6 +55,7 @@ public class AuthService {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.authenticationManager = authenticationManager;
         this.metricsService = metricsService;
         this.businessEventLogger = businessEventLogger;
@@ -157,10 +162,12 @@ public class AuthService {
     }
 
     public AuthResponse refresh(String token) {
-        if (!jwtUtil.isTokenValid(token)) {
+        String email;
+        try {
+            email = verifiedTokenCache.authenticate(token).getEmail();
+        } catch (JwtException | IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid token");
         }
-        String email = jwtUtil.extractEmail(token);
         User user = userRepository.findByEmail(email).orElseThrow();
         String newToken = jwtUtil.generateToken(user.getId(), email);
         return new AuthResponse(newToken, user.getId(), user.getEmail(), user.getName());
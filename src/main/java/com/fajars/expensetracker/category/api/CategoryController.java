@@ -144,7 +144,8 @@ public class CategoryController {
 
     @Operation(
         summary = "Delete category",
-        description = "Delete a user's custom category. Default system categories cannot be deleted."
+        description = "Delete a user's custom category. Default system categories cannot be deleted. "
+            + "Its transactions are deleted too, unless reassignTo names a category of the same type to move them to."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Category deleted successfully", content = @Content),
@@ -153,10 +154,12 @@ public class CategoryController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCategory(
-        @Parameter(description = "Category ID", required = true) @PathVariable UUID id
+        @Parameter(description = "Category ID", required = true) @PathVariable UUID id,
+        @Parameter(description = "Category to move the transactions to instead of deleting them", required = false)
+        @RequestParam(required = false) UUID reassignTo
     ) {
         UUID userId = currentUserProvider.getUserId();
-        deleteCategory.delete(userId, id);
+        deleteCategory.delete(userId, id, reassignTo);
         return ResponseEntity.noContent().build();
     }
 
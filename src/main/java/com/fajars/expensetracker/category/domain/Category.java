@@ -28,7 +28,7 @@ public class Category {
 
     private Date createdAt;
 
-    @OneToMany(mappedBy = "category", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "category", fetch = FetchType.LAZY)
     private List<Transaction> transactions;
 
     // Helper method to check if this is a default category
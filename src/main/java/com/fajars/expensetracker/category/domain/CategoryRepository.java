@@ -1,6 +1,7 @@
 package com.fajars.expensetracker.category.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,6 +25,22 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
      */
     Optional<Category> findByIdAndUserId(UUID id, UUID userId);
 
+    /**
+     * Find a category by ID that the user can use: their own or a default one
+     */
+    @Query("SELECT c FROM Category c WHERE c.id = :id AND (c.user.id = :userId OR c.user IS NULL)")
+    Optional<Category> findAccessibleById(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /**
+     * Delete a custom category of a user with one statement, without loading its transactions.
+     * Its transactions must already be gone or reassigned (see TransactionBulkOperations).
+     *
+     * @return number of deleted categories (0 or 1)
+     */
+    @Modifying
+    @Query("DELETE FROM Category c WHERE c.id = :id AND c.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
     /**
      * Find all default categories (system categories)
      */
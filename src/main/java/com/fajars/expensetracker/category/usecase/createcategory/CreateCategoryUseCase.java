@@ -7,6 +7,8 @@ import com.fajars.expensetracker.category.domain.CategoryRepository;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
 import com.fajars.expensetracker.user.domain.User;
 import java.util.Date;
 import java.util.UUID;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateCategoryUseCase implements CreateCategory {
 
     private final CategoryRepository categoryRepository;
+    private final UsageQuota usageQuota;
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider currentUserProvider;
@@ -45,6 +48,7 @@ public class CreateCategoryUseCase implements CreateCategory {
             .build();
 
         category = categoryRepository.save(category);
+        usageQuota.track(userId, QuotaType.CUSTOM_CATEGORIES);
 
         // Log business event and metrics
         String username = currentUserProvider.getEmail();
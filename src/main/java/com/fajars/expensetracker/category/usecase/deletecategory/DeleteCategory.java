@@ -7,5 +7,17 @@ import java.util.UUID;
  * Note: Cannot delete default system categories
  */
 public interface DeleteCategory {
-    void delete(UUID userId, UUID categoryId);
+
+    /**
+     * Delete a category together with its transactions.
+     */
+    default void delete(UUID userId, UUID categoryId) {
+        delete(userId, categoryId, null);
+    }
+
+    /**
+     * Delete a category. When {@code reassignToCategoryId} is set, its transactions are moved
+     * to that category (own or default, same type) instead of being deleted.
+     */
+    void delete(UUID userId, UUID categoryId, UUID reassignToCategoryId);
 }
@@ -4,22 +4,36 @@ import com.fajars.expensetracker.category.domain.Category;
 import com.fajars.expensetracker.category.domain.CategoryRepository;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
+import com.fajars.expensetracker.transaction.TransactionBulkOperations;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class DeleteCategoryUseCase implements DeleteCategory {
 
     private final CategoryRepository categoryRepository;
+    private final TransactionBulkOperations transactionBulkOperations;
+    private final UsageQuota usageQuota;
+    private final ReportCacheInvalidator reportCacheInvalidator;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider userProvider;
+    private final PlatformTransactionManager transactionManager;
 
+    /**
+     * Not transactional on purpose: transactions are removed (or moved) in short chunk
+     * transactions, then the remainder and the category go in one final transaction.
+     */
     @Override
-    @Transactional
-    public void delete(UUID userId, UUID categoryId) {
+    public void delete(UUID userId, UUID categoryId, UUID reassignToCategoryId) {
         Category category = categoryRepository.findByIdAndUserId(categoryId, userId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Category not found or cannot be deleted. Default categories cannot be deleted."));
@@ -27,10 +41,41 @@ public class DeleteCategoryUseCase implements DeleteCategory {
         if (category.isDefault()) {
             throw new IllegalStateException("Cannot delete default categories");
         }
+        if (reassignToCategoryId != null) {
+            validateReassignTarget(userId, category, reassignToCategoryId);
+        }
+
+        long affected = removeTransactions(userId, categoryId, reassignToCategoryId);
 
-        categoryRepository.delete(category);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // Catch transactions created while the chunks were running
+            removeTransactions(userId, categoryId, reassignToCategoryId);
+            if (categoryRepository.deleteByIdAndUserId(categoryId, userId) > 0) {
+                usageQuota.release(userId, QuotaType.CUSTOM_CATEGORIES);
+            }
+            reportCacheInvalidator.evictUser(userId);
+        });
+        log.info("Deleted category {}, {} {} transactions", categoryId,
+                 reassignToCategoryId == null ? "deleted" : "reassigned", affected);
 
         String username = userProvider.getEmail();
         businessEventLogger.logCategoryDeleted(category.getId().getMostSignificantBits(), username);
     }
+
+    private void validateReassignTarget(UUID userId, Category category, UUID reassignToCategoryId) {
+        if (reassignToCategoryId.equals(category.getId())) {
+            throw new IllegalArgumentException("Cannot reassign transactions to the category being deleted");
+        }
+        Category target = categoryRepository.findAccessibleById(reassignToCategoryId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Reassign target category not found"));
+        if (target.getType() != category.getType()) {
+            throw new IllegalArgumentException("Reassign target category must have the same type");
+        }
+    }
+
+    private long removeTransactions(UUID userId, UUID categoryId, UUID reassignToCategoryId) {
+        return reassignToCategoryId == null
+                ? transactionBulkOperations.deleteByCategory(userId, categoryId)
+                : transactionBulkOperations.reassignCategory(userId, categoryId, reassignToCategoryId);
+    }
 }
@@ -6,6 +6,7 @@ import com.fajars.expensetracker.category.domain.Category;
 import com.fajars.expensetracker.category.domain.CategoryRepository;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateCategoryUseCase implements UpdateCategory {
 
     private final CategoryRepository categoryRepository;
+    private final ReportCacheInvalidator reportCacheInvalidator;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider currentUserProvider;
 
@@ -37,6 +39,7 @@ public class UpdateCategoryUseCase implements UpdateCategory {
         String oldName = category.getName();
         category.setName(request.name().trim());
         category = categoryRepository.save(category);
+        reportCacheInvalidator.evictUser(userId);
 
         // Log business event
         if (!oldName.equals(category.getName())) {
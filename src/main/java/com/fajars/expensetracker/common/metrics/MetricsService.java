@@ -1,12 +1,14 @@
 package com.fajars.expensetracker.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Service to record custom business metrics
@@ -127,6 +129,15 @@ public class MetricsService {
         log.debug("Metrics: Counter '{}' incremented", name);
     }
 
+    // Generic counter increment by amount (batch jobs)
+    public void incrementCounterBy(String name, double amount, String... tags) {
+        Counter.builder(name)
+                .tags(tags)
+                .register(meterRegistry)
+                .increment(amount);
+        log.debug("Metrics: Counter '{}' incremented by {}", name, amount);
+    }
+
     // Generic timer recording
     public void recordTimer(String name, long startTimeMillis, String... tags) {
         long duration = System.currentTimeMillis() - startTimeMillis;
@@ -137,6 +148,23 @@ public class MetricsService {
         log.debug("Metrics: Timer '{}' recorded: {}ms", name, duration);
     }
 
+    // Generic gauge sampling the current value of a component (queue depth, pool usage)
+    public <T> void registerGauge(String name, T stateObject, ToDoubleFunction<T> valueFunction, String... tags) {
+        Gauge.builder(name, stateObject, valueFunction)
+                .tags(tags)
+                .register(meterRegistry);
+        log.debug("Metrics: Gauge '{}' registered", name);
+    }
+
+    // Generic timer recording for sub-millisecond operations
+    public void recordTimerNanos(String name, long startNanos, String... tags) {
+        long duration = System.nanoTime() - startNanos;
+        Timer.builder(name)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+    }
+
     // Gauge recording for active counts
     public void recordActiveWalletsGauge(int count) {
         meterRegistry.gauge("wallets.active.count", count);
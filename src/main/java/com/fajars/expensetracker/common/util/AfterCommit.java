@@ -0,0 +1,37 @@
+package com.fajars.expensetracker.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache eviction that holds up against concurrent readers.
+ *
+ * <p>Evicting only while the writing transaction runs is not enough: a request that reads the
+ * old data before the commit can put its result back into the cache right after the eviction.
+ * {@link #evict(Runnable)} therefore runs the eviction immediately and, inside a transaction,
+ * once more after commit, so nothing computed from the old data stays cached.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Run an eviction now and again after the current transaction commits.
+     * Without an active transaction it only runs once.
+     *
+     * @param eviction the eviction to run
+     */
+    public static void evict(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
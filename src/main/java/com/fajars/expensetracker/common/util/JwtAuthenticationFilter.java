@@ -1,19 +1,15 @@
 package com.fajars.expensetracker.common.util;
 
 import com.fajars.expensetracker.auth.AuthenticatedUser;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
-import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -22,10 +18,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -39,16 +35,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
 
             try {
-                Claims claims = jwtUtil.validateAndGetClaims(token);
-
-                UUID userId = UUID.fromString(claims.getSubject());
-                String email = claims.get("email", String.class);
-
-                AuthenticatedUser user = AuthenticatedUser.builder()
-                    .userId(userId)
-                    .email(email)
-                    .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
-                    .build();
+                // Signature is only verified the first time a token is seen
+                AuthenticatedUser user = verifiedTokenCache.authenticate(token);
 
                 Authentication authentication =
                     new UsernamePasswordAuthenticationToken(
@@ -3,6 +3,7 @@ package com.fajars.expensetracker.common.util;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.util.UUID;
@@ -18,6 +19,8 @@ import java.util.Date;
 public class JwtUtil {
 
     private final SecretKey key;
+    // Immutable and thread-safe, built once instead of per token
+    private final JwtParser parser;
     private final long EXPIRATION_TIME = 86400000; // 1 day
 
     public JwtUtil(@Value("${jwt.secret:default_jwt_secret_change_me}") String secret) {
@@ -34,6 +37,9 @@ public class JwtUtil {
             keyBytes = Arrays.copyOf(keyBytes, 32);
         }
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+            .verifyWith(key)
+            .build();
     }
 
     public String generateToken(UUID userId, String email) {
@@ -83,9 +89,7 @@ public class JwtUtil {
 
     private Claims getClaims(String token) {
         try {
-            return Jwts.parser()
-                .verifyWith(key)
-                .build()
+            return parser
                 .parseSignedClaims(token)
                 .getPayload();
         } catch (JwtException | IllegalArgumentException ex) {
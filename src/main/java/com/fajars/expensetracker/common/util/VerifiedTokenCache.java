@@ -0,0 +1,112 @@
+package com.fajars.expensetracker.common.util;
+
+import com.fajars.expensetracker.auth.AuthenticatedUser;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of already verified JWTs.
+ *
+ * <p>A token is verified (HMAC signature, expiry) the first time it is seen; the resulting
+ * {@link AuthenticatedUser} is then kept until the token expires, so later requests with the
+ * same token only cost a SHA-256 digest and a hash lookup. Tokens are keyed by digest, the raw
+ * token is never stored. Invalid tokens are not cached.
+ *
+ * <p>Metrics: auth.jwt.cache.requests (counter, result=hit|miss),
+ * auth.jwt.verification.duration (timer, misses only)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final long MAX_CACHED_TOKENS = 10_000;
+
+    private final JwtUtil jwtUtil;
+    private final MetricsService metricsService;
+
+    private final Cache<String, VerifiedToken> tokens = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_TOKENS)
+        .expireAfter(new Expiry<String, VerifiedToken>() {
+            @Override
+            public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                return token.timeToLive(Instant.now()).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                return token.timeToLive(Instant.now()).toNanos();
+            }
+
+            @Override
+            public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        })
+        .build();
+
+    public VerifiedTokenCache(JwtUtil jwtUtil, MetricsService metricsService) {
+        this.jwtUtil = jwtUtil;
+        this.metricsService = metricsService;
+    }
+
+    /**
+     * Resolve the user of a token, verifying it only if it has not been verified before.
+     *
+     * @param token compact JWT without the "Bearer " prefix
+     * @return the authenticated user
+     * @throws JwtException if the token is invalid or expired
+     */
+    public AuthenticatedUser authenticate(String token) {
+        String digest = digest(token);
+
+        VerifiedToken cached = tokens.getIfPresent(digest);
+        if (cached != null) {
+            metricsService.incrementCounter("auth.jwt.cache.requests", "result", "hit");
+            return cached.user();
+        }
+
+        metricsService.incrementCounter("auth.jwt.cache.requests", "result", "miss");
+        long startNanos = System.nanoTime();
+        Claims claims = jwtUtil.validateAndGetClaims(token);
+        metricsService.recordTimerNanos("auth.jwt.verification.duration", startNanos);
+
+        AuthenticatedUser user = AuthenticatedUser.builder()
+            .userId(UUID.fromString(claims.getSubject()))
+            .email(claims.get("email", String.class))
+            .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+            .build();
+
+        tokens.put(digest, new VerifiedToken(user, claims.getExpiration().toInstant()));
+        return user;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(AuthenticatedUser user, Instant expiresAt) {
+
+        Duration timeToLive(Instant now) {
+            Duration remaining = Duration.between(now, expiresAt);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
+    }
+}
@@ -1,56 +1,81 @@
 package com.fajars.expensetracker.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Cache configuration using Caffeine.
  *
  * Caching Strategy:
- * - Financial summaries: 5-minute TTL, max 1000 entries
- * - Trend data: 5-minute TTL, max 1000 entries
- * - Invalidation: Automatic on transaction creation/update/delete
+ * - Report caches: TTL from app.report.cache.ttl (default 1 hour), max entries from
+ *   app.report.cache.maximum-size (default 10000) per cache
+ * - Keys: current user + hash of the normalized filter (ReportCacheKeyGenerator)
+ * - Invalidation: per user on transaction, wallet and category writes (ReportCacheInvalidator),
+ *   so the TTL only bounds staleness for writes made on another instance
+ * - Debt summary cache: keyed by user ID, TTL from app.debt.summary-cache.ttl (default 10 minutes)
+ *   because overdue and due-soon buckets move with the clock; evicted on debt writes
+ *   (DebtSummaryCacheInvalidator)
  *
- * Cache keys are based on userId + filter parameters to ensure
- * different users and different date ranges get separate cache entries.
+ * Monitoring:
+ * - recordStats() feeds the actuator cache metrics, per cache name:
+ *   cache.gets{cache, result=hit|miss}, cache.evictions, cache.size
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    public static final String FINANCIAL_SUMMARIES = "financialSummaries";
+    public static final String TREND_DATA = "trendData";
+    public static final String CATEGORY_BREAKDOWN = "categoryBreakdown";
+    public static final String TOP_CATEGORIES = "topCategories";
+    public static final String DEBT_SUMMARIES = "debtSummaries";
+
+    /**
+     * Caches holding per-user reports, all invalidated together.
+     */
+    public static final List<String> REPORT_CACHES =
+        List.of(FINANCIAL_SUMMARIES, TREND_DATA, CATEGORY_BREAKDOWN, TOP_CATEGORIES);
+
     /**
      * Configure Caffeine cache manager with optimized settings.
      *
      * Cache Names:
      * - financialSummaries: Financial summary reports
      * - trendData: Income/expense trend data
+     * - categoryBreakdown: Category breakdown per transaction type
+     * - topCategories: Top N categories per transaction type
+     * - debtSummaries: Debt totals per type, status and due window
      *
-     * Performance Characteristics:
-     * - TTL: 5 minutes (balance between freshness and performance)
-     * - Max Size: 1000 entries per cache
-     * - Eviction: LRU (Least Recently Used)
+     * Eviction: TTL after write, then size-based (Window TinyLFU)
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-            "financialSummaries",
-            "trendData",
-            "categoryBreakdown",
-            "topCategories"
-        );
+    public CacheManager cacheManager(
+        @Value("${app.report.cache.ttl:1h}") Duration ttl,
+        @Value("${app.report.cache.maximum-size:10000}") long maximumSize,
+        @Value("${app.debt.summary-cache.ttl:10m}") Duration debtSummaryTtl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(REPORT_CACHES.toArray(String[]::new));
 
         cacheManager.setCaffeine(Caffeine.newBuilder()
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .maximumSize(1000)
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
             .recordStats()  // Enable statistics for monitoring
         );
 
+        cacheManager.registerCustomCache(DEBT_SUMMARIES, Caffeine.newBuilder()
+            .expireAfterWrite(debtSummaryTtl)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build());
+
         return cacheManager;
     }
 }
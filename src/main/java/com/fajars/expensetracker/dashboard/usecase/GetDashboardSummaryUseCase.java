@@ -1,86 +1,104 @@
 package com.fajars.expensetracker.dashboard.usecase;
 
+import com.fajars.expensetracker.common.exception.BusinessException;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.dashboard.api.DashboardSummaryResponse;
 import com.fajars.expensetracker.dashboard.api.WeeklyTrendResponse;
 import com.fajars.expensetracker.transaction.domain.Transaction;
+import com.fajars.expensetracker.transaction.domain.TransactionDailyRollupRepository;
 import com.fajars.expensetracker.transaction.domain.TransactionRepository;
 import com.fajars.expensetracker.transaction.api.TransactionSummaryResponse;
+import com.fajars.expensetracker.transaction.projection.TrendData;
 import com.fajars.expensetracker.wallet.domain.Wallet;
 import com.fajars.expensetracker.wallet.domain.WalletRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Dashboard summary built from three independent sections loaded concurrently:
+ * wallet balance, the 7-day rollup (weekly trend and income/expense totals) and the
+ * 5 most recent transactions.
+ *
+ * <p>Each section runs on its own virtual thread in its own read-only transaction, so it
+ * borrows its own connection and the response time follows the slowest section instead of
+ * the sum. All sections share one deadline ({@code app.dashboard.section-timeout}); a section
+ * that fails or misses it is returned as null and counted in
+ * dashboard.summary.section_failed, the others are still returned. Only when every section
+ * fails is the request answered with 503.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class GetDashboardSummaryUseCase implements GetDashboardSummary {
 
+    private static final int RECENT_TRANSACTIONS_LIMIT = 5;
+    private static final int TREND_DAYS = 7;
+
     private final TransactionRepository transactionRepository;
+    private final TransactionDailyRollupRepository rollupRepository;
     private final WalletRepository walletRepository;
     private final MetricsService metricsService;
+    private final PlatformTransactionManager transactionManager;
 
-    @Override
-    @Transactional(readOnly = true)
-    public DashboardSummaryResponse getSummary(UUID userId, UUID walletId) {
-        long startTime = System.currentTimeMillis();
-
-        // Get wallet balance
-        double walletBalance = calculateWalletBalance(userId, walletId);
-
-        ZoneId zoneId = ZoneId.systemDefault();
-        LocalDate today = LocalDate.now(zoneId);
+    private final ExecutorService sectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-        LocalDateTime startOfDay = today.atStartOfDay().minusDays(6);
-        LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
+    @Value("${app.dashboard.section-timeout:3s}")
+    private Duration sectionTimeout = Duration.ofSeconds(3);
 
-        List<Transaction> todayTransactions;
-        if (walletId != null) {
-            todayTransactions = transactionRepository
-                .findByUserIdAndWalletIdAndDateBetween(userId, walletId, startOfDay, endOfDay);
-        } else {
-            todayTransactions = transactionRepository
-                .findByUserIdAndDateBetween(userId, startOfDay, endOfDay);
-        }
-
-        double todayIncome = todayTransactions.stream()
-            .filter(t -> "INCOME".equals(t.getType().name()))
-            .mapToDouble(Transaction::getAmount).sum();
+    @PreDestroy
+    void shutdown() {
+        sectionExecutor.shutdownNow();
+    }
 
-        double todayExpense = todayTransactions.stream()
-            .filter(t -> "EXPENSE".equals(t.getType().name()))
-            .mapToDouble(Transaction::getAmount).sum();
+    @Override
+    public DashboardSummaryResponse getSummary(UUID userId, UUID walletId) {
+        long startTime = System.currentTimeMillis();
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
 
-        // Get weekly trend (last 7 days)
-        List<WeeklyTrendResponse> weeklyTrend = calculateWeeklyTrend(userId, walletId);
+        Future<Double> balanceSection = submit(() -> calculateWalletBalance(userId, walletId));
+        Future<List<WeeklyTrendResponse>> trendSection = submit(() -> calculateWeeklyTrend(userId, walletId, today));
+        Future<List<TransactionSummaryResponse>> recentSection = submit(() -> findRecentTransactions(userId, walletId));
 
-        // Get recent transactions (top 5)
-        List<Transaction> recentTransactions;
-        if (walletId != null) {
-            recentTransactions = transactionRepository
-                .findTop5ByUserIdAndWalletId(userId, walletId);
-        } else {
-            recentTransactions = transactionRepository.findTop5ByUserId(userId);
-        }
+        long deadline = System.nanoTime() + sectionTimeout.toNanos();
+        Double walletBalance = await("wallet_balance", balanceSection, deadline);
+        List<WeeklyTrendResponse> weeklyTrend = await("weekly_trend", trendSection, deadline);
+        List<TransactionSummaryResponse> recentTransactions = await("recent_transactions", recentSection, deadline);
 
-        // Limit to 5
-        if (recentTransactions.size() > 5) {
-            recentTransactions = recentTransactions.subList(0, 5);
+        if (walletBalance == null && weeklyTrend == null && recentTransactions == null) {
+            metricsService.incrementCounter("dashboard.summary.unavailable");
+            throw new BusinessException("Dashboard is temporarily unavailable, please try again",
+                                        HttpStatus.SERVICE_UNAVAILABLE);
         }
 
-        List<TransactionSummaryResponse> recentTransactionDtos = recentTransactions.stream().limit(5)
-            .map(TransactionSummaryResponse::from).toList();
+        // Income and expense totals cover the same 7 days as the trend
+        Double todayIncome = weeklyTrend == null ? null
+            : weeklyTrend.stream().mapToDouble(WeeklyTrendResponse::income).sum();
+        Double todayExpense = weeklyTrend == null ? null
+            : weeklyTrend.stream().mapToDouble(WeeklyTrendResponse::expense).sum();
 
         DashboardSummaryResponse result = new DashboardSummaryResponse(walletBalance, todayIncome,
                                                                        todayExpense, weeklyTrend,
-                                                                       recentTransactionDtos);
+                                                                       recentTransactions);
 
         // Record timing metric
         metricsService.recordTimer("dashboard.summary.generation.duration", startTime);
@@ -88,94 +106,95 @@ public class GetDashboardSummaryUseCase implements GetDashboardSummary {
         return result;
     }
 
-    private double calculateWalletBalance(UUID userId, UUID walletId) {
-        if (walletId != null) {
-            Optional<Wallet> walletOpt = walletRepository.findByIdAndUserId(walletId, userId);
-            if (walletOpt.isEmpty()) {
-                return 0.0;
-            }
-            Wallet wallet = walletOpt.get();
-            double balance = wallet.getInitialBalance();
-
-            if (wallet.getTransactions() != null) {
-                for (Transaction t : wallet.getTransactions()) {
-                    if ("INCOME".equals(t.getType().name())) {
-                        balance += t.getAmount();
-                    } else if ("EXPENSE".equals(t.getType().name())) {
-                        balance -= t.getAmount();
-                    }
-                }
-            }
-            return balance;
-        } else {
-            // Sum all wallets
-            List<Wallet> wallets = walletRepository.findByUserId(userId);
-            return getTotalBalance(wallets);
-        }
+    /**
+     * Run a section on its own virtual thread inside its own read-only transaction.
+     */
+    private <T> Future<T> submit(Supplier<T> section) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        // Statement timeout, so a section abandoned at the deadline also stops in the database
+        readOnlyTransaction.setTimeout((int) Math.max(1, sectionTimeout.toSeconds()));
+
+        return sectionExecutor.submit(() -> readOnlyTransaction.execute(status -> section.get()));
     }
 
-    private double getTotalBalance(List<Wallet> wallets) {
-        double totalBalance = 0.0;
-        for (Wallet wallet : wallets) {
-            double balance = wallet.getInitialBalance();
-            if (wallet.getTransactions() != null) {
-                for (Transaction t : wallet.getTransactions()) {
-                    if ("INCOME".equals(t.getType().name())) {
-                        balance += t.getAmount();
-                    } else if ("EXPENSE".equals(t.getType().name())) {
-                        balance -= t.getAmount();
-                    }
-                }
-            }
-            totalBalance += balance;
+    /**
+     * Wait for a section until the shared deadline.
+     *
+     * @return the section result, or null if it failed or timed out
+     */
+    private <T> T await(String section, Future<T> future, long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Dashboard section {} timed out after {}ms", section, sectionTimeout.toMillis());
+            metricsService.incrementCounter("dashboard.summary.section_failed",
+                                            "section", section, "reason", "timeout");
+
+        } catch (ExecutionException e) {
+            log.warn("Dashboard section {} failed: {}", section, e.getCause().getMessage(), e.getCause());
+            metricsService.incrementCounter("dashboard.summary.section_failed",
+                                            "section", section, "reason", "error");
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
         }
-        return totalBalance;
+        return null;
     }
 
-    private List<WeeklyTrendResponse> calculateWeeklyTrend(UUID userId, UUID walletId) {
-        ZoneId zoneId = ZoneId.systemDefault();
-        LocalDate today = LocalDate.now(zoneId);
-
-        LocalDateTime startDate = today.atStartOfDay().minusDays(6);
-        LocalDateTime endDate = today.atTime(LocalTime.MAX);
-
-        List<Transaction> weekTransactions;
+    private double calculateWalletBalance(UUID userId, UUID walletId) {
         if (walletId != null) {
-            weekTransactions = transactionRepository
-                .findByUserIdAndWalletIdAndDateBetween(userId, walletId, startDate, endDate);
-        } else {
-            weekTransactions = transactionRepository
-                .findByUserIdAndDateBetween(userId, startDate, endDate);
+            return walletRepository.findByIdAndUserId(walletId, userId)
+                .map(Wallet::getCurrentBalance)
+                .orElse(0.0);
         }
 
-        Map<LocalDate, List<Transaction>> groupedByDate = new HashMap<>();
+        // Sum all wallets
+        List<Wallet> wallets = walletRepository.findByUserId(userId);
+        return getTotalBalance(wallets);
+    }
 
-        LocalDate startDateMinus6Days = LocalDate.now().minusDays(6);
+    private double getTotalBalance(List<Wallet> wallets) {
+        return wallets.stream()
+            .mapToDouble(Wallet::getCurrentBalance)
+            .sum();
+    }
 
-        // Initialize last 7 days (including today)
-        for (int i = 0; i < 7; i++) {
-            groupedByDate.put(startDateMinus6Days.plusDays(i), new ArrayList<>());
-        }
+    private List<TransactionSummaryResponse> findRecentTransactions(UUID userId, UUID walletId) {
+        List<Transaction> recentTransactions = walletId != null
+            ? transactionRepository.findTop5ByUserIdAndWalletId(userId, walletId)
+            : transactionRepository.findTop5ByUserId(userId);
 
-        // Group transactions by LocalDate
-        for (Transaction t : weekTransactions) {
-            LocalDate transactionDate = t.getDate().toLocalDate();
-            groupedByDate.computeIfAbsent(transactionDate, k -> new ArrayList<>()).add(t);
-        }
+        // Mapped inside the section's transaction, wallet and category are fetched with it
+        return recentTransactions.stream()
+            .limit(RECENT_TRANSACTIONS_LIMIT)
+            .map(TransactionSummaryResponse::from)
+            .toList();
+    }
 
-        return groupedByDate.entrySet().stream()
-            .sorted(Map.Entry.comparingByKey())
-            .map(entry -> {
-                double income = entry.getValue().stream()
-                    .filter(t -> "INCOME".equals(t.getType().name()))
-                    .mapToDouble(Transaction::getAmount)
-                    .sum();
-                double expense = entry.getValue().stream()
-                    .filter(t -> "EXPENSE".equals(t.getType().name()))
-                    .mapToDouble(Transaction::getAmount)
-                    .sum();
-
-                return new WeeklyTrendResponse(entry.getKey(), income, expense);
-            }).collect(Collectors.toList());
+    /**
+     * Last 7 days (including today) from the daily rollup, days without transactions as zero.
+     */
+    private List<WeeklyTrendResponse> calculateWeeklyTrend(UUID userId, UUID walletId, LocalDate today) {
+        LocalDate startDay = today.minusDays(TREND_DAYS - 1);
+
+        Map<LocalDate, TrendData> trendByDay = rollupRepository.getTrendData(
+                userId, startDay, today, walletId != null ? List.of(walletId) : null)
+            .stream()
+            .collect(Collectors.toMap(TrendData::getDate, Function.identity()));
+
+        List<WeeklyTrendResponse> weeklyTrend = new ArrayList<>();
+        for (int i = 0; i < TREND_DAYS; i++) {
+            LocalDate day = startDay.plusDays(i);
+            TrendData row = trendByDay.get(day);
+            weeklyTrend.add(row == null
+                ? new WeeklyTrendResponse(day, 0.0, 0.0)
+                : new WeeklyTrendResponse(day, row.getTotalIncome().doubleValue(),
+                                          row.getTotalExpense().doubleValue()));
+        }
+        return weeklyTrend;
     }
 }
@@ -0,0 +1,39 @@
+package com.fajars.expensetracker.debt;
+
+import com.fajars.expensetracker.common.util.AfterCommit;
+import com.fajars.expensetracker.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Drops a user's cached debt summary when one of their debts changes.
+ *
+ * <p>Every use case that writes debts or debt payments must call {@link #evictUser(UUID)}.
+ * The entry is dropped through {@link AfterCommit}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DebtSummaryCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Drop the cached debt summary of a user.
+     *
+     * @param userId user ID
+     */
+    public void evictUser(UUID userId) {
+        AfterCommit.evict(() -> evict(userId));
+    }
+
+    private void evict(UUID userId) {
+        Cache cache = cacheManager.getCache(CacheConfig.DEBT_SUMMARIES);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.fajars.expensetracker.debt.api;
 
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.debt.domain.DebtSort;
 import com.fajars.expensetracker.debt.domain.DebtStatus;
 import com.fajars.expensetracker.debt.domain.DebtType;
 import com.fajars.expensetracker.debt.usecase.adddebt.AddDebtPayment;
@@ -7,6 +9,7 @@ import com.fajars.expensetracker.debt.usecase.createdebt.CreateDebt;
 import com.fajars.expensetracker.debt.usecase.listdebt.ListDebts;
 import com.fajars.expensetracker.debt.usecase.martkdebtpaid.MarkDebtAsPaid;
 import com.fajars.expensetracker.debt.usecase.retrievedebt.RetrieveDebtDetail;
+import com.fajars.expensetracker.debt.usecase.summarizedebt.SummarizeDebts;
 import com.fajars.expensetracker.debt.usecase.updatedebt.UpdateDebt;
 import com.fajars.expensetracker.user.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,7 +57,9 @@ public class DebtController {
     private final MarkDebtAsPaid markDebtAsPaid;
     private final RetrieveDebtDetail retrieveDebtDetail;
     private final ListDebts listDebts;
+    private final SummarizeDebts summarizeDebts;
     private final UserService userService;
+    private final CurrentUserProvider currentUserProvider;
 
     @Operation(
         summary = "Create a new debt",
@@ -83,7 +88,7 @@ public class DebtController {
 
     @Operation(
         summary = "List all debts",
-        description = "Get all debts with optional filters (status, overdue) and pagination"
+        description = "Get all debts with any combination of filters (type, status, overdue), a sort order and offset pagination"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved debts",
@@ -98,16 +103,19 @@ public class DebtController {
         @Parameter(description = "Filter by debt status (OPEN, PARTIAL, PAID)", required = false)
         @RequestParam(required = false) DebtStatus status,
 
-        @Parameter(description = "Filter only overdue debts", required = false)
+        @Parameter(description = "Filter only overdue debts (combines with type and status)", required = false)
         @RequestParam(required = false) Boolean overdue,
 
+        @Parameter(description = "Order: DUE_DATE (soonest first, default with overdue=true) or CREATED_AT (newest first, default otherwise)", required = false)
+        @RequestParam(required = false) DebtSort sort,
+
         @Parameter(description = "Page number (0-based)", required = false)
         @RequestParam(required = false, defaultValue = "0") Integer page,
 
         @Parameter(description = "Page size (max 100)", required = false)
         @RequestParam(required = false, defaultValue = "20") Integer size
     ) {
-        DebtFilter filter = new DebtFilter(type, status, overdue, page, size);
+        DebtFilter filter = new DebtFilter(type, status, overdue, sort, page, size);
 
         log.debug("Listing debts with filter: {}", filter);
         Page<DebtResponse> debts = listDebts.list(filter);
@@ -115,6 +123,63 @@ public class DebtController {
         return ResponseEntity.ok(debts);
     }
 
+    @Operation(
+        summary = "Scroll debts (cursor pagination)",
+        description = "Keyset pagination over any combination of type, status and overdue filters. "
+            + "Pass the nextCursor of the previous response as 'after'; a cursor is only valid for the sort it was issued with."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved debts",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = DebtCursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<DebtCursorPageResponse> scrollDebts(
+        @Parameter(description = "Filter by debt type (PAYABLE, RECEIVABLE)", required = false)
+        @RequestParam(required = false) DebtType type,
+
+        @Parameter(description = "Filter by debt status (OPEN, PARTIAL, PAID)", required = false)
+        @RequestParam(required = false) DebtStatus status,
+
+        @Parameter(description = "Filter only overdue debts (combines with type and status)", required = false)
+        @RequestParam(required = false) Boolean overdue,
+
+        @Parameter(description = "Order: DUE_DATE (soonest first, default with overdue=true) or CREATED_AT (newest first, default otherwise)", required = false)
+        @RequestParam(required = false) DebtSort sort,
+
+        @Parameter(description = "Opaque cursor from the previous page (nextCursor)", required = false)
+        @RequestParam(required = false) String after,
+
+        @Parameter(description = "Page size (max 100)", required = false)
+        @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        DebtFilter filter = new DebtFilter(type, status, overdue, sort, 0, size);
+
+        log.debug("Scrolling debts after {} with filter: {}", after, filter);
+        DebtCursorPageResponse debts = listDebts.scroll(filter, after);
+
+        return ResponseEntity.ok(debts);
+    }
+
+    @Operation(
+        summary = "Get debt summary",
+        description = "Get totals payable and receivable by status, overdue and due within 7/30 days in one call"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved debt summary",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = DebtSummaryResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping("/summary")
+    public ResponseEntity<DebtSummaryResponse> getSummary() {
+        UUID userId = currentUserProvider.getUserId();
+        log.debug("Getting debt summary for user {}", userId);
+
+        DebtSummaryResponse summary = summarizeDebts.summarize(userId);
+        return ResponseEntity.ok(summary);
+    }
+
     @Operation(
         summary = "Get debt details",
         description = "Get detailed information about a specific debt including payment history"
@@ -0,0 +1,48 @@
+package com.fajars.expensetracker.debt.api;
+
+import com.fajars.expensetracker.common.exception.BusinessException;
+import com.fajars.expensetracker.debt.domain.DebtSort;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in one of the {@link DebtSort} orders.
+ * Serialized as an opaque URL-safe token so clients never build or parse it themselves;
+ * the token carries its order, so it cannot be replayed against another one.
+ */
+public record DebtCursor(DebtSort sort, LocalDateTime key, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static DebtCursor of(DebtSort sort, DebtResponse debt) {
+        LocalDateTime key = sort == DebtSort.DUE_DATE ? debt.dueDate() : debt.createdAt();
+        return new DebtCursor(sort, key, debt.id());
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()} for the expected order.
+     *
+     * @throws BusinessException (400) if the token is malformed or was issued for another order
+     */
+    public static DebtCursor decode(String token, DebtSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3 || !expectedSort.name().equals(parts[0])) {
+                throw BusinessException.badRequest("Invalid cursor");
+            }
+            return new DebtCursor(expectedSort, LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw BusinessException.badRequest("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
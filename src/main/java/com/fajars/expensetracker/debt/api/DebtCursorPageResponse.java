@@ -0,0 +1,17 @@
+package com.fajars.expensetracker.debt.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Cursor-paginated debt list")
+public record DebtCursorPageResponse(
+    @Schema(description = "Debts of this page, in the requested order")
+    List<DebtResponse> debts,
+
+    @Schema(description = "Opaque cursor for the next page (pass as 'after'), null when there are no more rows")
+    String nextCursor,
+
+    @Schema(description = "Whether more debts exist after this page", example = "true")
+    boolean hasMore
+) {
+}
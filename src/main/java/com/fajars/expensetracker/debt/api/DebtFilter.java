@@ -1,5 +1,6 @@
 package com.fajars.expensetracker.debt.api;
 
+import com.fajars.expensetracker.debt.domain.DebtSort;
 import com.fajars.expensetracker.debt.domain.DebtStatus;
 import com.fajars.expensetracker.debt.domain.DebtType;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,9 +17,13 @@ public record DebtFilter(
     @Schema(description = "Filter by debt status", example = "OPEN")
     DebtStatus status,
 
-    @Schema(description = "Filter only overdue debts", example = "true")
+    @Schema(description = "Filter only overdue debts, combines with type and status", example = "true")
     Boolean overdue,
 
+    @Schema(description = "Order: DUE_DATE (soonest first) or CREATED_AT (newest first); "
+        + "defaults to DUE_DATE for overdue=true, CREATED_AT otherwise", example = "DUE_DATE")
+    DebtSort sort,
+
     @Schema(description = "Page number (0-based)", example = "0")
     Integer page,
 
@@ -31,5 +36,9 @@ public record DebtFilter(
         page = (page == null || page < 0) ? 0 : page;
         size = (size == null || size <= 0 || size > 100) ? 20 : size;
         overdue = overdue != null && overdue;
+        // Overdue lists keep their original order: most overdue first
+        if (sort == null) {
+            sort = overdue ? DebtSort.DUE_DATE : DebtSort.CREATED_AT;
+        }
     }
 }
@@ -47,6 +47,9 @@ public record DebtResponse(
     @Schema(description = "Number of payments made")
     Integer paymentCount,
 
+    @Schema(description = "When the latest payment was made, null if none")
+    LocalDateTime lastPaidAt,
+
     @Schema(description = "When the debt was created")
     LocalDateTime createdAt,
 
@@ -56,10 +59,11 @@ public record DebtResponse(
 
     /**
      * Convert a Debt entity to DebtResponse DTO.
+     * Uses the maintained payment summary, never touches the lazy payment collection.
      */
     public static DebtResponse from(Debt debt) {
         double paidAmount = debt.getTotalAmount() - debt.getRemainingAmount();
-        int paymentCount = debt.getPayments() != null ? debt.getPayments().size() : 0;
+        int paymentCount = debt.getPaymentCount() != null ? debt.getPaymentCount() : 0;
 
         return new DebtResponse(
             debt.getId(),
@@ -73,6 +77,7 @@ public record DebtResponse(
             debt.isOverdue(),
             debt.getNote(),
             paymentCount,
+            debt.getLastPaidAt(),
             debt.getCreatedAt(),
             debt.getUpdatedAt()
         );
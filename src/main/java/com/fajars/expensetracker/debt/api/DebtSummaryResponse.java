@@ -0,0 +1,78 @@
+package com.fajars.expensetracker.debt.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for the debt summary: totals owed and receivable by status and due window.
+ */
+@Schema(description = "Debt totals per type, status and due window")
+public record DebtSummaryResponse(
+
+    @Schema(description = "Reference time of the overdue and due-soon buckets")
+    LocalDateTime asOf,
+
+    @Schema(description = "Money the user owes")
+    TypeSummary payable,
+
+    @Schema(description = "Money owed to the user")
+    TypeSummary receivable,
+
+    @Schema(description = "Remaining receivable minus remaining payable")
+    Double netRemaining
+) {
+
+    /**
+     * Totals of one debt type.
+     */
+    @Schema(description = "Debt totals of one type")
+    public record TypeSummary(
+
+        @Schema(description = "All debts of this type")
+        Bucket all,
+
+        @Schema(description = "Debts with status OPEN")
+        Bucket open,
+
+        @Schema(description = "Debts with status PARTIAL")
+        Bucket partial,
+
+        @Schema(description = "Debts with status PAID")
+        Bucket paid,
+
+        @Schema(description = "Unpaid debts past their due date")
+        Bucket overdue,
+
+        @Schema(description = "Unpaid debts due within the next 7 days")
+        Bucket dueWithin7Days,
+
+        @Schema(description = "Unpaid debts due within the next 30 days (includes the 7-day bucket)")
+        Bucket dueWithin30Days
+    ) {
+    }
+
+    /**
+     * Count and amounts of a set of debts.
+     */
+    @Schema(description = "Count and amounts of a set of debts")
+    public record Bucket(
+
+        @Schema(description = "Number of debts")
+        long count,
+
+        @Schema(description = "Sum of total amounts")
+        Double totalAmount,
+
+        @Schema(description = "Sum of remaining amounts")
+        Double remainingAmount
+    ) {
+
+        public static final Bucket EMPTY = new Bucket(0, 0.0, 0.0);
+
+        public Bucket plus(long count, double totalAmount, double remainingAmount) {
+            return new Bucket(this.count + count, this.totalAmount + totalAmount,
+                              this.remainingAmount + remainingAmount);
+        }
+    }
+}
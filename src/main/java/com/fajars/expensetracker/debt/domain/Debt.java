@@ -72,7 +72,22 @@ public class Debt {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Number of payments, maintained by {@link #applyPayment(Double, LocalDateTime)}
+     * so lists never load the payment collection.
+     */
+    @Builder.Default
+    @Column(name = "payment_count", nullable = false)
+    private Integer paymentCount = 0;
+
+    /**
+     * Time of the latest payment, maintained together with {@link #paymentCount}.
+     */
+    @Column(name = "last_paid_at")
+    private LocalDateTime lastPaidAt;
+
     @OneToMany(mappedBy = "debt", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("paidAt DESC")
     @Builder.Default
     private List<DebtPayment> payments = new ArrayList<>();
 
@@ -96,6 +111,25 @@ public class Debt {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Business rule: Apply a recorded payment and keep the payment summary in step.
+     * This is a read-modify-write of the summary columns, so the debt must be loaded with
+     * {@link DebtRepository#findForUpdateByIdAndUserId}; otherwise concurrent payments lose
+     * increments.
+     *
+     * @param paymentAmount the amount being paid (must be positive and validated)
+     * @param paidAt when the payment was made
+     * @throws IllegalArgumentException if payment amount exceeds remaining debt
+     */
+    public void applyPayment(Double paymentAmount, LocalDateTime paidAt) {
+        applyPayment(paymentAmount);
+
+        this.paymentCount = (paymentCount == null ? 0 : paymentCount) + 1;
+        if (lastPaidAt == null || paidAt.isAfter(lastPaidAt)) {
+            this.lastPaidAt = paidAt;
+        }
+    }
+
     /**
      * Business rule: Mark debt as fully paid.
      */
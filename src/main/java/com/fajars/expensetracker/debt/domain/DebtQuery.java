@@ -0,0 +1,26 @@
+package com.fajars.expensetracker.debt.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Filter criteria for debt queries built by {@link DebtQueryRepository}.
+ *
+ * <p>Only supplied criteria become SQL predicates and all of them combine, e.g. overdue
+ * receivables with status PARTIAL. {@code overdueAt} set means "unpaid and due before it".
+ */
+@Builder
+public record DebtQuery(
+    UUID userId,
+    DebtType type,
+    DebtStatus status,
+    LocalDateTime overdueAt
+) {
+
+    public DebtQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId is required");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.fajars.expensetracker.debt.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Dynamic debt queries. Implemented with JPA Criteria in {@link DebtQueryRepositoryImpl}
+ * and mixed into {@link DebtRepository}.
+ */
+public interface DebtQueryRepository {
+
+    /**
+     * Offset page of debts in the given order. The count query is skipped when the page is
+     * the first and only page.
+     */
+    Page<Debt> findByQuery(DebtQuery query, DebtSort sort, Pageable pageable);
+
+    /**
+     * Keyset page in the given order. Rows strictly after (afterKey, afterId) when both are
+     * given, otherwise from the first row. Seeks on the V12 composite indexes, so every page
+     * costs the same regardless of its depth.
+     */
+    List<Debt> scrollByQuery(DebtQuery query, DebtSort sort, LocalDateTime afterKey, UUID afterId, int limit);
+}
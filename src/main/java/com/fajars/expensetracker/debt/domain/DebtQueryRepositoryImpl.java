@@ -0,0 +1,110 @@
+package com.fajars.expensetracker.debt.domain;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * JPA Criteria implementation of {@link DebtQueryRepository}.
+ *
+ * <p>Predicates are emitted only for criteria that are actually set, replacing one hand-written
+ * query per filter combination. Debts are selected without their payments; list responses use
+ * the maintained payment summary columns.
+ */
+public class DebtQueryRepositoryImpl implements DebtQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Debt> findByQuery(DebtQuery query, DebtSort sort, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Debt> cq = cb.createQuery(Debt.class);
+        Root<Debt> root = cq.from(Debt.class);
+
+        cq.select(root)
+            .where(toPredicates(query, cb, root))
+            .orderBy(toOrders(sort, cb, root));
+
+        TypedQuery<Debt> typedQuery = entityManager.createQuery(cq);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(query));
+    }
+
+    @Override
+    public List<Debt> scrollByQuery(
+        DebtQuery query, DebtSort sort, LocalDateTime afterKey, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Debt> cq = cb.createQuery(Debt.class);
+        Root<Debt> root = cq.from(Debt.class);
+
+        List<Predicate> predicates = new ArrayList<>(List.of(toPredicates(query, cb, root)));
+        if (afterKey != null && afterId != null) {
+            Path<LocalDateTime> key = root.get(sort.attribute());
+            Path<UUID> id = root.get("id");
+            predicates.add(sort.ascending()
+                ? cb.or(cb.greaterThan(key, afterKey), cb.and(cb.equal(key, afterKey), cb.greaterThan(id, afterId)))
+                : cb.or(cb.lessThan(key, afterKey), cb.and(cb.equal(key, afterKey), cb.lessThan(id, afterId))));
+        }
+
+        cq.select(root)
+            .where(predicates.toArray(Predicate[]::new))
+            .orderBy(toOrders(sort, cb, root));
+
+        return entityManager.createQuery(cq)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    private long count(DebtQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Debt> root = cq.from(Debt.class);
+
+        cq.select(cb.count(root))
+            .where(toPredicates(query, cb, root));
+
+        return entityManager.createQuery(cq).getSingleResult();
+    }
+
+    private Predicate[] toPredicates(DebtQuery query, CriteriaBuilder cb, Root<Debt> root) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("user").get("id"), query.userId()));
+
+        if (query.type() != null) {
+            predicates.add(cb.equal(root.get("type"), query.type()));
+        }
+        if (query.status() != null) {
+            predicates.add(cb.equal(root.get("status"), query.status()));
+        }
+        if (query.overdueAt() != null) {
+            predicates.add(cb.notEqual(root.get("status"), DebtStatus.PAID));
+            predicates.add(cb.lessThan(root.get("dueDate"), query.overdueAt()));
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private List<Order> toOrders(DebtSort sort, CriteriaBuilder cb, Root<Debt> root) {
+        return sort.ascending()
+            ? List.of(cb.asc(root.get(sort.attribute())), cb.asc(root.get("id")))
+            : List.of(cb.desc(root.get(sort.attribute())), cb.desc(root.get("id")));
+    }
+}
@@ -1,22 +1,25 @@
 package com.fajars.expensetracker.debt.domain;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.fajars.expensetracker.debt.projection.DebtSummaryRow;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repository interface for Debt entity.
- * Provides data access methods with ownership validation.
+ * Provides data access methods with ownership validation; filtered lists go through
+ * {@link DebtQueryRepository}.
  */
 @Repository
-public interface DebtRepository extends JpaRepository<Debt, UUID> {
+public interface DebtRepository extends JpaRepository<Debt, UUID>, DebtQueryRepository {
 
     /**
      * Find a debt by ID and ensure it belongs to the specified user.
@@ -29,75 +32,60 @@ public interface DebtRepository extends JpaRepository<Debt, UUID> {
     Optional<Debt> findByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 
     /**
-     * Find all debts for a specific user with pagination.
-     *
-     * @param userId the user ID
-     * @param pageable pagination information
-     * @return Page of debts
-     */
-    @Query("SELECT d FROM Debt d WHERE d.user.id = :userId ORDER BY d.createdAt DESC")
-    Page<Debt> findByUserId(@Param("userId") UUID userId, Pageable pageable);
-
-    /**
-     * Find debts by user and type.
-     *
-     * @param userId the user ID
-     * @param type the debt type
-     * @param pageable pagination information
-     * @return Page of debts
-     */
-    @Query("SELECT d FROM Debt d WHERE d.user.id = :userId AND d.type = :type ORDER BY d.createdAt DESC")
-    Page<Debt> findByUserIdAndType(
-        @Param("userId") UUID userId,
-        @Param("type") DebtType type,
-        Pageable pageable
-    );
-
-    /**
-     * Find debts by user and status.
+     * Find a debt by ID for the specified user and lock its row until the transaction ends.
+     * Write paths use it, so concurrent payments or status changes on one debt run one after
+     * another and each sees the result of the previous one.
      *
+     * @param id the debt ID
      * @param userId the user ID
-     * @param status the debt status
-     * @param pageable pagination information
-     * @return Page of debts
+     * @return Optional containing the locked debt if found and belongs to user
      */
-    @Query("SELECT d FROM Debt d WHERE d.user.id = :userId AND d.status = :status ORDER BY d.createdAt DESC")
-    Page<Debt> findByUserIdAndStatus(
-        @Param("userId") UUID userId,
-        @Param("status") DebtStatus status,
-        Pageable pageable
-    );
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Debt d WHERE d.id = :id AND d.user.id = :userId")
+    Optional<Debt> findForUpdateByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 
     /**
-     * Find debts by user, type and status.
+     * Find a debt by ID for the specified user together with its payments (newest first),
+     * in one statement.
      *
+     * @param id the debt ID
      * @param userId the user ID
-     * @param type the debt type
-     * @param status the debt status
-     * @param pageable pagination information
-     * @return Page of debts
+     * @return Optional containing the debt with payments if found and belongs to user
      */
-    @Query("SELECT d FROM Debt d WHERE d.user.id = :userId AND d.type = :type AND d.status = :status ORDER BY d.createdAt DESC")
-    Page<Debt> findByUserIdAndTypeAndStatus(
-        @Param("userId") UUID userId,
-        @Param("type") DebtType type,
-        @Param("status") DebtStatus status,
-        Pageable pageable
-    );
+    @Query("SELECT DISTINCT d FROM Debt d LEFT JOIN FETCH d.payments WHERE d.id = :id AND d.user.id = :userId")
+    Optional<Debt> findWithPaymentsByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 
     /**
-     * Find overdue debts for a user.
+     * All debt totals of a user in one grouped pass, bucketed by type, status, overdue and
+     * due window (see {@link DebtSummaryRow}). Uses idx_debts_user_status.
      *
      * @param userId the user ID
-     * @param currentDate the current date
-     * @param pageable pagination information
-     * @return Page of overdue debts
+     * @param now the reference time for overdue and due windows
+     * @param dueIn7Days now + 7 days
+     * @param dueIn30Days now + 30 days
+     * @return one row per non-empty bucket
      */
-    @Query("SELECT d FROM Debt d WHERE d.user.id = :userId AND d.dueDate < :currentDate AND d.status != 'PAID' ORDER BY d.dueDate ASC")
-    Page<Debt> findOverdueDebts(
+    @Query(value = """
+        SELECT d.type AS "type",
+               d.status AS "status",
+               (d.status <> 'PAID' AND d.due_date < :now) AS "overdue",
+               CASE
+                   WHEN d.status = 'PAID' OR d.due_date < :now THEN NULL
+                   WHEN d.due_date < :dueIn7Days THEN 7
+                   WHEN d.due_date < :dueIn30Days THEN 30
+               END AS "dueWindow",
+               COUNT(*) AS "debtCount",
+               COALESCE(SUM(d.total_amount), 0) AS "totalAmount",
+               COALESCE(SUM(d.remaining_amount), 0) AS "remainingAmount"
+        FROM debts d
+        WHERE d.user_id = :userId
+        GROUP BY 1, 2, 3, 4
+        """, nativeQuery = true)
+    List<DebtSummaryRow> getSummaryBuckets(
         @Param("userId") UUID userId,
-        @Param("currentDate") LocalDateTime currentDate,
-        Pageable pageable
+        @Param("now") LocalDateTime now,
+        @Param("dueIn7Days") LocalDateTime dueIn7Days,
+        @Param("dueIn30Days") LocalDateTime dueIn30Days
     );
 
     /**
@@ -122,7 +110,8 @@ public interface DebtRepository extends JpaRepository<Debt, UUID> {
 
     /**
      * Count active debts (OPEN or PARTIAL status) for a user.
-     * Used for FREE tier debt limit enforcement.
+     * FREE tier limits are enforced by the maintained counter (UsageQuota); this is the
+     * source of truth to compare it against.
      *
      * @param userId the user ID
      * @return count of active debts
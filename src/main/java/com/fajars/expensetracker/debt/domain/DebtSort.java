@@ -0,0 +1,31 @@
+package com.fajars.expensetracker.debt.domain;
+
+/**
+ * Orders supported by the debt list. Each order ends with the id so it is total, which keyset
+ * pagination needs to never skip or repeat rows sharing the same timestamp.
+ * - DUE_DATE: soonest due first (due_date ASC, id ASC)
+ * - CREATED_AT: newest first (created_at DESC, id DESC)
+ */
+public enum DebtSort {
+    DUE_DATE("dueDate", true),
+    CREATED_AT("createdAt", false);
+
+    private final String attribute;
+    private final boolean ascending;
+
+    DebtSort(String attribute, boolean ascending) {
+        this.attribute = attribute;
+        this.ascending = ascending;
+    }
+
+    /**
+     * Entity attribute holding the sort key.
+     */
+    public String attribute() {
+        return attribute;
+    }
+
+    public boolean ascending() {
+        return ascending;
+    }
+}
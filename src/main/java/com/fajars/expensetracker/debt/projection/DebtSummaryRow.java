@@ -0,0 +1,19 @@
+package com.fajars.expensetracker.debt.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection interface for one bucket of the grouped debt summary query.
+ * A bucket is one combination of type, status, overdue flag and due window:
+ * - dueWindow: 7 when due within 7 days, 30 when due within 8-30 days, null otherwise
+ *   (only set for unpaid debts that are not overdue)
+ */
+public interface DebtSummaryRow {
+    String getType();
+    String getStatus();
+    Boolean getOverdue();
+    Integer getDueWindow();
+    Long getDebtCount();
+    BigDecimal getTotalAmount();
+    BigDecimal getRemainingAmount();
+}
@@ -4,6 +4,7 @@ import com.fajars.expensetracker.common.exception.ResourceNotFoundException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.debt.DebtSummaryCacheInvalidator;
 import com.fajars.expensetracker.debt.api.AddDebtPaymentRequest;
 import com.fajars.expensetracker.debt.api.DebtPaymentResponse;
 import com.fajars.expensetracker.debt.api.DebtResponse;
@@ -12,6 +13,8 @@ import com.fajars.expensetracker.debt.domain.DebtPayment;
 import com.fajars.expensetracker.debt.domain.DebtPaymentRepository;
 import com.fajars.expensetracker.debt.domain.DebtRepository;
 import com.fajars.expensetracker.debt.domain.DebtStatus;
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -35,6 +38,8 @@ public class AddDebtPaymentUseCase implements AddDebtPayment {
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider userProvider;
+    private final DebtSummaryCacheInvalidator debtSummaryCacheInvalidator;
+    private final UsageQuota usageQuota;
 
     @Override
     @Transactional
@@ -47,8 +52,8 @@ public class AddDebtPaymentUseCase implements AddDebtPayment {
         // Validate payment amount (use case responsibility)
         validatePaymentAmount(request.amount());
 
-        // Validate and get debt (ownership check)
-        Debt debt = debtRepository.findByIdAndUserId(debtId, userId)
+        // Validate and get debt (ownership check), locked so concurrent payments apply one after another
+        Debt debt = debtRepository.findForUpdateByIdAndUserId(debtId, userId)
             .orElseThrow(() -> new ResourceNotFoundException("Debt", debtId.toString()));
 
         // Validate debt is not already paid
@@ -56,15 +61,19 @@ public class AddDebtPaymentUseCase implements AddDebtPayment {
             throw new IllegalStateException("Cannot add payment to a debt that is already fully paid");
         }
 
-        // Apply payment (business rule in entity)
-        debt.applyPayment(request.amount());
-
         // Create payment record
         DebtPayment payment = buildPayment(debt, request);
 
+        // Apply payment (business rule in entity), also maintains payment count and last paid time
+        debt.applyPayment(payment.getAmount(), payment.getPaidAt());
+
         // Persist both (transactional)
         payment = debtPaymentRepository.save(payment);
         debt = debtRepository.save(debt);
+        if (debt.getStatus() == DebtStatus.PAID) {
+            usageQuota.release(userId, QuotaType.ACTIVE_DEBTS);
+        }
+        debtSummaryCacheInvalidator.evictUser(userId);
 
         // Log and metrics
         logBusinessEvent(debt, payment);
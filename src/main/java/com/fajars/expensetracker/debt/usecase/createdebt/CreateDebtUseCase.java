@@ -4,12 +4,14 @@ import com.fajars.expensetracker.common.exception.BusinessException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.debt.DebtSummaryCacheInvalidator;
 import com.fajars.expensetracker.debt.api.CreateDebtRequest;
 import com.fajars.expensetracker.debt.api.DebtResponse;
 import com.fajars.expensetracker.debt.domain.Debt;
 import com.fajars.expensetracker.debt.domain.DebtRepository;
 import com.fajars.expensetracker.debt.domain.DebtStatus;
-import com.fajars.expensetracker.subscription.SubscriptionHelper;
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
 import com.fajars.expensetracker.user.domain.User;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -32,10 +34,9 @@ public class CreateDebtUseCase implements CreateDebt {
     private final DebtRepository debtRepository;
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
-    private final SubscriptionHelper subscriptionHelper;
+    private final UsageQuota usageQuota;
     private final CurrentUserProvider userProvider;
-
-    private static final int FREE_TIER_DEBT_LIMIT = 10;
+    private final DebtSummaryCacheInvalidator debtSummaryCacheInvalidator;
 
     @Override
     @Transactional
@@ -51,6 +52,7 @@ public class CreateDebtUseCase implements CreateDebt {
         Debt debt = buildDebt(userId, request);
 
         debt = debtRepository.save(debt);
+        debtSummaryCacheInvalidator.evictUser(userId);
 
         logBusinessEvent(debt);
         recordMetrics(startTime);
@@ -60,29 +62,19 @@ public class CreateDebtUseCase implements CreateDebt {
     }
 
     /**
-     * Validate debt limit for FREE tier users.
-     * PREMIUM users bypass this check.
+     * Count the new debt against the FREE tier active debt limit.
+     * PREMIUM users are counted but never limited.
      *
      * @param userId User ID
      * @throws BusinessException if FREE user has reached debt limit
      */
     private void validateDebtLimit(UUID userId) {
-        if (subscriptionHelper.isPremiumUser(userId)) {
-            log.debug("User {} is PREMIUM - bypassing debt limit check", userId);
-            return;
-        }
-
-        Long activeDebtCount = debtRepository.countActiveDebtsByUserId(userId);
-
-        if (activeDebtCount >= FREE_TIER_DEBT_LIMIT) {
-            log.warn("User {} exceeded debt limit: {}/{}", userId, activeDebtCount, FREE_TIER_DEBT_LIMIT);
+        if (!usageQuota.tryAcquire(userId, QuotaType.ACTIVE_DEBTS)) {
             throw BusinessException.forbidden(
-                    "You have reached the maximum limit of " + FREE_TIER_DEBT_LIMIT + " active debts for FREE tier. " +
+                    "You have reached the maximum limit of " + QuotaType.ACTIVE_DEBTS.freeLimit() + " active debts for FREE tier. " +
                     "Upgrade to PREMIUM for unlimited debt tracking."
             );
         }
-
-        log.debug("User {} debt count: {}/{}", userId, activeDebtCount, FREE_TIER_DEBT_LIMIT);
     }
 
     private Debt buildDebt(UUID userId, CreateDebtRequest request) {
@@ -1,5 +1,6 @@
 package com.fajars.expensetracker.debt.usecase.listdebt;
 
+import com.fajars.expensetracker.debt.api.DebtCursorPageResponse;
 import com.fajars.expensetracker.debt.api.DebtFilter;
 import com.fajars.expensetracker.debt.api.DebtResponse;
 import org.springframework.data.domain.Page;
@@ -16,4 +17,13 @@ public interface ListDebts {
      * @return page of debt responses
      */
     Page<DebtResponse> list(DebtFilter filter);
+
+    /**
+     * Keyset-paginated list for a user with optional filters; page and total count are not used.
+     *
+     * @param filter filter criteria (page is ignored)
+     * @param after opaque cursor from the previous page, null for the first page
+     * @return debts of this page and the cursor of the next one
+     */
+    DebtCursorPageResponse scroll(DebtFilter filter, String after);
 }
@@ -1,9 +1,12 @@
 package com.fajars.expensetracker.debt.usecase.listdebt;
 
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.debt.api.DebtCursor;
+import com.fajars.expensetracker.debt.api.DebtCursorPageResponse;
 import com.fajars.expensetracker.debt.api.DebtFilter;
 import com.fajars.expensetracker.debt.api.DebtResponse;
 import com.fajars.expensetracker.debt.domain.Debt;
+import com.fajars.expensetracker.debt.domain.DebtQuery;
 import com.fajars.expensetracker.debt.domain.DebtRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,10 +17,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Use case implementation for listing debts with filters.
+ * Every filter combination goes through one composable query (DebtQueryRepository).
  */
 @Service
 @RequiredArgsConstructor
@@ -36,23 +41,48 @@ public class ListDebtsUseCase implements ListDebts {
         log.debug("Listing debts for user {} with filter: {}", userId, filter);
 
         Pageable pageable = PageRequest.of(filter.page(), filter.size());
-
-        Page<Debt> debts;
-
-        // Apply filters
-        if (filter.overdue() != null && filter.overdue()) {
-            debts = debtRepository.findOverdueDebts(userId, LocalDateTime.now(), pageable);
-        } else if (filter.type() != null && filter.status() != null) {
-            debts = debtRepository.findByUserIdAndTypeAndStatus(userId, filter.type(), filter.status(), pageable);
-        } else if (filter.type() != null) {
-            debts = debtRepository.findByUserIdAndType(userId, filter.type(), pageable);
-        } else if (filter.status() != null) {
-            debts = debtRepository.findByUserIdAndStatus(userId, filter.status(), pageable);
-        } else {
-            debts = debtRepository.findByUserId(userId, pageable);
-        }
+        Page<Debt> debts = debtRepository.findByQuery(toQuery(userId, filter), filter.sort(), pageable);
 
         log.debug("Found {} debts for user {}", debts.getTotalElements(), userId);
         return debts.map(DebtResponse::from);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DebtCursorPageResponse scroll(DebtFilter filter, String after) {
+        UUID userId = userProvider.getUserId();
+
+        log.debug("Scrolling debts for user {} after cursor {} with filter: {}", userId, after, filter);
+
+        DebtCursor cursor = after == null || after.isBlank() ? null : DebtCursor.decode(after, filter.sort());
+
+        List<Debt> rows = debtRepository.scrollByQuery(
+            toQuery(userId, filter),
+            filter.sort(),
+            cursor != null ? cursor.key() : null,
+            cursor != null ? cursor.id() : null,
+            filter.size() + 1
+        );
+
+        boolean hasMore = rows.size() > filter.size();
+        List<DebtResponse> debts = rows.stream()
+            .limit(filter.size())
+            .map(DebtResponse::from)
+            .toList();
+
+        String nextCursor = hasMore
+            ? DebtCursor.of(filter.sort(), debts.getLast()).encode()
+            : null;
+
+        return new DebtCursorPageResponse(debts, nextCursor, hasMore);
+    }
+
+    private DebtQuery toQuery(UUID userId, DebtFilter filter) {
+        return DebtQuery.builder()
+            .userId(userId)
+            .type(filter.type())
+            .status(filter.status())
+            .overdueAt(filter.overdue() ? LocalDateTime.now() : null)
+            .build();
+    }
 }
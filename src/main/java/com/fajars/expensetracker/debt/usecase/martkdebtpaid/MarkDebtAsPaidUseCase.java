@@ -4,10 +4,13 @@ import com.fajars.expensetracker.common.exception.ResourceNotFoundException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.debt.DebtSummaryCacheInvalidator;
 import com.fajars.expensetracker.debt.api.DebtResponse;
 import com.fajars.expensetracker.debt.domain.Debt;
 import com.fajars.expensetracker.debt.domain.DebtRepository;
 import com.fajars.expensetracker.debt.domain.DebtStatus;
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -28,6 +31,8 @@ public class MarkDebtAsPaidUseCase implements MarkDebtAsPaid {
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider userProvider;
+    private final DebtSummaryCacheInvalidator debtSummaryCacheInvalidator;
+    private final UsageQuota usageQuota;
 
     @Override
     @Transactional
@@ -37,8 +42,8 @@ public class MarkDebtAsPaidUseCase implements MarkDebtAsPaid {
 
         log.debug("Marking debt {} as paid for user {}", debtId, userId);
 
-        // Validate and get debt (ownership check)
-        Debt debt = debtRepository.findByIdAndUserId(debtId, userId)
+        // Validate and get debt (ownership check), locked so a concurrent request waits for this one
+        Debt debt = debtRepository.findForUpdateByIdAndUserId(debtId, userId)
             .orElseThrow(() -> new ResourceNotFoundException("Debt", debtId.toString()));
 
         // Check if already paid
@@ -52,6 +57,8 @@ public class MarkDebtAsPaidUseCase implements MarkDebtAsPaid {
 
         // Persist
         debt = debtRepository.save(debt);
+        usageQuota.release(userId, QuotaType.ACTIVE_DEBTS);
+        debtSummaryCacheInvalidator.evictUser(userId);
 
         // Log and metrics
         logBusinessEvent(debt);
@@ -31,7 +31,7 @@ public class RetrieveDebtDetailUseCase implements RetrieveDebtDetail {
 
         log.debug("Getting debt detail for debt {} and user {}", debtId, userId);
 
-        Debt debt = debtRepository.findByIdAndUserId(debtId, userId)
+        Debt debt = debtRepository.findWithPaymentsByIdAndUserId(debtId, userId)
             .orElseThrow(() -> new ResourceNotFoundException("Debt", debtId.toString()));
 
         log.debug("Found debt {} with {} payments", debtId, debt.getPayments().size());
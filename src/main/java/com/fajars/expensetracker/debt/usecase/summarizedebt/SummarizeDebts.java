@@ -0,0 +1,19 @@
+package com.fajars.expensetracker.debt.usecase.summarizedebt;
+
+import com.fajars.expensetracker.debt.api.DebtSummaryResponse;
+
+import java.util.UUID;
+
+/**
+ * Use case interface for summarizing all debts of a user.
+ */
+public interface SummarizeDebts {
+
+    /**
+     * Totals owed and receivable by status, overdue and due within 7/30 days.
+     *
+     * @param userId the user ID
+     * @return debt summary
+     */
+    DebtSummaryResponse summarize(UUID userId);
+}
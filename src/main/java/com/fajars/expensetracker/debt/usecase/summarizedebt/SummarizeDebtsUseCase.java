@@ -0,0 +1,89 @@
+package com.fajars.expensetracker.debt.usecase.summarizedebt;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.config.CacheConfig;
+import com.fajars.expensetracker.debt.api.DebtSummaryResponse;
+import com.fajars.expensetracker.debt.api.DebtSummaryResponse.Bucket;
+import com.fajars.expensetracker.debt.api.DebtSummaryResponse.TypeSummary;
+import com.fajars.expensetracker.debt.domain.DebtRepository;
+import com.fajars.expensetracker.debt.domain.DebtStatus;
+import com.fajars.expensetracker.debt.domain.DebtType;
+import com.fajars.expensetracker.debt.projection.DebtSummaryRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Use case implementation for the debt summary.
+ * All buckets come from one grouped query; the result is cached per user and evicted by
+ * the debt write use cases (DebtSummaryCacheInvalidator).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SummarizeDebtsUseCase implements SummarizeDebts {
+
+    private final DebtRepository debtRepository;
+    private final MetricsService metricsService;
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.DEBT_SUMMARIES, key = "#userId")
+    public DebtSummaryResponse summarize(UUID userId) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<DebtSummaryRow> rows = debtRepository.getSummaryBuckets(
+            userId, now, now.plusDays(7), now.plusDays(30));
+
+        TypeSummary payable = summarizeType(rows, DebtType.PAYABLE);
+        TypeSummary receivable = summarizeType(rows, DebtType.RECEIVABLE);
+        double netRemaining = receivable.all().remainingAmount() - payable.all().remainingAmount();
+
+        metricsService.recordTimer("debt.summary.generation.duration", startTime);
+        log.debug("Summarized debts of user {} from {} buckets", userId, rows.size());
+
+        return new DebtSummaryResponse(now, payable, receivable, netRemaining);
+    }
+
+    private TypeSummary summarizeType(List<DebtSummaryRow> rows, DebtType type) {
+        List<DebtSummaryRow> ofType = rows.stream()
+            .filter(row -> type.name().equals(row.getType()))
+            .toList();
+
+        return new TypeSummary(
+            sum(ofType, row -> true),
+            sum(ofType, row -> DebtStatus.OPEN.name().equals(row.getStatus())),
+            sum(ofType, row -> DebtStatus.PARTIAL.name().equals(row.getStatus())),
+            sum(ofType, row -> DebtStatus.PAID.name().equals(row.getStatus())),
+            sum(ofType, row -> Boolean.TRUE.equals(row.getOverdue())),
+            sum(ofType, row -> Integer.valueOf(7).equals(row.getDueWindow())),
+            sum(ofType, row -> row.getDueWindow() != null)
+        );
+    }
+
+    private Bucket sum(List<DebtSummaryRow> rows, Predicate<DebtSummaryRow> filter) {
+        Bucket bucket = Bucket.EMPTY;
+        for (DebtSummaryRow row : rows) {
+            if (filter.test(row)) {
+                bucket = bucket.plus(
+                    row.getDebtCount() != null ? row.getDebtCount() : 0,
+                    toDouble(row.getTotalAmount()),
+                    toDouble(row.getRemainingAmount()));
+            }
+        }
+        return bucket;
+    }
+
+    private double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0.0;
+    }
+}
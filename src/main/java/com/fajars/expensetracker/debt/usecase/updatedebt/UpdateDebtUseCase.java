@@ -3,11 +3,14 @@ package com.fajars.expensetracker.debt.usecase.updatedebt;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.debt.DebtSummaryCacheInvalidator;
 import com.fajars.expensetracker.debt.api.DebtResponse;
 import com.fajars.expensetracker.debt.api.UpdateDebtRequest;
 import com.fajars.expensetracker.debt.domain.Debt;
 import com.fajars.expensetracker.debt.domain.DebtRepository;
 import com.fajars.expensetracker.debt.domain.DebtStatus;
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -30,6 +33,8 @@ public class UpdateDebtUseCase implements UpdateDebt {
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider userProvider;
+    private final DebtSummaryCacheInvalidator debtSummaryCacheInvalidator;
+    private final UsageQuota usageQuota;
 
     @Override
     @Transactional
@@ -39,12 +44,15 @@ public class UpdateDebtUseCase implements UpdateDebt {
 
         log.debug("Updating debt {} for user {}: {}", debtId, userId, request);
 
-        Debt debt = debtRepository.findByIdAndUserId(debtId, userId)
+        Debt debt = debtRepository.findForUpdateByIdAndUserId(debtId, userId)
             .orElseThrow(() -> new IllegalArgumentException("Debt not found"));
 
+        boolean wasActive = debt.getStatus() != DebtStatus.PAID;
         updateDebtFields(debt, request);
+        trackActiveDebt(userId, wasActive, debt.getStatus() != DebtStatus.PAID);
 
         debt = debtRepository.save(debt);
+        debtSummaryCacheInvalidator.evictUser(userId);
 
         logBusinessEvent(debt);
         recordMetrics(startTime);
@@ -79,6 +87,18 @@ public class UpdateDebtUseCase implements UpdateDebt {
         }
     }
 
+    /**
+     * Keep the active debt counter in step when a changed total reopens or settles the debt.
+     * Reopening is counted even above the FREE limit: the debt already exists.
+     */
+    private void trackActiveDebt(UUID userId, boolean wasActive, boolean isActive) {
+        if (!wasActive && isActive) {
+            usageQuota.track(userId, QuotaType.ACTIVE_DEBTS);
+        } else if (wasActive && !isActive) {
+            usageQuota.release(userId, QuotaType.ACTIVE_DEBTS);
+        }
+    }
+
     private void updateStatus(Debt debt) {
         if (debt.getRemainingAmount() == 0) {
             debt.setStatus(DebtStatus.PAID);
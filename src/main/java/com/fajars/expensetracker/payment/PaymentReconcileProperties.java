@@ -0,0 +1,55 @@
+package com.fajars.expensetracker.payment;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Stale PENDING payment reconciler configuration.
+ * Binds to application.yaml app.payment.reconcile.* properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.payment.reconcile")
+@Getter
+@Setter
+public class PaymentReconcileProperties {
+
+    /**
+     * Age after which a PENDING payment is checked with the gateway.
+     */
+    private Duration staleAfter = Duration.ofMinutes(15);
+
+    /**
+     * Minimum time before the same payment is checked again.
+     */
+    private Duration recheckAfter = Duration.ofMinutes(30);
+
+    /**
+     * Age after which an order the gateway does not know (the user never picked a payment
+     * method) is expired. Should be above the Snap token expiry.
+     */
+    private Duration abandonAfter = Duration.ofHours(25);
+
+    /**
+     * Payments read per query.
+     */
+    private int chunkSize = 100;
+
+    /**
+     * Upper bound of payments checked in one run; the rest wait for the next run.
+     */
+    private int maxPerRun = 2000;
+
+    /**
+     * Status calls in flight at the same time.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Status calls started per second.
+     */
+    private int requestsPerSecond = 10;
+}
@@ -0,0 +1,49 @@
+package com.fajars.expensetracker.payment;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Payment webhook inbox worker configuration.
+ * Binds to application.yaml app.payment.webhook-inbox.* properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.payment.webhook-inbox")
+@Getter
+@Setter
+public class WebhookInboxProperties {
+
+    /**
+     * Entries applied at the same time. Each one holds a database connection while it runs.
+     */
+    private int workerThreads = 4;
+
+    /**
+     * Entries claimed per poll.
+     */
+    private int batchSize = 50;
+
+    /**
+     * How long a claimed entry belongs to its worker before another poll may take it over.
+     */
+    private Duration lease = Duration.ofMinutes(2);
+
+    /**
+     * Attempts before an entry is marked DEAD.
+     */
+    private int maxAttempts = 8;
+
+    /**
+     * Delay before the first retry; doubled for every further attempt.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(10);
+
+    /**
+     * Upper bound for the retry delay.
+     */
+    private Duration maxBackoff = Duration.ofMinutes(30);
+}
@@ -3,7 +3,7 @@ package com.fajars.expensetracker.payment.api;
 import com.fajars.expensetracker.payment.midtrans.MidtransWebhookPayload;
 import com.fajars.expensetracker.payment.usecase.createpayment.CreatePaymentCmd;
 import com.fajars.expensetracker.payment.usecase.createpayment.CreateSubscriptionPayment;
-import com.fajars.expensetracker.payment.usecase.ProcessPaymentWebhook;
+import com.fajars.expensetracker.payment.usecase.receivewebhook.ReceivePaymentWebhook;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,7 +28,7 @@ public class PaymentController {
 
     private final CreateSubscriptionPayment createSubscriptionPayment;
 
-    private final ProcessPaymentWebhook processPaymentWebhook;
+    private final ReceivePaymentWebhook receivePaymentWebhook;
 
     /**
      * Create subscription payment. Generates Midtrans Snap token and redirect URL for payment.
@@ -81,7 +81,8 @@ public class PaymentController {
     ) {
         log.info("Received Midtrans webhook for order: {}", payload.orderId());
 
-        processPaymentWebhook.processWebhook(payload);
+        // Stored in the inbox and applied asynchronously; duplicates are acknowledged as well
+        receivePaymentWebhook.receive(payload);
 
         return ResponseEntity.ok().build();
     }
@@ -1,9 +1,12 @@
 package com.fajars.expensetracker.payment.domain;
 
+import com.fajars.expensetracker.payment.projection.StalePendingPayment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -33,6 +36,26 @@ public interface PaymentRepository extends JpaRepository<PaymentTransaction, UUI
      */
     Optional<PaymentTransaction> findByIdempotencyKey(String idempotencyKey);
 
+    /**
+     * Claim the Snap call for a PENDING payment that has no token yet.
+     * Succeeds only if nobody requested the token since {@code staleBefore}, so concurrent
+     * retries with the same idempotency key call the gateway at most once.
+     *
+     * @param paymentId   the payment ID
+     * @param now         the new request time
+     * @param staleBefore requests older than this are considered abandoned
+     * @return 1 if claimed, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE PaymentTransaction p SET p.snapRequestedAt = :now " +
+           "WHERE p.id = :paymentId AND p.status = 'PENDING' AND p.snapToken IS NULL " +
+           "AND (p.snapRequestedAt IS NULL OR p.snapRequestedAt < :staleBefore)")
+    int claimSnapRequest(
+        @Param("paymentId") UUID paymentId,
+        @Param("now") LocalDateTime now,
+        @Param("staleBefore") LocalDateTime staleBefore
+    );
+
     /**
      * Find all payments for a specific user, ordered by creation date.
      *
@@ -70,6 +93,44 @@ public interface PaymentRepository extends JpaRepository<PaymentTransaction, UUI
            "WHERE p.status = 'PENDING' AND p.createdAt < :cutoffTime")
     List<PaymentTransaction> findExpiredPendingPayments(@Param("cutoffTime") LocalDateTime cutoffTime);
 
+    /**
+     * Find one chunk of PENDING payments created before {@code staleBefore} that were not
+     * checked with the gateway since {@code recheckBefore}, never checked first, then least
+     * recently checked (for the reconcile job).
+     *
+     * @param staleBefore   only payments created before this are returned
+     * @param recheckBefore payments checked after this are skipped
+     * @param limit         chunk size
+     * @return List of stale pending payments
+     */
+    @Query("SELECT p.id AS id, p.orderId AS orderId, p.createdAt AS createdAt " +
+           "FROM PaymentTransaction p " +
+           "WHERE p.status = 'PENDING' AND p.createdAt < :staleBefore " +
+           "AND (p.lastReconciledAt IS NULL OR p.lastReconciledAt < :recheckBefore) " +
+           "ORDER BY p.lastReconciledAt NULLS FIRST, p.createdAt " +
+           "LIMIT :limit")
+    List<StalePendingPayment> findStalePendingPayments(
+        @Param("staleBefore") LocalDateTime staleBefore,
+        @Param("recheckBefore") LocalDateTime recheckBefore,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Stamp payments as checked by the reconcile job, so the next chunk and the next runs
+     * move on to other payments.
+     *
+     * @param paymentIds the checked payments
+     * @param now        the check time
+     * @return number of stamped payments
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE PaymentTransaction p SET p.lastReconciledAt = :now WHERE p.id IN :paymentIds")
+    int markReconciled(
+        @Param("paymentIds") List<UUID> paymentIds,
+        @Param("now") LocalDateTime now
+    );
+
     /**
      * Count successful payments for a user (for analytics).
      *
@@ -115,6 +115,19 @@ public class PaymentTransaction {
     @Column(name = "snap_redirect_url", columnDefinition = "TEXT")
     private String snapRedirectUrl;
 
+    /**
+     * When the Snap token was last requested from Midtrans.
+     * A PENDING payment without token and with a stale value can be requested again.
+     */
+    @Column(name = "snap_requested_at")
+    private LocalDateTime snapRequestedAt;
+
+    /**
+     * When the reconciler last asked the gateway about this payment while it was PENDING.
+     */
+    @Column(name = "last_reconciled_at")
+    private LocalDateTime lastReconciledAt;
+
     /**
      * Full webhook payload from payment gateway for audit trail.
      * Stored as JSONB for queryability.
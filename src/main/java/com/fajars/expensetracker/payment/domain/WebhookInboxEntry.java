@@ -0,0 +1,59 @@
+package com.fajars.expensetracker.payment.domain;
+
+import com.fajars.expensetracker.common.converter.JsonbConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A payment gateway notification accepted by the webhook endpoint and waiting to be applied.
+ * Rows are written by {@link WebhookInboxRepository#insertIfAbsent} and moved through their
+ * states by the inbox worker.
+ */
+@Entity
+@Table(name = "payment_webhook_inbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebhookInboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    @Column(name = "transaction_status", nullable = false, length = 50)
+    private String transactionStatus;
+
+    /**
+     * Notification body as received.
+     */
+    @Convert(converter = JsonbConverter.class)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private Map<String, Object> payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookInboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "received_at", nullable = false, updatable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
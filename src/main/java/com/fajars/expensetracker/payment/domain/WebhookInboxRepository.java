@@ -0,0 +1,124 @@
+package com.fajars.expensetracker.payment.domain;
+
+import com.fajars.expensetracker.payment.projection.WebhookInboxBacklog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the payment webhook inbox.
+ */
+@Repository
+public interface WebhookInboxRepository extends JpaRepository<WebhookInboxEntry, Long> {
+
+    /**
+     * Store a notification unless the same status change of the order is already stored.
+     *
+     * @param payload notification body as JSON
+     * @return 1 if stored, 0 if it was a duplicate
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO payment_webhook_inbox
+            (order_id, transaction_status, payload, status, attempts, next_attempt_at, received_at)
+        VALUES (:orderId, :transactionStatus, CAST(:payload AS jsonb), 'PENDING', 0, :now, :now)
+        ON CONFLICT (order_id, transaction_status) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(
+        @Param("orderId") String orderId,
+        @Param("transactionStatus") String transactionStatus,
+        @Param("payload") String payload,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Claim due entries for processing, oldest first.
+     * An entry is only due if no earlier entry of the same order is unfinished, so one order's
+     * notifications are applied in arrival order and a batch never holds two of the same order.
+     * Claimed entries stay PROCESSING until {@code leaseUntil}; after that an abandoned claim
+     * (crashed worker) becomes due again. SKIP LOCKED lets several instances claim side by side.
+     *
+     * @return IDs of the claimed entries
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+        UPDATE payment_webhook_inbox
+        SET status = 'PROCESSING',
+            attempts = attempts + 1,
+            next_attempt_at = :leaseUntil
+        WHERE id IN (
+            SELECT p.id
+            FROM payment_webhook_inbox p
+            WHERE p.status IN ('PENDING', 'PROCESSING')
+              AND p.next_attempt_at <= :now
+              AND NOT EXISTS (
+                  SELECT 1 FROM payment_webhook_inbox o
+                  WHERE o.order_id = p.order_id
+                    AND o.id < p.id
+                    AND o.status IN ('PENDING', 'PROCESSING'))
+            ORDER BY p.id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED)
+        RETURNING id
+        """, nativeQuery = true)
+    List<Long> claimDue(
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil,
+        @Param("batchSize") int batchSize
+    );
+
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("""
+        UPDATE WebhookInboxEntry e
+        SET e.status = com.fajars.expensetracker.payment.domain.WebhookInboxStatus.DONE,
+            e.processedAt = :now,
+            e.lastError = null
+        WHERE e.id = :id
+        """)
+    int markDone(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("""
+        UPDATE WebhookInboxEntry e
+        SET e.status = com.fajars.expensetracker.payment.domain.WebhookInboxStatus.PENDING,
+            e.nextAttemptAt = :nextAttemptAt,
+            e.lastError = :error
+        WHERE e.id = :id
+        """)
+    int scheduleRetry(
+        @Param("id") Long id,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+        @Param("error") String error
+    );
+
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("""
+        UPDATE WebhookInboxEntry e
+        SET e.status = com.fajars.expensetracker.payment.domain.WebhookInboxStatus.DEAD,
+            e.lastError = :error
+        WHERE e.id = :id
+        """)
+    int markDead(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * Size and age of the unfinished part of the inbox, for depth and lag metrics.
+     */
+    @Query(value = """
+        SELECT COUNT(*) AS pendingCount,
+               MIN(received_at) AS oldestReceivedAt
+        FROM payment_webhook_inbox
+        WHERE status IN ('PENDING', 'PROCESSING')
+        """, nativeQuery = true)
+    WebhookInboxBacklog getBacklog();
+}
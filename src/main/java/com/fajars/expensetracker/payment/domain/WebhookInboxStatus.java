@@ -0,0 +1,26 @@
+package com.fajars.expensetracker.payment.domain;
+
+/**
+ * Processing state of a webhook inbox entry.
+ */
+public enum WebhookInboxStatus {
+    /**
+     * Waiting for a worker, possibly until a retry backoff passes.
+     */
+    PENDING,
+
+    /**
+     * Claimed by a worker. Reclaimed if the worker does not finish within the lease.
+     */
+    PROCESSING,
+
+    /**
+     * Applied to the payment.
+     */
+    DONE,
+
+    /**
+     * Gave up after the maximum number of attempts. Needs a manual look.
+     */
+    DEAD
+}
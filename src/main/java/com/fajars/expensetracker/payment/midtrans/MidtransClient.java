@@ -1,55 +1,112 @@
 package com.fajars.expensetracker.payment.midtrans;
 
 import com.fajars.expensetracker.common.exception.ExternalServiceException;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Client for Midtrans Snap API integration.
  * Handles HTTP communication with Midtrans payment gateway.
+ *
+ * <p>One WebClient over a pooled keep-alive connection provider is built at startup and shared
+ * by all calls. Calls go through a bulkhead (bounded in-flight calls) and a circuit breaker;
+ * both fail fast with {@link ExternalServiceException} instead of waiting on a degraded gateway.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class MidtransClient {
 
+    private static final String SNAP_CREATE = "snap_create";
+    private static final String TRANSACTION_STATUS = "transaction_status";
+    private static final Duration SNAP_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(5);
+
     private final MidtransConfig midtransConfig;
+    private final MidtransHttpProperties httpProperties;
     private final WebClient.Builder webClientBuilder;
+    private final MetricsService metricsService;
+
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+    private Semaphore bulkhead;
+    private GatewayCircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        connectionProvider = ConnectionProvider.builder("midtrans")
+            .maxConnections(httpProperties.getMaxConnections())
+            .maxIdleTime(httpProperties.getMaxIdleTime())
+            .pendingAcquireTimeout(httpProperties.getPendingAcquireTimeout())
+            .evictInBackground(httpProperties.getMaxIdleTime())
+            .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) httpProperties.getConnectTimeout().toMillis())
+            .responseTimeout(httpProperties.getReadTimeout())
+            .keepAlive(true);
+
+        webClient = webClientBuilder.clone()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .baseUrl(midtransConfig.getApiUrl())
+            .defaultHeader(HttpHeaders.AUTHORIZATION, midtransConfig.getAuthHeader())
+            .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .build();
+
+        bulkhead = new Semaphore(httpProperties.getMaxConcurrentCalls());
+        circuitBreaker = new GatewayCircuitBreaker(
+            httpProperties.getFailureThreshold(), httpProperties.getOpenDuration(), Clock.systemUTC());
+
+        metricsService.registerGauge("midtrans.bulkhead.available", bulkhead, Semaphore::availablePermits);
+        metricsService.registerGauge("midtrans.circuit.open", circuitBreaker,
+            breaker -> breaker.state() == GatewayCircuitBreaker.State.CLOSED ? 0 : 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
 
     /**
      * Create payment transaction via Midtrans Snap API.
      *
      * @param request the payment request
      * @return Snap response with token and redirect URL
-     * @throws ExternalServiceException if API call fails
+     * @throws ExternalServiceException if API call fails or the gateway is unavailable
      */
     public MidtransSnapResponse createTransaction(MidtransSnapRequest request) {
         log.info("Creating Midtrans transaction for order: {}",
             request.transactionDetails().orderId());
 
         try {
-            WebClient webClient = webClientBuilder
-                .baseUrl(midtransConfig.getApiUrl())
-                .defaultHeader(HttpHeaders.AUTHORIZATION, midtransConfig.getAuthHeader())
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                .build();
-
-            MidtransSnapResponse response = webClient
+            MidtransSnapResponse response = guarded(SNAP_CREATE, webClient
                 .post()
                 .uri("/snap/v1/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(MidtransSnapResponse.class)
-                .timeout(Duration.ofSeconds(10))
+                .timeout(SNAP_TIMEOUT))
                 .block();
 
             if (response == null) {
@@ -70,6 +127,8 @@ public class MidtransClient {
                 "Failed to create payment: " + e.getMessage(),
                 e
             );
+        } catch (ExternalServiceException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error calling Midtrans API", e);
             throw new ExternalServiceException(
@@ -88,18 +147,68 @@ public class MidtransClient {
     public Mono<String> getTransactionStatus(String orderId) {
         log.info("Fetching transaction status for order: {}", orderId);
 
-        WebClient webClient = webClientBuilder
-            .baseUrl(midtransConfig.getApiUrl())
-            .defaultHeader(HttpHeaders.AUTHORIZATION, midtransConfig.getAuthHeader())
-            .build();
-
-        return webClient
+        return guarded(TRANSACTION_STATUS, webClient
             .get()
             .uri("/v2/{orderId}/status", orderId)
             .retrieve()
             .bodyToMono(String.class)
-            .timeout(Duration.ofSeconds(5))
+            .timeout(STATUS_TIMEOUT))
             .doOnSuccess(response -> log.info("Transaction status retrieved: {}", orderId))
             .doOnError(error -> log.error("Failed to get transaction status", error));
     }
+
+    /**
+     * Run a call through the circuit breaker and the bulkhead, recording its latency tagged by
+     * endpoint and outcome. Client errors (4xx other than 429) mean the gateway is up and do not
+     * count towards opening the circuit.
+     */
+    private <T> Mono<T> guarded(String endpoint, Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                metricsService.incrementCounter("midtrans.requests.rejected",
+                    "endpoint", endpoint, "reason", "circuit_open");
+                return Mono.error(new ExternalServiceException(
+                    "Payment gateway is unavailable, please try again later"));
+            }
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.onIgnored();
+                metricsService.incrementCounter("midtrans.requests.rejected",
+                    "endpoint", endpoint, "reason", "bulkhead_full");
+                return Mono.error(new ExternalServiceException(
+                    "Payment gateway is busy, please try again later"));
+            }
+
+            long startTime = System.currentTimeMillis();
+            return call
+                .doOnSuccess(response -> {
+                    circuitBreaker.onSuccess();
+                    metricsService.recordTimer("midtrans.request.duration", startTime,
+                        "endpoint", endpoint, "outcome", "success");
+                })
+                .doOnError(error -> {
+                    String outcome = outcome(error);
+                    if (outcome.equals("client_error")) {
+                        circuitBreaker.onSuccess();
+                    } else {
+                        circuitBreaker.onFailure();
+                    }
+                    metricsService.recordTimer("midtrans.request.duration", startTime,
+                        "endpoint", endpoint, "outcome", outcome);
+                })
+                .doOnCancel(circuitBreaker::onIgnored)
+                .doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    private static String outcome(Throwable error) {
+        if (error instanceof WebClientResponseException e) {
+            boolean clientError = e.getStatusCode().is4xxClientError()
+                && e.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value();
+            return clientError ? "client_error" : "server_error";
+        }
+        if (error instanceof TimeoutException || error.getCause() instanceof ReadTimeoutException) {
+            return "timeout";
+        }
+        return "io_error";
+    }
 }
@@ -0,0 +1,60 @@
+package com.fajars.expensetracker.payment.midtrans;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * HTTP client tuning for the Midtrans API.
+ * Binds to application.yaml midtrans.http.* properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "midtrans.http")
+@Getter
+@Setter
+public class MidtransHttpProperties {
+
+    /**
+     * Time allowed to open a TCP connection to the gateway.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Time allowed between sending a request and receiving the response.
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Pooled connections kept to the gateway.
+     */
+    private int maxConnections = 50;
+
+    /**
+     * Idle time before a kept-alive connection is closed.
+     * Kept below the gateway's own idle timeout so a reused connection is not already closed.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Time a request waits for a pooled connection before failing.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Calls in flight at the same time (bulkhead). Further calls fail fast instead of queueing.
+     */
+    private int maxConcurrentCalls = 20;
+
+    /**
+     * Consecutive gateway failures (5xx, timeouts, connection errors) that open the circuit.
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * How long an open circuit fails calls fast before letting one trial call through.
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
+}
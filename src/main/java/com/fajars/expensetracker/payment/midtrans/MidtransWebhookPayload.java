@@ -1,5 +1,6 @@
 package com.fajars.expensetracker.payment.midtrans;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.math.BigDecimal;
@@ -7,7 +8,9 @@ import java.math.BigDecimal;
 /**
  * Webhook payload from Midtrans notification.
  * Represents the notification body sent by Midtrans after payment status changes.
+ * Status API responses have the same shape plus a few extra fields, which are ignored.
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record MidtransWebhookPayload(
     @JsonProperty("transaction_status")
     String transactionStatus,
@@ -0,0 +1,15 @@
+package com.fajars.expensetracker.payment.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection interface for a PENDING payment picked up by the reconciler:
+ * - id, createdAt: keyset position for the next chunk
+ * - orderId: the order to ask the payment gateway about
+ */
+public interface StalePendingPayment {
+    UUID getId();
+    String getOrderId();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,13 @@
+package com.fajars.expensetracker.payment.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection interface for the unfinished part of the webhook inbox:
+ * - pendingCount: PENDING plus PROCESSING entries
+ * - oldestReceivedAt: arrival time of the oldest of them, null when the inbox is drained
+ */
+public interface WebhookInboxBacklog {
+    Long getPendingCount();
+    LocalDateTime getOldestReceivedAt();
+}
@@ -0,0 +1,213 @@
+package com.fajars.expensetracker.payment.scheduler;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.payment.PaymentReconcileProperties;
+import com.fajars.expensetracker.payment.domain.PaymentRepository;
+import com.fajars.expensetracker.payment.domain.WebhookInboxRepository;
+import com.fajars.expensetracker.payment.midtrans.MidtransClient;
+import com.fajars.expensetracker.payment.projection.StalePendingPayment;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scheduled job that asks the payment gateway about PENDING payments whose webhook never arrived.
+ *
+ * <p>Stale payments are read in chunks, never checked first and then least recently checked;
+ * every checked payment is stamped ({@code lastReconciledAt}) and skipped until
+ * {@code recheck-after} has passed, so payments the gateway keeps reporting as pending cannot
+ * crowd out newer ones. For every chunk the status calls run as one non-blocking pipeline, paced
+ * to {@code requests-per-second} with at most {@code concurrency} calls in flight; the answers
+ * are then written to the webhook inbox, so
+ * {@link WebhookInboxWorker} applies them with exactly the same transitions as a real
+ * notification (and a webhook arriving meanwhile is deduplicated against them).
+ *
+ * <p>An order the gateway does not know means the user never picked a payment method. Once it is
+ * older than {@code abandon-after} (past the Snap expiry) it is queued as expired.
+ *
+ * <p><b>Execution Schedule:</b>
+ * <ul>
+ *   <li>Frequency: every 10 minutes ({@code app.payment.reconcile.cron})</li>
+ *   <li>Timezone: Asia/Jakarta</li>
+ *   <li>At most {@code max-per-run} payments per run; the rest are picked up next run</li>
+ * </ul>
+ *
+ * <p><b>Monitoring:</b>
+ * - Metrics: payment.reconcile.checked (counter, tagged by outcome, updated per chunk),
+ *   payment.reconcile.duration (timer)
+ * - Logs: INFO summary per run, WARN for each failed status call
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReconcilePendingPaymentsScheduler {
+
+    private final PaymentRepository paymentRepository;
+    private final WebhookInboxRepository inboxRepository;
+    private final MidtransClient midtransClient;
+    private final PaymentReconcileProperties properties;
+    private final MetricsService metricsService;
+    private final ObjectMapper objectMapper;
+
+    enum Outcome {
+        /** Gateway reported a final status, queued in the inbox. */
+        QUEUED,
+        /** Gateway reported a final status that is already in the inbox. */
+        ALREADY_QUEUED,
+        /** Gateway still reports the payment as pending. */
+        PENDING,
+        /** Gateway does not know the order yet. */
+        NOT_FOUND,
+        /** Gateway does not know the order and it is past the Snap expiry, queued as expired. */
+        ABANDONED,
+        /** Status call failed; retried once {@code recheck-after} has passed. */
+        ERROR
+    }
+
+    private record StatusCheck(StalePendingPayment payment, String body, Throwable error) {
+    }
+
+    /**
+     * Check stale PENDING payments with the gateway.
+     *
+     * @return number of payments checked per outcome
+     */
+    @Scheduled(cron = "${app.payment.reconcile.cron:0 */10 * * * *}", zone = "Asia/Jakarta")
+    public Map<Outcome, Integer> reconcile() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(properties.getStaleAfter());
+        LocalDateTime recheckBefore = now.minus(properties.getRecheckAfter());
+
+        Map<Outcome, Integer> totals = new EnumMap<>(Outcome.class);
+        int checked = 0;
+
+        while (checked < properties.getMaxPerRun()) {
+            int limit = Math.min(properties.getChunkSize(), properties.getMaxPerRun() - checked);
+            List<StalePendingPayment> chunk =
+                paymentRepository.findStalePendingPayments(staleBefore, recheckBefore, limit);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            Map<Outcome, Integer> outcomes = new EnumMap<>(Outcome.class);
+            for (StatusCheck check : fetchStatuses(chunk)) {
+                outcomes.merge(apply(check, now), 1, Integer::sum);
+            }
+            // Stamped payments drop out of the query until recheck-after has passed
+            paymentRepository.markReconciled(chunk.stream().map(StalePendingPayment::getId).toList(), now);
+            outcomes.forEach((outcome, count) -> {
+                totals.merge(outcome, count, Integer::sum);
+                metricsService.incrementCounterBy("payment.reconcile.checked", count,
+                    "outcome", outcome.name().toLowerCase());
+            });
+
+            checked += chunk.size();
+            if (chunk.size() < limit) {
+                break;
+            }
+        }
+
+        metricsService.recordTimer("payment.reconcile.duration", startTime);
+        if (checked > 0) {
+            log.info("Reconciled {} stale pending payments in {}ms: {}",
+                checked, System.currentTimeMillis() - startTime, totals);
+        }
+        return totals;
+    }
+
+    /**
+     * Query the gateway for one chunk. Calls start at most {@code requests-per-second} apart and
+     * at most {@code concurrency} are in flight; the calling thread only waits for the result.
+     */
+    private List<StatusCheck> fetchStatuses(List<StalePendingPayment> chunk) {
+        Duration spacing = Duration.ofMillis(Math.max(1, 1000 / properties.getRequestsPerSecond()));
+
+        return Flux.fromIterable(chunk)
+            .delayElements(spacing)
+            .flatMap(this::fetchStatus, properties.getConcurrency())
+            .collectList()
+            .block();
+    }
+
+    private Mono<StatusCheck> fetchStatus(StalePendingPayment payment) {
+        return midtransClient.getTransactionStatus(payment.getOrderId())
+            .defaultIfEmpty("{}")
+            .map(body -> new StatusCheck(payment, body, null))
+            .onErrorResume(error -> Mono.just(new StatusCheck(payment, null, error)));
+    }
+
+    private Outcome apply(StatusCheck check, LocalDateTime now) {
+        StalePendingPayment payment = check.payment();
+
+        if (check.error() instanceof WebClientResponseException.NotFound) {
+            return handleUnknownOrder(payment, now);
+        }
+        if (check.error() != null) {
+            log.warn("Status check failed for order {}: {}", payment.getOrderId(), check.error().getMessage());
+            return Outcome.ERROR;
+        }
+
+        Map<String, Object> status;
+        try {
+            status = objectMapper.readValue(check.body(), new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable status response for order {}: {}", payment.getOrderId(), e.getMessage());
+            return Outcome.ERROR;
+        }
+
+        // The status API may also answer an unknown order with HTTP 200 and status_code 404 in the body
+        if ("404".equals(String.valueOf(status.get("status_code")))) {
+            return handleUnknownOrder(payment, now);
+        }
+        Object transactionStatus = status.get("transaction_status");
+        if (transactionStatus == null || "pending".equalsIgnoreCase(transactionStatus.toString())) {
+            return Outcome.PENDING;
+        }
+
+        return enqueue(payment.getOrderId(), transactionStatus.toString(), check.body(), now)
+            ? Outcome.QUEUED
+            : Outcome.ALREADY_QUEUED;
+    }
+
+    private Outcome handleUnknownOrder(StalePendingPayment payment, LocalDateTime now) {
+        if (!payment.getCreatedAt().isBefore(now.minus(properties.getAbandonAfter()))) {
+            return Outcome.NOT_FOUND;
+        }
+
+        Map<String, Object> expired = Map.of(
+            "order_id", payment.getOrderId(),
+            "transaction_status", "expire",
+            "status_code", "404",
+            "status_message", "Order unknown to the payment gateway after Snap expiry"
+        );
+        try {
+            return enqueue(payment.getOrderId(), "expire", objectMapper.writeValueAsString(expired), now)
+                ? Outcome.ABANDONED
+                : Outcome.ALREADY_QUEUED;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize expiry payload", e);
+        }
+    }
+
+    private boolean enqueue(String orderId, String transactionStatus, String payload, LocalDateTime now) {
+        boolean stored = inboxRepository.insertIfAbsent(orderId, transactionStatus, payload, now) == 1;
+        if (stored) {
+            log.info("Reconciled order {} as {}", orderId, transactionStatus);
+        }
+        return stored;
+    }
+}
@@ -0,0 +1,158 @@
+package com.fajars.expensetracker.payment.scheduler;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.payment.WebhookInboxProperties;
+import com.fajars.expensetracker.payment.domain.WebhookInboxEntry;
+import com.fajars.expensetracker.payment.domain.WebhookInboxRepository;
+import com.fajars.expensetracker.payment.midtrans.MidtransWebhookPayload;
+import com.fajars.expensetracker.payment.projection.WebhookInboxBacklog;
+import com.fajars.expensetracker.payment.usecase.ProcessPaymentWebhook;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduled worker that applies the payment webhooks stored in the inbox.
+ *
+ * <p>Every poll claims a batch of due entries in one short transaction (at most one entry per
+ * order, see {@link WebhookInboxRepository#claimDue}) and applies them on a worker pool, each in
+ * its own transaction together with marking it DONE. A failed entry goes back to PENDING with
+ * exponential backoff and is marked DEAD after {@code max-attempts}.
+ *
+ * <p><b>Execution Schedule:</b> every {@code app.payment.webhook-inbox.poll-interval} after the
+ * previous poll finished.
+ *
+ * <p><b>Monitoring:</b>
+ * - Metrics: webhook.inbox.depth (gauge, unfinished entries), webhook.inbox.lag_seconds (gauge,
+ *   age of the oldest unfinished entry), webhook.inbox.delivery (timer, receive to applied),
+ *   webhook.inbox.retried, webhook.inbox.dead
+ * - Logs: ERROR when an entry is marked DEAD
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookInboxWorker {
+
+    private final WebhookInboxRepository inboxRepository;
+    private final ProcessPaymentWebhook processPaymentWebhook;
+    private final WebhookInboxProperties properties;
+    private final MetricsService metricsService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(
+            properties.getWorkerThreads(),
+            Thread.ofPlatform().name("webhook-inbox-", 0).daemon(true).factory()
+        );
+
+        metricsService.registerGauge("webhook.inbox.depth", depth, AtomicLong::get);
+        metricsService.registerGauge("webhook.inbox.lag_seconds", lagSeconds, AtomicLong::get);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Claim and apply one batch of due entries.
+     *
+     * @return number of entries claimed
+     */
+    @Scheduled(fixedDelayString = "${app.payment.webhook-inbox.poll-interval:1000}")
+    public int drain() {
+        refreshBacklogMetrics();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimed = new TransactionTemplate(transactionManager).execute(status ->
+            inboxRepository.claimDue(now, now.plus(properties.getLease()), properties.getBatchSize()));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        // Entries of one batch belong to different orders, so they can run side by side
+        CompletableFuture.allOf(claimed.stream()
+            .map(id -> CompletableFuture.runAsync(() -> apply(id), executor))
+            .toArray(CompletableFuture[]::new))
+            .join();
+        return claimed.size();
+    }
+
+    void apply(Long id) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            LocalDateTime receivedAt = transaction.execute(status -> {
+                WebhookInboxEntry entry = inboxRepository.findById(id)
+                    .orElseThrow(() -> new IllegalStateException("Inbox entry " + id + " not found"));
+                MidtransWebhookPayload payload =
+                    objectMapper.convertValue(entry.getPayload(), MidtransWebhookPayload.class);
+
+                processPaymentWebhook.processWebhook(payload, entry.getPayload());
+                inboxRepository.markDone(id, LocalDateTime.now());
+                return entry.getReceivedAt();
+            });
+            metricsService.recordTimer("webhook.inbox.delivery",
+                receivedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        } catch (RuntimeException e) {
+            transaction.executeWithoutResult(status -> retryOrGiveUp(id, e));
+        }
+    }
+
+    private void retryOrGiveUp(Long id, RuntimeException failure) {
+        WebhookInboxEntry entry = inboxRepository.findById(id).orElse(null);
+        if (entry == null) {
+            return;
+        }
+        String error = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+
+        if (entry.getAttempts() >= properties.getMaxAttempts()) {
+            log.error("Webhook for order {} ({}) failed {} times, giving up: {}",
+                entry.getOrderId(), entry.getTransactionStatus(), entry.getAttempts(), error);
+            inboxRepository.markDead(id, error);
+            metricsService.incrementCounter("webhook.inbox.dead");
+            return;
+        }
+
+        Duration backoff = backoff(entry.getAttempts());
+        log.warn("Webhook for order {} ({}) failed on attempt {}, retrying in {}s: {}",
+            entry.getOrderId(), entry.getTransactionStatus(), entry.getAttempts(), backoff.toSeconds(), error);
+        inboxRepository.scheduleRetry(id, LocalDateTime.now().plus(backoff), error);
+        metricsService.incrementCounter("webhook.inbox.retried");
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.clamp(attempts - 1, 0, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private void refreshBacklogMetrics() {
+        WebhookInboxBacklog backlog = inboxRepository.getBacklog();
+        depth.set(backlog.getPendingCount() == null ? 0 : backlog.getPendingCount());
+        lagSeconds.set(backlog.getOldestReceivedAt() == null
+            ? 0
+            : Duration.between(backlog.getOldestReceivedAt(), LocalDateTime.now()).toSeconds());
+    }
+}
@@ -1,6 +1,7 @@
 package com.fajars.expensetracker.payment.usecase;
 
 import com.fajars.expensetracker.payment.midtrans.MidtransWebhookPayload;
+import java.util.Map;
 
 /**
  * Use case interface for processing payment webhooks.
@@ -11,7 +12,8 @@ public interface ProcessPaymentWebhook {
      * Process webhook notification from payment gateway.
      * Updates payment status and activates subscription if successful.
      *
-     * @param payload the webhook payload
+     * @param payload    the webhook payload
+     * @param rawPayload the payload as stored in the inbox, kept on the payment for audit
      */
-    void processWebhook(MidtransWebhookPayload payload);
+    void processWebhook(MidtransWebhookPayload payload, Map<String, Object> rawPayload);
 }
@@ -8,10 +8,8 @@ import com.fajars.expensetracker.payment.domain.PaymentRepository;
 import com.fajars.expensetracker.payment.domain.PaymentStatus;
 import com.fajars.expensetracker.payment.domain.PaymentTransaction;
 import com.fajars.expensetracker.payment.midtrans.MidtransWebhookPayload;
-import com.fajars.expensetracker.payment.midtrans.WebhookVerifier;
 import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
 import com.fajars.expensetracker.subscription.usecase.activesubcription.ActivateSubscription;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -20,8 +18,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Use case implementation for processing payment webhooks. Verifies signature, updates payment
- * status, and activates subscription.
+ * Use case implementation for processing payment webhooks. Updates payment status and activates
+ * subscription. Runs from the webhook inbox worker; the signature was verified when the
+ * notification was received.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,25 +30,16 @@ public class ProcessPaymentWebhookUseCase implements ProcessPaymentWebhook {
     private final PaymentRepository paymentRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final ActivateSubscription activateSubscription;
-    private final WebhookVerifier webhookVerifier;
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
-    private final ObjectMapper objectMapper;
 
     @Override
     @Transactional
-    public void processWebhook(MidtransWebhookPayload payload) {
+    public void processWebhook(MidtransWebhookPayload payload, Map<String, Object> rawPayload) {
         long startTime = System.currentTimeMillis();
         log.info("Processing webhook for order: {}", payload.orderId());
 
         try {
-            // Verify signature
-            if (!webhookVerifier.verifySignature(payload)) {
-                log.warn("Invalid webhook signature for order: {}", payload.orderId());
-                metricsService.incrementCounter("webhook.invalid_signature");
-                throw BusinessException.forbidden("Invalid webhook signature");
-            }
-
             // Find payment by order ID
             PaymentTransaction payment = paymentRepository.findByOrderId(payload.orderId())
                 .orElseThrow(() -> BusinessException.notFound(
@@ -64,7 +54,7 @@ public class ProcessPaymentWebhookUseCase implements ProcessPaymentWebhook {
             }
 
             // Store webhook payload for audit
-            payment.setWebhookPayload(convertPayloadToMap(payload));
+            payment.setWebhookPayload(rawPayload);
 
             // Update payment based on transaction status
             if (payload.isSuccess()) {
@@ -150,21 +140,6 @@ public class ProcessPaymentWebhookUseCase implements ProcessPaymentWebhook {
         };
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> convertPayloadToMap(MidtransWebhookPayload payload) {
-        try {
-            String json = objectMapper.writeValueAsString(payload);
-            return objectMapper.readValue(json, Map.class);
-        } catch (Exception e) {
-            log.error("Failed to convert webhook payload to map", e);
-            return Map.of(
-                "order_id", payload.orderId(),
-                "transaction_status", payload.transactionStatus(),
-                "error", "Failed to parse full payload"
-            );
-        }
-    }
-
     private void logBusinessEvent(PaymentTransaction payment, MidtransWebhookPayload payload) {
         Map<String, Object> attributes = new HashMap<>();
         attributes.put("paymentId", payment.getId());
@@ -15,6 +15,7 @@ import com.fajars.expensetracker.payment.midtrans.MidtransSnapResponse;
 import com.fajars.expensetracker.user.domain.User;
 import com.fajars.expensetracker.user.domain.UserRepository;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -23,8 +24,10 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Use case implementation for creating subscription payment. Handles payment creation with Midtrans
@@ -39,6 +42,8 @@ public class CreateSubscriptionPaymentUseCase implements CreateSubscriptionPayme
     private static final String CURRENCY = "IDR";
     private static final String PRODUCT_NAME = "Premium Subscription - 1 Month";
     private static final String PRODUCT_ID = "PREMIUM_MONTHLY";
+    // Longer than the Snap call timeout, so a live request is never taken over
+    private static final Duration SNAP_REQUEST_LEASE = Duration.ofSeconds(30);
 
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
@@ -47,9 +52,14 @@ public class CreateSubscriptionPaymentUseCase implements CreateSubscriptionPayme
     private final BusinessEventLogger businessEventLogger;
 
     private final CurrentUserProvider currentUserProvider;
+    private final PlatformTransactionManager transactionManager;
 
+    /**
+     * Not transactional on purpose: the PENDING row is committed in a short transaction, the
+     * Snap call runs without holding a DB connection, and the token is stored in a second short
+     * transaction. A retry with the same idempotency key resumes a row left without token.
+     */
     @Override
-    @Transactional
     public CreatePaymentResponse createPayment(CreatePaymentCmd cmd) {
         long startTime = System.currentTimeMillis();
         UUID userId = currentUserProvider.getUserId();
@@ -61,10 +71,27 @@ public class CreateSubscriptionPaymentUseCase implements CreateSubscriptionPayme
 
             if (existing.isPresent()) {
                 log.info("Payment already exists for idempotency key: {}", cmd.idempotencyKey());
-                return CreatePaymentResponse.from(existing.get());
+                return resume(existing.get(), userId, startTime);
             }
         }
 
+        PendingPayment pending;
+        try {
+            pending = transactionTemplate().execute(status -> insertPending(userId, cmd.idempotencyKey()));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request with the same idempotency key inserted first
+            if (cmd.idempotencyKey() == null) {
+                throw e;
+            }
+            PaymentTransaction existing = paymentRepository.findByIdempotencyKey(cmd.idempotencyKey())
+                .orElseThrow(() -> e);
+            return resume(existing, userId, startTime);
+        }
+
+        return requestSnapToken(pending.payment(), pending.user(), startTime);
+    }
+
+    private PendingPayment insertPending(UUID userId, String idempotencyKey) {
         // Validate user exists
         User user = userRepository.findById(userId)
             .orElseThrow(() -> BusinessException.notFound("User not found"));
@@ -72,37 +99,77 @@ public class CreateSubscriptionPaymentUseCase implements CreateSubscriptionPayme
         // Create order ID
         String orderId = generateOrderId(userId);
 
-        // Create payment transaction entity
-        PaymentTransaction payment = buildPaymentTransaction(user, orderId, cmd.idempotencyKey());
-        payment = paymentRepository.save(payment);
+        // Flush so a duplicate idempotency key fails here, not at commit
+        PaymentTransaction payment = buildPaymentTransaction(user, orderId, idempotencyKey);
+        return new PendingPayment(paymentRepository.saveAndFlush(payment), user);
+    }
 
-        // Call Midtrans Snap API
-        try {
-            MidtransSnapRequest snapRequest = buildSnapRequest(user, orderId, MONTHLY_PRICE);
-            MidtransSnapResponse snapResponse = midtransClient.createTransaction(snapRequest);
+    /**
+     * Answer a retry for an existing payment. Only a PENDING payment without token whose Snap
+     * call was abandoned (lease expired) is requested again, reusing its order ID.
+     */
+    private CreatePaymentResponse resume(PaymentTransaction payment, UUID userId, long startTime) {
+        if (!payment.getUser().getId().equals(userId)) {
+            throw BusinessException.conflict("Idempotency key already used");
+        }
+        if (payment.getSnapToken() != null || payment.getStatus() != PaymentStatus.PENDING) {
+            return CreatePaymentResponse.from(payment);
+        }
 
-            // Update payment with Snap token and URL
-            payment.setSnapToken(snapResponse.token());
-            payment.setSnapRedirectUrl(snapResponse.redirectUrl());
-            payment = paymentRepository.save(payment);
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate().execute(status -> paymentRepository.claimSnapRequest(
+            payment.getId(), now, now.minus(SNAP_REQUEST_LEASE)));
+        if (claimed == null || claimed == 0) {
+            // Another request is still waiting for the gateway
+            log.info("Snap token for payment {} is still being requested", payment.getId());
+            return CreatePaymentResponse.from(payment);
+        }
 
-            // Log and metrics
-            logBusinessEvent(payment, user);
-            recordMetrics(startTime, "success");
+        log.info("Resuming payment {} without Snap token", payment.getId());
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> BusinessException.notFound("User not found"));
+        return requestSnapToken(payment, user, startTime);
+    }
 
-            log.info("Payment {} created successfully for user {}", payment.getId(), userId);
-            return CreatePaymentResponse.from(payment);
+    private CreatePaymentResponse requestSnapToken(PaymentTransaction payment, User user, long startTime) {
+        UUID paymentId = payment.getId();
 
-        } catch (Exception e) {
-            log.error("Failed to create Midtrans transaction for user {}", userId, e);
+        // Call Midtrans Snap API, no DB connection held
+        MidtransSnapResponse snapResponse;
+        try {
+            MidtransSnapRequest snapRequest = buildSnapRequest(user, payment.getOrderId(), payment.getAmount());
+            snapResponse = midtransClient.createTransaction(snapRequest);
+        } catch (RuntimeException e) {
+            log.error("Failed to create Midtrans transaction for user {}", user.getId(), e);
 
             // Mark payment as failed
-            payment.markAsFailed();
-            paymentRepository.save(payment);
+            transactionTemplate().executeWithoutResult(status -> paymentRepository.findById(paymentId)
+                .filter(p -> p.getStatus() == PaymentStatus.PENDING)
+                .ifPresent(PaymentTransaction::markAsFailed));
 
             recordMetrics(startTime, "failed");
             throw e;
         }
+
+        // Update payment with Snap token and URL
+        PaymentTransaction updated = transactionTemplate().execute(status -> {
+            PaymentTransaction p = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> BusinessException.notFound("Payment not found"));
+            p.setSnapToken(snapResponse.token());
+            p.setSnapRedirectUrl(snapResponse.redirectUrl());
+            return p;
+        });
+
+        // Log and metrics
+        logBusinessEvent(updated, user);
+        recordMetrics(startTime, "success");
+
+        log.info("Payment {} created successfully for user {}", paymentId, user.getId());
+        return CreatePaymentResponse.from(updated);
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
     }
 
     private PaymentTransaction buildPaymentTransaction(
@@ -127,6 +194,7 @@ public class CreateSubscriptionPaymentUseCase implements CreateSubscriptionPayme
             .provider(PaymentProvider.MIDTRANS)
             .idempotencyKey(idempotencyKey)
             .metadata(metadata)
+            .snapRequestedAt(now)
             .createdAt(now)
             .updatedAt(now)
             .build();
@@ -210,4 +278,7 @@ public class CreateSubscriptionPaymentUseCase implements CreateSubscriptionPayme
         metricsService.incrementCounter("payment.created.total", "result", result);
         metricsService.recordTimer("payment.creation.duration", startTime);
     }
+
+    private record PendingPayment(PaymentTransaction payment, User user) {
+    }
 }
@@ -0,0 +1,17 @@
+package com.fajars.expensetracker.payment.usecase.receivewebhook;
+
+import com.fajars.expensetracker.payment.midtrans.MidtransWebhookPayload;
+
+/**
+ * Use case interface for accepting payment webhooks.
+ */
+public interface ReceivePaymentWebhook {
+
+    /**
+     * Verify a webhook notification and store it in the inbox for asynchronous processing.
+     *
+     * @param payload the webhook payload
+     * @return true if stored, false if the same status change was already received
+     */
+    boolean receive(MidtransWebhookPayload payload);
+}
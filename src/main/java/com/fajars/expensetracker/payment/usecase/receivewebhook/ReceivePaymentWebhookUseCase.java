@@ -0,0 +1,65 @@
+package com.fajars.expensetracker.payment.usecase.receivewebhook;
+
+import com.fajars.expensetracker.common.exception.BusinessException;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.payment.domain.WebhookInboxRepository;
+import com.fajars.expensetracker.payment.midtrans.MidtransWebhookPayload;
+import com.fajars.expensetracker.payment.midtrans.WebhookVerifier;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case implementation for accepting payment webhooks. Only the signature check and one
+ * insert run before Midtrans gets its answer; the notification is applied later by
+ * {@code WebhookInboxWorker}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivePaymentWebhookUseCase implements ReceivePaymentWebhook {
+
+    private final WebhookInboxRepository inboxRepository;
+    private final WebhookVerifier webhookVerifier;
+    private final MetricsService metricsService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean receive(MidtransWebhookPayload payload) {
+        // Reject forged notifications before they take space in the inbox
+        if (!webhookVerifier.verifySignature(payload)) {
+            log.warn("Invalid webhook signature for order: {}", payload.orderId());
+            metricsService.incrementCounter("webhook.invalid_signature");
+            throw BusinessException.forbidden("Invalid webhook signature");
+        }
+        if (payload.transactionStatus() == null) {
+            throw BusinessException.badRequest("Missing transaction status");
+        }
+
+        boolean stored = inboxRepository.insertIfAbsent(
+            payload.orderId(),
+            payload.transactionStatus(),
+            toJson(payload),
+            LocalDateTime.now()
+        ) == 1;
+
+        if (stored) {
+            log.info("Webhook for order {} ({}) queued", payload.orderId(), payload.transactionStatus());
+        } else {
+            log.info("Duplicate webhook for order {} ({}) ignored", payload.orderId(), payload.transactionStatus());
+        }
+        metricsService.incrementCounter("webhook.received.total", "result", stored ? "queued" : "duplicate");
+        return stored;
+    }
+
+    private String toJson(MidtransWebhookPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize webhook payload", e);
+        }
+    }
+}
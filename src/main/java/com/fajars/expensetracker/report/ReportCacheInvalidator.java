@@ -0,0 +1,74 @@
+package com.fajars.expensetracker.report;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.common.util.AfterCommit;
+import com.fajars.expensetracker.config.CacheConfig;
+import com.fajars.expensetracker.report.ReportCacheKeyGenerator.ReportCacheKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Drops cached reports when the data behind them changes.
+ *
+ * <p>Every use case that writes transactions, wallets or categories of a user must call
+ * {@link #evictUser(UUID)}; only that user's entries are removed, the other users keep theirs.
+ * Entries are dropped through {@link AfterCommit}.
+ *
+ * <p>Caches are node-local: writes handled by another instance are only seen here once the
+ * entry expires ({@code app.report.cache.ttl}).
+ *
+ * <p>Metrics: report.cache.invalidations (counter, scope=user|all)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReportCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final MetricsService metricsService;
+
+    /**
+     * Drop all cached reports of a user.
+     *
+     * @param userId user ID
+     */
+    public void evictUser(UUID userId) {
+        AfterCommit.evict(() -> removeUserEntries(userId));
+        metricsService.incrementCounter("report.cache.invalidations", "scope", "user");
+    }
+
+    /**
+     * Drop the cached reports of every user, e.g. after the rollup table or the wallet ledger
+     * was rebuilt.
+     */
+    public void evictAll() {
+        AfterCommit.evict(this::clearAll);
+        metricsService.incrementCounter("report.cache.invalidations", "scope", "all");
+        log.info("Cleared all report caches");
+    }
+
+    private void clearAll() {
+        for (String cacheName : CacheConfig.REPORT_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private void removeUserEntries(UUID userId) {
+        for (String cacheName : CacheConfig.REPORT_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null
+                && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                nativeCache.asMap().keySet().removeIf(
+                    key -> key instanceof ReportCacheKey reportKey && reportKey.userId().equals(userId));
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.fajars.expensetracker.report;
+
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.api.ReportFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Cache key for report use cases: the current user plus a hash of the normalized arguments.
+ *
+ * <p>Arguments are normalized before hashing, so requests asking for the same data share an
+ * entry: wallet and category IDs are de-duplicated and sorted, the type is upper-cased and
+ * pagination is ignored (reports are not paginated). The user ID is kept in clear in the key,
+ * so {@link ReportCacheInvalidator} can drop all entries of one user.
+ *
+ * <p>Usage: {@code @Cacheable(value = ..., keyGenerator = ReportCacheKeyGenerator.BEAN_NAME)}
+ */
+@Component(ReportCacheKeyGenerator.BEAN_NAME)
+@RequiredArgsConstructor
+public class ReportCacheKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "reportCacheKeyGenerator";
+
+    private final CurrentUserProvider currentUserProvider;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        StringBuilder canonical = new StringBuilder(method.getName());
+        for (Object param : params) {
+            canonical.append('|').append(normalize(param));
+        }
+        return new ReportCacheKey(currentUserProvider.getUserId(), sha256(canonical.toString()));
+    }
+
+    private static String normalize(Object param) {
+        if (param instanceof ReportFilter filter) {
+            return "from=" + filter.startDate()
+                + ";to=" + filter.endDate()
+                + ";wallets=" + sortedIds(filter.walletIds())
+                + ";categories=" + sortedIds(filter.categoryIds())
+                + ";type=" + (filter.hasTypeFilter() ? filter.type().trim().toUpperCase(Locale.ROOT) : "");
+        }
+        return String.valueOf(param);
+    }
+
+    private static String sortedIds(List<UUID> ids) {
+        return ids.stream()
+            .distinct()
+            .sorted()
+            .map(UUID::toString)
+            .collect(Collectors.joining(","));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Key of a cached report.
+     *
+     * @param userId     owner of the report
+     * @param filterHash SHA-256 of the method name and normalized arguments
+     */
+    public record ReportCacheKey(UUID userId, String filterHash) {
+    }
+}
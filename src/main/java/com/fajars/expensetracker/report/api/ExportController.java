@@ -1,14 +1,31 @@
 package com.fajars.expensetracker.report.api;
 
 import com.fajars.expensetracker.common.security.RequiresPremium;
+import com.fajars.expensetracker.report.usecase.exporttransaction.ExportFilter;
+import com.fajars.expensetracker.report.usecase.exporttransaction.ExportFormat;
 import com.fajars.expensetracker.report.usecase.exporttransaction.ExportTransaction;
+import com.fajars.expensetracker.report.usecase.exporttransaction.StreamingExport;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportJob;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportJobDownload;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportJobStatus;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportTransactionJob;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * REST controller for data export functionality.
@@ -26,6 +43,10 @@ import org.springframework.web.bind.annotation.*;
  *   <li>PDF: Professional PDF report with summary statistics</li>
  * </ul>
  *
+ * <p>Delivery: POST /export/transactions returns the file Base64-encoded in JSON;
+ * GET /export/transactions/stream streams it as a plain file download; POST /export/jobs
+ * renders it in the background and GET /export/jobs/{jobId}/download serves it from disk.
+ *
  * <p>Export Limits:
  * <ul>
  *   <li>PREMIUM/TRIAL users: Up to 10,000 records per export</li>
@@ -40,6 +61,7 @@ import org.springframework.web.bind.annotation.*;
 public class ExportController {
 
     private final ExportTransaction exportTransactions;
+    private final ExportTransactionJob exportTransactionJob;
 
     /**
      * Export transactions in the specified format.
@@ -91,4 +113,166 @@ public class ExportController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Stream transactions as a file download.
+     *
+     * <p><b>PREMIUM Feature:</b> Same access rules and record limit as
+     * {@link #exportTransactions(ExportRequest)}, but the file is written straight to the
+     * response body while rows are read from a database cursor. Nothing is buffered or
+     * Base64-encoded, so memory use does not grow with the number of rows.
+     *
+     * @param format      export file format
+     * @param startDate   start date (inclusive), defaults to 30 days ago
+     * @param endDate     end date (inclusive), defaults to today
+     * @param walletIds   wallet filter (repeatable)
+     * @param categoryIds category filter (repeatable)
+     * @param type        INCOME or EXPENSE, both when absent
+     * @param response    servlet response the file is written to
+     */
+    @GetMapping("/transactions/stream")
+    @RequiresPremium(
+        feature = "export_transactions",
+        message = "Export functionality is available for PREMIUM users only. " +
+            "Upgrade to export your transactions in CSV, Excel, or PDF format with up to 10,000 records."
+    )
+    @Operation(
+        summary = "Stream transactions export (PREMIUM)",
+        description = "Download transactions as a CSV, Excel, or PDF file streamed directly in the " +
+            "response body (Content-Disposition: attachment). Same filters and limits as " +
+            "POST /export/transactions, without Base64 encoding."
+    )
+    public void streamTransactions(
+        @RequestParam ExportFormat format,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @RequestParam(name = "walletId", required = false) List<UUID> walletIds,
+        @RequestParam(name = "categoryId", required = false) List<UUID> categoryIds,
+        @RequestParam(required = false) String type,
+        HttpServletResponse response
+    ) throws IOException {
+        log.info("GET /api/v1/export/transactions/stream - format: {}", format);
+
+        ExportRequest request = new ExportRequest(
+            format,
+            ExportType.TRANSACTIONS,
+            new ExportFilter(startDate, endDate, walletIds, categoryIds, type)
+        );
+
+        // Validate before anything is written, so errors still produce a JSON error response
+        StreamingExport export = exportTransactions.prepareStream(request);
+
+        response.setContentType(export.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(export.fileName()).build().toString());
+
+        int recordCount = exportTransactions.writeStream(export, response.getOutputStream());
+
+        log.info("Streamed export completed: format={}, fileName={}, records={}",
+                 format, export.fileName(), recordCount);
+    }
+
+    /**
+     * Submit a background export job.
+     *
+     * <p><b>PREMIUM Feature:</b> Same access rules, filters and record limit as
+     * {@link #exportTransactions(ExportRequest)}. Returns immediately with 202 Accepted;
+     * poll {@link #getExportJob(UUID)} until the job is COMPLETED, then download the file.
+     * At most {@code app.export.jobs.max-active-per-user} jobs per user run at a time.
+     *
+     * @param request export request with format and filters
+     * @return the queued job
+     */
+    @PostMapping("/jobs")
+    @RequiresPremium(
+        feature = "export_transactions",
+        message = "Export functionality is available for PREMIUM users only. " +
+            "Upgrade to export your transactions in CSV, Excel, or PDF format with up to 10,000 records."
+    )
+    @Operation(
+        summary = "Submit background export (PREMIUM)",
+        description = "Queue a CSV, Excel, or PDF export rendered in the background. " +
+            "Returns a job id; poll GET /export/jobs/{jobId} for progress and download the file " +
+            "from the returned downloadUrl once completed. Files expire after one hour."
+    )
+    public ResponseEntity<ExportJobResponse> submitExportJob(
+        @Valid @RequestBody ExportRequest request
+    ) {
+        log.info("POST /api/v1/export/jobs - format: {}", request.format());
+
+        ExportJob job = exportTransactionJob.submit(request);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(job));
+    }
+
+    /**
+     * Get status and progress of a background export job.
+     *
+     * @param jobId job id returned on submit
+     * @return current job status
+     */
+    @GetMapping("/jobs/{jobId}")
+    @Operation(
+        summary = "Get background export status",
+        description = "Status (QUEUED, RUNNING, COMPLETED, FAILED), rows written so far, " +
+            "and the download URL once completed."
+    )
+    public ResponseEntity<ExportJobResponse> getExportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(toResponse(exportTransactionJob.getJob(jobId)));
+    }
+
+    /**
+     * Download the file of a completed background export job.
+     *
+     * <p>The file is copied from disk to the response with {@code FileChannel.transferTo},
+     * without loading it into memory.
+     *
+     * @param jobId    job id returned on submit
+     * @param response servlet response the file is written to
+     */
+    @GetMapping("/jobs/{jobId}/download")
+    @Operation(
+        summary = "Download background export",
+        description = "Download the rendered file of a COMPLETED export job " +
+            "(Content-Disposition: attachment)."
+    )
+    public void downloadExportJob(
+        @PathVariable UUID jobId,
+        HttpServletResponse response
+    ) throws IOException {
+        ExportJobDownload download = exportTransactionJob.getDownload(jobId);
+
+        response.setContentType(download.contentType());
+        response.setContentLengthLong(download.fileSize());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(download.fileName()).build().toString());
+
+        exportTransactionJob.transferTo(download, response.getOutputStream());
+
+        log.info("Export job {} downloaded: fileName={}, size={} bytes",
+                 jobId, download.fileName(), download.fileSize());
+    }
+
+    private ExportJobResponse toResponse(ExportJob job) {
+        String downloadUrl = job.getStatus() == ExportJobStatus.COMPLETED
+            ? ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/export/jobs/{jobId}/download")
+                .buildAndExpand(job.getId())
+                .toUriString()
+            : null;
+
+        return new ExportJobResponse(
+            job.getId(),
+            job.getStatus(),
+            job.getFormat(),
+            job.getFileName(),
+            job.getRowsWritten(),
+            job.getStatus() == ExportJobStatus.COMPLETED ? job.getFileSize() : null,
+            downloadUrl,
+            job.getErrorMessage(),
+            job.getCreatedAt(),
+            job.getCompletedAt(),
+            job.getExpiresAt()
+        );
+    }
 }
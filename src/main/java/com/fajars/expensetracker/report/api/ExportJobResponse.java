@@ -0,0 +1,49 @@
+package com.fajars.expensetracker.report.api;
+
+import com.fajars.expensetracker.report.usecase.exporttransaction.ExportFormat;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for background export jobs.
+ */
+@Schema(description = "Background export job status")
+public record ExportJobResponse(
+
+    @Schema(description = "Job id")
+    UUID jobId,
+
+    @Schema(description = "Job status", example = "RUNNING")
+    ExportJobStatus status,
+
+    @Schema(description = "Export file format", example = "EXCEL")
+    ExportFormat format,
+
+    @Schema(description = "File name of the download", example = "transaksi_20251203_101500.xlsx")
+    String fileName,
+
+    @Schema(description = "Transactions written so far", example = "4200")
+    Integer rowsWritten,
+
+    @Schema(description = "File size in bytes, once completed", example = "15360")
+    Long fileSize,
+
+    @Schema(description = "Download URL, once completed")
+    String downloadUrl,
+
+    @Schema(description = "Failure reason, when failed")
+    String errorMessage,
+
+    @Schema(description = "When the job was submitted")
+    LocalDateTime createdAt,
+
+    @Schema(description = "When rendering finished")
+    LocalDateTime completedAt,
+
+    @Schema(description = "When the job and its file are removed")
+    LocalDateTime expiresAt
+) {
+}
@@ -20,6 +20,9 @@ public record WalletBalanceResponse(
     String currency,
 
     @Schema(description = "Current balance", example = "5000000.00")
-    Double currentBalance
+    Double currentBalance,
+
+    @Schema(description = "Income minus expense of the wallet in the report period", example = "-250000.00")
+    Double periodNetChange
 ) {
 }
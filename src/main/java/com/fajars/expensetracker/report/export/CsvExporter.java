@@ -4,10 +4,12 @@ import com.fajars.expensetracker.transaction.projection.TransactionExportRow;
 import com.opencsv.CSVWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -27,6 +29,15 @@ public class CsvExporter {
     private static final DateTimeFormatter DATE_FORMATTER =
         DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
+    private static final String[] HEADER = {
+        "Tanggal",
+        "Tipe",
+        "Kategori",
+        "Dompet",
+        "Jumlah (IDR)",
+        "Catatan"
+    };
+
     /**
      * Export transactions to CSV format.
      *
@@ -36,41 +47,41 @@ public class CsvExporter {
     public byte[] exportTransactionsToCsv(List<TransactionExportRow> transactions) {
         log.debug("Exporting {} transactions to CSV", transactions.size());
 
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-             OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
-             CSVWriter csvWriter = new CSVWriter(writer,
-                 CSVWriter.DEFAULT_SEPARATOR,
-                 CSVWriter.NO_QUOTE_CHARACTER,
-                 CSVWriter.DEFAULT_ESCAPE_CHARACTER,
-                 CSVWriter.DEFAULT_LINE_END)) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTransactionsCsv(transactions.stream(), out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Write transactions as CSV directly to the given stream, one row at a time.
+     * The stream is flushed but not closed.
+     *
+     * @param transactions rows to write, consumed once
+     * @param out target stream (e.g. the HTTP response body)
+     * @return number of rows written
+     */
+    public int writeTransactionsCsv(Stream<TransactionExportRow> transactions, OutputStream out) {
+        try {
+            OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            CSVWriter csvWriter = new CSVWriter(writer,
+                CSVWriter.DEFAULT_SEPARATOR,
+                CSVWriter.NO_QUOTE_CHARACTER,
+                CSVWriter.DEFAULT_ESCAPE_CHARACTER,
+                CSVWriter.DEFAULT_LINE_END);
 
             // Write header
-            String[] header = {
-                "Tanggal",
-                "Tipe",
-                "Kategori",
-                "Dompet",
-                "Jumlah (IDR)",
-                "Catatan"
-            };
-            csvWriter.writeNext(header);
+            csvWriter.writeNext(HEADER);
 
             // Write data rows
-            for (TransactionExportRow t : transactions) {
-                String[] row = {
-                    t.date().format(DATE_FORMATTER),
-                    formatType(t.type().name()),
-                    t.categoryName() != null ? t.categoryName() : "-",
-                    t.walletName() != null ? t.walletName() : "-",
-                    formatAmount(t.amount()),
-                    t.note() != null ? t.note() : ""
-                };
-                csvWriter.writeNext(row);
+            int count = 0;
+            for (TransactionExportRow t : (Iterable<TransactionExportRow>) transactions::iterator) {
+                csvWriter.writeNext(toRow(t));
+                count++;
             }
 
             csvWriter.flush();
-            log.info("Successfully exported {} transactions to CSV", transactions.size());
-            return out.toByteArray();
+            log.info("Successfully exported {} transactions to CSV", count);
+            return count;
 
         } catch (IOException e) {
             log.error("Failed to generate CSV", e);
@@ -78,6 +89,17 @@ public class CsvExporter {
         }
     }
 
+    private String[] toRow(TransactionExportRow t) {
+        return new String[]{
+            t.date().format(DATE_FORMATTER),
+            formatType(t.type().name()),
+            t.categoryName() != null ? t.categoryName() : "-",
+            t.walletName() != null ? t.walletName() : "-",
+            formatAmount(t.amount()),
+            t.note() != null ? t.note() : ""
+        };
+    }
+
     /**
      * Format transaction type for Indonesian display.
      */
@@ -1,10 +1,13 @@
 package com.fajars.expensetracker.report.export;
 
+import com.fajars.expensetracker.transaction.api.TransactionType;
 import com.fajars.expensetracker.transaction.projection.TransactionExportRow;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
@@ -18,7 +21,7 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 /**
@@ -28,8 +31,16 @@ import org.springframework.stereotype.Service;
  * - Professional formatting with styles
  * - Bold headers with background color
  * - Currency formatting for amounts
- * - Auto-sized columns
+ * - Column widths fitted to content
  * - Multiple sheets support
+ *
+ * Performance:
+ * - Streaming workbook (SXSSF): only a window of rows is kept in memory, older rows are
+ *   flushed to a temp file
+ * - Column widths come from the longest value written per column instead of
+ *   {@code autoSizeColumn}, which measures every cell with AWT font metrics
+ * - Totals row is computed in the same pass as the data rows
+ * - Benchmark: ExcelExporterBenchmarkTest (RUN_BENCHMARKS=true)
  */
 @Service
 @Slf4j
@@ -38,6 +49,14 @@ public class ExcelExporter {
     private static final DateTimeFormatter DATE_FORMATTER =
         DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
+    private static final String[] HEADERS =
+        {"Tanggal", "Tipe", "Kategori", "Dompet", "Jumlah (IDR)", "Catatan"};
+
+    /**
+     * Rows kept in memory while writing, older rows are flushed to a temp file.
+     */
+    private static final int ROW_WINDOW_SIZE = 100;
+
     /**
      * Export transactions to Excel format (.xlsx).
      *
@@ -47,9 +66,22 @@ public class ExcelExporter {
     public byte[] exportTransactionsToExcel(List<TransactionExportRow> transactions) {
         log.debug("Exporting {} transactions to Excel", transactions.size());
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTransactionsExcel(transactions.stream(), out);
+        return out.toByteArray();
+    }
 
+    /**
+     * Write transactions as .xlsx directly to the given stream in a single pass.
+     * Only {@value #ROW_WINDOW_SIZE} rows are held in memory. The stream is not closed.
+     *
+     * @param transactions rows to write, consumed once
+     * @param out target stream (e.g. the HTTP response body)
+     * @return number of rows written
+     */
+    public int writeTransactionsExcel(Stream<TransactionExportRow> transactions, OutputStream out) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW_SIZE);
+        try {
             // Create sheet
             Sheet sheet = workbook.createSheet("Transaksi");
 
@@ -58,70 +90,88 @@ public class ExcelExporter {
             CellStyle currencyStyle = createCurrencyStyle(workbook);
             CellStyle normalStyle = createNormalStyle(workbook);
 
-            // Create header row
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"Tanggal", "Tipe", "Kategori", "Dompet", "Jumlah (IDR)", "Catatan"};
+            ColumnWidthTracker widths = new ColumnWidthTracker(HEADERS.length);
 
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
+            // Create header row
+            createHeaderRow(sheet, headerStyle, widths);
 
-            // Create data rows
+            // Create data rows, accumulating totals in the same pass
             int rowNum = 1;
-            for (TransactionExportRow t : transactions) {
-                Row row = sheet.createRow(rowNum++);
-
-                // Date
-                Cell dateCell = row.createCell(0);
-                dateCell.setCellValue(t.date().format(DATE_FORMATTER));
-                dateCell.setCellStyle(normalStyle);
-
-                // Type
-                Cell typeCell = row.createCell(1);
-                typeCell.setCellValue(formatType(t.type().name()));
-                typeCell.setCellStyle(normalStyle);
-
-                // Category
-                Cell categoryCell = row.createCell(2);
-                categoryCell.setCellValue(t.categoryName() != null ? t.categoryName() : "-");
-                categoryCell.setCellStyle(normalStyle);
-
-                // Wallet
-                Cell walletCell = row.createCell(3);
-                walletCell.setCellValue(t.walletName() != null ? t.walletName() : "-");
-                walletCell.setCellStyle(normalStyle);
-
-                // Amount
-                Cell amountCell = row.createCell(4);
-                amountCell.setCellValue(t.amount());
-                amountCell.setCellStyle(currencyStyle);
-
-                // Note
-                Cell noteCell = row.createCell(5);
-                noteCell.setCellValue(t.note() != null ? t.note() : "");
-                noteCell.setCellStyle(normalStyle);
+            double totalIncome = 0;
+            double totalExpense = 0;
+            for (TransactionExportRow t : (Iterable<TransactionExportRow>) transactions::iterator) {
+                createDataRow(sheet.createRow(rowNum++), t, normalStyle, currencyStyle, widths);
+                if (t.type() == TransactionType.INCOME) {
+                    totalIncome += t.amount();
+                } else if (t.type() == TransactionType.EXPENSE) {
+                    totalExpense += t.amount();
+                }
             }
 
-            // Auto-size columns
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+            // Fit columns to the data rows (summary row excluded, as before)
+            widths.applyTo(sheet);
 
             // Add summary row at the bottom
-            addSummaryRow(sheet, transactions, rowNum, headerStyle, currencyStyle);
+            addSummaryRow(sheet, totalIncome, totalExpense, rowNum, headerStyle, currencyStyle);
 
             workbook.write(out);
-            log.info("Successfully exported {} transactions to Excel", transactions.size());
-            return out.toByteArray();
+            out.flush();
+
+            int count = rowNum - 1;
+            log.info("Successfully exported {} transactions to Excel", count);
+            return count;
 
         } catch (IOException e) {
             log.error("Failed to generate Excel", e);
             throw new RuntimeException("Failed to generate Excel export", e);
+        } finally {
+            // Deletes the temp files backing flushed rows
+            workbook.dispose();
+        }
+    }
+
+    private void createHeaderRow(Sheet sheet, CellStyle headerStyle, ColumnWidthTracker widths) {
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < HEADERS.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(HEADERS[i]);
+            cell.setCellStyle(headerStyle);
+            widths.track(i, HEADERS[i]);
         }
     }
 
+    private void createDataRow(Row row, TransactionExportRow t, CellStyle normalStyle,
+                               CellStyle currencyStyle, ColumnWidthTracker widths) {
+        // Date
+        createTextCell(row, 0, t.date().format(DATE_FORMATTER), normalStyle, widths);
+
+        // Type
+        createTextCell(row, 1, formatType(t.type().name()), normalStyle, widths);
+
+        // Category
+        createTextCell(row, 2, t.categoryName() != null ? t.categoryName() : "-", normalStyle, widths);
+
+        // Wallet
+        createTextCell(row, 3, t.walletName() != null ? t.walletName() : "-", normalStyle, widths);
+
+        // Amount (width of the "#,##0.00" rendering)
+        Cell amountCell = row.createCell(4);
+        amountCell.setCellValue(t.amount());
+        amountCell.setCellStyle(currencyStyle);
+        widths.track(4, String.format("%,.2f", t.amount()));
+
+        // Note
+        createTextCell(row, 5, t.note() != null ? t.note() : "", normalStyle, widths);
+    }
+
+    private void createTextCell(Row row, int column, String value, CellStyle style,
+                                ColumnWidthTracker widths) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(style);
+        widths.track(column, value);
+    }
+
     /**
      * Create header cell style (bold, gray background).
      */
@@ -180,7 +230,7 @@ public class ExcelExporter {
     /**
      * Add summary row with total income and expense.
      */
-    private void addSummaryRow(Sheet sheet, List<TransactionExportRow> transactions, int rowNum,
+    private void addSummaryRow(Sheet sheet, double totalIncome, double totalExpense, int rowNum,
                                CellStyle headerStyle, CellStyle currencyStyle) {
         // Add empty row
         rowNum++;
@@ -192,17 +242,6 @@ public class ExcelExporter {
         labelCell.setCellValue("TOTAL:");
         labelCell.setCellStyle(headerStyle);
 
-        // Calculate totals
-        double totalIncome = transactions.stream()
-            .filter(t -> "INCOME".equals(t.type().name()))
-            .mapToDouble(TransactionExportRow::amount)
-            .sum();
-
-        double totalExpense = transactions.stream()
-            .filter(t -> "EXPENSE".equals(t.type().name()))
-            .mapToDouble(TransactionExportRow::amount)
-            .sum();
-
         Cell totalCell = summaryRow.createCell(4);
         totalCell.setCellValue(totalIncome - totalExpense);
         totalCell.setCellStyle(currencyStyle);
@@ -223,4 +262,46 @@ public class ExcelExporter {
             default -> type;
         };
     }
+
+    /**
+     * Tracks the longest value per column while rows are written, replacing
+     * {@code Sheet.autoSizeColumn} which needs every row in memory.
+     */
+    static final class ColumnWidthTracker {
+
+        /**
+         * Extra characters for cell padding and the bold header font.
+         */
+        private static final int PADDING_CHARS = 2;
+
+        /**
+         * Excel's maximum column width is 255 characters.
+         */
+        private static final int MAX_WIDTH_CHARS = 255;
+
+        private final int[] maxLengths;
+
+        ColumnWidthTracker(int columns) {
+            this.maxLengths = new int[columns];
+        }
+
+        void track(int column, String value) {
+            if (value != null && value.length() > maxLengths[column]) {
+                maxLengths[column] = value.length();
+            }
+        }
+
+        /**
+         * Column width in 1/256th of a character, as expected by {@code Sheet.setColumnWidth}.
+         */
+        int widthOf(int column) {
+            return Math.min(maxLengths[column] + PADDING_CHARS, MAX_WIDTH_CHARS) * 256;
+        }
+
+        void applyTo(Sheet sheet) {
+            for (int i = 0; i < maxLengths.length; i++) {
+                sheet.setColumnWidth(i, widthOf(i));
+            }
+        }
+    }
 }
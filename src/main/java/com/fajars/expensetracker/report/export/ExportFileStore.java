@@ -0,0 +1,102 @@
+package com.fajars.expensetracker.report.export;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Local disk storage for rendered export files.
+ *
+ * <p>Files are named after the export job id, so they can be found again without
+ * keeping anything else on disk. Files are node-local: a job can only be downloaded
+ * from the instance that rendered it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExportFileStore {
+
+    private final ExportJobProperties properties;
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(properties.getStorageDir()).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        log.info("Export file store at {}", root);
+    }
+
+    /**
+     * Path of the file for an export job. The file itself is not created.
+     */
+    public Path resolve(UUID jobId, String extension) {
+        return root.resolve(jobId + "." + extension);
+    }
+
+    /**
+     * Copy a stored file to {@code out} with {@link FileChannel#transferTo}, which lets the
+     * kernel move the bytes without copying them through the Java heap.
+     *
+     * @return number of bytes written
+     */
+    public long transferTo(Path file, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Not closed: closing it would close the caller's stream
+            WritableByteChannel target = Channels.newChannel(out);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Delete a stored file, ignoring files that are already gone.
+     */
+    public void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete export file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete files last modified before {@code cutoff}. Catches files left behind by
+     * jobs that are no longer tracked, e.g. after a restart.
+     *
+     * @return number of files deleted
+     */
+    public int deleteOlderThan(Instant cutoff) {
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root)) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    delete(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan export file store " + root, e);
+        }
+        return deleted;
+    }
+}
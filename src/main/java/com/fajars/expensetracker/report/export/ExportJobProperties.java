@@ -0,0 +1,45 @@
+package com.fajars.expensetracker.report.export;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Background export job configuration.
+ * Binds to application.yaml app.export.jobs.* properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.export.jobs")
+@Getter
+@Setter
+public class ExportJobProperties {
+
+    /**
+     * Number of exports rendered at the same time.
+     * Each running export holds one database connection for its whole duration.
+     */
+    private int workerThreads = 2;
+
+    /**
+     * Jobs waiting for a worker before new submissions are rejected with 429.
+     */
+    private int queueCapacity = 50;
+
+    /**
+     * Queued plus running jobs allowed per user.
+     */
+    private int maxActivePerUser = 2;
+
+    /**
+     * Directory the rendered files are written to.
+     */
+    private String storageDir = System.getProperty("java.io.tmpdir") + "/expense-tracker-exports";
+
+    /**
+     * How long a finished job and its file stay available for download.
+     */
+    private Duration ttl = Duration.ofHours(1);
+}
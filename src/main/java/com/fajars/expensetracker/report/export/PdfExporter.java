@@ -1,5 +1,6 @@
 package com.fajars.expensetracker.report.export;
 
+import com.fajars.expensetracker.transaction.api.TransactionType;
 import com.fajars.expensetracker.transaction.projection.TransactionExportRow;
 import com.lowagie.text.Chunk;
 import com.lowagie.text.Document;
@@ -14,9 +15,11 @@ import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -39,6 +42,11 @@ public class PdfExporter {
     private static final DateTimeFormatter REPORT_DATE_FORMATTER =
         DateTimeFormatter.ofPattern("dd MMMM yyyy");
 
+    /**
+     * Rows buffered in the table before they are written out when streaming.
+     */
+    private static final int STREAM_FLUSH_ROWS = 200;
+
     /**
      * Export transactions to PDF format.
      *
@@ -83,6 +91,62 @@ public class PdfExporter {
         }
     }
 
+    /**
+     * Write transactions as PDF directly to the given stream. The table is flushed to the
+     * document every {@value #STREAM_FLUSH_ROWS} rows, and the summary is written after the
+     * table since totals are accumulated while writing. The stream is not closed.
+     *
+     * @param transactions rows to write, consumed once
+     * @param out target stream (e.g. the HTTP response body)
+     * @return number of rows written
+     */
+    public int writeTransactionsPdf(Stream<TransactionExportRow> transactions, OutputStream out) {
+        Document document = new Document(PageSize.A4);
+
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            document.open();
+
+            addTitle(document);
+            addGeneratedDate(document);
+            document.add(new Paragraph(" "));
+
+            // Incomplete table: rows added so far are written on every document.add()
+            PdfPTable table = createTransactionTable();
+            table.setComplete(false);
+
+            Font dataFont = new Font(Font.HELVETICA, 9, Font.NORMAL);
+            int count = 0;
+            double totalIncome = 0;
+            double totalExpense = 0;
+            for (TransactionExportRow t : (Iterable<TransactionExportRow>) transactions::iterator) {
+                addTransactionRow(table, t, dataFont);
+                if (t.type() == TransactionType.INCOME) {
+                    totalIncome += t.amount();
+                } else if (t.type() == TransactionType.EXPENSE) {
+                    totalExpense += t.amount();
+                }
+                if (++count % STREAM_FLUSH_ROWS == 0) {
+                    document.add(table);
+                }
+            }
+            table.setComplete(true);
+            document.add(table);
+
+            document.add(new Paragraph(" "));
+            addSummary(document, totalIncome, totalExpense);
+
+            document.close();
+            log.info("Successfully exported {} transactions to PDF", count);
+            return count;
+
+        } catch (DocumentException e) {
+            log.error("Failed to generate PDF", e);
+            throw new RuntimeException("Failed to generate PDF export", e);
+        }
+    }
+
     /**
      * Add title to the document.
      */
@@ -120,6 +184,10 @@ public class PdfExporter {
             .mapToDouble(TransactionExportRow::amount)
             .sum();
 
+        addSummary(document, totalIncome, totalExpense);
+    }
+
+    private void addSummary(Document document, double totalIncome, double totalExpense) throws DocumentException {
         double netBalance = totalIncome - totalExpense;
 
         Font summaryFont = new Font(Font.HELVETICA, 11, Font.BOLD);
@@ -148,10 +216,26 @@ public class PdfExporter {
     private void addTransactionTable(Document document, List<TransactionExportRow> transactions)
         throws DocumentException {
 
-        // Create table with 5 columns
+        PdfPTable table = createTransactionTable();
+
+        // Add data rows
+        Font dataFont = new Font(Font.HELVETICA, 9, Font.NORMAL);
+
+        for (TransactionExportRow t : transactions) {
+            addTransactionRow(table, t, dataFont);
+        }
+
+        document.add(table);
+    }
+
+    /**
+     * Create the 5-column transaction table with a header row repeated on every page.
+     */
+    private PdfPTable createTransactionTable() throws DocumentException {
         PdfPTable table = new PdfPTable(5);
         table.setWidthPercentage(100);
         table.setWidths(new float[]{2f, 1.5f, 2f, 1.5f, 2f});
+        table.setHeaderRows(1);
 
         // Add header
         Font headerFont = new Font(Font.HELVETICA, 10, Font.BOLD, Color.WHITE);
@@ -163,31 +247,28 @@ public class PdfExporter {
         addHeaderCell(table, "Jumlah (IDR)", headerFont, headerColor);
         addHeaderCell(table, "Catatan", headerFont, headerColor);
 
-        // Add data rows
-        Font dataFont = new Font(Font.HELVETICA, 9, Font.NORMAL);
+        return table;
+    }
 
-        for (TransactionExportRow t : transactions) {
-            // Date
-            addDataCell(table, t.date().format(DATE_FORMATTER), dataFont);
+    private void addTransactionRow(PdfPTable table, TransactionExportRow t, Font dataFont) {
+        // Date
+        addDataCell(table, t.date().format(DATE_FORMATTER), dataFont);
 
-            // Type
-            addDataCell(table, formatType(t.type().name()), dataFont);
+        // Type
+        addDataCell(table, formatType(t.type().name()), dataFont);
 
-            // Category
-            addDataCell(table,
-                t.categoryName() != null ? t.categoryName() : "-",
-                dataFont);
+        // Category
+        addDataCell(table,
+            t.categoryName() != null ? t.categoryName() : "-",
+            dataFont);
 
-            // Amount
-            addDataCell(table, String.format("%,.2f", t.amount()), dataFont);
+        // Amount
+        addDataCell(table, String.format("%,.2f", t.amount()), dataFont);
 
-            // Note
-            addDataCell(table,
-                t.note() != null && !t.note().isEmpty() ? t.note() : "-",
-                dataFont);
-        }
-
-        document.add(table);
+        // Note
+        addDataCell(table,
+            t.note() != null && !t.note().isEmpty() ? t.note() : "-",
+            dataFont);
     }
 
     /**
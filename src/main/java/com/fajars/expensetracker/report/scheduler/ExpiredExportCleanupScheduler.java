@@ -0,0 +1,38 @@
+package com.fajars.expensetracker.report.scheduler;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportTransactionJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job to remove expired background exports and their files.
+ *
+ * <p><b>Execution Schedule:</b> every 10 minutes ({@code app.export.jobs.cleanup-cron}).
+ *
+ * <p><b>Monitoring:</b>
+ * - Metrics: export.jobs.expired (counter), export.jobs.cleanup_duration
+ * - Logs: INFO when jobs or files were removed
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiredExportCleanupScheduler {
+
+    private final ExportTransactionJob exportTransactionJob;
+    private final MetricsService metricsService;
+
+    @Scheduled(cron = "${app.export.jobs.cleanup-cron:0 */10 * * * *}", zone = "Asia/Jakarta")
+    public void purgeExpiredExports() {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            exportTransactionJob.purgeExpired();
+            metricsService.recordTimer("export.jobs.cleanup_duration", startTime);
+        } catch (Exception e) {
+            log.error("Export cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+}
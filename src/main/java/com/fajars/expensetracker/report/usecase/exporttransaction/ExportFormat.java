@@ -1,10 +1,39 @@
 package com.fajars.expensetracker.report.usecase.exporttransaction;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 /**
  * Supported export file formats.
  */
 public enum ExportFormat {
-    CSV,
-    EXCEL,
-    PDF
+    CSV("csv", "text/csv"),
+    EXCEL("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    PDF("pdf", "application/pdf");
+
+    private static final DateTimeFormatter FILE_TIMESTAMP_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Download file name, e.g. transaksi_20251203_101500.csv
+     */
+    public String fileName(LocalDateTime timestamp) {
+        return String.format("transaksi_%s.%s", timestamp.format(FILE_TIMESTAMP_FORMATTER), extension);
+    }
 }
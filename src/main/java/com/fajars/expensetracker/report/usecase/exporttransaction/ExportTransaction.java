@@ -2,6 +2,8 @@ package com.fajars.expensetracker.report.usecase.exporttransaction;
 
 import com.fajars.expensetracker.report.api.ExportRequest;
 import com.fajars.expensetracker.report.api.ExportResponse;
+import java.io.OutputStream;
+import java.util.function.IntConsumer;
 
 /**
  * Use case interface for exporting transactions.
@@ -15,4 +17,34 @@ public interface ExportTransaction {
      * @return the export response with file content
      */
     ExportResponse export(ExportRequest request);
+
+    /**
+     * Validate an export request for streaming. Nothing is read from the database yet, so
+     * errors can still be returned as a normal error response.
+     *
+     * @param request the export request with format and filters
+     * @return the resolved export with file name and content type
+     */
+    StreamingExport prepareStream(ExportRequest request);
+
+    /**
+     * Stream the export rows from a database cursor straight into {@code out}.
+     * Memory use is bounded regardless of the number of rows.
+     *
+     * @param export the export returned by {@link #prepareStream(ExportRequest)}
+     * @param out    target stream, not closed
+     * @return number of rows written
+     */
+    int writeStream(StreamingExport export, OutputStream out);
+
+    /**
+     * Same as {@link #writeStream(StreamingExport, OutputStream)}, reporting the number of rows
+     * written so far to {@code progress} after every row (used by background export jobs).
+     *
+     * @param export   the export returned by {@link #prepareStream(ExportRequest)}
+     * @param out      target stream, not closed
+     * @param progress receives the running row count
+     * @return number of rows written
+     */
+    int writeStream(StreamingExport export, OutputStream out, IntConsumer progress);
 }
@@ -11,20 +11,23 @@ import com.fajars.expensetracker.report.export.ExcelExporter;
 import com.fajars.expensetracker.report.export.PdfExporter;
 import com.fajars.expensetracker.subscription.SubscriptionHelper;
 import com.fajars.expensetracker.transaction.domain.TransactionExportRepository;
+import com.fajars.expensetracker.transaction.domain.TransactionQuery;
 import com.fajars.expensetracker.transaction.projection.TransactionExportRow;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +45,7 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>Export limit: 10,000 records for PREMIUM users</li>
  *   <li>Comprehensive metrics and logging</li>
  *   <li>Base64 encoding for easy frontend consumption</li>
+ *   <li>Streaming mode: rows read through a DB cursor and written straight to the response</li>
  * </ul>
  *
  * <p>Performance:
@@ -80,8 +84,8 @@ public class ExportTransactionUseCase implements ExportTransaction {
         List<TransactionExportRow> transactions = fetchTransactions(userId, filter);
 
         byte[] fileContent = generateFile(transactions, request.format());
-        String fileName = generateFileName(request.format());
-        String contentType = getContentType(request.format());
+        String fileName = request.format().fileName(LocalDateTime.now());
+        String contentType = request.format().contentType();
         String base64Content = Base64.getEncoder().encodeToString(fileContent);
 
         ExportResponse response = new ExportResponse(
@@ -111,6 +115,68 @@ public class ExportTransactionUseCase implements ExportTransaction {
         return response;
     }
 
+    @Override
+    public StreamingExport prepareStream(ExportRequest request) {
+        UUID userId = currentUserProvider.getUserId();
+
+        validateExportQuota(userId, request);
+
+        ReportFilter filter = convertToReportFilter(userId, request.filter());
+        ExportFormat format = request.format();
+
+        return new StreamingExport(
+            userId,
+            format,
+            toQuery(userId, filter),
+            subscriptionHelper.getExportLimit(userId),
+            format.fileName(LocalDateTime.now()),
+            format.contentType()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int writeStream(StreamingExport export, OutputStream out) {
+        return writeStream(export, out, rowCount -> { });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int writeStream(StreamingExport export, OutputStream out, IntConsumer progress) {
+        long startTime = System.currentTimeMillis();
+        UUID userId = export.userId();
+
+        log.info("Streaming transactions export for user {} in format {}", userId, export.format());
+
+        int recordCount;
+        AtomicInteger written = new AtomicInteger();
+        try (Stream<TransactionExportRow> cursor = exportRepository.streamByQuery(export.query(), export.limit())) {
+            Stream<TransactionExportRow> rows = cursor.peek(row -> progress.accept(written.incrementAndGet()));
+            recordCount = switch (export.format()) {
+                case CSV -> csvExporter.writeTransactionsCsv(rows, out);
+                case EXCEL -> excelExporter.writeTransactionsExcel(rows, out);
+                case PDF -> pdfExporter.writeTransactionsPdf(rows, out);
+            };
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        metricsService.incrementCounter("export.transactions.stream.total");
+        metricsService.recordTimer("export.transactions.stream.duration", startTime);
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("userId", userId);
+        attributes.put("format", export.format());
+        attributes.put("recordCount", recordCount);
+        attributes.put("duration", duration);
+        attributes.put("mode", "stream");
+        businessEventLogger.logBusinessEvent("TRANSACTIONS_EXPORTED", userId.toString(),
+                                             attributes);
+
+        log.info("Streamed {} transactions for user {} in {}ms", recordCount, userId, duration);
+
+        return recordCount;
+    }
+
     /**
      * Convert ExportFilter to ReportFilter with export-specific settings.
      */
@@ -178,22 +244,12 @@ public class ExportTransactionUseCase implements ExportTransaction {
 
         List<TransactionExportRow> batch;
 
+        TransactionQuery query = toQuery(userId, filter);
+
         do {
-            Pageable pageable = PageRequest.of(
-                page,
-                pageSize,
-                Sort.by(Sort.Direction.DESC, "date")
-            );
+            Pageable pageable = PageRequest.of(page, pageSize);
 
-            batch = exportRepository.exportTransactions(
-                userId,
-                filter.firstWalletId(),
-                filter.firstCategoryId(),
-                filter.transactionType(),
-                filter.startDate(),
-                filter.endDate(),
-                pageable
-            );
+            batch = exportRepository.exportByQuery(query, pageable);
 
             if (!batch.isEmpty()) {
                 all.addAll(batch);
@@ -208,6 +264,17 @@ public class ExportTransactionUseCase implements ExportTransaction {
 
     }
 
+    private TransactionQuery toQuery(UUID userId, ReportFilter filter) {
+        return TransactionQuery.builder()
+            .userId(userId)
+            .walletIds(filter.walletIds())
+            .categoryIds(filter.categoryIds())
+            .type(filter.transactionType())
+            .fromDate(filter.startDate())
+            .toDate(filter.endDate())
+            .build();
+    }
+
     /**
      * Generate file content based on format.
      */
@@ -218,32 +285,4 @@ public class ExportTransactionUseCase implements ExportTransaction {
             case PDF -> pdfExporter.exportTransactionsToPdf(transactions);
         };
     }
-
-    /**
-     * Generate filename with timestamp.
-     */
-    private String generateFileName(ExportFormat format) {
-        String timestamp = LocalDateTime.now().format(
-            DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")
-        );
-
-        String extension = switch (format) {
-            case CSV -> "csv";
-            case EXCEL -> "xlsx";
-            case PDF -> "pdf";
-        };
-
-        return String.format("transaksi_%s.%s", timestamp, extension);
-    }
-
-    /**
-     * Get content type for HTTP response.
-     */
-    private String getContentType(ExportFormat format) {
-        return switch (format) {
-            case CSV -> "text/csv";
-            case EXCEL -> "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
-            case PDF -> "application/pdf";
-        };
-    }
 }
@@ -0,0 +1,24 @@
+package com.fajars.expensetracker.report.usecase.exporttransaction;
+
+import com.fajars.expensetracker.transaction.domain.TransactionQuery;
+import java.util.UUID;
+
+/**
+ * A validated streaming export, ready to be written once the caller has set the response headers.
+ *
+ * @param userId      owner of the exported transactions
+ * @param format      output file format
+ * @param query       resolved transaction filter
+ * @param limit       maximum number of rows (subscription export limit)
+ * @param fileName    download file name
+ * @param contentType HTTP content type of the file
+ */
+public record StreamingExport(
+    UUID userId,
+    ExportFormat format,
+    TransactionQuery query,
+    int limit,
+    String fileName,
+    String contentType
+) {
+}
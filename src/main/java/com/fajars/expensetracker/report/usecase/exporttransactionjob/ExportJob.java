@@ -0,0 +1,68 @@
+package com.fajars.expensetracker.report.usecase.exporttransactionjob;
+
+import com.fajars.expensetracker.report.usecase.exporttransaction.ExportFormat;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * State of a background export job.
+ *
+ * <p>Written by the worker thread rendering the file and read by status requests, hence
+ * the volatile fields. Jobs are kept in memory only; see {@link ExportTransactionJobUseCase}.
+ */
+@Getter
+public class ExportJob {
+
+    private final UUID id;
+    private final UUID userId;
+    private final ExportFormat format;
+    private final String fileName;
+    private final Path file;
+    private final LocalDateTime createdAt;
+
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+    private volatile int rowsWritten;
+    private volatile long fileSize;
+    private volatile String errorMessage;
+    private volatile LocalDateTime completedAt;
+    private volatile LocalDateTime expiresAt;
+
+    public ExportJob(UUID id, UUID userId, ExportFormat format, String fileName, Path file) {
+        this.id = id;
+        this.userId = userId;
+        this.format = format;
+        this.fileName = fileName;
+        this.file = file;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    void markRunning() {
+        status = ExportJobStatus.RUNNING;
+    }
+
+    void updateProgress(int rowsWritten) {
+        this.rowsWritten = rowsWritten;
+    }
+
+    void markCompleted(int rowsWritten, long fileSize, LocalDateTime expiresAt) {
+        this.rowsWritten = rowsWritten;
+        this.fileSize = fileSize;
+        this.completedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = ExportJobStatus.COMPLETED;
+    }
+
+    void markFailed(String errorMessage, LocalDateTime expiresAt) {
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = ExportJobStatus.FAILED;
+    }
+
+    boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
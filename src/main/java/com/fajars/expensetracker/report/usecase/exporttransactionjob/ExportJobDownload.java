@@ -0,0 +1,19 @@
+package com.fajars.expensetracker.report.usecase.exporttransactionjob;
+
+import java.nio.file.Path;
+
+/**
+ * A completed export file ready to be sent to its owner.
+ *
+ * @param file        rendered file on disk
+ * @param fileName    download file name
+ * @param contentType HTTP content type of the file
+ * @param fileSize    file size in bytes
+ */
+public record ExportJobDownload(
+    Path file,
+    String fileName,
+    String contentType,
+    long fileSize
+) {
+}
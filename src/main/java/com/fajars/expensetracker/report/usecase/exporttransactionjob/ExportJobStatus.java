@@ -0,0 +1,15 @@
+package com.fajars.expensetracker.report.usecase.exporttransactionjob;
+
+/**
+ * Lifecycle of a background export job.
+ */
+public enum ExportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
@@ -0,0 +1,52 @@
+package com.fajars.expensetracker.report.usecase.exporttransactionjob;
+
+import com.fajars.expensetracker.report.api.ExportRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * Use case interface for exporting transactions in the background.
+ */
+public interface ExportTransactionJob {
+
+    /**
+     * Validate the request and queue it for rendering.
+     *
+     * @param request the export request with format and filters
+     * @return the queued job
+     */
+    ExportJob submit(ExportRequest request);
+
+    /**
+     * Get a job of the current user.
+     *
+     * @param jobId job id returned by {@link #submit(ExportRequest)}
+     * @return the job with its current status and progress
+     */
+    ExportJob getJob(UUID jobId);
+
+    /**
+     * Get the rendered file of a completed job of the current user.
+     *
+     * @param jobId job id returned by {@link #submit(ExportRequest)}
+     * @return the file to send
+     */
+    ExportJobDownload getDownload(UUID jobId);
+
+    /**
+     * Copy a rendered file to {@code out} without buffering it in memory.
+     *
+     * @param download file returned by {@link #getDownload(UUID)}
+     * @param out      target stream, not closed
+     * @return number of bytes written
+     */
+    long transferTo(ExportJobDownload download, OutputStream out) throws IOException;
+
+    /**
+     * Forget expired jobs and delete their files.
+     *
+     * @return number of jobs removed
+     */
+    int purgeExpired();
+}
@@ -0,0 +1,255 @@
+package com.fajars.expensetracker.report.usecase.exporttransactionjob;
+
+import com.fajars.expensetracker.common.exception.BusinessException;
+import com.fajars.expensetracker.common.exception.ResourceNotFoundException;
+import com.fajars.expensetracker.common.logging.CorrelationContext;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.api.ExportRequest;
+import com.fajars.expensetracker.report.export.ExportFileStore;
+import com.fajars.expensetracker.report.export.ExportJobProperties;
+import com.fajars.expensetracker.report.usecase.exporttransaction.ExportTransaction;
+import com.fajars.expensetracker.report.usecase.exporttransaction.StreamingExport;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for exporting transactions in the background.
+ *
+ * <p>The request thread only validates and queues the export; a bounded worker pool renders
+ * it into {@link ExportFileStore} through the same DB cursor as the streaming export. Large
+ * PDF or Excel exports therefore never hold a web thread or more than
+ * {@code app.export.jobs.worker-threads} database connections.
+ *
+ * <p>Limits:
+ * <ul>
+ *   <li>Per user: {@code max-active-per-user} queued or running jobs, further submits get 429</li>
+ *   <li>Global: {@code queue-capacity} waiting jobs, further submits get 429</li>
+ *   <li>Finished jobs and their files are kept for {@code ttl}, then removed by
+ *       {@link #purgeExpired()}</li>
+ * </ul>
+ *
+ * <p>Jobs are kept in memory and files on local disk, so a job is only visible on the instance
+ * that accepted it and is lost on restart (leftover files are deleted by the cleanup).
+ *
+ * <p>Metrics: export.jobs.submitted, export.jobs.rejected, export.jobs.completed,
+ * export.jobs.failed, export.jobs.downloaded, export.jobs.expired (counters), export.jobs.queue_wait,
+ * export.jobs.duration (timers), export.jobs.queue_depth, export.jobs.running (gauges)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportTransactionJobUseCase implements ExportTransactionJob {
+
+    private static final String FAILED_MESSAGE = "Export failed, please submit it again";
+
+    private final ExportTransaction exportTransaction;
+    private final ExportFileStore fileStore;
+    private final ExportJobProperties properties;
+    private final MetricsService metricsService;
+    private final CurrentUserProvider currentUserProvider;
+
+    private final Map<UUID, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> activeJobsByUser = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(
+            properties.getWorkerThreads(),
+            properties.getWorkerThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            Thread.ofPlatform().name("export-job-", 0).daemon(true).factory()
+        );
+
+        metricsService.registerGauge("export.jobs.queue_depth", executor, pool -> pool.getQueue().size());
+        metricsService.registerGauge("export.jobs.running", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ExportJob submit(ExportRequest request) {
+        UUID userId = currentUserProvider.getUserId();
+
+        // Validation errors surface here, on the request thread
+        StreamingExport export = exportTransaction.prepareStream(request);
+
+        acquireUserSlot(userId);
+
+        UUID jobId = UUID.randomUUID();
+        ExportJob job = new ExportJob(
+            jobId,
+            userId,
+            export.format(),
+            export.fileName(),
+            fileStore.resolve(jobId, export.format().extension())
+        );
+        jobs.put(jobId, job);
+
+        String correlationId = CorrelationContext.getOrGenerate();
+        long submittedAt = System.currentTimeMillis();
+
+        try {
+            executor.execute(() -> CorrelationContext.runWithCorrelationId(
+                correlationId, () -> render(job, export, submittedAt)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            releaseUserSlot(userId);
+            metricsService.incrementCounter("export.jobs.rejected", "reason", "queue_full");
+            throw BusinessException.tooManyRequests("Export queue is full, please try again later");
+        }
+
+        metricsService.incrementCounter("export.jobs.submitted", "format", export.format().name());
+        log.info("Queued export job {} for user {} in format {}", jobId, userId, export.format());
+
+        return job;
+    }
+
+    @Override
+    public ExportJob getJob(UUID jobId) {
+        UUID userId = currentUserProvider.getUserId();
+        ExportJob job = jobs.get(jobId);
+
+        // Other users' jobs are reported as missing, not forbidden
+        if (job == null || !job.getUserId().equals(userId) || job.isExpired(LocalDateTime.now())) {
+            throw new ResourceNotFoundException("Export job", jobId.toString());
+        }
+        return job;
+    }
+
+    @Override
+    public ExportJobDownload getDownload(UUID jobId) {
+        ExportJob job = getJob(jobId);
+
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw BusinessException.conflict("Export job is " + job.getStatus() + ", file is not available");
+        }
+        if (!Files.isRegularFile(job.getFile())) {
+            throw new ResourceNotFoundException("Export file", jobId.toString());
+        }
+
+        return new ExportJobDownload(
+            job.getFile(),
+            job.getFileName(),
+            job.getFormat().contentType(),
+            job.getFileSize()
+        );
+    }
+
+    @Override
+    public long transferTo(ExportJobDownload download, OutputStream out) throws IOException {
+        long bytes = fileStore.transferTo(download.file(), out);
+        metricsService.incrementCounter("export.jobs.downloaded");
+        return bytes;
+    }
+
+    @Override
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+
+        Iterator<ExportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ExportJob job = iterator.next();
+            if (job.isExpired(now)) {
+                iterator.remove();
+                fileStore.delete(job.getFile());
+                removed++;
+            }
+        }
+
+        int orphans = fileStore.deleteOlderThan(Instant.now().minus(properties.getTtl()));
+
+        if (removed > 0) {
+            metricsService.incrementCounterBy("export.jobs.expired", removed);
+        }
+        if (removed > 0 || orphans > 0) {
+            log.info("Removed {} expired export jobs and {} orphaned export files", removed, orphans);
+        }
+        return removed;
+    }
+
+    private void render(ExportJob job, StreamingExport export, long submittedAt) {
+        metricsService.recordTimer("export.jobs.queue_wait", submittedAt);
+        long startTime = System.currentTimeMillis();
+        String format = export.format().name();
+
+        job.markRunning();
+        log.info("Rendering export job {} for user {}", job.getId(), job.getUserId());
+
+        int rows = 0;
+        long fileSize = 0;
+        boolean completed = false;
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(job.getFile()))) {
+                rows = exportTransaction.writeStream(export, out, job::updateProgress);
+            }
+            fileSize = Files.size(job.getFile());
+            completed = true;
+
+        } catch (Exception e) {
+            log.error("Export job {} failed: {}", job.getId(), e.getMessage(), e);
+            fileStore.delete(job.getFile());
+
+        } finally {
+            // Released before the final status is published, so a client that sees it can submit again
+            releaseUserSlot(job.getUserId());
+        }
+
+        if (!completed) {
+            job.markFailed(FAILED_MESSAGE, expiry());
+            metricsService.incrementCounter("export.jobs.failed", "format", format);
+            return;
+        }
+
+        job.markCompleted(rows, fileSize, expiry());
+
+        metricsService.incrementCounter("export.jobs.completed", "format", format);
+        metricsService.recordTimer("export.jobs.duration", startTime, "format", format);
+        log.info("Export job {} completed: {} rows, {} bytes in {}ms",
+                 job.getId(), rows, fileSize, System.currentTimeMillis() - startTime);
+    }
+
+    private LocalDateTime expiry() {
+        return LocalDateTime.now().plus(properties.getTtl());
+    }
+
+    private void acquireUserSlot(UUID userId) {
+        activeJobsByUser.compute(userId, (id, active) -> {
+            int current = active == null ? 0 : active;
+            if (current >= properties.getMaxActivePerUser()) {
+                metricsService.incrementCounter("export.jobs.rejected", "reason", "user_limit");
+                throw BusinessException.tooManyRequests(
+                    "You already have " + current + " exports in progress, please wait for them to finish");
+            }
+            return current + 1;
+        });
+    }
+
+    private void releaseUserSlot(UUID userId) {
+        activeJobsByUser.computeIfPresent(userId, (id, active) -> active > 1 ? active - 1 : null);
+    }
+}
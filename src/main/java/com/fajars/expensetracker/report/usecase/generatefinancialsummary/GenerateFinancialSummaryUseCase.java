@@ -3,16 +3,15 @@ package com.fajars.expensetracker.report.usecase.generatefinancialsummary;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.config.CacheConfig;
+import com.fajars.expensetracker.report.ReportCacheKeyGenerator;
 import com.fajars.expensetracker.report.api.CategoryBreakdownResponse;
 import com.fajars.expensetracker.report.api.FinancialSummaryResponse;
 import com.fajars.expensetracker.report.api.ReportFilter;
 import com.fajars.expensetracker.report.api.WalletBalanceResponse;
-import com.fajars.expensetracker.transaction.domain.TransactionRepository;
 import com.fajars.expensetracker.transaction.api.TransactionType;
-import com.fajars.expensetracker.transaction.projection.CategoryBreakdown;
-import com.fajars.expensetracker.transaction.projection.TransactionSummary;
-import com.fajars.expensetracker.wallet.domain.Wallet;
-import com.fajars.expensetracker.wallet.domain.WalletRepository;
+import com.fajars.expensetracker.transaction.domain.TransactionDailyRollupRepository;
+import com.fajars.expensetracker.transaction.projection.FinancialSummaryRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -25,9 +24,10 @@ import java.util.*;
  * Use case for generating financial summary reports.
  *
  * Performance Optimizations:
- * - Uses optimized aggregation queries (single query for totals)
- * - Caching with 5-minute TTL
- * - Minimal N+1 query issues
+ * - One statement: totals, per-category and per-wallet figures come from a single
+ *   GROUPING SETS pass over the daily rollup (days x categories), not raw transactions
+ * - Honors both the wallet and the category filter
+ * - Cached per user until a write (see CacheConfig)
  *
  * Clean Architecture:
  * - Business logic in use case layer
@@ -39,43 +39,51 @@ import java.util.*;
 @Slf4j
 public class GenerateFinancialSummaryUseCase implements GenerateFinancialSummary {
 
-    private final TransactionRepository transactionRepository;
-    private final WalletRepository walletRepository;
+    private final TransactionDailyRollupRepository rollupRepository;
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "financialSummaries", key = "#userId + '-' + #filter.startDate() + '-' + #filter.endDate()")
+    @Cacheable(value = CacheConfig.FINANCIAL_SUMMARIES, keyGenerator = ReportCacheKeyGenerator.BEAN_NAME)
     public FinancialSummaryResponse generate(ReportFilter filter) {
         long startTime = System.currentTimeMillis();
         UUID userId = currentUserProvider.getUserId();
         log.debug("Generating financial summary for user {} with filter: {}", userId, filter);
 
-        // 1. Get aggregated summary (single optimized query)
-        TransactionSummary summary = transactionRepository.getSummaryByDateRange(
+        // 1. Totals, category breakdown and wallet movement in one grouped pass over the rollup
+        List<FinancialSummaryRow> rows = rollupRepository.getFinancialSummary(
             userId,
-            filter.startDate(),
-            filter.endDate(),
-            filter.hasWalletFilter() ? filter.walletIds() : null
+            filter.startDate().toLocalDate(),
+            filter.endDate().toLocalDate(),
+            filter.walletIds(),
+            filter.categoryIds()
         );
 
-        Double totalIncome = summary.getTotalIncome().doubleValue();
-        Double totalExpense = summary.getTotalExpense().doubleValue();
-        Long transactionCount = summary.getTransactionCount();
+        FinancialSummaryRow totals = rows.stream()
+            .filter(row -> FinancialSummaryRow.TOTAL.equals(row.getRowType()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Financial summary query returned no totals row"));
 
-        // 2. Get category breakdowns (2 separate queries for income and expense)
-        List<CategoryBreakdownResponse> incomeByCategory = getCategoryBreakdown(
-            userId, filter, TransactionType.INCOME, totalIncome
+        Double totalIncome = totals.getTotalIncome().doubleValue();
+        Double totalExpense = totals.getTotalExpense().doubleValue();
+        Long transactionCount = totals.getTransactionCount();
+
+        // 2. Category breakdowns, rows are already sorted by amount DESC
+        List<CategoryBreakdownResponse> incomeByCategory = toCategoryBreakdown(
+            rows, TransactionType.INCOME, totalIncome
         );
 
-        List<CategoryBreakdownResponse> expenseByCategory = getCategoryBreakdown(
-            userId, filter, TransactionType.EXPENSE, totalExpense
+        List<CategoryBreakdownResponse> expenseByCategory = toCategoryBreakdown(
+            rows, TransactionType.EXPENSE, totalExpense
         );
 
-        // 3. Get wallet balances
-        List<WalletBalanceResponse> walletBalances = getWalletBalances(userId, filter);
+        // 3. Wallet balances and movement in the period
+        List<WalletBalanceResponse> walletBalances = rows.stream()
+            .filter(row -> FinancialSummaryRow.WALLET.equals(row.getRowType()))
+            .map(this::toWalletBalanceDto)
+            .toList();
 
         // 4. Build response
         FinancialSummaryResponse response = new FinancialSummaryResponse(
@@ -107,37 +115,34 @@ public class GenerateFinancialSummaryUseCase implements GenerateFinancialSummary
     }
 
     /**
-     * Get category breakdown with percentage calculation.
+     * Category rows of one transaction type with percentage calculation.
      *
-     * @param userId the user ID
-     * @param filter the report filter
+     * @param rows the summary rows
      * @param type the transaction type (INCOME or EXPENSE)
      * @param total the total amount for percentage calculation
      * @return list of category breakdowns sorted by amount DESC
      */
-    private List<CategoryBreakdownResponse> getCategoryBreakdown(
-        UUID userId,
-        ReportFilter filter,
+    private List<CategoryBreakdownResponse> toCategoryBreakdown(
+        List<FinancialSummaryRow> rows,
         TransactionType type,
         Double total
     ) {
-        List<CategoryBreakdown> results = transactionRepository.getCategoryBreakdown(
-            userId,
-            filter.startDate(),
-            filter.endDate(),
-            type,
-            filter.hasWalletFilter() ? filter.walletIds() : null
-        );
-
-        return results.stream()
-            .map(row -> new CategoryBreakdownResponse(
-                row.getCategoryId(),
-                row.getCategoryName(),
-                type.name(),
-                row.getTotalAmount().doubleValue(),
-                row.getTransactionCount().intValue(),
-                calculatePercentage(row.getTotalAmount().doubleValue(), total)
-            ))
+        return rows.stream()
+            .filter(row -> FinancialSummaryRow.CATEGORY.equals(row.getRowType()))
+            .filter(row -> type.name().equals(row.getType()))
+            .map(row -> {
+                double amount = type == TransactionType.INCOME
+                    ? row.getTotalIncome().doubleValue()
+                    : row.getTotalExpense().doubleValue();
+                return new CategoryBreakdownResponse(
+                    row.getRefId(),
+                    row.getName(),
+                    type.name(),
+                    amount,
+                    row.getTransactionCount().intValue(),
+                    calculatePercentage(amount, total)
+                );
+            })
             .toList();
     }
 
@@ -152,54 +157,16 @@ public class GenerateFinancialSummaryUseCase implements GenerateFinancialSummary
     }
 
     /**
-     * Get current wallet balances.
-     * Handles both filtered and all wallets scenarios.
-     */
-    private List<WalletBalanceResponse> getWalletBalances(UUID userId, ReportFilter filter) {
-        List<Wallet> wallets;
-
-        if (filter.hasWalletFilter()) {
-            wallets = walletRepository.findAllById(filter.walletIds());
-        } else {
-            wallets = walletRepository.findByUserId(userId);
-        }
-
-        return wallets.stream()
-            .map(this::toWalletBalanceDto)
-            .toList();
-    }
-
-    /**
-     * Convert Wallet entity to WalletBalanceDto with calculated current balance.
+     * Convert a wallet row to WalletBalanceDto. The balance comes from the maintained ledger,
+     * the net change only covers the filtered period and categories.
      */
-    private WalletBalanceResponse toWalletBalanceDto(Wallet wallet) {
-        Double currentBalance = calculateCurrentBalance(wallet);
-
+    private WalletBalanceResponse toWalletBalanceDto(FinancialSummaryRow row) {
         return new WalletBalanceResponse(
-            wallet.getId(),
-            wallet.getName(),
-            wallet.getCurrency().name(),
-            currentBalance
+            row.getRefId(),
+            row.getName(),
+            row.getCurrency(),
+            row.getCurrentBalance().doubleValue(),
+            row.getTotalIncome().subtract(row.getTotalExpense()).doubleValue()
         );
     }
-
-    /**
-     * Calculate current balance for a wallet.
-     * Balance = initialBalance + sum(income) - sum(expense)
-     */
-    private Double calculateCurrentBalance(Wallet wallet) {
-        Double initialBalance = wallet.getInitialBalance();
-
-        if (wallet.getTransactions() == null || wallet.getTransactions().isEmpty()) {
-            return initialBalance;
-        }
-
-        Double transactionBalance = wallet.getTransactions().stream()
-            .mapToDouble(t -> t.getType() == TransactionType.INCOME
-                ? t.getAmount()
-                : -t.getAmount())
-            .sum();
-
-        return initialBalance + transactionBalance;
-    }
 }
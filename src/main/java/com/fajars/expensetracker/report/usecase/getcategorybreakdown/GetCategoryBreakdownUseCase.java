@@ -1,10 +1,12 @@
 package com.fajars.expensetracker.report.usecase.getcategorybreakdown;
 
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.config.CacheConfig;
+import com.fajars.expensetracker.report.ReportCacheKeyGenerator;
 import com.fajars.expensetracker.report.api.CategoryBreakdownResponse;
 import com.fajars.expensetracker.report.api.ReportFilter;
-import com.fajars.expensetracker.transaction.domain.TransactionRepository;
 import com.fajars.expensetracker.transaction.api.TransactionType;
+import com.fajars.expensetracker.transaction.domain.TransactionDailyRollupRepository;
 import com.fajars.expensetracker.transaction.projection.CategoryBreakdown;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,12 +31,13 @@ import java.util.UUID;
 @Slf4j
 public class GetCategoryBreakdownUseCase implements GetCategoryBreakdown {
 
-    private final TransactionRepository transactionRepository;
+    private final TransactionDailyRollupRepository rollupRepository;
     private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "categoryBreakdown", key = "#userId + '-' + #filter.startDate() + '-' + #filter.endDate() + '-' + #type")
+    @Cacheable(value = CacheConfig.CATEGORY_BREAKDOWN, keyGenerator = ReportCacheKeyGenerator.BEAN_NAME,
+               condition = "#filter != null")
     public List<CategoryBreakdownResponse> get(ReportFilter filter, TransactionType type) {
 
         UUID userId = currentUserProvider.getUserId();
@@ -49,10 +52,10 @@ public class GetCategoryBreakdownUseCase implements GetCategoryBreakdown {
             );
         }
 
-        List<CategoryBreakdown> results = transactionRepository.getCategoryBreakdown(
+        List<CategoryBreakdown> results = rollupRepository.getCategoryBreakdown(
             userId,
-            filter.startDate(),
-            filter.endDate(),
+            filter.startDate().toLocalDate(),
+            filter.endDate().toLocalDate(),
             type,
             filter.hasWalletFilter() && !filter.walletIds().isEmpty() ? filter.walletIds() : null
         );
@@ -89,7 +92,8 @@ public class GetCategoryBreakdownUseCase implements GetCategoryBreakdown {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "topCategories", key = "#userId + '-' + #filter.startDate() + '-' + #filter.endDate() + '-' + #type + '-' + #limit")
+    @Cacheable(value = CacheConfig.TOP_CATEGORIES, keyGenerator = ReportCacheKeyGenerator.BEAN_NAME,
+               condition = "#filter != null")
     public List<CategoryBreakdownResponse> getTopCategories(
         ReportFilter filter, TransactionType type, int limit) {
 
@@ -4,7 +4,20 @@ package com.fajars.expensetracker.report.usecase.getincomeexpensetrend;
  * Time granularity for trend reports.
  */
 public enum Granularity {
-    DAILY,
-    WEEKLY,
-    MONTHLY
+    DAILY("day"),
+    WEEKLY("week"),
+    MONTHLY("month");
+
+    private final String dateTruncUnit;
+
+    Granularity(String dateTruncUnit) {
+        this.dateTruncUnit = dateTruncUnit;
+    }
+
+    /**
+     * Postgres {@code date_trunc} field of the period. Weeks start on Monday.
+     */
+    public String dateTruncUnit() {
+        return dateTruncUnit;
+    }
 }
@@ -1,11 +1,16 @@
 package com.fajars.expensetracker.subscription;
 
-import com.fajars.expensetracker.subscription.domain.Subscription;
+import com.fajars.expensetracker.common.util.AfterCommit;
 import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
 import com.fajars.expensetracker.subscription.domain.SubscriptionTier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -14,13 +19,43 @@ import java.util.UUID;
  *
  * Unlike SubscriptionService (which was a traditional service with business logic),
  * this helper only contains pure utility functions without orchestration logic.
+ *
+ * Tier Cache:
+ * - The active subscription is looked up once per user and cached in memory, so
+ *   @RequiresPremium checks and the limit lookups of a request need no DB round trip
+ * - An entry expires exactly at the subscription's endedAt (trial end, paid period end),
+ *   capped at 1 hour as a safety net for changes made outside this instance
+ * - Use cases that change a user's subscription must call {@link #evictTier(UUID)}
  */
 @Component
 @RequiredArgsConstructor
 public class SubscriptionHelper {
 
+    private static final Duration MAX_TIER_CACHE_DURATION = Duration.ofHours(1);
+    private static final long MAX_CACHED_USERS = 10_000;
+
     private final SubscriptionRepository subscriptionRepository;
 
+    private final Cache<UUID, CachedTier> tierCache = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_USERS)
+        .expireAfter(new Expiry<UUID, CachedTier>() {
+            @Override
+            public long expireAfterCreate(UUID userId, CachedTier tier, long currentTime) {
+                return tier.timeToLive(LocalDateTime.now()).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(UUID userId, CachedTier tier, long currentTime, long currentDuration) {
+                return tier.timeToLive(LocalDateTime.now()).toNanos();
+            }
+
+            @Override
+            public long expireAfterRead(UUID userId, CachedTier tier, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        })
+        .build();
+
     /**
      * Check if user has premium subscription.
      *
@@ -28,9 +63,19 @@ public class SubscriptionHelper {
      * @return true if premium, false if free tier
      */
     public boolean isPremiumUser(UUID userId) {
-        return subscriptionRepository.findActiveSubscriptionByUserId(userId)
-            .map(Subscription::isPremium)
-            .orElse(false);
+        return tierCache.get(userId, this::loadTier).premium();
+    }
+
+    /**
+     * Drop the cached tier of a user. Call whenever a subscription of the user is created,
+     * activated, extended, cancelled or expired.
+     *
+     * <p>The entry is dropped through {@link AfterCommit}.
+     *
+     * @param userId user ID
+     */
+    public void evictTier(UUID userId) {
+        AfterCommit.evict(() -> tierCache.invalidate(userId));
     }
 
     /**
@@ -62,4 +107,27 @@ public class SubscriptionHelper {
     public int getDateRangeLimit(UUID userId) {
         return isPremiumUser(userId) ? 365 : 90;
     }
+
+    private CachedTier loadTier(UUID userId) {
+        return subscriptionRepository.findActiveSubscriptionByUserId(userId)
+            .map(subscription -> new CachedTier(subscription.isPremium(), subscription.getEndedAt()))
+            .orElse(new CachedTier(false, null));
+    }
+
+    /**
+     * Cached tier of a user, valid until the subscription it was read from ends.
+     */
+    private record CachedTier(boolean premium, LocalDateTime endedAt) {
+
+        Duration timeToLive(LocalDateTime now) {
+            if (endedAt == null) {
+                return MAX_TIER_CACHE_DURATION;
+            }
+            Duration remaining = Duration.between(now, endedAt);
+            if (remaining.isNegative()) {
+                return Duration.ZERO;
+            }
+            return remaining.compareTo(MAX_TIER_CACHE_DURATION) < 0 ? remaining : MAX_TIER_CACHE_DURATION;
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package com.fajars.expensetracker.subscription;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
+import com.fajars.expensetracker.subscription.domain.UserQuotaCounterRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the per-user quota counters behind FREE tier limits.
+ *
+ * <p>Every use case that creates or removes a counted resource must go through this component
+ * inside the same DB transaction, so a limit check is one conditional single-row update
+ * instead of a count scan, and a rolled back write also rolls back its count.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UsageQuota {
+
+    private final UserQuotaCounterRepository counterRepository;
+    private final SubscriptionHelper subscriptionHelper;
+    private final MetricsService metricsService;
+
+    /**
+     * Count one more resource if the user's tier allows it.
+     *
+     * @return false if a FREE user already reached the limit (nothing is counted)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryAcquire(UUID userId, QuotaType quota) {
+        Integer freeLimit = quota.freeLimit();
+        if (freeLimit == null || subscriptionHelper.isPremiumUser(userId)) {
+            track(userId, quota);
+            return true;
+        }
+
+        boolean acquired = counterRepository.incrementIfBelow(userId, quota.name(), freeLimit) == 1;
+        if (!acquired) {
+            log.warn("User {} reached the {} limit of {}", userId, quota, freeLimit);
+            metricsService.incrementCounter("quota.rejected", "quota", quota.name());
+        }
+        return acquired;
+    }
+
+    /**
+     * Count one more resource regardless of the limit, e.g. the default wallet created at
+     * registration or a paid debt reopened by an update.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void track(UUID userId, QuotaType quota) {
+        counterRepository.incrementIfBelow(userId, quota.name(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Count one resource less.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(UUID userId, QuotaType quota) {
+        counterRepository.decrement(userId, quota.name());
+    }
+}
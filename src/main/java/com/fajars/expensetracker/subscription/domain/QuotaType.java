@@ -0,0 +1,24 @@
+package com.fajars.expensetracker.subscription.domain;
+
+/**
+ * Per-user resources counted in user_quota_counters, with their FREE tier limit.
+ * PREMIUM users are counted too (so a downgrade sees the real usage) but never limited.
+ */
+public enum QuotaType {
+    WALLETS(1),
+    ACTIVE_DEBTS(10),  // OPEN or PARTIAL debts
+    CUSTOM_CATEGORIES(null);  // counted, no FREE limit yet
+
+    private final Integer freeLimit;
+
+    QuotaType(Integer freeLimit) {
+        this.freeLimit = freeLimit;
+    }
+
+    /**
+     * FREE tier limit, or null when FREE users are not limited.
+     */
+    public Integer freeLimit() {
+        return freeLimit;
+    }
+}
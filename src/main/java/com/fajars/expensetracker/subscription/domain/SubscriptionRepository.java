@@ -1,9 +1,12 @@
 package com.fajars.expensetracker.subscription.domain;
 
+import com.fajars.expensetracker.subscription.projection.ExpiredSubscription;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -68,6 +71,65 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, UUID
            "AND s.endedAt < :cutoffTime")
     List<Subscription> findExpiredSubscriptions(@Param("cutoffTime") LocalDateTime cutoffTime);
 
+    /**
+     * Expire one chunk of subscriptions that ended before {@code cutoffTime} and create a FREE
+     * subscription for each affected user, in one statement (UPDATE ... RETURNING feeding a
+     * multi-row INSERT). Oldest first; rows locked by a concurrent run are skipped.
+     *
+     * <p>Expired rows no longer match, so calling this until it returns fewer than
+     * {@code limit} rows resumes wherever a previous run stopped. Users that still have
+     * another live subscription (or already a FREE one) get no new FREE subscription.
+     *
+     * @param cutoffTime the time before which subscriptions are considered expired
+     * @param limit      chunk size
+     * @return the expired subscriptions
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+        WITH due AS (
+            SELECT id
+            FROM subscriptions
+            WHERE status IN ('ACTIVE', 'TRIAL')
+              AND ended_at IS NOT NULL
+              AND ended_at < :cutoffTime
+            ORDER BY ended_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ),
+        expired AS (
+            UPDATE subscriptions s
+            SET status = 'EXPIRED'
+            FROM due
+            WHERE s.id = due.id
+            RETURNING s.id, s.user_id, s.plan, s.started_at, s.ended_at
+        ),
+        downgraded AS (
+            INSERT INTO subscriptions (id, user_id, plan, status, started_at)
+            SELECT gen_random_uuid(), u.user_id, 'FREE', 'ACTIVE', :cutoffTime
+            FROM (SELECT DISTINCT user_id FROM expired WHERE user_id IS NOT NULL) u
+            WHERE NOT EXISTS (
+                SELECT 1 FROM subscriptions o
+                WHERE o.user_id = u.user_id
+                  AND o.status IN ('ACTIVE', 'TRIAL')
+                  AND (o.ended_at IS NULL OR o.ended_at >= :cutoffTime))
+            RETURNING id, user_id
+        )
+        SELECT e.id AS id,
+               e.user_id AS userId,
+               usr.email AS userEmail,
+               e.plan AS plan,
+               e.started_at AS startedAt,
+               e.ended_at AS endedAt,
+               d.id AS freeSubscriptionId
+        FROM expired e
+        LEFT JOIN downgraded d ON d.user_id = e.user_id
+        LEFT JOIN users usr ON usr.id = e.user_id
+        """, nativeQuery = true)
+    List<ExpiredSubscription> expireChunk(
+        @Param("cutoffTime") LocalDateTime cutoffTime,
+        @Param("limit") int limit
+    );
+
     /**
      * Check if user has ever had a successful premium subscription.
      * Used for trial eligibility check.
@@ -0,0 +1,37 @@
+package com.fajars.expensetracker.subscription.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Number of resources of one {@link QuotaType} a user currently has.
+ *
+ * <p>Read-only from JPA: rows are written with native single-row upserts by
+ * {@code UsageQuota}, in the same DB transaction as the insert or delete they count.
+ */
+@Entity
+@Immutable
+@IdClass(UserQuotaCounterId.class)
+@Table(name = "user_quota_counters")
+@Getter
+@NoArgsConstructor
+public class UserQuotaCounter {
+    @Id
+    @Column(name = "user_id", columnDefinition = "uuid")
+    private UUID userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private QuotaType quota;
+
+    @Column(name = "used", nullable = false)
+    private Integer used;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.fajars.expensetracker.subscription.domain;
+
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite key of {@link UserQuotaCounter}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserQuotaCounterId implements Serializable {
+    private UUID userId;
+    private QuotaType quota;
+}
@@ -0,0 +1,42 @@
+package com.fajars.expensetracker.subscription.domain;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserQuotaCounterRepository extends JpaRepository<UserQuotaCounter, UserQuotaCounterId> {
+
+    /**
+     * Add one to a counter unless it already reached the limit. Single-row upsert: the row lock
+     * serializes concurrent creates of the same user, so bursts cannot race past the limit.
+     *
+     * @return 1 if counted, 0 if the limit was reached
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_quota_counters (user_id, quota, used, updated_at)
+        SELECT :userId, :quota, 1, NOW()
+        WHERE :limit > 0
+        ON CONFLICT (user_id, quota) DO UPDATE
+        SET used = user_quota_counters.used + 1,
+            updated_at = NOW()
+        WHERE user_quota_counters.used < :limit
+        """, nativeQuery = true)
+    int incrementIfBelow(@Param("userId") UUID userId, @Param("quota") String quota, @Param("limit") int limit);
+
+    /**
+     * Subtract one from a counter, never going below zero.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE user_quota_counters
+        SET used = GREATEST(used - 1, 0),
+            updated_at = NOW()
+        WHERE user_id = :userId AND quota = :quota
+        """, nativeQuery = true)
+    int decrement(@Param("userId") UUID userId, @Param("quota") String quota);
+}
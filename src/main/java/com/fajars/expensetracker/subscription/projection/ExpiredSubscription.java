@@ -0,0 +1,21 @@
+package com.fajars.expensetracker.subscription.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection interface for a subscription expired by the chunked expiry statement:
+ * - userEmail: for the business event log
+ * - plan: plan of the expired subscription (TEXT column)
+ * - freeSubscriptionId: FREE subscription created for the user in the same statement,
+ *   null when the user still has another live subscription
+ */
+public interface ExpiredSubscription {
+    UUID getId();
+    UUID getUserId();
+    String getUserEmail();
+    String getPlan();
+    LocalDateTime getStartedAt();
+    LocalDateTime getEndedAt();
+    UUID getFreeSubscriptionId();
+}
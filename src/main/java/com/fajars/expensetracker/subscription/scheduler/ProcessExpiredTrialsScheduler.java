@@ -2,21 +2,23 @@ package com.fajars.expensetracker.subscription.scheduler;
 
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
-import com.fajars.expensetracker.subscription.domain.Subscription;
+import com.fajars.expensetracker.subscription.SubscriptionHelper;
 import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
-import com.fajars.expensetracker.subscription.domain.SubscriptionStatus;
-import com.fajars.expensetracker.subscription.usecase.createfreesubscription.CreateFreeSubscription;
+import com.fajars.expensetracker.subscription.projection.ExpiredSubscription;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Scheduled job to process expired trial subscriptions.
@@ -37,21 +39,24 @@ import java.util.Map;
  *
  * <p><b>What It Does:</b>
  * <ol>
- *   <li>Find all subscriptions with status=TRIAL and endedAt < now</li>
- *   <li>For each expired trial:
+ *   <li>Repeatedly expire a chunk of subscriptions with status ACTIVE/TRIAL and endedAt &lt; now,
+ *       oldest first, each chunk in its own short transaction:
  *     <ul>
- *       <li>Mark trial subscription as EXPIRED</li>
- *       <li>Create new FREE subscription for the user</li>
- *       <li>Log business event: TRIAL_EXPIRED_TO_FREE</li>
+ *       <li>Mark the chunk as EXPIRED and create the FREE subscriptions in one statement
+ *           (see {@link SubscriptionRepository#expireChunk})</li>
+ *       <li>After commit: evict cached tiers, log business event TRIAL_EXPIRED_TO_FREE</li>
  *       <li>Track metrics for monitoring</li>
  *     </ul>
  *   </li>
+ *   <li>Stop when a chunk comes back short. Committed chunks no longer match, so a run that
+ *       fails or is killed half way is resumed by the next run.</li>
  * </ol>
  *
  * <p><b>Monitoring:</b>
- * - Metrics: subscription.trial_expired (counter)
+ * - Metrics: subscription.trial_expired, subscription.downgraded_to_free (counters, per chunk),
+ *   subscription.trial_expired.job_duration (timer), subscription.trial_expired.job_failed
  * - Business Events: TRIAL_EXPIRED_TO_FREE
- * - Logs: INFO level for each processed trial
+ * - Logs: INFO per chunk and per run
  *
  * @since Milestone 6
  */
@@ -63,9 +68,13 @@ public class ProcessExpiredTrialsScheduler {
     private static final ZoneId JAKARTA_ZONE = ZoneId.of("Asia/Jakarta");
 
     private final SubscriptionRepository subscriptionRepository;
-    private final CreateFreeSubscription createFreeSubscription;
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
+    private final SubscriptionHelper subscriptionHelper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.subscription.expiry-chunk-size:1000}")
+    private int chunkSize = 1000;
 
     /**
      * Process expired trial subscriptions and downgrade to FREE.
@@ -74,99 +83,93 @@ public class ProcessExpiredTrialsScheduler {
      * Initial delay: 60 seconds (1 minute) to allow application startup
      *
      * <p>This method is idempotent - safe to run multiple times.
+     *
+     * @return number of subscriptions expired
      */
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Jakarta")
-    @Transactional
-    public void processExpiredTrials() {
+    public int processExpiredTrials() {
         long startTime = System.currentTimeMillis();
         LocalDateTime now = LocalDateTime.now(JAKARTA_ZONE);
 
         log.info("Starting expired trial processing job at {}", now);
 
-        try {
-            // Find all expired trials
-            List<Subscription> expiredTrials = subscriptionRepository.findExpiredSubscriptions(now);
-
-            if (expiredTrials.isEmpty()) {
-                log.info("No expired trials found");
-                return;
-            }
-
-            log.info("Found {} expired trials to process", expiredTrials.size());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int expiredCount = 0;
+        int chunkCount = 0;
 
-            int successCount = 0;
-            int failureCount = 0;
-
-            for (Subscription expiredTrial : expiredTrials) {
-                try {
-                    processExpiredTrial(expiredTrial);
-                    successCount++;
-                } catch (Exception e) {
-                    failureCount++;
-                    log.error("Failed to process expired trial for user {}: {}",
-                            expiredTrial.getUser().getId(), e.getMessage(), e);
-                    metricsService.incrementCounter("subscription.trial_expired.failed");
+        try {
+            List<ExpiredSubscription> chunk;
+            do {
+                chunk = Objects.requireNonNull(
+                    transaction.execute(status -> subscriptionRepository.expireChunk(now, chunkSize)));
+                if (chunk.isEmpty()) {
+                    break;
                 }
-            }
-
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Expired trial processing completed: {} successful, {} failed, duration={}ms",
-                    successCount, failureCount, duration);
-
-            // Track metrics
-            metricsService.incrementCounter("subscription.trial_expired.job_completed");
-            metricsService.recordTimer("subscription.trial_expired.job_duration", startTime);
 
-        } catch (Exception e) {
-            log.error("Fatal error during expired trial processing: {}", e.getMessage(), e);
+                afterChunkCommitted(chunk, now);
+                expiredCount += chunk.size();
+                chunkCount++;
+                log.info("Expired trial chunk {} done: {} subscriptions, {} so far",
+                        chunkCount, chunk.size(), expiredCount);
+            } while (chunk.size() >= chunkSize);
+
+        } catch (RuntimeException e) {
+            // Chunks committed so far stay expired; the next run continues with the rest
+            log.error("Expired trial processing stopped after {} subscriptions: {}",
+                    expiredCount, e.getMessage(), e);
             metricsService.incrementCounter("subscription.trial_expired.job_failed");
             throw e;
         }
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("Expired trial processing completed: {} expired in {} chunks, duration={}ms",
+                expiredCount, chunkCount, duration);
+
+        // Track metrics
+        metricsService.incrementCounter("subscription.trial_expired.job_completed");
+        metricsService.recordTimer("subscription.trial_expired.job_duration", startTime);
+        return expiredCount;
     }
 
     /**
-     * Process a single expired trial subscription.
+     * Evict cached tiers and record a committed chunk.
      *
-     * @param expiredTrial the expired trial subscription
+     * @param chunk the expired subscriptions
+     * @param now   the run time
      */
-    private void processExpiredTrial(Subscription expiredTrial) {
-        String userId = expiredTrial.getUser().getId().toString();
-        String userEmail = expiredTrial.getUser().getEmail();
-
-        log.info("Processing expired trial for user: {} (email: {})", userId, userEmail);
-
-        // Mark trial as EXPIRED
-        expiredTrial.setStatus(SubscriptionStatus.EXPIRED);
-        subscriptionRepository.save(expiredTrial);
-
-        // Create FREE subscription
-        Subscription freeSubscription = createFreeSubscription.createFree(expiredTrial.getUser().getId());
-
-        // Log business event
-        logBusinessEvent(expiredTrial, freeSubscription);
-
-        // Track metrics
-        metricsService.incrementCounter("subscription.trial_expired");
-        metricsService.incrementCounter("subscription.downgraded_to_free");
+    private void afterChunkCommitted(List<ExpiredSubscription> chunk, LocalDateTime now) {
+        long downgraded = chunk.stream()
+            .map(ExpiredSubscription::getFreeSubscriptionId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .count();
+
+        for (ExpiredSubscription expired : chunk) {
+            if (expired.getUserId() != null) {
+                subscriptionHelper.evictTier(expired.getUserId());
+            }
+            logBusinessEvent(expired, now);
+        }
 
-        log.info("Successfully downgraded user {} from TRIAL to FREE", userId);
+        metricsService.incrementCounterBy("subscription.trial_expired", chunk.size());
+        metricsService.incrementCounterBy("subscription.downgraded_to_free", downgraded);
     }
 
     /**
      * Log business event for trial expiration.
      *
-     * @param expiredTrial the expired trial subscription
-     * @param freeSubscription the new free subscription
+     * @param expired the expired subscription
+     * @param now     the run time
      */
-    private void logBusinessEvent(Subscription expiredTrial, Subscription freeSubscription) {
+    private void logBusinessEvent(ExpiredSubscription expired, LocalDateTime now) {
         Map<String, Object> attributes = new HashMap<>();
-        attributes.put("expiredTrialId", expiredTrial.getId());
-        attributes.put("freeSubscriptionId", freeSubscription.getId());
-        attributes.put("trialStartedAt", expiredTrial.getStartedAt());
-        attributes.put("trialEndedAt", expiredTrial.getEndedAt());
-        attributes.put("downgradedAt", LocalDateTime.now(JAKARTA_ZONE));
-
-        String username = expiredTrial.getUser().getEmail();
-        businessEventLogger.logBusinessEvent("TRIAL_EXPIRED_TO_FREE", username, attributes);
+        attributes.put("expiredTrialId", expired.getId());
+        attributes.put("freeSubscriptionId", expired.getFreeSubscriptionId());
+        attributes.put("plan", expired.getPlan());
+        attributes.put("trialStartedAt", expired.getStartedAt());
+        attributes.put("trialEndedAt", expired.getEndedAt());
+        attributes.put("downgradedAt", now);
+
+        businessEventLogger.logBusinessEvent("TRIAL_EXPIRED_TO_FREE", expired.getUserEmail(), attributes);
     }
 }
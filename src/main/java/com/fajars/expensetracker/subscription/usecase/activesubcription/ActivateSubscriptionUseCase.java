@@ -3,6 +3,7 @@ package com.fajars.expensetracker.subscription.usecase.activesubcription;
 import com.fajars.expensetracker.common.exception.BusinessException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.subscription.SubscriptionHelper;
 import com.fajars.expensetracker.subscription.domain.Subscription;
 import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
 import com.fajars.expensetracker.subscription.domain.SubscriptionStatus;
@@ -33,6 +34,7 @@ public class ActivateSubscriptionUseCase implements ActivateSubscription {
     private final UserRepository userRepository;
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
+    private final SubscriptionHelper subscriptionHelper;
 
     @Override
     @Transactional
@@ -84,6 +86,8 @@ public class ActivateSubscriptionUseCase implements ActivateSubscription {
                 userId, subscription.getEndedAt());
         }
 
+        subscriptionHelper.evictTier(userId);
+
         return subscription;
     }
 
@@ -4,6 +4,7 @@ import com.fajars.expensetracker.common.exception.BusinessException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.subscription.SubscriptionHelper;
 import com.fajars.expensetracker.subscription.domain.Subscription;
 import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
 import com.fajars.expensetracker.subscription.domain.SubscriptionTier;
@@ -31,6 +32,7 @@ public class CancelSubscriptionUseCase implements CancelSubscription {
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider userProvider;
+    private final SubscriptionHelper subscriptionHelper;
 
     @Override
     @Transactional
@@ -49,6 +51,7 @@ public class CancelSubscriptionUseCase implements CancelSubscription {
 
         subscription.cancel();
         subscriptionRepository.save(subscription);
+        subscriptionHelper.evictTier(userId);
 
         logBusinessEvent(userId, subscription);
         metricsService.incrementCounter("subscription.cancelled");
@@ -4,6 +4,7 @@ import com.fajars.expensetracker.common.exception.BusinessException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.subscription.SubscriptionHelper;
 import com.fajars.expensetracker.subscription.domain.Subscription;
 import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
 import com.fajars.expensetracker.subscription.domain.SubscriptionStatus;
@@ -39,6 +40,7 @@ public class CreateTrialSubscriptionUseCase implements CreateTrialSubscription {
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider currentUserProvider;
+    private final SubscriptionHelper subscriptionHelper;
 
     @Override
     @Transactional
@@ -75,6 +77,7 @@ public class CreateTrialSubscriptionUseCase implements CreateTrialSubscription {
             .build();
 
         subscription = subscriptionRepository.save(subscription);
+        subscriptionHelper.evictTier(userId);
 
         logBusinessEvent(user, subscription, "TRIAL_STARTED");
         metricsService.incrementCounter("subscription.trial_started");
@@ -109,6 +112,7 @@ public class CreateTrialSubscriptionUseCase implements CreateTrialSubscription {
             .build();
 
         subscription = subscriptionRepository.save(subscription);
+        subscriptionHelper.evictTier(userId);
 
         logBusinessEvent(user, subscription, "USER_REGISTERED_WITH_TRIAL");
         metricsService.incrementCounter("subscription.trial_started");
@@ -0,0 +1,87 @@
+package com.fajars.expensetracker.transaction;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.transaction.domain.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * Removes or moves all transactions of a wallet or category with set-based statements.
+ *
+ * <p>Work is done in chunks of {@code app.transaction.bulk-chunk-size} rows. Each chunk is a
+ * single statement that also adjusts the wallet ledger and the daily rollup, so a committed
+ * chunk never leaves them out of step with the transactions. Outside a transaction every chunk
+ * commits on its own, keeping locks and undo short; inside one, chunks join the caller's
+ * transaction (used to drain the remainder together with the parent delete).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionBulkOperations {
+
+    private final TransactionRepository transactionRepository;
+    private final MetricsService metricsService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.transaction.bulk-chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    /**
+     * Delete all transactions of a wallet.
+     *
+     * @return number of deleted transactions
+     */
+    public long deleteByWallet(UUID userId, UUID walletId) {
+        return runInChunks("delete_by_wallet",
+                           () -> transactionRepository.deleteChunkByWalletId(userId, walletId, chunkSize));
+    }
+
+    /**
+     * Delete all transactions of a category.
+     *
+     * @return number of deleted transactions
+     */
+    public long deleteByCategory(UUID userId, UUID categoryId) {
+        return runInChunks("delete_by_category",
+                           () -> transactionRepository.deleteChunkByCategoryId(userId, categoryId, chunkSize));
+    }
+
+    /**
+     * Move all transactions of a category to another category of the same type.
+     *
+     * @return number of moved transactions
+     */
+    public long reassignCategory(UUID userId, UUID fromCategoryId, UUID toCategoryId) {
+        return runInChunks("reassign_category",
+                           () -> transactionRepository.reassignChunkToCategory(
+                               userId, fromCategoryId, toCategoryId, chunkSize));
+    }
+
+    private long runInChunks(String operation, IntSupplier chunk) {
+        long startTime = System.currentTimeMillis();
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+
+        long total = 0;
+        int affected;
+        do {
+            Integer result = chunkTransaction.execute(status -> chunk.getAsInt());
+            affected = result == null ? 0 : result;
+            total += affected;
+        } while (affected >= chunkSize);
+
+        if (total > 0) {
+            metricsService.incrementCounterBy("transactions.bulk.affected", total, "operation", operation);
+            log.info("Bulk {} affected {} transactions in {}ms",
+                     operation, total, System.currentTimeMillis() - startTime);
+        }
+        metricsService.recordTimer("transactions.bulk.duration", startTime, "operation", operation);
+        return total;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fajars.expensetracker.transaction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Startup command to rebuild the daily transaction rollup.
+ *
+ * <p>Usage:
+ * <pre>
+ * ./gradlew bootRun --args='--rebuild-transaction-rollups'            # all users
+ * ./gradlew bootRun --args='--rebuild-transaction-rollups=&lt;userId&gt;'   # one user (repeatable)
+ * </pre>
+ * Without the option this runner does nothing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionRollupBackfillRunner implements ApplicationRunner {
+
+    static final String OPTION = "rebuild-transaction-rollups";
+
+    private final TransactionRollupRecorder rollupRecorder;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        List<String> userIds = args.getOptionValues(OPTION).stream()
+            .filter(value -> !value.isBlank())
+            .toList();
+
+        if (userIds.isEmpty()) {
+            log.info("Rebuilding transaction rollups for all users...");
+            rollupRecorder.rebuildAll();
+            return;
+        }
+
+        for (String userId : userIds) {
+            rollupRecorder.rebuild(UUID.fromString(userId.trim()));
+        }
+    }
+}
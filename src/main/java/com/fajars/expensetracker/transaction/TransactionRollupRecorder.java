@@ -0,0 +1,98 @@
+package com.fajars.expensetracker.transaction;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import com.fajars.expensetracker.transaction.domain.TransactionDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Maintains the per-day transaction rollup used by reports and the dashboard trend.
+ *
+ * <p>Every transaction write must go through this component inside the same DB transaction,
+ * so report queries can aggregate days x categories instead of raw transactions.
+ * Rows of deleted wallets, categories and users go away through ON DELETE CASCADE.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionRollupRecorder {
+
+    private final TransactionDailyRollupRepository rollupRepository;
+    private final MetricsService metricsService;
+    private final ReportCacheInvalidator reportCacheInvalidator;
+
+    /**
+     * Add a transaction to its day bucket.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(
+        UUID userId, UUID walletId, UUID categoryId,
+        TransactionType type, LocalDateTime date, Double amount
+    ) {
+        rollupRepository.applyDelta(
+            userId, walletId, categoryId, type.name(), date.toLocalDate(), BigDecimal.valueOf(amount), 1);
+    }
+
+    /**
+     * Remove a transaction from its day bucket, dropping the bucket when it becomes empty.
+     * The values must come from a row loaded with
+     * {@code TransactionRepository.findForUpdateByIdAndUserId}; nothing reconciles the rollup,
+     * so reversing a value a concurrent edit already reversed leaves it wrong until a rebuild.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reverse(
+        UUID userId, UUID walletId, UUID categoryId,
+        TransactionType type, LocalDateTime date, Double amount
+    ) {
+        LocalDate localDay = date.toLocalDate();
+        rollupRepository.applyDelta(
+            userId, walletId, categoryId, type.name(), localDay, BigDecimal.valueOf(-amount), -1);
+        rollupRepository.deleteIfEmpty(userId, walletId, categoryId, type.name(), localDay);
+    }
+
+    /**
+     * Rebuild the whole rollup table from transactions.
+     *
+     * @return number of rollup rows written
+     */
+    @Transactional
+    public int rebuildAll() {
+        long startTime = System.currentTimeMillis();
+
+        rollupRepository.deleteAllRollups();
+        int rows = rollupRepository.insertAllRollups();
+        reportCacheInvalidator.evictAll();
+
+        metricsService.recordTimer("transaction.rollup.rebuild_duration", startTime, "scope", "all");
+        log.info("Rebuilt {} transaction rollup rows in {}ms", rows, System.currentTimeMillis() - startTime);
+        return rows;
+    }
+
+    /**
+     * Rebuild the rollup rows of a single user from their transactions.
+     *
+     * @return number of rollup rows written
+     */
+    @Transactional
+    public int rebuild(UUID userId) {
+        long startTime = System.currentTimeMillis();
+
+        rollupRepository.deleteRollupsByUserId(userId);
+        int rows = rollupRepository.insertRollupsByUserId(userId);
+        reportCacheInvalidator.evictUser(userId);
+
+        metricsService.recordTimer("transaction.rollup.rebuild_duration", startTime, "scope", "user");
+        log.info("Rebuilt {} transaction rollup rows for user {}", rows, userId);
+        return rows;
+    }
+}
@@ -15,6 +15,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -59,11 +60,11 @@ public class TransactionController {
     })
     @GetMapping
     public ResponseEntity<TransactionPageResponse> listTransactions(
-        @Parameter(description = "Filter by wallet ID", required = false)
-        @RequestParam(required = false) UUID walletId,
+        @Parameter(description = "Filter by wallet ID (repeatable for multiple wallets)", required = false)
+        @RequestParam(required = false) List<UUID> walletId,
 
-        @Parameter(description = "Filter by category ID", required = false)
-        @RequestParam(required = false) UUID categoryId,
+        @Parameter(description = "Filter by category ID (repeatable for multiple categories)", required = false)
+        @RequestParam(required = false) List<UUID> categoryId,
 
         @Parameter(description = "Filter by transaction type (INCOME or EXPENSE)", required = false)
         @RequestParam(required = false) TransactionType type,
@@ -95,6 +96,60 @@ public class TransactionController {
         return ResponseEntity.ok(transactions);
     }
 
+    @Operation(
+        summary = "Scroll transactions (cursor pagination)",
+        description =
+            "Keyset pagination for infinite scroll. Pass the nextCursor of the previous response as 'after'. "
+                + "Totals and count are only computed when includeTotals=true."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TransactionCursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token", content = @Content)
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<TransactionCursorPageResponse> scrollTransactions(
+        @Parameter(description = "Filter by wallet ID (repeatable for multiple wallets)", required = false)
+        @RequestParam(required = false) List<UUID> walletId,
+
+        @Parameter(description = "Filter by category ID (repeatable for multiple categories)", required = false)
+        @RequestParam(required = false) List<UUID> categoryId,
+
+        @Parameter(description = "Filter by transaction type (INCOME or EXPENSE)", required = false)
+        @RequestParam(required = false) TransactionType type,
+
+        @Parameter(description = "Filter transactions from this date (inclusive)", required = false)
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+
+        @Parameter(description = "Filter transactions to this date (inclusive)", required = false)
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to,
+
+        @Parameter(description = "Opaque cursor from the previous page (nextCursor)", required = false)
+        @RequestParam(required = false) String after,
+
+        @Parameter(description = "Page size (max 100)", required = false)
+        @RequestParam(required = false, defaultValue = "20") Integer size,
+
+        @Parameter(description = "Also compute incomeTotal, expenseTotal and totalElements", required = false)
+        @RequestParam(required = false, defaultValue = "false") boolean includeTotals
+    ) {
+        TransactionFilter filter = new TransactionFilter(
+            walletId,
+            categoryId,
+            type,
+            from,
+            to,
+            0,
+            size);
+
+        log.debug("Scrolling transactions after {} with filter: {}", after, filter);
+        TransactionCursorPageResponse transactions =
+            findAllTransactions.scrollWithFilters(filter, after, includeTotals);
+
+        return ResponseEntity.ok(transactions);
+    }
+
     @Operation(
         summary = "Get transaction by ID",
         description = "Get a specific transaction by its ID"
@@ -0,0 +1,48 @@
+package com.fajars.expensetracker.transaction.api;
+
+import com.fajars.expensetracker.common.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the (date DESC, id DESC) transaction order.
+ * Serialized as an opaque URL-safe token so clients never build or parse it themselves.
+ */
+public record TransactionCursor(LocalDateTime date, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TransactionCursor of(TransactionResponse transaction) {
+        return new TransactionCursor(transaction.date(), transaction.id());
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @throws BusinessException (400) if the token is malformed
+     */
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw BusinessException.badRequest("Invalid cursor");
+            }
+            return new TransactionCursor(
+                LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                UUID.fromString(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw BusinessException.badRequest("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = date + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,30 @@
+package com.fajars.expensetracker.transaction.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "Cursor-paginated transaction list for infinite scroll clients")
+public record TransactionCursorPageResponse(
+    @Schema(description = "Transactions of this page, ordered by date DESC")
+    List<TransactionResponse> transactions,
+
+    @Schema(description = "Opaque cursor for the next page (pass as 'after'), null when there are no more rows",
+        example = "MjAyNC0wMS0xNVQxMDozMHwxMjNlNDU2Ny1lODliLTEyZDMtYTQ1Ni00MjY2MTQxNzQwMDA")
+    String nextCursor,
+
+    @Schema(description = "Whether more transactions exist after this page", example = "true")
+    boolean hasMore,
+
+    @Schema(description = "Total income for all filtered transactions, only present when includeTotals=true",
+        example = "76000.0")
+    BigDecimal incomeTotal,
+
+    @Schema(description = "Total expense for all filtered transactions, only present when includeTotals=true",
+        example = "76000.0")
+    BigDecimal expenseTotal,
+
+    @Schema(description = "Number of filtered transactions, only present when includeTotals=true", example = "120")
+    Long totalElements
+) {
+}
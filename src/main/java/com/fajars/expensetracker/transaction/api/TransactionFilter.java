@@ -4,15 +4,16 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Schema(description = "Filter criteria for querying transactions")
 public record TransactionFilter(
-    @Schema(description = "Filter by wallet ID", example = "123e4567-e89b-12d3-a456-426614174001")
-    UUID walletId,
+    @Schema(description = "Filter by wallet IDs (empty = all wallets)")
+    List<UUID> walletIds,
 
-    @Schema(description = "Filter by category ID", example = "123e4567-e89b-12d3-a456-426614174002")
-    UUID categoryId,
+    @Schema(description = "Filter by category IDs (empty = all categories)")
+    List<UUID> categoryIds,
 
     @Schema(description = "Filter by transaction type (INCOME or EXPENSE)", example = "EXPENSE")
     TransactionType type,
@@ -32,6 +33,8 @@ public record TransactionFilter(
     Integer size
 ) {
     public TransactionFilter {
+        walletIds = walletIds == null ? List.of() : walletIds;
+        categoryIds = categoryIds == null ? List.of() : categoryIds;
         if (page == null || page < 0) page = 0;
         if (size == null || size <= 0) size = 20;
         if (size > 100) size = 100;
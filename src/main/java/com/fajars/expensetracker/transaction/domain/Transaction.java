@@ -10,11 +10,11 @@ import lombok.*;
 import java.util.*;
 
 @Entity
+// Partitioned by month on date (V9), indexes mirror the migration
 @Table(name = "transactions", indexes = {
-    @Index(name = "idx_transaction_user_date", columnList = "user_id, date"),
-    @Index(name = "idx_transaction_wallet", columnList = "wallet_id"),
-    @Index(name = "idx_transaction_category", columnList = "category_id"),
-    @Index(name = "idx_transaction_type", columnList = "type")
+    @Index(name = "idx_transactions_user_date_id", columnList = "user_id, date DESC, id DESC"),
+    @Index(name = "idx_transactions_user_wallet_date", columnList = "user_id, wallet_id, date DESC"),
+    @Index(name = "idx_transactions_user_category_date", columnList = "user_id, category_id, date DESC")
 })
 @Data
 @NoArgsConstructor
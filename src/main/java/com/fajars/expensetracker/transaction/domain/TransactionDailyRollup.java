@@ -0,0 +1,51 @@
+package com.fajars.expensetracker.transaction.domain;
+
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Sum and count of transactions per (user, wallet, category, type, day).
+ *
+ * <p>Read-only from JPA: rows are written with native upserts by
+ * {@code TransactionRollupRecorder} so concurrent writes to the same day never race.
+ */
+@Entity
+@Immutable
+@IdClass(TransactionDailyRollupId.class)
+@Table(name = "transaction_daily_rollups")
+@Getter
+@NoArgsConstructor
+public class TransactionDailyRollup {
+    @Id
+    @Column(name = "user_id", columnDefinition = "uuid")
+    private UUID userId;
+
+    @Id
+    @Column(name = "wallet_id", columnDefinition = "uuid")
+    private UUID walletId;
+
+    @Id
+    @Column(name = "category_id", columnDefinition = "uuid")
+    private UUID categoryId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Id
+    @Column(name = "local_day")
+    private LocalDate localDay;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+}
@@ -0,0 +1,23 @@
+package com.fajars.expensetracker.transaction.domain;
+
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite key of {@link TransactionDailyRollup}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionDailyRollupId implements Serializable {
+    private UUID userId;
+    private UUID walletId;
+    private UUID categoryId;
+    private TransactionType type;
+    private LocalDate localDay;
+}
@@ -0,0 +1,291 @@
+package com.fajars.expensetracker.transaction.domain;
+
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import com.fajars.expensetracker.transaction.projection.CategoryBreakdown;
+import com.fajars.expensetracker.transaction.projection.FinancialSummaryRow;
+import com.fajars.expensetracker.transaction.projection.TrendData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reporting reads and incremental writes for the daily transaction rollup.
+ * Report ranges are whole days: both bounds are inclusive {@code local_day} values.
+ */
+@Repository
+public interface TransactionDailyRollupRepository
+    extends JpaRepository<TransactionDailyRollup, TransactionDailyRollupId> {
+
+    // ===== INCREMENTAL MAINTENANCE =====
+
+    /**
+     * Add a signed amount/count delta to one rollup row, creating it if needed.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO transaction_daily_rollups
+            (user_id, wallet_id, category_id, type, local_day, total_amount, transaction_count)
+        VALUES (:userId, :walletId, :categoryId, :type, :localDay, :amount, :count)
+        ON CONFLICT (user_id, wallet_id, category_id, type, local_day) DO UPDATE
+        SET total_amount = transaction_daily_rollups.total_amount + EXCLUDED.total_amount,
+            transaction_count = transaction_daily_rollups.transaction_count + EXCLUDED.transaction_count
+        """, nativeQuery = true)
+    int applyDelta(
+        @Param("userId") UUID userId,
+        @Param("walletId") UUID walletId,
+        @Param("categoryId") UUID categoryId,
+        @Param("type") String type,
+        @Param("localDay") LocalDate localDay,
+        @Param("amount") BigDecimal amount,
+        @Param("count") long count
+    );
+
+    /**
+     * Drop a rollup row once its last transaction was removed.
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM transaction_daily_rollups
+        WHERE user_id = :userId AND wallet_id = :walletId AND category_id = :categoryId
+            AND type = :type AND local_day = :localDay AND transaction_count <= 0
+        """, nativeQuery = true)
+    int deleteIfEmpty(
+        @Param("userId") UUID userId,
+        @Param("walletId") UUID walletId,
+        @Param("categoryId") UUID categoryId,
+        @Param("type") String type,
+        @Param("localDay") LocalDate localDay
+    );
+
+    // ===== BACKFILL =====
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_daily_rollups", nativeQuery = true)
+    int deleteAllRollups();
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_daily_rollups WHERE user_id = :userId", nativeQuery = true)
+    int deleteRollupsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Re-aggregate every transaction into the rollup table. Run after {@link #deleteAllRollups()}.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO transaction_daily_rollups
+            (user_id, wallet_id, category_id, type, local_day, total_amount, transaction_count)
+        SELECT t.user_id, t.wallet_id, t.category_id, t.type, CAST(t.date AS DATE),
+               COALESCE(SUM(t.amount), 0), COUNT(*)
+        FROM transactions t
+        WHERE t.user_id IS NOT NULL AND t.wallet_id IS NOT NULL AND t.category_id IS NOT NULL
+            AND t.type IS NOT NULL AND t.date IS NOT NULL
+        GROUP BY t.user_id, t.wallet_id, t.category_id, t.type, CAST(t.date AS DATE)
+        """, nativeQuery = true)
+    int insertAllRollups();
+
+    /**
+     * Re-aggregate one user's transactions. Run after {@link #deleteRollupsByUserId(UUID)}.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO transaction_daily_rollups
+            (user_id, wallet_id, category_id, type, local_day, total_amount, transaction_count)
+        SELECT t.user_id, t.wallet_id, t.category_id, t.type, CAST(t.date AS DATE),
+               COALESCE(SUM(t.amount), 0), COUNT(*)
+        FROM transactions t
+        WHERE t.user_id = :userId AND t.wallet_id IS NOT NULL AND t.category_id IS NOT NULL
+            AND t.type IS NOT NULL AND t.date IS NOT NULL
+        GROUP BY t.user_id, t.wallet_id, t.category_id, t.type, CAST(t.date AS DATE)
+        """, nativeQuery = true)
+    int insertRollupsByUserId(@Param("userId") UUID userId);
+
+    // ===== REPORTING QUERIES =====
+
+    /**
+     * Placeholder bound to {@code IN (...)} when a filter is off, an empty list cannot be bound.
+     */
+    List<UUID> NO_IDS = List.of(new UUID(0L, 0L));
+
+    /**
+     * Financial summary in one statement: overall totals, per-type per-category totals and
+     * per-wallet movement come from one GROUPING SETS pass over the rollup. Every wallet of the
+     * user (or of the wallet filter) is returned, also without movement in the range.
+     * Empty ID lists mean no filter.
+     *
+     * @see FinancialSummaryRow for the row types
+     */
+    default List<FinancialSummaryRow> getFinancialSummary(
+        UUID userId, LocalDate startDay, LocalDate endDay, List<UUID> walletIds, List<UUID> categoryIds
+    ) {
+        return getFinancialSummaryRows(
+            userId, startDay, endDay,
+            !walletIds.isEmpty(), walletIds.isEmpty() ? NO_IDS : walletIds,
+            !categoryIds.isEmpty(), categoryIds.isEmpty() ? NO_IDS : categoryIds
+        );
+    }
+
+    @Query(value = """
+        WITH grouped AS (
+            SELECT
+                CASE
+                    WHEN GROUPING(r.category_id) = 0 THEN 'CATEGORY'
+                    WHEN GROUPING(r.wallet_id) = 0 THEN 'WALLET'
+                    ELSE 'TOTAL'
+                END AS row_type,
+                r.type,
+                r.category_id,
+                r.wallet_id,
+                COALESCE(SUM(CASE WHEN r.type = 'INCOME' THEN r.total_amount ELSE 0 END), 0) AS total_income,
+                COALESCE(SUM(CASE WHEN r.type = 'EXPENSE' THEN r.total_amount ELSE 0 END), 0) AS total_expense,
+                CAST(COALESCE(SUM(r.transaction_count), 0) AS BIGINT) AS transaction_count
+            FROM transaction_daily_rollups r
+            WHERE r.user_id = :userId
+                AND r.local_day BETWEEN :startDay AND :endDay
+                AND (:filterWallets = FALSE OR r.wallet_id IN (:walletIds))
+                AND (:filterCategories = FALSE OR r.category_id IN (:categoryIds))
+            GROUP BY GROUPING SETS ((), (r.type, r.category_id), (r.wallet_id))
+        )
+        SELECT * FROM (
+            SELECT 'TOTAL' AS "rowType", CAST(NULL AS VARCHAR) AS type, CAST(NULL AS UUID) AS "refId",
+                   CAST(NULL AS VARCHAR) AS name, CAST(NULL AS VARCHAR) AS currency,
+                   g.total_income AS "totalIncome", g.total_expense AS "totalExpense",
+                   g.transaction_count AS "transactionCount", CAST(NULL AS NUMERIC) AS "currentBalance"
+            FROM grouped g
+            WHERE g.row_type = 'TOTAL'
+            UNION ALL
+            SELECT 'CATEGORY', g.type, c.id, c.name, NULL,
+                   g.total_income, g.total_expense, g.transaction_count, NULL
+            FROM grouped g
+            JOIN categories c ON c.id = g.category_id
+            WHERE g.row_type = 'CATEGORY'
+            UNION ALL
+            SELECT 'WALLET', NULL, w.id, w.name, w.currency,
+                   COALESCE(g.total_income, 0), COALESCE(g.total_expense, 0), COALESCE(g.transaction_count, 0),
+                   COALESCE(w.initial_balance, 0) + w.total_income - w.total_expense
+            FROM wallets w
+            LEFT JOIN grouped g ON g.wallet_id = w.id AND g.row_type = 'WALLET'
+            WHERE w.user_id = :userId
+                AND (:filterWallets = FALSE OR w.id IN (:walletIds))
+        ) summary
+        ORDER BY summary."rowType", summary."totalIncome" + summary."totalExpense" DESC, summary.name
+        """, nativeQuery = true)
+    List<FinancialSummaryRow> getFinancialSummaryRows(
+        @Param("userId") UUID userId,
+        @Param("startDay") LocalDate startDay,
+        @Param("endDay") LocalDate endDay,
+        @Param("filterWallets") boolean filterWallets,
+        @Param("walletIds") List<UUID> walletIds,
+        @Param("filterCategories") boolean filterCategories,
+        @Param("categoryIds") List<UUID> categoryIds
+    );
+
+    /**
+     * Category totals and counts for a day range, highest amount first.
+     */
+    @Query("""
+        SELECT
+            c.id as categoryId,
+            c.name as categoryName,
+            r.type as type,
+            COALESCE(SUM(r.totalAmount), 0) as totalAmount,
+            COALESCE(SUM(r.transactionCount), 0) as transactionCount
+        FROM TransactionDailyRollup r
+        JOIN Category c ON c.id = r.categoryId
+        WHERE r.userId = :userId
+            AND r.localDay >= :startDay
+            AND r.localDay <= :endDay
+            AND r.type = :type
+            AND (:walletIds IS NULL OR r.walletId IN :walletIds)
+        GROUP BY c.id, c.name, r.type
+        ORDER BY SUM(r.totalAmount) DESC
+    """)
+    List<CategoryBreakdown> getCategoryBreakdown(
+        @Param("userId") UUID userId,
+        @Param("startDay") LocalDate startDay,
+        @Param("endDay") LocalDate endDay,
+        @Param("type") TransactionType type,
+        @Param("walletIds") List<UUID> walletIds
+    );
+
+    /**
+     * Daily income/expense for a day range, most recent day first. Days without
+     * transactions are not returned.
+     */
+    @Query("""
+        SELECT
+            r.localDay as date,
+            COALESCE(SUM(CASE WHEN r.type = 'INCOME' THEN r.totalAmount ELSE 0 END), 0) as totalIncome,
+            COALESCE(SUM(CASE WHEN r.type = 'EXPENSE' THEN r.totalAmount ELSE 0 END), 0) as totalExpense
+        FROM TransactionDailyRollup r
+        WHERE r.userId = :userId
+            AND r.localDay >= :startDay
+            AND r.localDay <= :endDay
+            AND (:walletIds IS NULL OR r.walletId IN :walletIds)
+        GROUP BY r.localDay
+        ORDER BY r.localDay DESC
+    """)
+    List<TrendData> getTrendData(
+        @Param("userId") UUID userId,
+        @Param("startDay") LocalDate startDay,
+        @Param("endDay") LocalDate endDay,
+        @Param("walletIds") List<UUID> walletIds
+    );
+
+    /**
+     * Income/expense per period for a day range, most recent period first. Periods are
+     * date_trunc buckets ('day', 'week' or 'month') generated by generate_series, so exactly one
+     * row is returned per period, zero when it has no transactions. A period is labelled with
+     * its first day, which may lie before {@code startDay}; only days within the range count.
+     * An empty wallet list means no filter.
+     */
+    default List<TrendData> getTrendBuckets(
+        UUID userId, LocalDate startDay, LocalDate endDay, String unit, List<UUID> walletIds
+    ) {
+        return getTrendBucketRows(
+            userId, startDay, endDay, unit, !walletIds.isEmpty(), walletIds.isEmpty() ? NO_IDS : walletIds);
+    }
+
+    @Query(value = """
+        WITH buckets AS (
+            SELECT CAST(period AS DATE) AS period_start
+            FROM generate_series(
+                date_trunc(:unit, CAST(:startDay AS TIMESTAMP)),
+                date_trunc(:unit, CAST(:endDay AS TIMESTAMP)),
+                CAST('1 ' || :unit AS INTERVAL)
+            ) AS period
+        ),
+        totals AS (
+            SELECT
+                CAST(date_trunc(:unit, CAST(r.local_day AS TIMESTAMP)) AS DATE) AS period_start,
+                SUM(CASE WHEN r.type = 'INCOME' THEN r.total_amount ELSE 0 END) AS total_income,
+                SUM(CASE WHEN r.type = 'EXPENSE' THEN r.total_amount ELSE 0 END) AS total_expense
+            FROM transaction_daily_rollups r
+            WHERE r.user_id = :userId
+                AND r.local_day BETWEEN :startDay AND :endDay
+                AND (:filterWallets = FALSE OR r.wallet_id IN (:walletIds))
+            GROUP BY 1
+        )
+        SELECT
+            b.period_start AS date,
+            COALESCE(t.total_income, 0) AS "totalIncome",
+            COALESCE(t.total_expense, 0) AS "totalExpense"
+        FROM buckets b
+        LEFT JOIN totals t ON t.period_start = b.period_start
+        ORDER BY b.period_start DESC
+        """, nativeQuery = true)
+    List<TrendData> getTrendBucketRows(
+        @Param("userId") UUID userId,
+        @Param("startDay") LocalDate startDay,
+        @Param("endDay") LocalDate endDay,
+        @Param("unit") String unit,
+        @Param("filterWallets") boolean filterWallets,
+        @Param("walletIds") List<UUID> walletIds
+    );
+}
@@ -0,0 +1,41 @@
+package com.fajars.expensetracker.transaction.domain;
+
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Filter criteria for transaction queries built by {@link TransactionQueryRepository}.
+ *
+ * <p>Only supplied criteria become SQL predicates, so each filter combination gets its own
+ * index-friendly plan instead of one generic {@code x = COALESCE(:p, x)} plan.
+ * Empty wallet/category lists mean "no filter".
+ */
+@Builder
+public record TransactionQuery(
+    UUID userId,
+    List<UUID> walletIds,
+    List<UUID> categoryIds,
+    TransactionType type,
+    LocalDateTime fromDate,
+    LocalDateTime toDate
+) {
+
+    public TransactionQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId is required");
+        }
+        walletIds = walletIds == null ? List.of() : List.copyOf(walletIds);
+        categoryIds = categoryIds == null ? List.of() : List.copyOf(categoryIds);
+    }
+
+    public boolean hasWalletFilter() {
+        return !walletIds.isEmpty();
+    }
+
+    public boolean hasCategoryFilter() {
+        return !categoryIds.isEmpty();
+    }
+}
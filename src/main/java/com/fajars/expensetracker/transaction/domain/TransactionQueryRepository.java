@@ -0,0 +1,45 @@
+package com.fajars.expensetracker.transaction.domain;
+
+import com.fajars.expensetracker.transaction.projection.TransactionExportRow;
+import com.fajars.expensetracker.transaction.projection.TransactionSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Dynamic transaction queries. Implemented with JPA Criteria in
+ * {@link TransactionQueryRepositoryImpl} and mixed into the Spring Data repositories.
+ */
+public interface TransactionQueryRepository {
+
+    /**
+     * Offset page of transactions (wallet and category fetched), ordered by the pageable sort.
+     * The count query is skipped when the page is the first and only page.
+     */
+    Page<Transaction> findByQuery(TransactionQuery query, Pageable pageable);
+
+    /**
+     * Keyset page ordered by (date DESC, id DESC). Rows strictly after the cursor when
+     * afterDate/afterId are given, otherwise from the newest transaction.
+     */
+    List<Transaction> scrollByQuery(TransactionQuery query, LocalDateTime afterDate, UUID afterId, int limit);
+
+    /**
+     * Income/expense totals and transaction count for the filtered set.
+     */
+    TransactionSummary getTotalsByQuery(TransactionQuery query);
+
+    /**
+     * Flat export rows ordered by date DESC, without entity hydration.
+     */
+    List<TransactionExportRow> exportByQuery(TransactionQuery query, Pageable pageable);
+
+    /**
+     * Same rows as {@link #exportByQuery} read through a forward-only JDBC cursor, at most
+     * {@code limit} rows. Must be consumed and closed inside a transaction.
+     */
+    Stream<TransactionExportRow> streamByQuery(TransactionQuery query, int limit);
+}
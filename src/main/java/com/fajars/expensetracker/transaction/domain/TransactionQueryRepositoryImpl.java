@@ -0,0 +1,230 @@
+package com.fajars.expensetracker.transaction.domain;
+
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import com.fajars.expensetracker.transaction.projection.TransactionExportRow;
+import com.fajars.expensetracker.transaction.projection.TransactionSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * JPA Criteria implementation of {@link TransactionQueryRepository}.
+ *
+ * <p>Predicates are emitted only for criteria that are actually set: a wallet filter becomes
+ * {@code wallet_id = ?} (or {@code wallet_id IN (...)} for several wallets), an absent filter
+ * produces no SQL at all. Postgres can then pick idx_transactions_user_wallet_date,
+ * idx_transactions_user_category_date or idx_transactions_user_date per request.
+ */
+public class TransactionQueryRepositoryImpl implements TransactionQueryRepository {
+
+    /**
+     * Rows per round trip when streaming. The Postgres driver only uses a server-side cursor
+     * when a fetch size is set and autocommit is off (i.e. inside a transaction).
+     */
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Transaction> findByQuery(TransactionQuery query, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> cq = cb.createQuery(Transaction.class);
+        Root<Transaction> root = cq.from(Transaction.class);
+        root.fetch("wallet", JoinType.LEFT);
+        root.fetch("category", JoinType.LEFT);
+
+        cq.select(root)
+            .where(toPredicates(query, cb, root))
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Transaction> typedQuery = entityManager.createQuery(cq);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(query));
+    }
+
+    @Override
+    public List<Transaction> scrollByQuery(
+        TransactionQuery query, LocalDateTime afterDate, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> cq = cb.createQuery(Transaction.class);
+        Root<Transaction> root = cq.from(Transaction.class);
+        root.fetch("wallet", JoinType.LEFT);
+        root.fetch("category", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>(List.of(toPredicates(query, cb, root)));
+        if (afterDate != null && afterId != null) {
+            Path<LocalDateTime> date = root.get("date");
+            Path<UUID> id = root.get("id");
+            predicates.add(cb.or(
+                cb.lessThan(date, afterDate),
+                cb.and(cb.equal(date, afterDate), cb.lessThan(id, afterId))
+            ));
+        }
+
+        cq.select(root)
+            .where(predicates.toArray(Predicate[]::new))
+            .orderBy(cb.desc(root.get("date")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(cq)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public TransactionSummary getTotalsByQuery(TransactionQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Transaction> root = cq.from(Transaction.class);
+
+        Expression<Double> amount = root.get("amount");
+        Expression<Double> income = cb.<Double>selectCase()
+            .when(cb.equal(root.get("type"), TransactionType.INCOME), amount)
+            .otherwise(0.0);
+        Expression<Double> expense = cb.<Double>selectCase()
+            .when(cb.equal(root.get("type"), TransactionType.EXPENSE), amount)
+            .otherwise(0.0);
+
+        cq.multiselect(cb.sum(income), cb.sum(expense), cb.count(root))
+            .where(toPredicates(query, cb, root));
+
+        Tuple tuple = entityManager.createQuery(cq).getSingleResult();
+        return new Totals(
+            toBigDecimal(tuple.get(0, Number.class)),
+            toBigDecimal(tuple.get(1, Number.class)),
+            tuple.get(2, Long.class)
+        );
+    }
+
+    @Override
+    public List<TransactionExportRow> exportByQuery(TransactionQuery query, Pageable pageable) {
+        TypedQuery<TransactionExportRow> typedQuery = entityManager.createQuery(exportCriteria(query));
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public Stream<TransactionExportRow> streamByQuery(TransactionQuery query, int limit) {
+        return entityManager.createQuery(exportCriteria(query))
+            .setMaxResults(limit)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+
+    private CriteriaQuery<TransactionExportRow> exportCriteria(TransactionQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionExportRow> cq = cb.createQuery(TransactionExportRow.class);
+        Root<Transaction> root = cq.from(Transaction.class);
+        Join<Transaction, ?> wallet = root.join("wallet", JoinType.INNER);
+        Join<Transaction, ?> category = root.join("category", JoinType.LEFT);
+
+        return cq.select(cb.construct(
+                TransactionExportRow.class,
+                root.get("id"),
+                root.get("date"),
+                root.get("amount"),
+                root.get("type"),
+                wallet.get("name"),
+                category.get("name"),
+                root.get("note")
+            ))
+            .where(toPredicates(query, cb, root))
+            .orderBy(cb.desc(root.get("date")), cb.desc(root.get("id")));
+    }
+
+    private long count(TransactionQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Transaction> root = cq.from(Transaction.class);
+
+        cq.select(cb.count(root))
+            .where(toPredicates(query, cb, root));
+
+        return entityManager.createQuery(cq).getSingleResult();
+    }
+
+    /**
+     * Build only the predicates that were supplied. Filters use the FK columns directly
+     * (wallet.id / category.id), so no join is needed for filtering.
+     */
+    private Predicate[] toPredicates(TransactionQuery query, CriteriaBuilder cb, Root<Transaction> root) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("user").get("id"), query.userId()));
+
+        if (query.hasWalletFilter()) {
+            predicates.add(idPredicate(cb, root.get("wallet").get("id"), query.walletIds()));
+        }
+        if (query.hasCategoryFilter()) {
+            predicates.add(idPredicate(cb, root.get("category").get("id"), query.categoryIds()));
+        }
+        if (query.type() != null) {
+            predicates.add(cb.equal(root.get("type"), query.type()));
+        }
+        if (query.fromDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("date"), query.fromDate()));
+        }
+        if (query.toDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("date"), query.toDate()));
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private Predicate idPredicate(CriteriaBuilder cb, Path<Object> path, List<UUID> ids) {
+        return ids.size() == 1 ? cb.equal(path, ids.getFirst()) : path.in(ids);
+    }
+
+    private BigDecimal toBigDecimal(Number value) {
+        return value == null ? BigDecimal.ZERO : BigDecimal.valueOf(value.doubleValue());
+    }
+
+    private record Totals(
+        BigDecimal totalIncome,
+        BigDecimal totalExpense,
+        Long transactionCount
+    ) implements TransactionSummary {
+
+        @Override
+        public BigDecimal getTotalIncome() {
+            return totalIncome;
+        }
+
+        @Override
+        public BigDecimal getTotalExpense() {
+            return totalExpense;
+        }
+
+        @Override
+        public Long getTransactionCount() {
+            return transactionCount;
+        }
+    }
+}
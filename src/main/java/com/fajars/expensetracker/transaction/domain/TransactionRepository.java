@@ -1,23 +1,23 @@
 package com.fajars.expensetracker.transaction.domain;
 
-import com.fajars.expensetracker.transaction.api.TransactionType;
-import com.fajars.expensetracker.transaction.projection.CategoryBreakdown;
-import com.fajars.expensetracker.transaction.projection.TransactionSummary;
-import com.fajars.expensetracker.transaction.projection.TrendData;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+public interface TransactionRepository extends JpaRepository<Transaction, UUID>, TransactionQueryRepository {
 
     /**
      * Find transaction by ID and user ID for security check
@@ -28,66 +28,15 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
            "WHERE t.id = :id AND t.user.id = :userId")
     Optional<Transaction> findByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 
-
-    @Query(
-        value = """
-        SELECT DISTINCT t FROM Transaction t
-        LEFT JOIN FETCH t.wallet w
-        LEFT JOIN FETCH t.category c
-        WHERE t.user.id = :userId
-          AND (w.id = COALESCE(:walletId, w.id))
-          AND (c.id = COALESCE(:categoryId, c.id))
-          AND (t.type = COALESCE(:type, t.type))
-          AND (t.date >= COALESCE(:fromDate, t.date))
-          AND (t.date <= COALESCE(:toDate, t.date))
-        ORDER BY t.date DESC
-        """,
-        countQuery = """
-        SELECT COUNT(DISTINCT t) FROM Transaction t
-        WHERE t.user.id = :userId
-          AND (t.wallet.id = COALESCE(:walletId, t.wallet.id))
-          AND (t.category.id = COALESCE(:categoryId, t.category.id))
-          AND (t.type = COALESCE(:type, t.type))
-          AND (t.date >= COALESCE(:fromDate, t.date))
-          AND (t.date <= COALESCE(:toDate, t.date))
-        """
-    )
-    Page<Transaction> findByUserIdWithFilters(
-        @Param("userId") UUID userId,
-        @Param("walletId") UUID walletId,
-        @Param("categoryId") UUID categoryId,
-        @Param("type") TransactionType type,
-        @Param("fromDate") LocalDateTime fromDate,
-        @Param("toDate") LocalDateTime toDate,
-        Pageable pageable
-    );
-
     /**
-     * Calculate total income and expense for filtered transactions.
-     * This is optimized to run alongside findByUserIdWithFilters without fetching all entities.
+     * Find transaction by ID and user ID and lock its row until the transaction ends.
+     * Update and delete use it, so concurrent edits of one transaction run one after another
+     * and each reverses the amount the previous one left in the wallet totals and daily rollup.
+     * Wallet and category are not fetch-joined, so only the transaction row is locked.
      */
-    @Query("""
-        SELECT
-            COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0) as totalIncome,
-            COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0) as totalExpense,
-            COUNT(t) as transactionCount
-        FROM Transaction t
-        WHERE t.user.id = :userId
-          AND (t.wallet.id = COALESCE(:walletId, t.wallet.id))
-          AND (t.category.id = COALESCE(:categoryId, t.category.id))
-          AND (t.type = COALESCE(:type, t.type))
-          AND (t.date >= COALESCE(:fromDate, t.date))
-          AND (t.date <= COALESCE(:toDate, t.date))
-    """)
-    TransactionSummary getTotalsByFilters(
-        @Param("userId") UUID userId,
-        @Param("walletId") UUID walletId,
-        @Param("categoryId") UUID categoryId,
-        @Param("type") TransactionType type,
-        @Param("fromDate") LocalDateTime fromDate,
-        @Param("toDate") LocalDateTime toDate
-    );
-
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.id = :id AND t.user.id = :userId")
+    Optional<Transaction> findForUpdateByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 
 
     /**
@@ -141,83 +90,174 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
             @Param("endDate") LocalDateTime endDate
     );
 
-    // ===== REPORTING QUERIES =====
+    // ===== BULK REMOVAL (one chunk per call, see TransactionBulkOperations) =====
 
     /**
-     * Get total income/expense summary for a date range.
-     * Optimized for reporting - returns aggregated data.
+     * Delete up to {@code limit} transactions of a wallet in one statement. The wallet ledger
+     * totals and the daily rollup are reduced by the deleted rows in the same statement, so
+     * every committed chunk leaves them consistent.
+     *
+     * @return number of deleted transactions
      */
-    @Query("""
-        SELECT
-            COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0) as totalIncome,
-            COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0) as totalExpense,
-            COUNT(t) as transactionCount
-        FROM Transaction t
-        WHERE t.user.id = :userId
-            AND t.date >= :startDate
-            AND t.date <= :endDate
-            AND (:walletIds IS NULL OR t.wallet.id IN :walletIds)
-    """)
-    TransactionSummary getSummaryByDateRange(
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+        WITH doomed AS (
+            SELECT t.id, t.date FROM transactions t
+            WHERE t.user_id = :userId AND t.wallet_id = :walletId
+            LIMIT :limit
+        ),
+        deleted AS (
+            DELETE FROM transactions t USING doomed d
+            WHERE t.id = d.id AND t.date = d.date
+            RETURNING t.user_id, t.wallet_id, t.category_id, t.type, t.date, t.amount
+        ),
+        ledger AS (
+            UPDATE wallets w
+            SET total_income = w.total_income - agg.income,
+                total_expense = w.total_expense - agg.expense
+            FROM (
+                SELECT d.wallet_id,
+                       COALESCE(SUM(CASE WHEN d.type = 'INCOME' THEN d.amount END), 0) AS income,
+                       COALESCE(SUM(CASE WHEN d.type = 'EXPENSE' THEN d.amount END), 0) AS expense
+                FROM deleted d
+                GROUP BY d.wallet_id
+            ) agg
+            WHERE w.id = agg.wallet_id
+        ),
+        rollup AS (
+            UPDATE transaction_daily_rollups r
+            SET total_amount = r.total_amount - agg.amount,
+                transaction_count = r.transaction_count - agg.count
+            FROM (
+                SELECT d.user_id, d.wallet_id, d.category_id, d.type, CAST(d.date AS DATE) AS local_day,
+                       SUM(d.amount) AS amount, COUNT(*) AS count
+                FROM deleted d
+                GROUP BY d.user_id, d.wallet_id, d.category_id, d.type, CAST(d.date AS DATE)
+            ) agg
+            WHERE r.user_id = agg.user_id AND r.wallet_id = agg.wallet_id AND r.category_id = agg.category_id
+                AND r.type = agg.type AND r.local_day = agg.local_day
+        )
+        SELECT COUNT(*) FROM deleted
+        """, nativeQuery = true)
+    int deleteChunkByWalletId(
         @Param("userId") UUID userId,
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate,
-        @Param("walletIds") List<UUID> walletIds
+        @Param("walletId") UUID walletId,
+        @Param("limit") int limit
     );
 
     /**
-     * Get category breakdown for reports.
-     * Groups transactions by category with totals and counts.
+     * Delete up to {@code limit} transactions of a category in one statement, reducing the
+     * ledger totals of the affected wallets and the daily rollup like
+     * {@link #deleteChunkByWalletId(UUID, UUID, int)}.
+     *
+     * @return number of deleted transactions
      */
-    @Query("""
-        SELECT
-            c.id as categoryId,
-            c.name as categoryName,
-            t.type as type,
-            COALESCE(SUM(t.amount), 0) as totalAmount,
-            COUNT(t) as transactionCount
-        FROM Transaction t
-        JOIN t.category c
-        WHERE t.user.id = :userId
-            AND t.date >= :startDate
-            AND t.date <= :endDate
-            AND t.type = :type
-            AND (:walletIds IS NULL OR t.wallet.id IN :walletIds)
-        GROUP BY c.id, c.name, t.type
-        ORDER BY SUM(t.amount) DESC
-    """)
-    List<CategoryBreakdown> getCategoryBreakdown(
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+        WITH doomed AS (
+            SELECT t.id, t.date FROM transactions t
+            WHERE t.user_id = :userId AND t.category_id = :categoryId
+            LIMIT :limit
+        ),
+        deleted AS (
+            DELETE FROM transactions t USING doomed d
+            WHERE t.id = d.id AND t.date = d.date
+            RETURNING t.user_id, t.wallet_id, t.category_id, t.type, t.date, t.amount
+        ),
+        ledger AS (
+            UPDATE wallets w
+            SET total_income = w.total_income - agg.income,
+                total_expense = w.total_expense - agg.expense
+            FROM (
+                SELECT d.wallet_id,
+                       COALESCE(SUM(CASE WHEN d.type = 'INCOME' THEN d.amount END), 0) AS income,
+                       COALESCE(SUM(CASE WHEN d.type = 'EXPENSE' THEN d.amount END), 0) AS expense
+                FROM deleted d
+                GROUP BY d.wallet_id
+            ) agg
+            WHERE w.id = agg.wallet_id
+        ),
+        rollup AS (
+            UPDATE transaction_daily_rollups r
+            SET total_amount = r.total_amount - agg.amount,
+                transaction_count = r.transaction_count - agg.count
+            FROM (
+                SELECT d.user_id, d.wallet_id, d.category_id, d.type, CAST(d.date AS DATE) AS local_day,
+                       SUM(d.amount) AS amount, COUNT(*) AS count
+                FROM deleted d
+                GROUP BY d.user_id, d.wallet_id, d.category_id, d.type, CAST(d.date AS DATE)
+            ) agg
+            WHERE r.user_id = agg.user_id AND r.wallet_id = agg.wallet_id AND r.category_id = agg.category_id
+                AND r.type = agg.type AND r.local_day = agg.local_day
+        )
+        SELECT COUNT(*) FROM deleted
+        """, nativeQuery = true)
+    int deleteChunkByCategoryId(
         @Param("userId") UUID userId,
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate,
-        @Param("type") TransactionType type,
-        @Param("walletIds") List<UUID> walletIds
+        @Param("categoryId") UUID categoryId,
+        @Param("limit") int limit
     );
 
     /**
-     * Get trend data for charts (grouped by date).
-     * Returns daily income/expense for the specified period.
+     * Move up to {@code limit} transactions from one category to another in one statement.
+     * Their rollup amounts move to the target category's rows in the same statement; wallet
+     * totals do not change. Both categories must have the same type.
+     *
+     * @return number of moved transactions
      */
-    @Query("""
-        SELECT
-            CAST(t.date AS date) as date,
-            COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0) as totalIncome,
-            COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0) as totalExpense
-        FROM Transaction t
-        WHERE t.user.id = :userId
-            AND t.date >= :startDate
-            AND t.date <= :endDate
-            AND (:walletIds IS NULL OR t.wallet.id IN :walletIds)
-        GROUP BY CAST(t.date AS date)
-        ORDER BY CAST(t.date AS date) DESC
-    """)
-    List<TrendData> getTrendData(
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+        WITH chunk AS (
+            SELECT t.id, t.date FROM transactions t
+            WHERE t.user_id = :userId AND t.category_id = :fromCategoryId
+            LIMIT :limit
+        ),
+        moved AS (
+            UPDATE transactions t SET category_id = :toCategoryId
+            FROM chunk c
+            WHERE t.id = c.id AND t.date = c.date
+            RETURNING t.user_id, t.wallet_id, t.type, t.date, t.amount
+        ),
+        agg AS (
+            SELECT m.user_id, m.wallet_id, m.type, CAST(m.date AS DATE) AS local_day,
+                   SUM(m.amount) AS amount, COUNT(*) AS count
+            FROM moved m
+            GROUP BY m.user_id, m.wallet_id, m.type, CAST(m.date AS DATE)
+        ),
+        source_rollup AS (
+            UPDATE transaction_daily_rollups r
+            SET total_amount = r.total_amount - agg.amount,
+                transaction_count = r.transaction_count - agg.count
+            FROM agg
+            WHERE r.user_id = agg.user_id AND r.wallet_id = agg.wallet_id AND r.category_id = :fromCategoryId
+                AND r.type = agg.type AND r.local_day = agg.local_day
+        ),
+        target_rollup AS (
+            INSERT INTO transaction_daily_rollups
+                (user_id, wallet_id, category_id, type, local_day, total_amount, transaction_count)
+            SELECT agg.user_id, agg.wallet_id, :toCategoryId, agg.type, agg.local_day, agg.amount, agg.count
+            FROM agg
+            ON CONFLICT (user_id, wallet_id, category_id, type, local_day) DO UPDATE
+            SET total_amount = transaction_daily_rollups.total_amount + EXCLUDED.total_amount,
+                transaction_count = transaction_daily_rollups.transaction_count + EXCLUDED.transaction_count
+        )
+        SELECT COUNT(*) FROM moved
+        """, nativeQuery = true)
+    int reassignChunkToCategory(
         @Param("userId") UUID userId,
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate,
-        @Param("walletIds") List<UUID> walletIds
+        @Param("fromCategoryId") UUID fromCategoryId,
+        @Param("toCategoryId") UUID toCategoryId,
+        @Param("limit") int limit
     );
 
+    /**
+     * Create the monthly partition containing the given day if missing (see V9 migration).
+     *
+     * @return true when a partition was created
+     */
+    @Query(value = "SELECT ensure_transactions_partition(:monthStart)", nativeQuery = true)
+    boolean createMonthlyPartition(@Param("monthStart") LocalDate monthStart);
+
     List<Transaction> findTopNByUserIdAndDateBeforeOrderByDateDesc(
     UUID userId,
     LocalDateTime lastDate,
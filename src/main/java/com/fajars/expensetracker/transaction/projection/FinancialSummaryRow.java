@@ -0,0 +1,28 @@
+package com.fajars.expensetracker.transaction.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projection interface for one row of the single-pass financial summary.
+ * The row type tells which columns are set:
+ * - TOTAL: income, expense and count over the whole filter (exactly one row)
+ * - CATEGORY: type, category id/name, income or expense and count of the category
+ * - WALLET: wallet id/name/currency, income, expense and count in the period, current balance
+ */
+public interface FinancialSummaryRow {
+
+    String TOTAL = "TOTAL";
+    String CATEGORY = "CATEGORY";
+    String WALLET = "WALLET";
+
+    String getRowType();
+    String getType();
+    UUID getRefId();
+    String getName();
+    String getCurrency();
+    BigDecimal getTotalIncome();
+    BigDecimal getTotalExpense();
+    Long getTransactionCount();
+    BigDecimal getCurrentBalance();
+}
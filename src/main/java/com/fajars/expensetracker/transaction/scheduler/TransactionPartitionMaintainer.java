@@ -0,0 +1,91 @@
+package com.fajars.expensetracker.transaction.scheduler;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.transaction.domain.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Scheduled job to pre-create monthly partitions of the transactions table.
+ *
+ * <p>transactions is range-partitioned by month on {@code date} (V9 migration). Dates without
+ * a partition land in transactions_default; this job keeps the current month and the next
+ * {@code app.transaction.partition.months-ahead} months ready so that never happens for
+ * normal traffic.
+ *
+ * <p><b>Execution Schedule:</b> on startup and daily at 03:00 Asia/Jakarta.
+ *
+ * <p><b>Monitoring:</b>
+ * - Metrics: transaction.partition.created (counter), transaction.partition.maintenance_duration
+ * - Logs: INFO for each created partition
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionPartitionMaintainer {
+
+    private static final ZoneId JAKARTA_ZONE = ZoneId.of("Asia/Jakarta");
+
+    private final TransactionRepository transactionRepository;
+    private final MetricsService metricsService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.transaction.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    /**
+     * Create missing partitions on startup, before the first scheduled run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensureFuturePartitions();
+    }
+
+    /**
+     * Ensure partitions exist from the current month up to {@code monthsAhead} months ahead.
+     * Idempotent - existing partitions are left untouched.
+     *
+     * @return number of partitions created
+     */
+    @Scheduled(cron = "${app.transaction.partition.maintenance-cron:0 0 3 * * *}", zone = "Asia/Jakarta")
+    public int ensureFuturePartitions() {
+        long startTime = System.currentTimeMillis();
+        LocalDate currentMonth = LocalDate.now(JAKARTA_ZONE).withDayOfMonth(1);
+
+        try {
+            // Explicit template: the startup hook calls this method directly, past any proxy
+            Integer created = new TransactionTemplate(transactionManager).execute(status -> {
+                int count = 0;
+                for (int i = 0; i <= monthsAhead; i++) {
+                    LocalDate month = currentMonth.plusMonths(i);
+                    if (transactionRepository.createMonthlyPartition(month)) {
+                        log.info("Created transactions partition for {}", month);
+                        count++;
+                    }
+                }
+                return count;
+            });
+
+            if (created != null && created > 0) {
+                metricsService.incrementCounterBy("transaction.partition.created", created);
+            }
+            metricsService.recordTimer("transaction.partition.maintenance_duration", startTime);
+            return created == null ? 0 : created;
+
+        } catch (Exception e) {
+            log.error("Transaction partition maintenance failed: {}", e.getMessage(), e);
+            metricsService.incrementCounter("transaction.partition.maintenance_failed");
+            throw e;
+        }
+    }
+}
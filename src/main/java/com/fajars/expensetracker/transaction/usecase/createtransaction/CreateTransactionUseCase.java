@@ -6,11 +6,14 @@ import com.fajars.expensetracker.common.exception.ResourceNotFoundException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
+import com.fajars.expensetracker.transaction.TransactionRollupRecorder;
 import com.fajars.expensetracker.transaction.api.CreateTransactionRequest;
 import com.fajars.expensetracker.transaction.api.TransactionResponse;
 import com.fajars.expensetracker.transaction.domain.Transaction;
 import com.fajars.expensetracker.transaction.domain.TransactionRepository;
 import com.fajars.expensetracker.user.domain.User;
+import com.fajars.expensetracker.wallet.WalletBalanceLedger;
 import com.fajars.expensetracker.wallet.domain.Wallet;
 import com.fajars.expensetracker.wallet.domain.WalletRepository;
 import java.time.LocalDateTime;
@@ -30,6 +33,9 @@ public class CreateTransactionUseCase implements CreateTransaction {
     private final TransactionRepository transactionRepository;
     private final WalletRepository walletRepository;
     private final CategoryRepository categoryRepository;
+    private final WalletBalanceLedger walletBalanceLedger;
+    private final TransactionRollupRecorder rollupRecorder;
+    private final ReportCacheInvalidator reportCacheInvalidator;
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider currentUserProvider;
@@ -48,6 +54,10 @@ public class CreateTransactionUseCase implements CreateTransaction {
 
         Transaction transaction = buildTransaction(userId, request, wallet, category);
         transaction = transactionRepository.save(transaction);
+        walletBalanceLedger.record(wallet.getId(), transaction.getType(), transaction.getAmount());
+        rollupRecorder.record(userId, wallet.getId(), category.getId(),
+            transaction.getType(), transaction.getDate(), transaction.getAmount());
+        reportCacheInvalidator.evictUser(userId);
 
         // Build response BEFORE transaction commit to avoid lazy loading issues
         // Wallet and category are already loaded in this transaction context
@@ -3,8 +3,11 @@ package com.fajars.expensetracker.transaction.usecase.deletetransaction;
 import com.fajars.expensetracker.common.exception.ResourceNotFoundException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
+import com.fajars.expensetracker.transaction.TransactionRollupRecorder;
 import com.fajars.expensetracker.transaction.domain.Transaction;
 import com.fajars.expensetracker.transaction.domain.TransactionRepository;
+import com.fajars.expensetracker.wallet.WalletBalanceLedger;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +20,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteTransactionUseCase implements DeleteTransaction {
 
     private final TransactionRepository transactionRepository;
+    private final WalletBalanceLedger walletBalanceLedger;
+    private final TransactionRollupRecorder rollupRecorder;
+    private final ReportCacheInvalidator reportCacheInvalidator;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider currentUserProvider;
 
@@ -27,10 +33,15 @@ public class DeleteTransactionUseCase implements DeleteTransaction {
 
         log.debug("Deleting transaction {} for user {}", transactionId, userId);
 
-        Transaction transaction = transactionRepository.findByIdAndUserId(transactionId, userId)
+        Transaction transaction = transactionRepository.findForUpdateByIdAndUserId(transactionId, userId)
             .orElseThrow(() -> new ResourceNotFoundException("Transaction", transactionId.toString()));
 
         transactionRepository.delete(transaction);
+        walletBalanceLedger.reverse(
+            transaction.getWallet().getId(), transaction.getType(), transaction.getAmount());
+        rollupRecorder.reverse(userId, transaction.getWallet().getId(), transaction.getCategory().getId(),
+            transaction.getType(), transaction.getDate(), transaction.getAmount());
+        reportCacheInvalidator.evictUser(userId);
 
         String username = currentUserProvider.getEmail();
         businessEventLogger.logTransactionDeleted(transaction.getId().getMostSignificantBits(), username);
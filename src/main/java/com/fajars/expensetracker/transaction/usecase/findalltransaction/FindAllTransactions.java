@@ -1,5 +1,6 @@
 package com.fajars.expensetracker.transaction.usecase.findalltransaction;
 
+import com.fajars.expensetracker.transaction.api.TransactionCursorPageResponse;
 import com.fajars.expensetracker.transaction.api.TransactionFilter;
 import com.fajars.expensetracker.transaction.api.TransactionPageResponse;
 
@@ -8,4 +9,13 @@ import com.fajars.expensetracker.transaction.api.TransactionPageResponse;
  */
 public interface FindAllTransactions {
     TransactionPageResponse findWithFilters(TransactionFilter filter);
+
+    /**
+     * Keyset (seek) pagination for infinite scroll. The page number in the filter is ignored.
+     *
+     * @param filter        filter criteria (size is honored, page is ignored)
+     * @param after         opaque cursor from the previous page, null for the first page
+     * @param includeTotals whether to also run the aggregate totals/count query
+     */
+    TransactionCursorPageResponse scrollWithFilters(TransactionFilter filter, String after, boolean includeTotals);
 }
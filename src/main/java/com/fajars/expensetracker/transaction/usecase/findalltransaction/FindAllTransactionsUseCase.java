@@ -1,13 +1,17 @@
 package com.fajars.expensetracker.transaction.usecase.findalltransaction;
 
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.transaction.api.TransactionCursor;
+import com.fajars.expensetracker.transaction.api.TransactionCursorPageResponse;
 import com.fajars.expensetracker.transaction.api.TransactionFilter;
 import com.fajars.expensetracker.transaction.api.TransactionPageResponse;
+import com.fajars.expensetracker.transaction.domain.Transaction;
+import com.fajars.expensetracker.transaction.domain.TransactionQuery;
 import com.fajars.expensetracker.transaction.domain.TransactionRepository;
 import com.fajars.expensetracker.transaction.api.TransactionResponse;
 import com.fajars.expensetracker.transaction.projection.TransactionSummary;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +36,7 @@ public class FindAllTransactionsUseCase implements FindAllTransactions {
      * This method runs two optimized queries:
      * 1. Paginated transaction list
      * 2. Aggregated totals (without fetching all entities)
+     * Both are built from the same {@link TransactionQuery}, so only supplied filters reach SQL.
      */
     @Transactional(readOnly = true)
     public TransactionPageResponse findWithFilters(TransactionFilter filter) {
@@ -42,37 +47,15 @@ public class FindAllTransactionsUseCase implements FindAllTransactions {
         Pageable pageable = PageRequest.of(
             filter.page(),
             filter.size(),
-            Sort.by(Sort.Direction.DESC, "date")
+            Sort.by(Sort.Direction.DESC, "date", "id")
         );
 
-        LocalDateTime fromDateTime = null;
-        LocalDateTime toDateTime = null;
+        TransactionQuery query = toQuery(userId, filter);
 
-        if (filter.from() != null) {
-            fromDateTime = filter.from().atStartOfDay();
-        }
-        if (filter.to() != null) {
-            toDateTime = filter.to().atTime(LocalTime.MAX);
-        }
+        Page<TransactionResponse> transactionPage = transactionRepository.findByQuery(query, pageable)
+            .map(TransactionResponse::from);
 
-        Page<TransactionResponse> transactionPage = transactionRepository.findByUserIdWithFilters(
-            userId,
-            filter.walletId(),
-            filter.categoryId(),
-            filter.type(),
-            fromDateTime,
-            toDateTime,
-            pageable
-        ).map(TransactionResponse::from);
-
-        TransactionSummary summary = transactionRepository.getTotalsByFilters(
-            userId,
-            filter.walletId(),
-            filter.categoryId(),
-            filter.type(),
-            fromDateTime,
-            toDateTime
-        );
+        TransactionSummary summary = transactionRepository.getTotalsByQuery(query);
 
         log.debug("Found {} transactions with incomeTotal={}, expenseTotal={} for user {}",
             transactionPage.getTotalElements(),
@@ -86,4 +69,64 @@ public class FindAllTransactionsUseCase implements FindAllTransactions {
             summary.getTotalExpense()
         );
     }
+
+    /**
+     * Keyset pagination: seeks past the cursor on (date DESC, id DESC) and fetches size + 1 rows
+     * to detect whether another page exists. No OFFSET scan and no count query unless totals
+     * are explicitly requested.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionCursorPageResponse scrollWithFilters(
+        TransactionFilter filter, String after, boolean includeTotals) {
+        UUID userId = currentUserProvider.getUserId();
+
+        log.debug("Scrolling transactions for user {} after cursor {} with filters: {}", userId, after, filter);
+
+        TransactionQuery query = toQuery(userId, filter);
+        TransactionCursor cursor = after == null || after.isBlank() ? null : TransactionCursor.decode(after);
+
+        List<Transaction> rows = transactionRepository.scrollByQuery(
+            query,
+            cursor != null ? cursor.date() : null,
+            cursor != null ? cursor.id() : null,
+            filter.size() + 1
+        );
+
+        boolean hasMore = rows.size() > filter.size();
+        List<TransactionResponse> transactions = rows.stream()
+            .limit(filter.size())
+            .map(TransactionResponse::from)
+            .toList();
+
+        String nextCursor = hasMore
+            ? TransactionCursor.of(transactions.getLast()).encode()
+            : null;
+
+        if (!includeTotals) {
+            return new TransactionCursorPageResponse(transactions, nextCursor, hasMore, null, null, null);
+        }
+
+        TransactionSummary summary = transactionRepository.getTotalsByQuery(query);
+
+        return new TransactionCursorPageResponse(
+            transactions,
+            nextCursor,
+            hasMore,
+            summary.getTotalIncome(),
+            summary.getTotalExpense(),
+            summary.getTransactionCount()
+        );
+    }
+
+    private TransactionQuery toQuery(UUID userId, TransactionFilter filter) {
+        return TransactionQuery.builder()
+            .userId(userId)
+            .walletIds(filter.walletIds())
+            .categoryIds(filter.categoryIds())
+            .type(filter.type())
+            .fromDate(filter.from() != null ? filter.from().atStartOfDay() : null)
+            .toDate(filter.to() != null ? filter.to().atTime(LocalTime.MAX) : null)
+            .build();
+    }
 }
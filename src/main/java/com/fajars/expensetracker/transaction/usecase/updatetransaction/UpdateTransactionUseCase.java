@@ -5,11 +5,14 @@ import com.fajars.expensetracker.category.domain.CategoryRepository;
 import com.fajars.expensetracker.common.exception.ResourceNotFoundException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
+import com.fajars.expensetracker.transaction.TransactionRollupRecorder;
 import com.fajars.expensetracker.transaction.api.TransactionResponse;
 import com.fajars.expensetracker.transaction.api.TransactionType;
 import com.fajars.expensetracker.transaction.api.UpdateTransactionRequest;
 import com.fajars.expensetracker.transaction.domain.Transaction;
 import com.fajars.expensetracker.transaction.domain.TransactionRepository;
+import com.fajars.expensetracker.wallet.WalletBalanceLedger;
 import com.fajars.expensetracker.wallet.domain.Wallet;
 import com.fajars.expensetracker.wallet.domain.WalletRepository;
 import java.time.LocalDateTime;
@@ -29,6 +32,9 @@ public class UpdateTransactionUseCase implements UpdateTransaction {
     private final TransactionRepository transactionRepository;
     private final WalletRepository walletRepository;
     private final CategoryRepository categoryRepository;
+    private final WalletBalanceLedger walletBalanceLedger;
+    private final TransactionRollupRecorder rollupRecorder;
+    private final ReportCacheInvalidator reportCacheInvalidator;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider currentUserProvider;
 
@@ -49,6 +55,9 @@ public class UpdateTransactionUseCase implements UpdateTransaction {
         TransactionSnapshot snapshot = captureSnapshot(transaction);
         updateTransactionFields(transaction, request, wallet, category);
         transaction = transactionRepository.save(transaction);
+        updateWalletLedger(transaction, snapshot);
+        updateDailyRollup(userId, transaction, snapshot);
+        reportCacheInvalidator.evictUser(userId);
 
         logChanges(transaction, snapshot);
 
@@ -57,7 +66,7 @@ public class UpdateTransactionUseCase implements UpdateTransaction {
     }
 
     private Transaction validateAndGetTransaction(UUID transactionId, UUID userId) {
-        return transactionRepository.findByIdAndUserId(transactionId, userId)
+        return transactionRepository.findForUpdateByIdAndUserId(transactionId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", transactionId.toString()));
     }
 
@@ -83,7 +92,8 @@ public class UpdateTransactionUseCase implements UpdateTransaction {
                 transaction.getType(),
                 transaction.getAmount(),
                 transaction.getWallet().getId(),
-                transaction.getCategory().getId()
+                transaction.getCategory().getId(),
+                transaction.getDate()
         );
     }
 
@@ -115,6 +125,39 @@ public class UpdateTransactionUseCase implements UpdateTransaction {
             .toLocalDateTime();
     }
 
+    /**
+     * Move the old amount out of the previous wallet totals and the new amount into the
+     * current wallet totals. Handles wallet moves, type flips and amount changes alike.
+     */
+    private void updateWalletLedger(Transaction transaction, TransactionSnapshot snapshot) {
+        if (!hasTypeOrAmountChanged(transaction, snapshot) && !hasWalletChanged(transaction, snapshot)) {
+            return;
+        }
+
+        walletBalanceLedger.reverse(snapshot.walletId(), snapshot.type(), snapshot.amount());
+        walletBalanceLedger.record(
+                transaction.getWallet().getId(), transaction.getType(), transaction.getAmount());
+    }
+
+    /**
+     * Move the transaction from its previous day bucket to its current one when any
+     * rollup dimension or the amount changed. The snapshot is taken from the locked row, so
+     * a concurrent edit cannot reverse the same bucket twice.
+     */
+    private void updateDailyRollup(UUID userId, Transaction transaction, TransactionSnapshot snapshot) {
+        if (!hasTypeOrAmountChanged(transaction, snapshot)
+                && !hasWalletChanged(transaction, snapshot)
+                && !hasCategoryChanged(transaction, snapshot)
+                && !hasDayChanged(transaction, snapshot)) {
+            return;
+        }
+
+        rollupRecorder.reverse(userId, snapshot.walletId(), snapshot.categoryId(),
+                snapshot.type(), snapshot.date(), snapshot.amount());
+        rollupRecorder.record(userId, transaction.getWallet().getId(), transaction.getCategory().getId(),
+                transaction.getType(), transaction.getDate(), transaction.getAmount());
+    }
+
     private void logChanges(Transaction transaction, TransactionSnapshot snapshot) {
         String username = currentUserProvider.getEmail();
         long transactionIdBits = transaction.getId().getMostSignificantBits();
@@ -145,6 +188,10 @@ public class UpdateTransactionUseCase implements UpdateTransaction {
         return !snapshot.categoryId().equals(transaction.getCategory().getId());
     }
 
+    private boolean hasDayChanged(Transaction transaction, TransactionSnapshot snapshot) {
+        return !snapshot.date().toLocalDate().equals(transaction.getDate().toLocalDate());
+    }
+
     private void logTypeOrAmountChange(
             long transactionId,
             String username,
@@ -194,7 +241,8 @@ public class UpdateTransactionUseCase implements UpdateTransaction {
             TransactionType type,
             Double amount,
             UUID walletId,
-            UUID categoryId
+            UUID categoryId,
+            LocalDateTime date
     ) {
     }
 }
@@ -0,0 +1,52 @@
+package com.fajars.expensetracker.wallet;
+
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import com.fajars.expensetracker.wallet.domain.WalletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Maintains the per-wallet running income/expense totals.
+ *
+ * <p>Every transaction write must go through this component inside the same DB transaction,
+ * so that {@code Wallet.getCurrentBalance()} stays an O(1) read instead of summing history.
+ * Drift (e.g. manual SQL fixes) is repaired by {@code ReconcileWalletBalancesScheduler}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WalletBalanceLedger {
+
+    private final WalletRepository walletRepository;
+
+    /**
+     * Add a transaction's amount to its wallet totals.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(UUID walletId, TransactionType type, Double amount) {
+        applyDelta(walletId, type, amount);
+    }
+
+    /**
+     * Remove a transaction's amount from its wallet totals. The amount must come from a row
+     * loaded with {@code TransactionRepository.findForUpdateByIdAndUserId}, otherwise two
+     * concurrent edits both reverse the same old amount.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reverse(UUID walletId, TransactionType type, Double amount) {
+        applyDelta(walletId, type, -amount);
+    }
+
+    private void applyDelta(UUID walletId, TransactionType type, double delta) {
+        double incomeDelta = type == TransactionType.INCOME ? delta : 0.0;
+        double expenseDelta = type == TransactionType.EXPENSE ? delta : 0.0;
+
+        walletRepository.applyLedgerDelta(walletId, incomeDelta, expenseDelta);
+        log.debug("Wallet {} ledger updated: income {}, expense {}", walletId, incomeDelta, expenseDelta);
+    }
+}
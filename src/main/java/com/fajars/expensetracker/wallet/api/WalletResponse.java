@@ -1,9 +1,8 @@
 package com.fajars.expensetracker.wallet.api;
 
-import com.fajars.expensetracker.transaction.domain.Transaction;
-
 import com.fajars.expensetracker.wallet.domain.Currency;
 import com.fajars.expensetracker.wallet.domain.Wallet;
+import com.fajars.expensetracker.wallet.projection.WalletSummary;
 import java.util.Date;
 import java.util.UUID;
 
@@ -13,28 +12,35 @@ public record WalletResponse(
     Currency currency,
     Double initialBalance,
     Double currentBalance,
+    Double totalIncome,
+    Double totalExpense,
     Date createdAt,
     Date updatedAt
 ) {
 
     public static WalletResponse from(Wallet wallet) {
-        double currentBalance = wallet.getInitialBalance();
-        if (wallet.getTransactions() != null) {
-            for (Transaction transaction : wallet.getTransactions()) {
-                if ("INCOME".equals(transaction.getType().name())) {
-                    currentBalance += transaction.getAmount();
-                } else if ("EXPENSE".equals(transaction.getType().name())) {
-                    currentBalance -= transaction.getAmount();
-                }
-            }
-        }
+        return new WalletResponse(
+            wallet.getId(),
+            wallet.getName(),
+            wallet.getCurrency(),
+            wallet.getInitialBalance(),
+            wallet.getCurrentBalance(),
+            wallet.getTotalIncome(),
+            wallet.getTotalExpense(),
+            wallet.getCreatedAt(),
+            wallet.getUpdatedAt()
+        );
+    }
 
+    public static WalletResponse from(WalletSummary wallet) {
         return new WalletResponse(
             wallet.getId(),
             wallet.getName(),
             wallet.getCurrency(),
             wallet.getInitialBalance(),
-            currentBalance,
+            wallet.getCurrentBalance(),
+            wallet.getTotalIncome(),
+            wallet.getTotalExpense(),
             wallet.getCreatedAt(),
             wallet.getUpdatedAt()
         );
@@ -27,9 +27,39 @@ public class Wallet {
     private Currency currency;
 
     private Double initialBalance;
+
+    /**
+     * Running sum of INCOME transactions, maintained by {@code WalletBalanceLedger}.
+     * Read-only here: only the ledger statements write it, so saving a wallet loaded before
+     * a concurrent delta cannot write the stale total back. New rows get the column default 0.
+     */
+    @Builder.Default
+    @Column(name = "total_income", nullable = false, insertable = false, updatable = false)
+    private Double totalIncome = 0.0;
+
+    /**
+     * Running sum of EXPENSE transactions, maintained by {@code WalletBalanceLedger}.
+     * Read-only here, see {@link #totalIncome}.
+     */
+    @Builder.Default
+    @Column(name = "total_expense", nullable = false, insertable = false, updatable = false)
+    private Double totalExpense = 0.0;
+
     private Date createdAt;
     private Date updatedAt;
 
-    @OneToMany(mappedBy = "wallet", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "wallet")
     private List<Transaction> transactions;
+
+    /**
+     * Current balance from the maintained ledger totals.
+     * Balance = initialBalance + totalIncome - totalExpense
+     */
+    public double getCurrentBalance() {
+        return valueOrZero(initialBalance) + valueOrZero(totalIncome) - valueOrZero(totalExpense);
+    }
+
+    private static double valueOrZero(Double value) {
+        return value != null ? value : 0.0;
+    }
 }
@@ -1,8 +1,15 @@
 package com.fajars.expensetracker.wallet.domain;
 
+import com.fajars.expensetracker.wallet.projection.WalletSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +23,107 @@ public interface WalletRepository extends JpaRepository<Wallet, UUID> {
     long countByUserId(UUID userId);
 
     boolean existsByUserId(UUID userId);
+
+    /**
+     * Wallets of a user with their ledger totals, oldest first. One statement, no entity,
+     * user or transaction is loaded.
+     */
+    @Query("""
+        SELECT w.id as id, w.name as name, w.currency as currency, w.initialBalance as initialBalance,
+               w.totalIncome as totalIncome, w.totalExpense as totalExpense,
+               w.createdAt as createdAt, w.updatedAt as updatedAt
+        FROM Wallet w
+        WHERE w.user.id = :userId
+        ORDER BY w.createdAt, w.id
+        """)
+    List<WalletSummary> findSummariesByUserId(@Param("userId") UUID userId);
+
+    /**
+     * One wallet with its ledger totals, only if it belongs to the user.
+     */
+    @Query("""
+        SELECT w.id as id, w.name as name, w.currency as currency, w.initialBalance as initialBalance,
+               w.totalIncome as totalIncome, w.totalExpense as totalExpense,
+               w.createdAt as createdAt, w.updatedAt as updatedAt
+        FROM Wallet w
+        WHERE w.id = :walletId AND w.user.id = :userId
+        """)
+    Optional<WalletSummary> findSummaryByIdAndUserId(@Param("walletId") UUID walletId, @Param("userId") UUID userId);
+
+    /**
+     * Atomically apply income/expense deltas to the wallet ledger totals.
+     * Single-row UPDATE, so concurrent writers on the same wallet never lose increments.
+     * Native because the totals are mapped read-only on {@link Wallet}.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE wallets
+        SET total_income = total_income + :incomeDelta,
+            total_expense = total_expense + :expenseDelta
+        WHERE id = :walletId
+        """, nativeQuery = true)
+    int applyLedgerDelta(
+        @Param("walletId") UUID walletId,
+        @Param("incomeDelta") Double incomeDelta,
+        @Param("expenseDelta") Double expenseDelta
+    );
+
+    /**
+     * Delete a wallet of a user with one statement, without loading it or its transactions.
+     * Its transactions must already be gone (see TransactionBulkOperations).
+     *
+     * @return number of deleted wallets (0 or 1)
+     */
+    @Modifying
+    @Query("DELETE FROM Wallet w WHERE w.id = :walletId AND w.user.id = :userId")
+    int deleteByIdAndUserId(@Param("walletId") UUID walletId, @Param("userId") UUID userId);
+
+    /**
+     * Wallet ids after {@code afterId} in id order; pages the ledger reconciliation.
+     */
+    @Query(value = "SELECT w.id FROM wallets w WHERE w.id > :afterId ORDER BY w.id LIMIT :limit",
+        nativeQuery = true)
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, @Param("limit") int limit);
+
+    /**
+     * Lock the given wallet rows until the transaction ends, in id order so concurrent callers
+     * cannot deadlock. Ledger writers update the same rows, so once this returns every ledger
+     * delta is either committed or waits for the caller.
+     *
+     * @return ids of the locked wallets
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "SELECT w.id FROM wallets w WHERE w.id IN (:walletIds) ORDER BY w.id FOR UPDATE",
+        nativeQuery = true)
+    List<UUID> lockForLedgerReconcile(@Param("walletIds") List<UUID> walletIds);
+
+    /**
+     * Rebuild ledger totals of the given wallets from the transactions table. The wallets must
+     * be locked first ({@link #lockForLedgerReconcile}), so the sums and the totals are read
+     * from the same committed state. Only wallets that are off by more than {@code tolerance}
+     * are written; returns the number of corrected wallets.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+        UPDATE wallets w
+        SET total_income = agg.income,
+            total_expense = agg.expense
+        FROM (
+            SELECT wl.id AS wallet_id,
+                   COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount END), 0) AS income,
+                   COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount END), 0) AS expense
+            FROM wallets wl
+            LEFT JOIN transactions t ON t.wallet_id = wl.id
+            WHERE wl.id IN (:walletIds)
+            GROUP BY wl.id
+        ) agg
+        WHERE w.id = agg.wallet_id
+          AND (ABS(w.total_income - agg.income) > :tolerance
+               OR ABS(w.total_expense - agg.expense) > :tolerance)
+        """, nativeQuery = true)
+    int reconcileLedgerTotals(
+        @Param("walletIds") List<UUID> walletIds,
+        @Param("tolerance") BigDecimal tolerance
+    );
 }
@@ -0,0 +1,33 @@
+package com.fajars.expensetracker.wallet.projection;
+
+import com.fajars.expensetracker.wallet.domain.Currency;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Projection interface for wallet listing and detail.
+ * Income and expense are the ledger totals maintained by {@code WalletBalanceLedger},
+ * so no transaction is read.
+ */
+public interface WalletSummary {
+    UUID getId();
+    String getName();
+    Currency getCurrency();
+    Double getInitialBalance();
+    Double getTotalIncome();
+    Double getTotalExpense();
+    Date getCreatedAt();
+    Date getUpdatedAt();
+
+    /**
+     * Balance = initialBalance + totalIncome - totalExpense
+     */
+    default double getCurrentBalance() {
+        return valueOrZero(getInitialBalance()) + valueOrZero(getTotalIncome()) - valueOrZero(getTotalExpense());
+    }
+
+    private static double valueOrZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+}
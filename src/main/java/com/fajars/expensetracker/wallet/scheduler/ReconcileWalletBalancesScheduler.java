@@ -0,0 +1,102 @@
+package com.fajars.expensetracker.wallet.scheduler;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
+import com.fajars.expensetracker.wallet.domain.WalletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Scheduled job to rebuild wallet ledger totals from the transactions table.
+ *
+ * <p>Wallet totals are maintained incrementally by {@code WalletBalanceLedger}. This job is the
+ * safety net: it walks the wallets in id order, a chunk per short transaction. Each chunk first
+ * locks its wallet rows, then recomputes income/expense from the transactions and corrects only
+ * the wallets that drifted. Because ledger writers update the same rows, a delta committed while
+ * the job runs is never overwritten with older sums.
+ *
+ * <p>The totals are kept with floating point deltas, so differences up to
+ * {@link #LEDGER_TOLERANCE} are rounding noise, not drift.
+ *
+ * <p><b>Execution Schedule:</b> daily at 02:30 Asia/Jakarta (low traffic window).
+ *
+ * <p><b>Monitoring:</b>
+ * - Metrics: wallet.ledger.reconciled (counter, corrected wallets), wallet.ledger.reconcile_duration
+ * - Logs: WARN when drift is found
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReconcileWalletBalancesScheduler {
+
+    static final BigDecimal LEDGER_TOLERANCE = new BigDecimal("0.005");
+
+    private static final UUID FIRST_WALLET_ID = new UUID(0L, 0L);
+
+    private final WalletRepository walletRepository;
+    private final MetricsService metricsService;
+    private final ReportCacheInvalidator reportCacheInvalidator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.wallet.ledger-reconcile-chunk-size:500}")
+    private int chunkSize = 500;
+
+    /**
+     * Rebuild ledger totals for all wallets. Idempotent - safe to run multiple times.
+     *
+     * @return number of wallets whose totals were corrected
+     */
+    @Scheduled(cron = "${app.wallet.ledger-reconcile-cron:0 30 2 * * *}", zone = "Asia/Jakarta")
+    public int reconcile() {
+        long startTime = System.currentTimeMillis();
+        log.info("Starting wallet ledger reconciliation");
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int corrected = 0;
+
+        try {
+            UUID afterId = FIRST_WALLET_ID;
+            List<UUID> walletIds;
+            do {
+                walletIds = walletRepository.findIdsAfter(afterId, chunkSize);
+                if (walletIds.isEmpty()) {
+                    break;
+                }
+
+                List<UUID> chunk = walletIds;
+                corrected += Objects.requireNonNull(transaction.execute(status -> {
+                    walletRepository.lockForLedgerReconcile(chunk);
+                    return walletRepository.reconcileLedgerTotals(chunk, LEDGER_TOLERANCE);
+                }));
+                afterId = walletIds.get(walletIds.size() - 1);
+            } while (walletIds.size() >= chunkSize);
+
+            if (corrected > 0) {
+                log.warn("Wallet ledger reconciliation corrected {} drifted wallets", corrected);
+                metricsService.incrementCounterBy("wallet.ledger.reconciled", corrected);
+                // Financial summaries show wallet balances
+                reportCacheInvalidator.evictAll();
+            } else {
+                log.info("Wallet ledger reconciliation completed, no drift found");
+            }
+
+            metricsService.recordTimer("wallet.ledger.reconcile_duration", startTime);
+            return corrected;
+
+        } catch (Exception e) {
+            log.error("Wallet ledger reconciliation failed: {}", e.getMessage(), e);
+            metricsService.incrementCounter("wallet.ledger.reconcile_failed");
+            throw e;
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.fajars.expensetracker.wallet.usecase.createwallet;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
-import com.fajars.expensetracker.subscription.SubscriptionHelper;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
 import com.fajars.expensetracker.user.domain.User;
 import com.fajars.expensetracker.wallet.api.CreateWalletRequest;
 import com.fajars.expensetracker.wallet.api.WalletResponse;
@@ -26,7 +28,8 @@ public class CreateWalletUseCase implements CreateWallet {
     private final WalletRepository walletRepository;
     private final MetricsService metricsService;
     private final BusinessEventLogger businessEventLogger;
-    private final SubscriptionHelper subscriptionHelper;
+    private final UsageQuota usageQuota;
+    private final ReportCacheInvalidator reportCacheInvalidator;
     private final CurrentUserProvider currentUserProvider;
 
     @Value("${app.wallet.default-name}")
@@ -35,17 +38,12 @@ public class CreateWalletUseCase implements CreateWallet {
     @Value("${app.wallet.default-currency}")
     private String defaultCurrencyCode;
 
-    private static final int FREE_USER_WALLET_LIMIT = 1;
-
     @Override
     @Transactional
     public WalletResponse create(UUID userId, CreateWalletRequest request) {
-        // Validate wallet limit for FREE users (PREMIUM users bypass this check)
-        if (!subscriptionHelper.isPremiumUser(userId)) {
-            long walletCount = walletRepository.countByUserId(userId);
-            if (walletCount >= FREE_USER_WALLET_LIMIT) {
-                throw new IllegalStateException("Free users can only create " + FREE_USER_WALLET_LIMIT + " wallet. Upgrade to premium for unlimited wallets.");
-            }
+        // Count the wallet against the FREE limit (PREMIUM users are counted but never limited)
+        if (!usageQuota.tryAcquire(userId, QuotaType.WALLETS)) {
+            throw new IllegalStateException("Free users can only create " + QuotaType.WALLETS.freeLimit() + " wallet. Upgrade to premium for unlimited wallets.");
         }
 
         if (request.name() == null || request.name().trim().isEmpty()) {
@@ -67,6 +65,7 @@ public class CreateWalletUseCase implements CreateWallet {
                 .build();
 
         wallet = walletRepository.save(wallet);
+        reportCacheInvalidator.evictUser(userId);
 
         // Log business event and metrics
         String username = currentUserProvider.getEmail();
@@ -106,6 +105,7 @@ public class CreateWalletUseCase implements CreateWallet {
                 .build();
 
         wallet = walletRepository.save(wallet);
+        usageQuota.track(userId, QuotaType.WALLETS);
 
         // Log business event and metrics
         businessEventLogger.logWalletCreated(wallet.getId().getMostSignificantBits(), "registration", wallet.getName());
@@ -2,30 +2,54 @@ package com.fajars.expensetracker.wallet.usecase.deletewallet;
 
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
+import com.fajars.expensetracker.transaction.TransactionBulkOperations;
 import com.fajars.expensetracker.wallet.domain.Wallet;
 import com.fajars.expensetracker.wallet.domain.WalletRepository;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class DeleteWalletUseCase implements DeleteWallet {
 
     private final WalletRepository walletRepository;
+    private final TransactionBulkOperations transactionBulkOperations;
+    private final UsageQuota usageQuota;
+    private final ReportCacheInvalidator reportCacheInvalidator;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider userProvider;
+    private final PlatformTransactionManager transactionManager;
 
+    /**
+     * Not transactional on purpose: transactions are removed in short chunk transactions,
+     * then the remainder and the wallet go in one final transaction.
+     */
     @Override
-    @Transactional
     public void delete(UUID walletId) {
         // Ownership check
         UUID userId = userProvider.getUserId();
         Wallet wallet = walletRepository.findByIdAndUserId(walletId, userId)
             .orElseThrow(() -> new IllegalArgumentException("Wallet not found or access denied"));
 
-        walletRepository.delete(wallet);
+        long deleted = transactionBulkOperations.deleteByWallet(userId, walletId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // Catch transactions created while the chunks were running
+            transactionBulkOperations.deleteByWallet(userId, walletId);
+            if (walletRepository.deleteByIdAndUserId(walletId, userId) > 0) {
+                usageQuota.release(userId, QuotaType.WALLETS);
+            }
+            reportCacheInvalidator.evictUser(userId);
+        });
+        log.info("Deleted wallet {} with {} transactions", walletId, deleted);
 
         // Log business event
         String username = userProvider.getEmail();
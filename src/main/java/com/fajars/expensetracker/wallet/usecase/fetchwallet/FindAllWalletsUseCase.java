@@ -1,9 +1,9 @@
 package com.fajars.expensetracker.wallet.usecase.fetchwallet;
 
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
-import com.fajars.expensetracker.wallet.domain.Wallet;
 import com.fajars.expensetracker.wallet.api.WalletResponse;
 import com.fajars.expensetracker.wallet.domain.WalletRepository;
+import com.fajars.expensetracker.wallet.projection.WalletSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +23,8 @@ public class FindAllWalletsUseCase implements FindAllWallets {
     @Transactional(readOnly = true)
     public List<WalletResponse> findAllByUserId() {
         UUID userId = currentUserProvider.getUserId();
-        List<Wallet> wallets = walletRepository.findByUserId(userId);
+        // Single projection query, balances come from the ledger totals
+        List<WalletSummary> wallets = walletRepository.findSummariesByUserId(userId);
 
         return wallets.stream()
             .map(WalletResponse::from)
@@ -1,8 +1,8 @@
 package com.fajars.expensetracker.wallet.usecase.retrievewallet;
 
-import com.fajars.expensetracker.wallet.domain.Wallet;
 import com.fajars.expensetracker.wallet.api.WalletResponse;
 import com.fajars.expensetracker.wallet.domain.WalletRepository;
+import com.fajars.expensetracker.wallet.projection.WalletSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,7 +18,7 @@ public class FindWalletByIdUseCase implements FindWalletById {
     @Override
     @Transactional(readOnly = true)
     public WalletResponse findByIdAndUserId(UUID walletId, UUID userId) {
-        Wallet wallet = walletRepository.findByIdAndUserId(walletId, userId)
+        WalletSummary wallet = walletRepository.findSummaryByIdAndUserId(walletId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Wallet not found or access denied"));
         return WalletResponse.from(wallet);
     }
@@ -2,6 +2,7 @@ package com.fajars.expensetracker.wallet.usecase.update;
 
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
 import com.fajars.expensetracker.wallet.api.UpdateWalletRequest;
 import com.fajars.expensetracker.wallet.api.WalletResponse;
 import com.fajars.expensetracker.wallet.domain.Wallet;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateWalletUseCase implements UpdateWallet {
 
     private final WalletRepository walletRepository;
+    private final ReportCacheInvalidator reportCacheInvalidator;
     private final BusinessEventLogger businessEventLogger;
     private final CurrentUserProvider userProvider;
 
@@ -47,6 +49,7 @@ public class UpdateWalletUseCase implements UpdateWallet {
         wallet.setUpdatedAt(new Date());
 
         wallet = walletRepository.save(wallet);
+        reportCacheInvalidator.evictUser(userId);
 
         // Log business events
         String username = userProvider.getEmail();
@@ -0,0 +1,21 @@
+-- Migration V10: Covering index for trend reports on the daily rollup
+-- Purpose: The trend query buckets rollup rows by date_trunc(local_day) over a generate_series
+--          of periods; with the summed columns in the index it becomes an index-only scan
+-- Date: 2026-10-17
+
+-- local_day is the materialized calendar day of transactions.date (Asia/Jakarta wall-clock),
+-- so no expression index over transactions is needed for day bucketing.
+-- Query pattern: WHERE user_id = ? AND local_day BETWEEN ? AND ? [AND wallet_id IN (...)]
+CREATE INDEX IF NOT EXISTS idx_transaction_daily_rollups_user_day_covering
+ON transaction_daily_rollups(user_id, local_day)
+INCLUDE (wallet_id, type, total_amount);
+
+-- Superseded by the covering index (same key columns)
+DROP INDEX IF EXISTS idx_transaction_daily_rollups_user_day;
+
+-- ============================================================================
+-- ROLLBACK SCRIPT (for reference)
+-- ============================================================================
+-- CREATE INDEX IF NOT EXISTS idx_transaction_daily_rollups_user_day
+-- ON transaction_daily_rollups(user_id, local_day);
+-- DROP INDEX IF EXISTS idx_transaction_daily_rollups_user_day_covering;
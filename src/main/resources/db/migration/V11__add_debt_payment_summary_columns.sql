@@ -0,0 +1,35 @@
+-- Migration V11: Maintained payment summary on debts
+-- Purpose: Debt lists showed the payment count by loading each debt's payment collection
+--          (one extra query per row); keep the count and the last payment time on the debt
+-- Date: 2026-10-17
+
+-- ============================================================================
+-- 1. SUMMARY COLUMNS
+-- ============================================================================
+
+-- Updated in the same DB transaction as every payment write (AddDebtPaymentUseCase)
+ALTER TABLE debts ADD COLUMN IF NOT EXISTS payment_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE debts ADD COLUMN IF NOT EXISTS last_paid_at TIMESTAMP;
+
+-- ============================================================================
+-- 2. BACKFILL FROM EXISTING PAYMENTS
+-- ============================================================================
+
+UPDATE debts d
+SET payment_count = agg.payment_count,
+    last_paid_at = agg.last_paid_at
+FROM (
+    SELECT p.debt_id, COUNT(*) AS payment_count, MAX(p.paid_at) AS last_paid_at
+    FROM debt_payments p
+    GROUP BY p.debt_id
+) agg
+WHERE d.id = agg.debt_id;
+
+COMMENT ON COLUMN debts.payment_count IS 'Number of debt_payments rows, maintained by debt use cases';
+COMMENT ON COLUMN debts.last_paid_at IS 'Latest debt_payments.paid_at, maintained by debt use cases';
+
+-- ============================================================================
+-- ROLLBACK SCRIPT (for reference)
+-- ============================================================================
+-- ALTER TABLE debts DROP COLUMN IF EXISTS payment_count;
+-- ALTER TABLE debts DROP COLUMN IF EXISTS last_paid_at;
@@ -0,0 +1,30 @@
+-- Migration V12: Composite indexes for the unified debt list query
+-- Purpose: Support any type/status/overdue filter combination with keyset pagination
+--          ordered by due date or created date (GET /debts/scroll)
+-- Date: 2026-10-17
+
+-- Query pattern (DUE_DATE order):
+--   WHERE user_id = ? [AND status = ?] [AND type = ?] [AND status <> 'PAID' AND due_date < ?]
+--     AND (due_date > ? OR (due_date = ? AND id > ?))
+--   ORDER BY due_date, id LIMIT ?
+-- The trailing id column makes the order total, so the seek never skips or repeats rows.
+CREATE INDEX IF NOT EXISTS idx_debts_user_status_type_due_date
+ON debts(user_id, status, type, due_date, id);
+
+-- Same order without a status filter: seek on the due date directly instead of sorting
+-- every status range of the user
+CREATE INDEX IF NOT EXISTS idx_debts_user_due_date
+ON debts(user_id, due_date, id);
+
+-- Query pattern (CREATED_AT order):
+--   WHERE user_id = ? [AND ...] AND (created_at < ? OR (created_at = ? AND id < ?))
+--   ORDER BY created_at DESC, id DESC LIMIT ?
+CREATE INDEX IF NOT EXISTS idx_debts_user_created_at
+ON debts(user_id, created_at DESC, id DESC);
+
+-- ============================================================================
+-- ROLLBACK SCRIPT (for reference)
+-- ============================================================================
+-- DROP INDEX IF EXISTS idx_debts_user_status_type_due_date;
+-- DROP INDEX IF EXISTS idx_debts_user_due_date;
+-- DROP INDEX IF EXISTS idx_debts_user_created_at;
@@ -0,0 +1,50 @@
+-- Migration V13: Per-user quota counters
+-- Purpose: FREE tier limits counted wallets / active debts with a COUNT(*) on every create,
+--          and concurrent creates could all pass the check; keep one counter row per user and
+--          resource, updated with a conditional single-row upsert in the write's transaction
+-- Date: 2026-10-17
+
+-- ============================================================================
+-- 1. COUNTER TABLE
+-- ============================================================================
+
+-- quota: WALLETS, ACTIVE_DEBTS (OPEN or PARTIAL), CUSTOM_CATEGORIES
+CREATE TABLE IF NOT EXISTS user_quota_counters (
+  user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  quota VARCHAR(30) NOT NULL,
+  used INTEGER NOT NULL DEFAULT 0 CHECK (used >= 0),
+  updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  PRIMARY KEY (user_id, quota)
+);
+
+-- ============================================================================
+-- 2. BACKFILL FROM EXISTING ROWS
+-- ============================================================================
+
+INSERT INTO user_quota_counters (user_id, quota, used)
+SELECT w.user_id, 'WALLETS', COUNT(*)
+FROM wallets w
+WHERE w.user_id IS NOT NULL
+GROUP BY w.user_id
+ON CONFLICT (user_id, quota) DO UPDATE SET used = EXCLUDED.used;
+
+INSERT INTO user_quota_counters (user_id, quota, used)
+SELECT d.user_id, 'ACTIVE_DEBTS', COUNT(*)
+FROM debts d
+WHERE d.status IN ('OPEN', 'PARTIAL')
+GROUP BY d.user_id
+ON CONFLICT (user_id, quota) DO UPDATE SET used = EXCLUDED.used;
+
+INSERT INTO user_quota_counters (user_id, quota, used)
+SELECT c.user_id, 'CUSTOM_CATEGORIES', COUNT(*)
+FROM categories c
+WHERE c.user_id IS NOT NULL
+GROUP BY c.user_id
+ON CONFLICT (user_id, quota) DO UPDATE SET used = EXCLUDED.used;
+
+COMMENT ON TABLE user_quota_counters IS 'Per-user resource counts for tier limits, maintained by UsageQuota';
+
+-- ============================================================================
+-- ROLLBACK SCRIPT (for reference)
+-- ============================================================================
+-- DROP TABLE IF EXISTS user_quota_counters;
@@ -0,0 +1,16 @@
+-- Migration V14: Snap request lease on payment transactions
+-- Purpose: Payment creation no longer calls Midtrans inside the DB transaction. The PENDING row
+--          is committed first, so a retry with the same idempotency key can find a row whose
+--          Snap token was never stored (crash or timeout in between) and request it again.
+--          The lease keeps two concurrent retries from both calling the gateway.
+-- Date: 2026-10-17
+
+-- Set when the PENDING row is inserted and whenever a retry claims the Snap call
+ALTER TABLE payment_transactions ADD COLUMN IF NOT EXISTS snap_requested_at TIMESTAMP;
+
+COMMENT ON COLUMN payment_transactions.snap_requested_at IS 'When the Snap token was last requested; a stale value lets a retry request it again';
+
+-- ============================================================================
+-- ROLLBACK INSTRUCTIONS (For Emergency)
+-- ============================================================================
+-- ALTER TABLE payment_transactions DROP COLUMN IF EXISTS snap_requested_at;
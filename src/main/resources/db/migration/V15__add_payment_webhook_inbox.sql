@@ -0,0 +1,47 @@
+-- Migration V15: Payment webhook inbox
+-- Purpose: Midtrans notifications were processed synchronously before answering, so slow
+--          processing made Midtrans retry and pile up. The endpoint now stores the notification
+--          with one insert and answers; a worker drains the inbox in order per order_id.
+-- Date: 2026-10-17
+
+-- ============================================================================
+-- 1. INBOX TABLE
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS payment_webhook_inbox (
+    id BIGSERIAL PRIMARY KEY,
+    order_id VARCHAR(255) NOT NULL,
+    transaction_status VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'PROCESSING', 'DONE', 'DEAD')),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error TEXT,
+    received_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP,
+
+    -- Midtrans resends the same notification until it gets a 2xx; keep one row per status change
+    CONSTRAINT uq_webhook_inbox_order_status UNIQUE (order_id, transaction_status)
+);
+
+-- ============================================================================
+-- 2. INDEXES
+-- ============================================================================
+
+-- Worker claim: due entries in arrival order
+CREATE INDEX IF NOT EXISTS idx_webhook_inbox_due
+    ON payment_webhook_inbox(next_attempt_at, id)
+    WHERE status IN ('PENDING', 'PROCESSING');
+
+-- Per-order ordering check: earlier unfinished entries of the same order
+CREATE INDEX IF NOT EXISTS idx_webhook_inbox_order_unfinished
+    ON payment_webhook_inbox(order_id, id)
+    WHERE status IN ('PENDING', 'PROCESSING');
+
+COMMENT ON TABLE payment_webhook_inbox IS 'Midtrans notifications accepted by the webhook endpoint, drained asynchronously';
+COMMENT ON COLUMN payment_webhook_inbox.next_attempt_at IS 'PENDING: earliest retry time; PROCESSING: claim lease, reclaimed after it passes';
+
+-- ============================================================================
+-- ROLLBACK INSTRUCTIONS (For Emergency)
+-- ============================================================================
+-- DROP TABLE IF EXISTS payment_webhook_inbox;
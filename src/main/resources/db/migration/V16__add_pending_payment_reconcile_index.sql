@@ -0,0 +1,14 @@
+-- Migration V16: Index for the stale PENDING payment reconciler
+-- Purpose: ReconcilePendingPaymentsScheduler walks PENDING payments older than a cutoff in
+--          (created_at, id) keyset chunks. PENDING rows are a small share of the table, so a
+--          partial index keeps every chunk an index range scan.
+-- Date: 2026-10-17
+
+CREATE INDEX IF NOT EXISTS idx_payment_pending_created
+    ON payment_transactions(created_at, id)
+    WHERE status = 'PENDING';
+
+-- ============================================================================
+-- ROLLBACK INSTRUCTIONS (For Emergency)
+-- ============================================================================
+-- DROP INDEX IF EXISTS idx_payment_pending_created;
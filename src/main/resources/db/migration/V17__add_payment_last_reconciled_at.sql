@@ -0,0 +1,24 @@
+-- Migration V17: Reconcile stamp on payment transactions
+-- Purpose: The stale PENDING reconciler restarted at the oldest payment on every run, so
+--          payments the gateway still reports as pending were re-checked first each time and,
+--          beyond max-per-run of them, newer stale payments were never reached. Each checked
+--          payment is now stamped and the reconciler takes never/least recently checked first.
+-- Date: 2026-10-17
+
+ALTER TABLE payment_transactions ADD COLUMN IF NOT EXISTS last_reconciled_at TIMESTAMP;
+
+COMMENT ON COLUMN payment_transactions.last_reconciled_at IS 'When the reconciler last asked the gateway about this PENDING payment';
+
+-- Replaces the (created_at, id) keyset index from V16
+DROP INDEX IF EXISTS idx_payment_pending_created;
+
+CREATE INDEX IF NOT EXISTS idx_payment_pending_reconcile
+    ON payment_transactions(last_reconciled_at NULLS FIRST, created_at)
+    WHERE status = 'PENDING';
+
+-- ============================================================================
+-- ROLLBACK INSTRUCTIONS (For Emergency)
+-- ============================================================================
+-- DROP INDEX IF EXISTS idx_payment_pending_reconcile;
+-- CREATE INDEX IF NOT EXISTS idx_payment_pending_created ON payment_transactions(created_at, id) WHERE status = 'PENDING';
+-- ALTER TABLE payment_transactions DROP COLUMN IF EXISTS last_reconciled_at;
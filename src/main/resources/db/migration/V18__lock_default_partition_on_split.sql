@@ -0,0 +1,41 @@
+-- Migration V18: Lock the default partition while a month is split out of it
+-- Purpose: ensure_transactions_partition() copied a month out of transactions_default, deleted it
+--          and attached the new partition without blocking writers. An insert for that month
+--          landing in the default partition in between made the ATTACH fail its default-partition
+--          check, and an update committed between the copy and the delete was lost. The default
+--          partition is now locked against writes (reads continue) before the copy.
+-- Date: 2026-10-17
+
+CREATE OR REPLACE FUNCTION ensure_transactions_partition(month_start DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    from_day DATE := date_trunc('month', month_start)::DATE;
+    to_day DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'transactions_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    -- Writers to the default partition wait until the month is moved and attached
+    LOCK TABLE transactions_default IN SHARE ROW EXCLUSIVE MODE;
+
+    -- Build the partition detached, pull its month out of the default partition,
+    -- then attach (indexes and FKs are cloned from the parent on attach)
+    EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                   partition_name);
+    EXECUTE format('INSERT INTO %I SELECT * FROM transactions_default WHERE date >= %L AND date < %L',
+                   partition_name, from_day, to_day);
+    EXECUTE format('DELETE FROM transactions_default WHERE date >= %L AND date < %L',
+                   from_day, to_day);
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, from_day, to_day);
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================================
+-- ROLLBACK INSTRUCTIONS (For Emergency)
+-- ============================================================================
+-- Re-run the CREATE OR REPLACE FUNCTION from V9 (same body without the LOCK TABLE).
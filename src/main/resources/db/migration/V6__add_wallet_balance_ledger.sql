@@ -0,0 +1,38 @@
+-- Migration V6: Maintained per-wallet balance ledger
+-- Purpose: Keep running income/expense totals on each wallet so balance reads
+--          no longer hydrate and sum the whole transaction history
+-- Date: 2026-10-17
+
+-- ============================================================================
+-- 1. LEDGER COLUMNS
+-- ============================================================================
+
+-- Running totals, updated in the same DB transaction as every transaction write
+-- Current balance = initial_balance + total_income - total_expense
+ALTER TABLE wallets ADD COLUMN IF NOT EXISTS total_income NUMERIC NOT NULL DEFAULT 0;
+ALTER TABLE wallets ADD COLUMN IF NOT EXISTS total_expense NUMERIC NOT NULL DEFAULT 0;
+
+-- ============================================================================
+-- 2. BACKFILL FROM EXISTING TRANSACTIONS
+-- ============================================================================
+
+UPDATE wallets w
+SET total_income = agg.income,
+    total_expense = agg.expense
+FROM (
+    SELECT t.wallet_id,
+           COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount END), 0) AS income,
+           COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount END), 0) AS expense
+    FROM transactions t
+    GROUP BY t.wallet_id
+) agg
+WHERE w.id = agg.wallet_id;
+
+COMMENT ON COLUMN wallets.total_income IS 'Running sum of INCOME transactions, maintained by transaction use cases';
+COMMENT ON COLUMN wallets.total_expense IS 'Running sum of EXPENSE transactions, maintained by transaction use cases';
+
+-- ============================================================================
+-- ROLLBACK SCRIPT (for reference)
+-- ============================================================================
+-- ALTER TABLE wallets DROP COLUMN IF EXISTS total_income;
+-- ALTER TABLE wallets DROP COLUMN IF EXISTS total_expense;
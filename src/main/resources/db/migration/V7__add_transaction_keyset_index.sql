@@ -0,0 +1,16 @@
+-- Migration V7: Keyset pagination index for transaction listing
+-- Purpose: Support GET /transactions/scroll seeking on (user_id, date DESC, id DESC)
+-- Date: 2026-10-17
+
+-- Query pattern:
+--   WHERE user_id = ? AND (date < ? OR (date = ? AND id < ?))
+--   ORDER BY date DESC, id DESC LIMIT ?
+-- The trailing id column makes the order total, so the seek never skips or repeats
+-- rows that share the same timestamp.
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date_id
+ON transactions(user_id, date DESC, id DESC);
+
+-- ============================================================================
+-- ROLLBACK SCRIPT (for reference)
+-- ============================================================================
+-- DROP INDEX IF EXISTS idx_transactions_user_date_id;
@@ -0,0 +1,50 @@
+-- Migration V8: Daily transaction rollup for reports and dashboard trend
+-- Purpose: Pre-aggregate transactions per (user, wallet, category, type, day) so report
+--          queries scale with days x categories instead of raw transaction count
+-- Date: 2026-10-17
+
+-- ============================================================================
+-- 1. ROLLUP TABLE
+-- ============================================================================
+
+-- Maintained incrementally by TransactionRollupRecorder in the same DB transaction as every
+-- transaction create/update/delete. local_day is the calendar day of transactions.date,
+-- which is already stored in Asia/Jakarta wall-clock time.
+CREATE TABLE IF NOT EXISTS transaction_daily_rollups (
+  user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  wallet_id UUID NOT NULL REFERENCES wallets(id) ON DELETE CASCADE,
+  category_id UUID NOT NULL REFERENCES categories(id) ON DELETE CASCADE,
+  type VARCHAR(10) NOT NULL,
+  local_day DATE NOT NULL,
+  total_amount NUMERIC NOT NULL DEFAULT 0,
+  transaction_count BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (user_id, wallet_id, category_id, type, local_day)
+);
+
+-- Report range scans: WHERE user_id = ? AND local_day BETWEEN ? AND ?
+CREATE INDEX IF NOT EXISTS idx_transaction_daily_rollups_user_day
+ON transaction_daily_rollups(user_id, local_day);
+
+-- ============================================================================
+-- 2. BACKFILL FROM EXISTING TRANSACTIONS
+-- ============================================================================
+
+INSERT INTO transaction_daily_rollups
+  (user_id, wallet_id, category_id, type, local_day, total_amount, transaction_count)
+SELECT t.user_id, t.wallet_id, t.category_id, t.type, CAST(t.date AS DATE),
+       COALESCE(SUM(t.amount), 0), COUNT(*)
+FROM transactions t
+WHERE t.user_id IS NOT NULL
+  AND t.wallet_id IS NOT NULL
+  AND t.category_id IS NOT NULL
+  AND t.type IS NOT NULL
+  AND t.date IS NOT NULL
+GROUP BY t.user_id, t.wallet_id, t.category_id, t.type, CAST(t.date AS DATE)
+ON CONFLICT DO NOTHING;
+
+COMMENT ON TABLE transaction_daily_rollups IS 'Per-day transaction sums, maintained by transaction use cases; rebuild with --rebuild-transaction-rollups';
+
+-- ============================================================================
+-- ROLLBACK SCRIPT (for reference)
+-- ============================================================================
+-- DROP TABLE IF EXISTS transaction_daily_rollups;
@@ -0,0 +1,155 @@
+-- Migration V9: Monthly range partitioning of transactions
+-- Purpose: Convert transactions to declarative RANGE partitions on date so inserts and
+--          vacuum only touch the hot month's indexes, and old months can be detached
+-- Date: 2026-10-17
+
+-- ============================================================================
+-- 1. MOVE THE EXISTING TABLE ASIDE
+-- ============================================================================
+
+ALTER TABLE transactions RENAME TO transactions_legacy;
+ALTER TABLE transactions_legacy RENAME CONSTRAINT transactions_pkey TO transactions_legacy_pkey;
+
+-- Free the index names for the partitioned table
+DROP INDEX IF EXISTS idx_transactions_user_date;
+DROP INDEX IF EXISTS idx_transactions_user_date_type;
+DROP INDEX IF EXISTS idx_transactions_user_category_date;
+DROP INDEX IF EXISTS idx_transactions_user_wallet_date;
+DROP INDEX IF EXISTS idx_transactions_user_wallet_category_type;
+DROP INDEX IF EXISTS idx_transactions_date;
+DROP INDEX IF EXISTS idx_transactions_user_date_id;
+
+-- ============================================================================
+-- 2. PARTITIONED TABLE
+-- ============================================================================
+
+-- The partition key must be part of the primary key. id stays unique in practice
+-- (application-generated UUIDs) and Hibernate keeps using id alone as the entity key.
+CREATE TABLE transactions (
+  id UUID NOT NULL,
+  user_id UUID REFERENCES users(id),
+  wallet_id UUID REFERENCES wallets(id),
+  category_id UUID REFERENCES categories(id),
+  type VARCHAR(10),
+  amount NUMERIC,
+  note TEXT,
+  date TIMESTAMP NOT NULL,
+  created_at TIMESTAMP,
+  updated_at TIMESTAMP,
+  PRIMARY KEY (id, date)
+) PARTITION BY RANGE (date);
+
+-- Catches dates outside the pre-created months (e.g. far-future entries) so inserts never fail.
+-- ensure_transactions_partition() moves such rows into their month once it is created.
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- ============================================================================
+-- 3. PARTITION MAINTENANCE FUNCTION
+-- ============================================================================
+
+-- Create the partition of the month containing month_start if it does not exist yet.
+-- Called by TransactionPartitionMaintainer to pre-create future months.
+-- Returns TRUE when a partition was created.
+CREATE OR REPLACE FUNCTION ensure_transactions_partition(month_start DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    from_day DATE := date_trunc('month', month_start)::DATE;
+    to_day DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'transactions_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    -- Build the partition detached, pull its month out of the default partition,
+    -- then attach (indexes and FKs are cloned from the parent on attach)
+    EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                   partition_name);
+    EXECUTE format('INSERT INTO %I SELECT * FROM transactions_default WHERE date >= %L AND date < %L',
+                   partition_name, from_day, to_day);
+    EXECUTE format('DELETE FROM transactions_default WHERE date >= %L AND date < %L',
+                   from_day, to_day);
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, from_day, to_day);
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One partition per month from the oldest transaction up to 3 months ahead
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := (date_trunc('month', now()) + INTERVAL '3 months')::DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(COALESCE(date, created_at)), now()))::DATE
+    INTO month_start
+    FROM transactions_legacy;
+
+    WHILE month_start <= last_month LOOP
+        PERFORM ensure_transactions_partition(month_start);
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+-- ============================================================================
+-- 4. COPY DATA
+-- ============================================================================
+
+INSERT INTO transactions (id, user_id, wallet_id, category_id, type, amount, note, date, created_at, updated_at)
+SELECT id, user_id, wallet_id, category_id, type, amount, note,
+       COALESCE(date, created_at, now()), created_at, updated_at
+FROM transactions_legacy;
+
+DROP TABLE transactions_legacy;
+
+-- ============================================================================
+-- 5. INDEXES (created on every partition)
+-- ============================================================================
+
+-- Three secondary indexes instead of seven. Date ranges are served by partition pruning,
+-- so idx_transactions_date, idx_transactions_user_date and idx_transactions_user_date_type
+-- are covered by the keyset index; idx_transactions_user_wallet_category_type is covered by
+-- the wallet/category indexes since V3's catch-all filter query was removed.
+
+-- List, scroll, dashboard and export: WHERE user_id = ? [AND date range] ORDER BY date DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date_id
+ON transactions(user_id, date DESC, id DESC);
+
+-- Wallet filter: WHERE user_id = ? AND wallet_id = ? [AND date range]
+CREATE INDEX IF NOT EXISTS idx_transactions_user_wallet_date
+ON transactions(user_id, wallet_id, date DESC);
+
+-- Category filter: WHERE user_id = ? AND category_id = ? [AND date range]
+CREATE INDEX IF NOT EXISTS idx_transactions_user_category_date
+ON transactions(user_id, category_id, date DESC);
+
+ANALYZE transactions;
+
+-- ============================================================================
+-- MAINTENANCE NOTES
+-- ============================================================================
+
+-- 1. Future months are pre-created daily by TransactionPartitionMaintainer
+--    (app.transaction.partition.months-ahead, default 3).
+-- 2. List partitions and their sizes:
+--    SELECT c.relname, pg_size_pretty(pg_total_relation_size(c.oid))
+--    FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+--    WHERE i.inhparent = 'transactions'::regclass ORDER BY c.relname;
+-- 3. Archive an old month (wallet ledger reconciliation and rollup rebuilds read
+--    transactions, so rebuild them only after archived months are re-attached):
+--    ALTER TABLE transactions DETACH PARTITION transactions_2024_01;
+--    (CONCURRENTLY is not available while transactions_default exists)
+-- 4. Verify pruning: performance-tests/sql/transaction-partition-pruning.sql
+
+-- ============================================================================
+-- ROLLBACK SCRIPT (for reference)
+-- ============================================================================
+-- CREATE TABLE transactions_plain (LIKE transactions INCLUDING DEFAULTS);
+-- INSERT INTO transactions_plain SELECT * FROM transactions;
+-- DROP TABLE transactions CASCADE;
+-- DROP FUNCTION IF EXISTS ensure_transactions_partition(DATE);
+-- ALTER TABLE transactions_plain RENAME TO transactions;
+-- ALTER TABLE transactions ADD PRIMARY KEY (id);
+-- then re-run the index statements of V3 and V7
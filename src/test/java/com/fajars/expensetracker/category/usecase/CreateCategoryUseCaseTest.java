@@ -33,6 +33,9 @@ class CreateCategoryUseCaseTest {
     @Mock
     private com.fajars.expensetracker.common.logging.BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private com.fajars.expensetracker.subscription.UsageQuota usageQuota;
+
     @InjectMocks
     private CreateCategoryUseCase useCase;
 
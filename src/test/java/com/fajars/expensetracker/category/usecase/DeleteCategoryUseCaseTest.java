@@ -4,6 +4,7 @@ import com.fajars.expensetracker.category.domain.Category;
 import com.fajars.expensetracker.category.domain.CategoryRepository;
 import com.fajars.expensetracker.category.domain.CategoryType;
 import com.fajars.expensetracker.category.usecase.deletecategory.DeleteCategoryUseCase;
+import com.fajars.expensetracker.transaction.TransactionBulkOperations;
 import com.fajars.expensetracker.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Date;
 import java.util.Optional;
@@ -28,6 +30,21 @@ class DeleteCategoryUseCaseTest {
     @Mock
     private com.fajars.expensetracker.common.logging.BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private TransactionBulkOperations transactionBulkOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private com.fajars.expensetracker.common.security.CurrentUserProvider userProvider;
+
+    @Mock
+    private com.fajars.expensetracker.report.ReportCacheInvalidator reportCacheInvalidator;
+
+    @Mock
+    private com.fajars.expensetracker.subscription.UsageQuota usageQuota;
+
     @InjectMocks
     private DeleteCategoryUseCase useCase;
 
@@ -57,9 +74,54 @@ class DeleteCategoryUseCaseTest {
         // Act
         useCase.delete(userId, categoryId);
 
-        // Assert
+        // Assert - transactions go set-based, the category is never loaded with its transactions
         verify(categoryRepository).findByIdAndUserId(categoryId, userId);
-        verify(categoryRepository).delete(userCategory);
+        verify(transactionBulkOperations, times(2)).deleteByCategory(userId, categoryId);
+        verify(categoryRepository).deleteByIdAndUserId(categoryId, userId);
+        verify(categoryRepository, never()).delete(any());
+        verify(reportCacheInvalidator).evictUser(userId);
+    }
+
+    @Test
+    void delete_ShouldReassignTransactions_WhenTargetHasSameType() {
+        // Arrange
+        UUID targetId = UUID.randomUUID();
+        Category target = Category.builder()
+                .id(targetId)
+                .user(null)
+                .name("Other Income")
+                .type(CategoryType.INCOME)
+                .createdAt(new Date())
+                .build();
+        when(categoryRepository.findByIdAndUserId(categoryId, userId)).thenReturn(Optional.of(userCategory));
+        when(categoryRepository.findAccessibleById(targetId, userId)).thenReturn(Optional.of(target));
+
+        // Act
+        useCase.delete(userId, categoryId, targetId);
+
+        // Assert
+        verify(transactionBulkOperations, times(2)).reassignCategory(userId, categoryId, targetId);
+        verify(transactionBulkOperations, never()).deleteByCategory(any(), any());
+        verify(categoryRepository).deleteByIdAndUserId(categoryId, userId);
+        verify(reportCacheInvalidator).evictUser(userId);
+    }
+
+    @Test
+    void delete_ShouldThrowException_WhenReassignTargetHasOtherType() {
+        // Arrange
+        UUID targetId = UUID.randomUUID();
+        Category target = Category.builder()
+                .id(targetId)
+                .name("Food")
+                .type(CategoryType.EXPENSE)
+                .build();
+        when(categoryRepository.findByIdAndUserId(categoryId, userId)).thenReturn(Optional.of(userCategory));
+        when(categoryRepository.findAccessibleById(targetId, userId)).thenReturn(Optional.of(target));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> useCase.delete(userId, categoryId, targetId));
+        verifyNoInteractions(transactionBulkOperations);
+        verify(categoryRepository, never()).deleteByIdAndUserId(any(), any());
     }
 
     @Test
@@ -69,7 +131,7 @@ class DeleteCategoryUseCaseTest {
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> useCase.delete(userId, categoryId));
-        verify(categoryRepository, never()).delete(any());
+        verify(categoryRepository, never()).deleteByIdAndUserId(any(), any());
     }
 
     @Test
@@ -86,6 +148,6 @@ class DeleteCategoryUseCaseTest {
 
         // Act & Assert
         assertThrows(IllegalStateException.class, () -> useCase.delete(userId, categoryId));
-        verify(categoryRepository, never()).delete(any());
+        verifyNoInteractions(transactionBulkOperations);
     }
 }
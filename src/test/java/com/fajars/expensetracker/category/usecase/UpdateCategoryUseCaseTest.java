@@ -33,6 +33,9 @@ class UpdateCategoryUseCaseTest {
     @Mock
     private com.fajars.expensetracker.common.logging.BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private com.fajars.expensetracker.report.ReportCacheInvalidator reportCacheInvalidator;
+
     @InjectMocks
     private UpdateCategoryUseCase useCase;
 
@@ -68,6 +71,7 @@ class UpdateCategoryUseCaseTest {
         assertNotNull(result);
         verify(categoryRepository).findByIdAndUserId(categoryId, userId);
         verify(categoryRepository).save(any(Category.class));
+        verify(reportCacheInvalidator).evictUser(userId);
     }
 
     @Test
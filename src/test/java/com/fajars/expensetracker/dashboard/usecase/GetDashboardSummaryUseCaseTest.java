@@ -1,7 +1,10 @@
 package com.fajars.expensetracker.dashboard.usecase;
 
+import com.fajars.expensetracker.common.exception.BusinessException;
 import com.fajars.expensetracker.dashboard.api.DashboardSummaryResponse;
+import com.fajars.expensetracker.transaction.domain.TransactionDailyRollupRepository;
 import com.fajars.expensetracker.transaction.domain.TransactionRepository;
+import com.fajars.expensetracker.transaction.projection.TrendData;
 import com.fajars.expensetracker.user.domain.User;
 import com.fajars.expensetracker.wallet.domain.Currency;
 import com.fajars.expensetracker.wallet.domain.Wallet;
@@ -12,7 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,12 +32,18 @@ class GetDashboardSummaryUseCaseTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private TransactionDailyRollupRepository rollupRepository;
+
     @Mock
     private WalletRepository walletRepository;
 
     @Mock
     private com.fajars.expensetracker.common.metrics.MetricsService metricsService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private GetDashboardSummaryUseCase useCase;
 
@@ -59,8 +72,6 @@ class GetDashboardSummaryUseCaseTest {
     void getSummary_ShouldReturnSummary_WhenWalletIdProvided() {
         // Arrange
         when(walletRepository.findByIdAndUserId(walletId, userId)).thenReturn(Optional.of(wallet));
-        when(transactionRepository.findByUserIdAndWalletIdAndDateBetween(eq(userId), eq(walletId), any(), any()))
-                .thenReturn(new ArrayList<>());
         when(transactionRepository.findTop5ByUserIdAndWalletId(userId, walletId))
                 .thenReturn(new ArrayList<>());
 
@@ -81,8 +92,6 @@ class GetDashboardSummaryUseCaseTest {
     void getSummary_ShouldReturnSummary_WhenWalletIdIsNull() {
         // Arrange
         when(walletRepository.findByUserId(userId)).thenReturn(Arrays.asList(wallet));
-        when(transactionRepository.findByUserIdAndDateBetween(eq(userId), any(), any()))
-                .thenReturn(new ArrayList<>());
         when(transactionRepository.findTop5ByUserId(userId))
                 .thenReturn(new ArrayList<>());
 
@@ -101,8 +110,6 @@ class GetDashboardSummaryUseCaseTest {
     void getSummary_ShouldReturnZeroBalance_WhenWalletNotFound() {
         // Arrange
         when(walletRepository.findByIdAndUserId(walletId, userId)).thenReturn(Optional.empty());
-        when(transactionRepository.findByUserIdAndWalletIdAndDateBetween(eq(userId), eq(walletId), any(), any()))
-                .thenReturn(new ArrayList<>());
         when(transactionRepository.findTop5ByUserIdAndWalletId(userId, walletId))
                 .thenReturn(new ArrayList<>());
 
@@ -119,8 +126,6 @@ class GetDashboardSummaryUseCaseTest {
     void getSummary_ShouldCalculateWeeklyTrend() {
         // Arrange
         when(walletRepository.findByUserId(userId)).thenReturn(Arrays.asList(wallet));
-        when(transactionRepository.findByUserIdAndDateBetween(eq(userId), any(), any()))
-                .thenReturn(new ArrayList<>());
         when(transactionRepository.findTop5ByUserId(userId))
                 .thenReturn(new ArrayList<>());
 
@@ -132,4 +137,104 @@ class GetDashboardSummaryUseCaseTest {
         assertNotNull(result.weeklyTrend());
         assertEquals(7, result.weeklyTrend().size()); // Should have 7 days
     }
+
+    @Test
+    void getSummary_ShouldUseLedgerTotals_ForWalletBalance() {
+        // Arrange
+        wallet.setTotalIncome(250000.0);
+        wallet.setTotalExpense(100000.0);
+        when(walletRepository.findByIdAndUserId(walletId, userId)).thenReturn(Optional.of(wallet));
+        when(transactionRepository.findTop5ByUserIdAndWalletId(userId, walletId))
+                .thenReturn(new ArrayList<>());
+
+        // Act
+        DashboardSummaryResponse result = useCase.getSummary(userId, walletId);
+
+        // Assert
+        assertEquals(1150000.0, result.walletBalance());
+    }
+
+    @Test
+    void getSummary_ShouldReadWeeklyTrendFromDailyRollup() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        TrendData todayRow = mock(TrendData.class);
+        when(todayRow.getDate()).thenReturn(today);
+        when(todayRow.getTotalIncome()).thenReturn(BigDecimal.valueOf(50000));
+        when(todayRow.getTotalExpense()).thenReturn(BigDecimal.valueOf(20000));
+
+        when(walletRepository.findByIdAndUserId(walletId, userId)).thenReturn(Optional.of(wallet));
+        when(transactionRepository.findTop5ByUserIdAndWalletId(userId, walletId))
+                .thenReturn(new ArrayList<>());
+        when(rollupRepository.getTrendData(userId, today.minusDays(6), today, List.of(walletId)))
+                .thenReturn(List.of(todayRow));
+
+        // Act
+        DashboardSummaryResponse result = useCase.getSummary(userId, walletId);
+
+        // Assert
+        assertEquals(7, result.weeklyTrend().size());
+        assertEquals(today, result.weeklyTrend().get(6).date());
+        assertEquals(50000.0, result.weeklyTrend().get(6).income());
+        assertEquals(20000.0, result.weeklyTrend().get(6).expense());
+        assertEquals(0.0, result.weeklyTrend().getFirst().income());
+    }
+
+    @Test
+    void getSummary_ShouldSumIncomeAndExpense_FromTheSameRollupAsTheTrend() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        TrendData todayRow = mock(TrendData.class);
+        when(todayRow.getDate()).thenReturn(today);
+        when(todayRow.getTotalIncome()).thenReturn(BigDecimal.valueOf(50000));
+        when(todayRow.getTotalExpense()).thenReturn(BigDecimal.valueOf(20000));
+        TrendData yesterdayRow = mock(TrendData.class);
+        when(yesterdayRow.getDate()).thenReturn(today.minusDays(1));
+        when(yesterdayRow.getTotalIncome()).thenReturn(BigDecimal.ZERO);
+        when(yesterdayRow.getTotalExpense()).thenReturn(BigDecimal.valueOf(15000));
+
+        when(walletRepository.findByUserId(userId)).thenReturn(List.of(wallet));
+        when(transactionRepository.findTop5ByUserId(userId)).thenReturn(new ArrayList<>());
+        when(rollupRepository.getTrendData(userId, today.minusDays(6), today, null))
+                .thenReturn(List.of(yesterdayRow, todayRow));
+
+        // Act
+        DashboardSummaryResponse result = useCase.getSummary(userId, null);
+
+        // Assert
+        assertEquals(50000.0, result.todayIncome());
+        assertEquals(35000.0, result.todayExpense());
+        verify(rollupRepository, times(1)).getTrendData(any(), any(), any(), any());
+    }
+
+    @Test
+    void getSummary_ShouldReturnOtherSections_WhenOneSectionFails() {
+        // Arrange
+        when(walletRepository.findByUserId(userId)).thenThrow(new IllegalStateException("connection refused"));
+        when(transactionRepository.findTop5ByUserId(userId)).thenReturn(new ArrayList<>());
+
+        // Act
+        DashboardSummaryResponse result = useCase.getSummary(userId, null);
+
+        // Assert
+        assertNull(result.walletBalance());
+        assertEquals(7, result.weeklyTrend().size());
+        assertNotNull(result.recentTransactions());
+        verify(metricsService).incrementCounter("dashboard.summary.section_failed",
+                "section", "wallet_balance", "reason", "error");
+    }
+
+    @Test
+    void getSummary_ShouldThrowServiceUnavailable_WhenAllSectionsFail() {
+        // Arrange
+        when(walletRepository.findByUserId(userId)).thenThrow(new IllegalStateException("connection refused"));
+        when(transactionRepository.findTop5ByUserId(userId)).thenThrow(new IllegalStateException("connection refused"));
+        when(rollupRepository.getTrendData(any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> useCase.getSummary(userId, null));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+    }
 }
@@ -47,6 +47,12 @@ class AddDebtPaymentUseCaseTest {
     @Mock
     private BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private com.fajars.expensetracker.debt.DebtSummaryCacheInvalidator debtSummaryCacheInvalidator;
+
+    @Mock
+    private com.fajars.expensetracker.subscription.UsageQuota usageQuota;
+
     @InjectMocks
     private AddDebtPaymentUseCase useCase;
 
@@ -76,7 +82,7 @@ class AddDebtPaymentUseCaseTest {
         // Arrange
         AddDebtPaymentRequest request = new AddDebtPaymentRequest(250.0, null, "First payment");
 
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
         when(debtPaymentRepository.save(any(DebtPayment.class))).thenAnswer(
             i -> i.getArguments()[0]);
         when(debtRepository.save(any(Debt.class))).thenReturn(debt);
@@ -91,18 +97,43 @@ class AddDebtPaymentUseCaseTest {
         assertEquals(250.0, result.payment().amount());
         assertEquals(750.0, result.updatedDebt().remainingAmount());
         assertEquals(DebtStatus.PARTIAL, result.updatedDebt().status());
+        assertEquals(1, result.updatedDebt().paymentCount());
+        assertEquals(result.payment().paidAt(), result.updatedDebt().lastPaidAt());
 
-        verify(debtRepository).findByIdAndUserId(debtId, userId);
+        verify(debtRepository).findForUpdateByIdAndUserId(debtId, userId);
         verify(debtPaymentRepository).save(any(DebtPayment.class));
         verify(debtRepository).save(debt);
     }
 
+    @Test
+    void addPayment_ShouldCountOnTopOfLockedDebt_WhenPaymentsAlreadyRecorded() {
+        // Arrange - the locked row already reflects two committed payments
+        LocalDateTime latestPayment = LocalDateTime.now().minusDays(1);
+        debt.setPaymentCount(2);
+        debt.setLastPaidAt(latestPayment);
+        AddDebtPaymentRequest request = new AddDebtPaymentRequest(
+            100.0, latestPayment.minusDays(3), "Backdated payment");
+
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtPaymentRepository.save(any(DebtPayment.class))).thenAnswer(
+            i -> i.getArguments()[0]);
+        when(debtRepository.save(any(Debt.class))).thenReturn(debt);
+
+        // Act
+        AddDebtPayment.AddDebtPaymentResult result = useCase.addPayment(debtId, request);
+
+        // Assert
+        assertEquals(3, result.updatedDebt().paymentCount());
+        assertEquals(latestPayment, result.updatedDebt().lastPaidAt());
+        verify(debtRepository, never()).findByIdAndUserId(any(), any());
+    }
+
     @Test
     void addPayment_ShouldUpdateStatusToPaid_WhenFullyPaid() {
         // Arrange
         AddDebtPaymentRequest request = new AddDebtPaymentRequest(1000.0, null, "Full payment");
 
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
         when(debtPaymentRepository.save(any(DebtPayment.class))).thenAnswer(
             i -> i.getArguments()[0]);
         when(debtRepository.save(any(Debt.class))).thenReturn(debt);
@@ -119,7 +150,7 @@ class AddDebtPaymentUseCaseTest {
     void addPayment_ShouldThrowException_WhenDebtNotFound() {
         // Arrange
         AddDebtPaymentRequest request = new AddDebtPaymentRequest(250.0, null, null);
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.empty());
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class,
@@ -136,7 +167,7 @@ class AddDebtPaymentUseCaseTest {
         debt.setRemainingAmount(0.0);
 
         AddDebtPaymentRequest request = new AddDebtPaymentRequest(100.0, null, null);
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
 
         // Act & Assert
         assertThrows(IllegalStateException.class,
@@ -149,7 +180,7 @@ class AddDebtPaymentUseCaseTest {
     void addPayment_ShouldThrowException_WhenPaymentExceedsRemaining() {
         // Arrange
         AddDebtPaymentRequest request = new AddDebtPaymentRequest(1500.0, null, null);
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class,
@@ -160,7 +191,7 @@ class AddDebtPaymentUseCaseTest {
     void addPayment_ShouldRecordMetrics() {
         // Arrange
         AddDebtPaymentRequest request = new AddDebtPaymentRequest(250.0, null, null);
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
         when(debtPaymentRepository.save(any(DebtPayment.class))).thenAnswer(
             i -> i.getArguments()[0]);
         when(debtRepository.save(any(Debt.class))).thenReturn(debt);
@@ -177,7 +208,7 @@ class AddDebtPaymentUseCaseTest {
     void addPayment_ShouldUseCurrentTime_WhenPaidAtNotProvided() {
         // Arrange
         AddDebtPaymentRequest request = new AddDebtPaymentRequest(250.0, null, null);
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
         when(debtPaymentRepository.save(any(DebtPayment.class))).thenAnswer(
             i -> i.getArguments()[0]);
         when(debtRepository.save(any(Debt.class))).thenReturn(debt);
@@ -195,7 +226,7 @@ class AddDebtPaymentUseCaseTest {
         LocalDateTime customTime = LocalDateTime.of(2025, 1, 1, 12, 0);
         AddDebtPaymentRequest request = new AddDebtPaymentRequest(250.0, customTime, null);
 
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
         when(debtPaymentRepository.save(any(DebtPayment.class))).thenAnswer(
             i -> i.getArguments()[0]);
         when(debtRepository.save(any(Debt.class))).thenReturn(debt);
@@ -9,6 +9,8 @@ import com.fajars.expensetracker.debt.domain.DebtRepository;
 import com.fajars.expensetracker.debt.domain.DebtStatus;
 import com.fajars.expensetracker.debt.domain.DebtType;
 import com.fajars.expensetracker.debt.usecase.createdebt.CreateDebtUseCase;
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
 import com.fajars.expensetracker.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,7 +40,10 @@ class CreateDebtUseCaseTest {
     private BusinessEventLogger businessEventLogger;
 
     @Mock
-    private com.fajars.expensetracker.subscription.SubscriptionHelper subscriptionHelper;
+    private com.fajars.expensetracker.debt.DebtSummaryCacheInvalidator debtSummaryCacheInvalidator;
+
+    @Mock
+    private UsageQuota usageQuota;
 
     @InjectMocks
     private CreateDebtUseCase useCase;
@@ -62,8 +67,7 @@ class CreateDebtUseCaseTest {
             "Business loan"
         );
 
-        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
-        when(debtRepository.countActiveDebtsByUserId(userId)).thenReturn(5L);
+        when(usageQuota.tryAcquire(userId, QuotaType.ACTIVE_DEBTS)).thenReturn(true);
 
         Debt savedDebt = Debt.builder()
             .id(UUID.randomUUID())
@@ -109,8 +113,7 @@ class CreateDebtUseCaseTest {
             null
         );
 
-        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
-        when(debtRepository.countActiveDebtsByUserId(userId)).thenReturn(5L);
+        when(usageQuota.tryAcquire(userId, QuotaType.ACTIVE_DEBTS)).thenReturn(true);
 
         ArgumentCaptor<Debt> debtCaptor = ArgumentCaptor.forClass(Debt.class);
         when(debtRepository.save(debtCaptor.capture())).thenAnswer(i -> i.getArguments()[0]);
@@ -136,8 +139,7 @@ class CreateDebtUseCaseTest {
             null
         );
 
-        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
-        when(debtRepository.countActiveDebtsByUserId(userId)).thenReturn(5L);
+        when(usageQuota.tryAcquire(userId, QuotaType.ACTIVE_DEBTS)).thenReturn(true);
 
         ArgumentCaptor<Debt> debtCaptor = ArgumentCaptor.forClass(Debt.class);
         when(debtRepository.save(debtCaptor.capture())).thenAnswer(i -> i.getArguments()[0]);
@@ -163,8 +165,7 @@ class CreateDebtUseCaseTest {
             null
         );
 
-        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
-        when(debtRepository.countActiveDebtsByUserId(userId)).thenReturn(5L);
+        when(usageQuota.tryAcquire(userId, QuotaType.ACTIVE_DEBTS)).thenReturn(true);
         when(debtRepository.save(any(Debt.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
@@ -187,8 +188,7 @@ class CreateDebtUseCaseTest {
             null
         );
 
-        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
-        when(debtRepository.countActiveDebtsByUserId(userId)).thenReturn(5L);
+        when(usageQuota.tryAcquire(userId, QuotaType.ACTIVE_DEBTS)).thenReturn(true);
         when(debtRepository.save(any(Debt.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
@@ -0,0 +1,157 @@
+package com.fajars.expensetracker.debt.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fajars.expensetracker.common.exception.BusinessException;
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.debt.api.DebtCursor;
+import com.fajars.expensetracker.debt.api.DebtCursorPageResponse;
+import com.fajars.expensetracker.debt.api.DebtFilter;
+import com.fajars.expensetracker.debt.domain.Debt;
+import com.fajars.expensetracker.debt.domain.DebtRepository;
+import com.fajars.expensetracker.debt.domain.DebtSort;
+import com.fajars.expensetracker.debt.domain.DebtStatus;
+import com.fajars.expensetracker.debt.domain.DebtType;
+import com.fajars.expensetracker.debt.usecase.listdebt.ListDebtsUseCase;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * Unit tests for the unified debt filter and cursor pagination in ListDebtsUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class ListDebtsUseCaseTest {
+
+    @Mock
+    private DebtRepository debtRepository;
+
+    @Mock
+    private CurrentUserProvider userProvider;
+
+    @InjectMocks
+    private ListDebtsUseCase useCase;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        when(userProvider.getUserId()).thenReturn(userId);
+    }
+
+    @Test
+    void scroll_ShouldCombineOverdueWithTypeAndStatus_AndReturnNextCursor() {
+        // Arrange
+        DebtFilter filter = new DebtFilter(
+            DebtType.RECEIVABLE, DebtStatus.PARTIAL, true, DebtSort.DUE_DATE, 0, 2);
+        List<Debt> rows = debts(3);
+        when(debtRepository.scrollByQuery(
+            argThat(query -> query.userId().equals(userId)
+                && query.type() == DebtType.RECEIVABLE
+                && query.status() == DebtStatus.PARTIAL
+                && query.overdueAt() != null),
+            eq(DebtSort.DUE_DATE), isNull(), isNull(), eq(3)))
+            .thenReturn(rows);
+
+        // Act
+        DebtCursorPageResponse page = useCase.scroll(filter, null);
+
+        // Assert
+        assertEquals(2, page.debts().size());
+        assertTrue(page.hasMore());
+        assertNotNull(page.nextCursor());
+
+        DebtCursor cursor = DebtCursor.decode(page.nextCursor(), DebtSort.DUE_DATE);
+        assertEquals(rows.get(1).getId(), cursor.id());
+        assertEquals(rows.get(1).getDueDate(), cursor.key());
+    }
+
+    @Test
+    void list_ShouldSortOverdueDebtsByDueDate_WhenNoSortGiven() {
+        // Arrange
+        DebtFilter filter = new DebtFilter(null, null, true, null, 0, 20);
+        when(debtRepository.findByQuery(
+            argThat(query -> query.overdueAt() != null), eq(DebtSort.DUE_DATE), any()))
+            .thenReturn(new PageImpl<>(debts(1)));
+
+        // Act
+        Page<?> page = useCase.list(filter);
+
+        // Assert
+        assertEquals(1, page.getTotalElements());
+        assertEquals(DebtSort.CREATED_AT, new DebtFilter(null, null, null, null, 0, 20).sort());
+    }
+
+    @Test
+    void scroll_ShouldSeekAfterCursor_AndStopOnLastPage() {
+        // Arrange
+        DebtFilter filter = new DebtFilter(null, null, null, null, 0, 20);
+        DebtCursor cursor = new DebtCursor(DebtSort.CREATED_AT, LocalDateTime.of(2025, 11, 1, 9, 0), UUID.randomUUID());
+        when(debtRepository.scrollByQuery(
+            argThat(query -> query.overdueAt() == null && query.type() == null),
+            eq(DebtSort.CREATED_AT), eq(cursor.key()), eq(cursor.id()), eq(21)))
+            .thenReturn(debts(1));
+
+        // Act
+        DebtCursorPageResponse page = useCase.scroll(filter, cursor.encode());
+
+        // Assert
+        assertEquals(1, page.debts().size());
+        assertFalse(page.hasMore());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void scroll_ShouldRejectCursorIssuedForAnotherSort() {
+        // Arrange
+        DebtFilter filter = new DebtFilter(null, null, null, DebtSort.DUE_DATE, 0, 20);
+        String createdAtCursor =
+            new DebtCursor(DebtSort.CREATED_AT, LocalDateTime.now(), UUID.randomUUID()).encode();
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> useCase.scroll(filter, createdAtCursor));
+        verify(debtRepository, never()).scrollByQuery(any(), any(), any(), any(), anyInt());
+    }
+
+    private List<Debt> debts(int count) {
+        List<Debt> debts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 11, 1, 9, 0).minusDays(i);
+            debts.add(Debt.builder()
+                .id(UUID.randomUUID())
+                .type(DebtType.RECEIVABLE)
+                .counterpartyName("Counterparty " + i)
+                .totalAmount(1000.0)
+                .remainingAmount(400.0)
+                .dueDate(LocalDateTime.of(2025, 10, 1, 0, 0).plusDays(i))
+                .status(DebtStatus.PARTIAL)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build());
+        }
+        return debts;
+    }
+}
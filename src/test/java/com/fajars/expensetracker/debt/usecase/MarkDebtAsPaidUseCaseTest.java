@@ -36,6 +36,12 @@ class MarkDebtAsPaidUseCaseTest {
     @Mock
     private BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private com.fajars.expensetracker.debt.DebtSummaryCacheInvalidator debtSummaryCacheInvalidator;
+
+    @Mock
+    private com.fajars.expensetracker.subscription.UsageQuota usageQuota;
+
     @InjectMocks
     private MarkDebtAsPaidUseCase useCase;
 
@@ -63,7 +69,7 @@ class MarkDebtAsPaidUseCaseTest {
     @Test
     void markAsPaid_ShouldMarkDebtAsPaid_WhenValid() {
         // Arrange
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
         when(debtRepository.save(any(Debt.class))).thenReturn(debt);
 
         // Act
@@ -74,7 +80,7 @@ class MarkDebtAsPaidUseCaseTest {
         assertEquals(0.0, result.remainingAmount());
         assertEquals(DebtStatus.PAID, result.status());
 
-        verify(debtRepository).findByIdAndUserId(debtId, userId);
+        verify(debtRepository).findForUpdateByIdAndUserId(debtId, userId);
         verify(debtRepository).save(debt);
         verify(businessEventLogger).logBusinessEvent(eq("DEBT_MARKED_PAID"), anyString(), anyMap());
     }
@@ -85,7 +91,7 @@ class MarkDebtAsPaidUseCaseTest {
         debt.setStatus(DebtStatus.PAID);
         debt.setRemainingAmount(0.0);
 
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
 
         // Act
         DebtResponse result = useCase.markAsPaid(userId, debtId);
@@ -94,12 +100,14 @@ class MarkDebtAsPaidUseCaseTest {
         assertNotNull(result);
         assertEquals(DebtStatus.PAID, result.status());
         verify(debtRepository, never()).save(any());
+        // The request that lost the race on the row lock must not release the slot again
+        verify(usageQuota, never()).release(any(), any());
     }
 
     @Test
     void markAsPaid_ShouldThrowException_WhenDebtNotFound() {
         // Arrange
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.empty());
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class,
@@ -111,7 +119,7 @@ class MarkDebtAsPaidUseCaseTest {
     @Test
     void markAsPaid_ShouldRecordMetrics() {
         // Arrange
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(debt));
         when(debtRepository.save(any(Debt.class))).thenReturn(debt);
 
         // Act
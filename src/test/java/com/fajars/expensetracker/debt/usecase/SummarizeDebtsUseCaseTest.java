@@ -0,0 +1,125 @@
+package com.fajars.expensetracker.debt.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.debt.api.DebtSummaryResponse;
+import com.fajars.expensetracker.debt.domain.DebtRepository;
+import com.fajars.expensetracker.debt.projection.DebtSummaryRow;
+import com.fajars.expensetracker.debt.usecase.summarizedebt.SummarizeDebtsUseCase;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SummarizeDebtsUseCaseTest {
+
+    @Mock
+    private DebtRepository debtRepository;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @InjectMocks
+    private SummarizeDebtsUseCase useCase;
+
+    @Test
+    void summarize_ShouldFoldGroupedBucketsIntoTypeSummaries() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        when(debtRepository.getSummaryBuckets(eq(userId), any(), any(), any())).thenReturn(List.of(
+            new Row("PAYABLE", "OPEN", true, null, 2, 500_000, 500_000),
+            new Row("PAYABLE", "PARTIAL", false, 7, 1, 300_000, 100_000),
+            new Row("PAYABLE", "OPEN", false, 30, 1, 200_000, 200_000),
+            new Row("PAYABLE", "PAID", false, null, 3, 900_000, 0),
+            new Row("RECEIVABLE", "OPEN", false, null, 1, 1_000_000, 1_000_000)
+        ));
+
+        // Act
+        DebtSummaryResponse summary = useCase.summarize(userId);
+
+        // Assert
+        DebtSummaryResponse.TypeSummary payable = summary.payable();
+        assertEquals(7, payable.all().count());
+        assertEquals(800_000.0, payable.all().remainingAmount());
+        assertEquals(3, payable.open().count());
+        assertEquals(1, payable.partial().count());
+        assertEquals(900_000.0, payable.paid().totalAmount());
+        assertEquals(500_000.0, payable.overdue().remainingAmount());
+        assertEquals(1, payable.dueWithin7Days().count());
+        assertEquals(2, payable.dueWithin30Days().count());
+        assertEquals(300_000.0, payable.dueWithin30Days().remainingAmount());
+
+        assertEquals(1_000_000.0, summary.receivable().open().remainingAmount());
+        assertEquals(0, summary.receivable().overdue().count());
+        assertEquals(200_000.0, summary.netRemaining());
+
+        verify(debtRepository, times(1)).getSummaryBuckets(any(), any(), any(), any());
+    }
+
+    @Test
+    void summarize_ShouldReturnEmptyBuckets_WhenUserHasNoDebts() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        when(debtRepository.getSummaryBuckets(eq(userId), any(), any(), any())).thenReturn(List.of());
+
+        // Act
+        DebtSummaryResponse summary = useCase.summarize(userId);
+
+        // Assert
+        assertEquals(DebtSummaryResponse.Bucket.EMPTY, summary.payable().all());
+        assertEquals(DebtSummaryResponse.Bucket.EMPTY, summary.receivable().dueWithin30Days());
+        assertEquals(0.0, summary.netRemaining());
+    }
+
+    private record Row(
+        String type, String status, Boolean overdue, Integer dueWindow,
+        long count, double total, double remaining
+    ) implements DebtSummaryRow {
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public String getStatus() {
+            return status;
+        }
+
+        @Override
+        public Boolean getOverdue() {
+            return overdue;
+        }
+
+        @Override
+        public Integer getDueWindow() {
+            return dueWindow;
+        }
+
+        @Override
+        public Long getDebtCount() {
+            return count;
+        }
+
+        @Override
+        public BigDecimal getTotalAmount() {
+            return BigDecimal.valueOf(total);
+        }
+
+        @Override
+        public BigDecimal getRemainingAmount() {
+            return BigDecimal.valueOf(remaining);
+        }
+    }
+}
@@ -38,6 +38,12 @@ class UpdateDebtUseCaseTest {
     @Mock
     private BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private com.fajars.expensetracker.debt.DebtSummaryCacheInvalidator debtSummaryCacheInvalidator;
+
+    @Mock
+    private com.fajars.expensetracker.subscription.UsageQuota usageQuota;
+
     @InjectMocks
     private UpdateDebtUseCase useCase;
 
@@ -76,7 +82,7 @@ class UpdateDebtUseCaseTest {
             .updatedAt(LocalDateTime.now())
             .build();
 
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
         when(debtRepository.save(any(Debt.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
@@ -89,7 +95,7 @@ class UpdateDebtUseCaseTest {
         assertEquals(1200.0, result.totalAmount());
         assertEquals("Updated loan", result.note());
 
-        verify(debtRepository).findByIdAndUserId(debtId, userId);
+        verify(debtRepository).findForUpdateByIdAndUserId(debtId, userId);
         verify(debtRepository).save(any(Debt.class));
         verify(metricsService).incrementCounter(eq("debts.updated.total"));
         verify(businessEventLogger).logBusinessEvent(eq("DEBT_UPDATED"), anyString(), anyMap());
@@ -107,14 +113,14 @@ class UpdateDebtUseCaseTest {
             null
         );
 
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.empty());
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> {
             useCase.update(userId, debtId, request);
         });
 
-        verify(debtRepository).findByIdAndUserId(debtId, userId);
+        verify(debtRepository).findForUpdateByIdAndUserId(debtId, userId);
         verify(debtRepository, never()).save(any(Debt.class));
     }
 
@@ -144,7 +150,7 @@ class UpdateDebtUseCaseTest {
             .build();
 
         ArgumentCaptor<Debt> debtCaptor = ArgumentCaptor.forClass(Debt.class);
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
         when(debtRepository.save(debtCaptor.capture())).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
@@ -182,7 +188,7 @@ class UpdateDebtUseCaseTest {
             .updatedAt(LocalDateTime.now())
             .build();
 
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
@@ -219,7 +225,7 @@ class UpdateDebtUseCaseTest {
             .build();
 
         ArgumentCaptor<Debt> debtCaptor = ArgumentCaptor.forClass(Debt.class);
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
         when(debtRepository.save(debtCaptor.capture())).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
@@ -257,7 +263,7 @@ class UpdateDebtUseCaseTest {
             .updatedAt(LocalDateTime.now())
             .build();
 
-        when(debtRepository.findByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
+        when(debtRepository.findForUpdateByIdAndUserId(debtId, userId)).thenReturn(Optional.of(existingDebt));
         when(debtRepository.save(any(Debt.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
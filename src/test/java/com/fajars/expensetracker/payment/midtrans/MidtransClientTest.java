@@ -0,0 +1,186 @@
+package com.fajars.expensetracker.payment.midtrans;
+
+import com.fajars.expensetracker.common.exception.ExternalServiceException;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MidtransClient against a local fake gateway.
+ */
+@ExtendWith(MockitoExtension.class)
+class MidtransClientTest {
+
+    @Mock
+    private MetricsService metricsService;
+
+    private HttpServer gateway;
+    private ExecutorService gatewayExecutor;
+    private final AtomicInteger gatewayCalls = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile int gatewayStatus = 201;
+    private volatile CountDownLatch releaseResponse = new CountDownLatch(0);
+    private final CountDownLatch requestReceived = new CountDownLatch(1);
+
+    private MidtransHttpProperties httpProperties;
+    private MidtransClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        gateway = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        gatewayExecutor = Executors.newCachedThreadPool();
+        gateway.setExecutor(gatewayExecutor);
+        gateway.createContext("/snap/v1/transactions", exchange -> {
+            gatewayCalls.incrementAndGet();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            requestReceived.countDown();
+            try {
+                releaseResponse.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"token\":\"snap-token\",\"redirect_url\":\"https://snap.test/pay\"}"
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(gatewayStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        gateway.start();
+
+        httpProperties = new MidtransHttpProperties();
+        httpProperties.setFailureThreshold(2);
+        httpProperties.setOpenDuration(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseResponse.countDown();
+        if (client != null) {
+            client.shutdown();
+        }
+        gateway.stop(0);
+        gatewayExecutor.shutdownNow();
+    }
+
+    @Test
+    void createTransaction_ShouldReuseOnePooledConnection_AcrossCalls() {
+        // Arrange
+        startClient();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertEquals("snap-token", client.createTransaction(snapRequest("ORDER-" + i)).token());
+        }
+
+        // Assert - every call came from the same kept-alive connection
+        assertEquals(3, gatewayCalls.get());
+        assertEquals(1, clientPorts.size());
+        verify(metricsService, times(3)).recordTimer(eq("midtrans.request.duration"), anyLong(),
+            eq("endpoint"), eq("snap_create"), eq("outcome"), eq("success"));
+    }
+
+    @Test
+    void createTransaction_ShouldFailFastWithoutCallingGateway_WhenCircuitIsOpen() {
+        // Arrange
+        startClient();
+        gatewayStatus = 503;
+
+        // Act - two gateway failures open the circuit
+        assertThrows(ExternalServiceException.class, () -> client.createTransaction(snapRequest("ORDER-1")));
+        assertThrows(ExternalServiceException.class, () -> client.createTransaction(snapRequest("ORDER-2")));
+        ExternalServiceException rejected = assertThrows(ExternalServiceException.class,
+            () -> client.createTransaction(snapRequest("ORDER-3")));
+
+        // Assert
+        assertEquals(2, gatewayCalls.get());
+        assertTrue(rejected.getMessage().contains("unavailable"));
+        verify(metricsService, times(2)).recordTimer(eq("midtrans.request.duration"), anyLong(),
+            eq("endpoint"), eq("snap_create"), eq("outcome"), eq("server_error"));
+        verify(metricsService).incrementCounter("midtrans.requests.rejected",
+            "endpoint", "snap_create", "reason", "circuit_open");
+    }
+
+    @Test
+    void createTransaction_ShouldKeepCircuitClosed_WhenGatewayRejectsTheRequest() {
+        // Arrange
+        startClient();
+        gatewayStatus = 400;
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ExternalServiceException.class, () -> client.createTransaction(snapRequest("ORDER-1")));
+        }
+
+        // Assert - client errors mean the gateway is up
+        assertEquals(3, gatewayCalls.get());
+        verify(metricsService, never()).incrementCounter(eq("midtrans.requests.rejected"), any(String[].class));
+    }
+
+    @Test
+    void createTransaction_ShouldRejectCallsBeyondTheBulkhead() throws Exception {
+        // Arrange
+        httpProperties.setMaxConcurrentCalls(1);
+        startClient();
+        releaseResponse = new CountDownLatch(1);
+
+        // Act - the first call holds the only slot while the gateway stalls
+        CompletableFuture<MidtransSnapResponse> first =
+            CompletableFuture.supplyAsync(() -> client.createTransaction(snapRequest("ORDER-1")));
+        assertTrue(requestReceived.await(5, TimeUnit.SECONDS));
+        ExternalServiceException rejected = assertThrows(ExternalServiceException.class,
+            () -> client.createTransaction(snapRequest("ORDER-2")));
+        releaseResponse.countDown();
+
+        // Assert
+        assertTrue(rejected.getMessage().contains("busy"));
+        assertEquals("snap-token", first.get(5, TimeUnit.SECONDS).token());
+        assertEquals(1, gatewayCalls.get());
+        verify(metricsService).incrementCounter("midtrans.requests.rejected",
+            "endpoint", "snap_create", "reason", "bulkhead_full");
+    }
+
+    private void startClient() {
+        MidtransConfig config = new MidtransConfig();
+        config.setServerKey("SB-Mid-server-test");
+        config.setApiUrl("http://localhost:" + gateway.getAddress().getPort());
+        client = new MidtransClient(config, httpProperties, WebClient.builder(), metricsService);
+        client.init();
+    }
+
+    private static MidtransSnapRequest snapRequest(String orderId) {
+        return MidtransSnapRequest.builder()
+            .transactionDetails(MidtransSnapRequest.TransactionDetails.builder()
+                .orderId(orderId)
+                .grossAmount(new BigDecimal("25000.00"))
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.fajars.expensetracker.payment.scheduler;
+
+import com.fajars.expensetracker.common.exception.ExternalServiceException;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.payment.PaymentReconcileProperties;
+import com.fajars.expensetracker.payment.domain.PaymentRepository;
+import com.fajars.expensetracker.payment.domain.WebhookInboxRepository;
+import com.fajars.expensetracker.payment.midtrans.MidtransClient;
+import com.fajars.expensetracker.payment.projection.StalePendingPayment;
+import com.fajars.expensetracker.payment.scheduler.ReconcilePendingPaymentsScheduler.Outcome;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReconcilePendingPaymentsSchedulerTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private WebhookInboxRepository inboxRepository;
+
+    @Mock
+    private MidtransClient midtransClient;
+
+    @Mock
+    private MetricsService metricsService;
+
+    private PaymentReconcileProperties properties;
+    private ReconcilePendingPaymentsScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PaymentReconcileProperties();
+        properties.setRequestsPerSecond(1000);
+        scheduler = new ReconcilePendingPaymentsScheduler(
+            paymentRepository, inboxRepository, midtransClient, properties, metricsService, new ObjectMapper());
+    }
+
+    @Test
+    void reconcile_ShouldQueueFinalStatusesInTheInbox() {
+        // Arrange
+        StalePendingPayment settled = payment("ORDER-1", 1);
+        StalePendingPayment pending = payment("ORDER-2", 1);
+        when(paymentRepository.findStalePendingPayments(any(), any(), eq(100)))
+            .thenReturn(List.of(settled, pending));
+        when(midtransClient.getTransactionStatus("ORDER-1"))
+            .thenReturn(Mono.just(status("ORDER-1", "settlement")));
+        when(midtransClient.getTransactionStatus("ORDER-2"))
+            .thenReturn(Mono.just(status("ORDER-2", "pending")));
+        when(inboxRepository.insertIfAbsent(eq("ORDER-1"), eq("settlement"), anyString(), any())).thenReturn(1);
+
+        // Act
+        Map<Outcome, Integer> result = scheduler.reconcile();
+
+        // Assert
+        assertEquals(Map.of(Outcome.QUEUED, 1, Outcome.PENDING, 1), result);
+        verify(inboxRepository).insertIfAbsent(eq("ORDER-1"), eq("settlement"),
+            argThat(json -> json.contains("\"transaction_status\":\"settlement\"")), any());
+        verify(inboxRepository, never()).insertIfAbsent(eq("ORDER-2"), anyString(), anyString(), any());
+        verify(metricsService).incrementCounterBy("payment.reconcile.checked", 1, "outcome", "queued");
+        verify(metricsService).incrementCounterBy("payment.reconcile.checked", 1, "outcome", "pending");
+    }
+
+    @Test
+    void reconcile_ShouldExpireUnknownOrder_OnlyAfterSnapExpiry() {
+        // Arrange
+        StalePendingPayment abandoned = payment("ORDER-OLD", 30);
+        StalePendingPayment recent = payment("ORDER-NEW", 1);
+        when(paymentRepository.findStalePendingPayments(any(), any(), anyInt()))
+            .thenReturn(List.of(abandoned, recent));
+        when(midtransClient.getTransactionStatus(anyString()))
+            .thenReturn(Mono.error(WebClientResponseException.create(404, "Not Found", new HttpHeaders(), new byte[0], null)));
+        when(inboxRepository.insertIfAbsent(eq("ORDER-OLD"), eq("expire"), anyString(), any())).thenReturn(1);
+
+        // Act
+        Map<Outcome, Integer> result = scheduler.reconcile();
+
+        // Assert
+        assertEquals(Map.of(Outcome.ABANDONED, 1, Outcome.NOT_FOUND, 1), result);
+        verify(inboxRepository, never()).insertIfAbsent(eq("ORDER-NEW"), anyString(), anyString(), any());
+    }
+
+    @Test
+    void reconcile_ShouldStampEachChunk_AndStopAtMaxPerRun() {
+        // Arrange
+        properties.setChunkSize(2);
+        properties.setMaxPerRun(3);
+        StalePendingPayment first = payment("ORDER-1", 3);
+        StalePendingPayment second = payment("ORDER-2", 2);
+        StalePendingPayment third = payment("ORDER-3", 1);
+        when(paymentRepository.findStalePendingPayments(any(), any(), eq(2)))
+            .thenReturn(List.of(first, second));
+        when(paymentRepository.findStalePendingPayments(any(), any(), eq(1)))
+            .thenReturn(List.of(third));
+        when(midtransClient.getTransactionStatus(anyString()))
+            .thenReturn(Mono.error(new ExternalServiceException("Payment gateway is busy, please try again later")));
+
+        // Act
+        Map<Outcome, Integer> result = scheduler.reconcile();
+
+        // Assert - failed checks are stamped too, so they cannot hold back newer payments
+        assertEquals(Map.of(Outcome.ERROR, 3), result);
+        verify(paymentRepository).markReconciled(eq(List.of(first.getId(), second.getId())), any());
+        verify(paymentRepository).markReconciled(eq(List.of(third.getId())), any());
+        verifyNoInteractions(inboxRepository);
+    }
+
+    @Test
+    void reconcile_ShouldOnlyPickPaymentsNotCheckedWithinRecheckAfter() {
+        // Arrange
+        when(paymentRepository.findStalePendingPayments(any(), any(), anyInt())).thenReturn(List.of());
+
+        // Act
+        LocalDateTime before = LocalDateTime.now();
+        scheduler.reconcile();
+
+        // Assert
+        verify(paymentRepository).findStalePendingPayments(
+            argThat(staleBefore -> !staleBefore.isBefore(before.minusMinutes(15))),
+            argThat(recheckBefore -> !recheckBefore.isBefore(before.minusMinutes(30))
+                && recheckBefore.isBefore(before.minusMinutes(29))),
+            eq(100));
+        verify(paymentRepository, never()).markReconciled(any(), any());
+    }
+
+    private static String status(String orderId, String transactionStatus) {
+        return """
+            {"status_code":"200","order_id":"%s","transaction_id":"trx-%s","transaction_status":"%s",\
+            "gross_amount":"25000.00","payment_type":"gopay","merchant_id":"M-1"}
+            """.formatted(orderId, orderId, transactionStatus);
+    }
+
+    private static StalePendingPayment payment(String orderId, int hoursAgo) {
+        return new Payment(UUID.randomUUID(), orderId, LocalDateTime.now().minusHours(hoursAgo));
+    }
+
+    private record Payment(UUID id, String orderId, LocalDateTime createdAt) implements StalePendingPayment {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getOrderId() {
+            return orderId;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.fajars.expensetracker.payment.scheduler;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.payment.WebhookInboxProperties;
+import com.fajars.expensetracker.payment.domain.WebhookInboxEntry;
+import com.fajars.expensetracker.payment.domain.WebhookInboxRepository;
+import com.fajars.expensetracker.payment.domain.WebhookInboxStatus;
+import com.fajars.expensetracker.payment.midtrans.MidtransWebhookPayload;
+import com.fajars.expensetracker.payment.projection.WebhookInboxBacklog;
+import com.fajars.expensetracker.payment.usecase.ProcessPaymentWebhook;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookInboxWorkerTest {
+
+    @Mock
+    private WebhookInboxRepository inboxRepository;
+
+    @Mock
+    private ProcessPaymentWebhook processPaymentWebhook;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WebhookInboxProperties properties;
+    private WebhookInboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WebhookInboxProperties();
+        properties.setWorkerThreads(2);
+        properties.setMaxAttempts(3);
+        worker = new WebhookInboxWorker(
+            inboxRepository, processPaymentWebhook, properties, metricsService,
+            new ObjectMapper(), transactionManager);
+        worker.init();
+
+        lenient().when(inboxRepository.getBacklog()).thenReturn(new Backlog(2L, LocalDateTime.now().minusSeconds(30)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void drain_ShouldApplyEachClaimedEntryAndMarkItDone() {
+        // Arrange
+        when(inboxRepository.claimDue(any(), any(), eq(50))).thenReturn(List.of(1L, 2L));
+        when(inboxRepository.findById(1L)).thenReturn(Optional.of(entry(1L, "ORDER-1", 1)));
+        when(inboxRepository.findById(2L)).thenReturn(Optional.of(entry(2L, "ORDER-2", 1)));
+
+        // Act
+        int claimed = worker.drain();
+
+        // Assert
+        assertEquals(2, claimed);
+        verify(processPaymentWebhook, times(2)).processWebhook(any(MidtransWebhookPayload.class), any());
+        verify(inboxRepository).markDone(eq(1L), any());
+        verify(inboxRepository).markDone(eq(2L), any());
+        verify(inboxRepository, never()).scheduleRetry(anyLong(), any(), anyString());
+    }
+
+    @Test
+    void drain_ShouldScheduleRetryWithBackoff_WhenProcessingFails() {
+        // Arrange
+        when(inboxRepository.claimDue(any(), any(), anyInt())).thenReturn(List.of(1L));
+        when(inboxRepository.findById(1L)).thenReturn(Optional.of(entry(1L, "ORDER-1", 2)));
+        doThrow(new IllegalStateException("Payment not found"))
+            .when(processPaymentWebhook).processWebhook(any(), any());
+
+        // Act
+        LocalDateTime before = LocalDateTime.now();
+        worker.drain();
+
+        // Assert - second attempt waits twice the initial backoff
+        verify(inboxRepository, never()).markDone(anyLong(), any());
+        verify(inboxRepository).scheduleRetry(eq(1L),
+            argThat(next -> !next.isBefore(before.plusSeconds(20))),
+            eq("IllegalStateException: Payment not found"));
+        verify(metricsService).incrementCounter("webhook.inbox.retried");
+    }
+
+    @Test
+    void drain_ShouldMarkDead_WhenMaxAttemptsReached() {
+        // Arrange
+        when(inboxRepository.claimDue(any(), any(), anyInt())).thenReturn(List.of(1L));
+        when(inboxRepository.findById(1L)).thenReturn(Optional.of(entry(1L, "ORDER-1", 3)));
+        doThrow(new IllegalStateException("Payment not found"))
+            .when(processPaymentWebhook).processWebhook(any(), any());
+
+        // Act
+        worker.drain();
+
+        // Assert
+        verify(inboxRepository).markDead(1L, "IllegalStateException: Payment not found");
+        verify(inboxRepository, never()).scheduleRetry(anyLong(), any(), anyString());
+        verify(metricsService).incrementCounter("webhook.inbox.dead");
+    }
+
+    @Test
+    void backoff_ShouldDoublePerAttempt_UpToTheCap() {
+        assertEquals(Duration.ofSeconds(10), worker.backoff(1));
+        assertEquals(Duration.ofSeconds(40), worker.backoff(3));
+        assertEquals(Duration.ofMinutes(30), worker.backoff(15));
+    }
+
+    private static WebhookInboxEntry entry(Long id, String orderId, int attempts) {
+        return WebhookInboxEntry.builder()
+            .id(id)
+            .orderId(orderId)
+            .transactionStatus("settlement")
+            .payload(Map.of("order_id", orderId, "transaction_status", "settlement"))
+            .status(WebhookInboxStatus.PROCESSING)
+            .attempts(attempts)
+            .nextAttemptAt(LocalDateTime.now().plusMinutes(2))
+            .receivedAt(LocalDateTime.now().minusSeconds(5))
+            .build();
+    }
+
+    private record Backlog(Long pendingCount, LocalDateTime oldestReceivedAt) implements WebhookInboxBacklog {
+
+        @Override
+        public Long getPendingCount() {
+            return pendingCount;
+        }
+
+        @Override
+        public LocalDateTime getOldestReceivedAt() {
+            return oldestReceivedAt;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.fajars.expensetracker.payment.usecase;
+
+import com.fajars.expensetracker.common.exception.ExternalServiceException;
+import com.fajars.expensetracker.common.logging.BusinessEventLogger;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.payment.api.CreatePaymentResponse;
+import com.fajars.expensetracker.payment.domain.PaymentRepository;
+import com.fajars.expensetracker.payment.domain.PaymentStatus;
+import com.fajars.expensetracker.payment.domain.PaymentTransaction;
+import com.fajars.expensetracker.payment.midtrans.MidtransClient;
+import com.fajars.expensetracker.payment.midtrans.MidtransConfig;
+import com.fajars.expensetracker.payment.midtrans.MidtransHttpProperties;
+import com.fajars.expensetracker.payment.usecase.createpayment.CreatePaymentCmd;
+import com.fajars.expensetracker.payment.usecase.createpayment.CreateSubscriptionPaymentUseCase;
+import com.fajars.expensetracker.user.domain.User;
+import com.fajars.expensetracker.user.domain.UserRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CreateSubscriptionPaymentUseCase against a local stub of the Snap API.
+ * Open transactions stand in for pool usage: with open-in-view disabled a connection is only
+ * held inside a transaction.
+ */
+@ExtendWith(MockitoExtension.class)
+class CreateSubscriptionPaymentUseCaseTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private BusinessEventLogger businessEventLogger;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MidtransClient midtransClient;
+    private CreateSubscriptionPaymentUseCase useCase;
+
+    private HttpServer snapServer;
+    private final AtomicInteger snapCalls = new AtomicInteger();
+    private final AtomicInteger openTransactions = new AtomicInteger();
+    private final CountDownLatch snapRequestReceived = new CountDownLatch(1);
+    private final CountDownLatch releaseSnapResponse = new CountDownLatch(1);
+    private volatile int snapStatus = 201;
+
+    private UUID userId;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        userId = UUID.randomUUID();
+        user = User.builder()
+            .id(userId)
+            .name("Test User")
+            .email("test@example.com")
+            .build();
+
+        snapServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        snapServer.createContext("/snap/v1/transactions", exchange -> {
+            snapCalls.incrementAndGet();
+            snapRequestReceived.countDown();
+            try {
+                releaseSnapResponse.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"token\":\"snap-token\",\"redirect_url\":\"https://snap.test/pay\"}"
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(snapStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        snapServer.start();
+
+        MidtransConfig config = new MidtransConfig();
+        config.setServerKey("SB-Mid-server-test");
+        config.setApiUrl("http://localhost:" + snapServer.getAddress().getPort());
+        midtransClient = new MidtransClient(config, new MidtransHttpProperties(), WebClient.builder(), metricsService);
+        midtransClient.init();
+
+        useCase = new CreateSubscriptionPaymentUseCase(
+            paymentRepository, userRepository, midtransClient, metricsService,
+            businessEventLogger, currentUserProvider, transactionManager);
+
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            openTransactions.incrementAndGet();
+            return null;
+        });
+        lenient().doAnswer(invocation -> openTransactions.decrementAndGet())
+            .when(transactionManager).commit(any());
+        lenient().doAnswer(invocation -> openTransactions.decrementAndGet())
+            .when(transactionManager).rollback(any());
+        when(currentUserProvider.getUserId()).thenReturn(userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSnapResponse.countDown();
+        midtransClient.shutdown();
+        snapServer.stop(0);
+    }
+
+    @Test
+    void createPayment_ShouldHoldNoTransaction_WhileGatewayStalls() throws Exception {
+        // Arrange
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(paymentRepository.saveAndFlush(any(PaymentTransaction.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentRepository.findById(any(UUID.class)))
+            .thenAnswer(invocation -> Optional.of(pendingPayment(invocation.getArgument(0))));
+
+        // Act - the stub keeps the Snap call open until released
+        CompletableFuture<CreatePaymentResponse> result =
+            CompletableFuture.supplyAsync(() -> useCase.createPayment(new CreatePaymentCmd(null)));
+        assertTrue(snapRequestReceived.await(5, TimeUnit.SECONDS));
+
+        // Assert - the PENDING insert committed and nothing is open during the gateway call
+        assertEquals(0, openTransactions.get());
+        verify(transactionManager, times(1)).commit(any());
+
+        releaseSnapResponse.countDown();
+        CreatePaymentResponse response = result.get(5, TimeUnit.SECONDS);
+
+        assertEquals("snap-token", response.snapToken());
+        assertEquals(PaymentStatus.PENDING, response.status());
+        assertEquals(0, openTransactions.get());
+        verify(transactionManager, times(2)).commit(any());
+        verify(metricsService).incrementCounter("payment.created.total", "result", "success");
+    }
+
+    @Test
+    void createPayment_ShouldRequestTokenAgain_WhenRetriedForPaymentLeftWithoutToken() {
+        // Arrange
+        PaymentTransaction abandoned = pendingPayment(UUID.randomUUID());
+        abandoned.setSnapRequestedAt(LocalDateTime.now().minusMinutes(5));
+        when(paymentRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.of(abandoned));
+        when(paymentRepository.claimSnapRequest(eq(abandoned.getId()), any(), any())).thenReturn(1);
+        when(paymentRepository.findById(abandoned.getId())).thenReturn(Optional.of(abandoned));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        releaseSnapResponse.countDown();
+
+        // Act
+        CreatePaymentResponse response = useCase.createPayment(new CreatePaymentCmd("key-1"));
+
+        // Assert - same order, no new row
+        assertEquals(abandoned.getOrderId(), response.orderId());
+        assertEquals("snap-token", response.snapToken());
+        assertEquals(1, snapCalls.get());
+        verify(paymentRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void createPayment_ShouldNotCallGateway_WhenAnotherRetryHoldsTheClaim() {
+        // Arrange
+        PaymentTransaction inFlight = pendingPayment(UUID.randomUUID());
+        when(paymentRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.of(inFlight));
+        when(paymentRepository.claimSnapRequest(eq(inFlight.getId()), any(), any())).thenReturn(0);
+
+        // Act
+        CreatePaymentResponse response = useCase.createPayment(new CreatePaymentCmd("key-1"));
+
+        // Assert
+        assertEquals(PaymentStatus.PENDING, response.status());
+        assertNull(response.snapToken());
+        assertEquals(0, snapCalls.get());
+    }
+
+    @Test
+    void createPayment_ShouldMarkFailedInOwnTransaction_WhenGatewayRejects() {
+        // Arrange
+        PaymentTransaction pending = pendingPayment(UUID.randomUUID());
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(paymentRepository.saveAndFlush(any(PaymentTransaction.class))).thenReturn(pending);
+        when(paymentRepository.findById(pending.getId())).thenReturn(Optional.of(pending));
+        snapStatus = 500;
+        releaseSnapResponse.countDown();
+
+        // Act & Assert
+        assertThrows(ExternalServiceException.class,
+            () -> useCase.createPayment(new CreatePaymentCmd(null)));
+        assertEquals(PaymentStatus.FAILED, pending.getStatus());
+        assertEquals(0, openTransactions.get());
+        verify(metricsService).incrementCounter("payment.created.total", "result", "failed");
+    }
+
+    private PaymentTransaction pendingPayment(UUID paymentId) {
+        LocalDateTime now = LocalDateTime.now();
+        return PaymentTransaction.builder()
+            .id(paymentId)
+            .user(user)
+            .orderId("ORDER-" + paymentId.toString().substring(0, 8))
+            .amount(new BigDecimal("25000.00"))
+            .status(PaymentStatus.PENDING)
+            .snapRequestedAt(now)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+}
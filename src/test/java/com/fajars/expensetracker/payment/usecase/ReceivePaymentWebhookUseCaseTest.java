@@ -0,0 +1,88 @@
+package com.fajars.expensetracker.payment.usecase;
+
+import com.fajars.expensetracker.common.exception.BusinessException;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.payment.domain.WebhookInboxRepository;
+import com.fajars.expensetracker.payment.midtrans.MidtransWebhookPayload;
+import com.fajars.expensetracker.payment.midtrans.WebhookVerifier;
+import com.fajars.expensetracker.payment.usecase.receivewebhook.ReceivePaymentWebhookUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReceivePaymentWebhookUseCaseTest {
+
+    @Mock
+    private WebhookInboxRepository inboxRepository;
+
+    @Mock
+    private WebhookVerifier webhookVerifier;
+
+    @Mock
+    private MetricsService metricsService;
+
+    private ReceivePaymentWebhookUseCase useCase;
+
+    private MidtransWebhookPayload payload;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReceivePaymentWebhookUseCase(inboxRepository, webhookVerifier, metricsService, new ObjectMapper());
+        payload = new MidtransWebhookPayload(
+            "settlement", "200", "signature", "ORDER-12345678-1", "trx-1",
+            new BigDecimal("25000.00"), "gopay", null, "accept", null, "IDR");
+    }
+
+    @Test
+    void receive_ShouldStoreNotificationWithOneInsert() {
+        // Arrange
+        when(webhookVerifier.verifySignature(payload)).thenReturn(true);
+        when(inboxRepository.insertIfAbsent(eq("ORDER-12345678-1"), eq("settlement"), anyString(), any()))
+            .thenReturn(1);
+
+        // Act
+        boolean stored = useCase.receive(payload);
+
+        // Assert
+        assertTrue(stored);
+        verify(inboxRepository).insertIfAbsent(eq("ORDER-12345678-1"), eq("settlement"),
+            argThat(json -> json.contains("\"order_id\":\"ORDER-12345678-1\"")), any());
+        verify(metricsService).incrementCounter("webhook.received.total", "result", "queued");
+    }
+
+    @Test
+    void receive_ShouldAcknowledgeDuplicateWithoutStoringAgain() {
+        // Arrange
+        when(webhookVerifier.verifySignature(payload)).thenReturn(true);
+        when(inboxRepository.insertIfAbsent(anyString(), anyString(), anyString(), any())).thenReturn(0);
+
+        // Act
+        boolean stored = useCase.receive(payload);
+
+        // Assert
+        assertFalse(stored);
+        verify(metricsService).incrementCounter("webhook.received.total", "result", "duplicate");
+    }
+
+    @Test
+    void receive_ShouldRejectInvalidSignature_BeforeStoring() {
+        // Arrange
+        when(webhookVerifier.verifySignature(payload)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> useCase.receive(payload));
+        verifyNoInteractions(inboxRepository);
+    }
+}
@@ -0,0 +1,77 @@
+package com.fajars.expensetracker.report;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.config.CacheConfig;
+import com.fajars.expensetracker.report.ReportCacheKeyGenerator.ReportCacheKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReportCacheInvalidatorTest {
+
+    @Mock
+    private MetricsService metricsService;
+
+    private CacheManager cacheManager;
+    private ReportCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CacheConfig().cacheManager(Duration.ofHours(1), 100, Duration.ofMinutes(10));
+        invalidator = new ReportCacheInvalidator(cacheManager, metricsService);
+    }
+
+    @Test
+    void evictUser_ShouldDropOnlyEntriesOfThatUser() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        ReportCacheKey summaryKey = new ReportCacheKey(userId, "summary");
+        ReportCacheKey trendKey = new ReportCacheKey(userId, "trend");
+        ReportCacheKey otherUserKey = new ReportCacheKey(otherUserId, "summary");
+
+        Cache summaries = cacheManager.getCache(CacheConfig.FINANCIAL_SUMMARIES);
+        Cache trends = cacheManager.getCache(CacheConfig.TREND_DATA);
+        summaries.put(summaryKey, "summary of user");
+        summaries.put(otherUserKey, "summary of other user");
+        trends.put(trendKey, "trend of user");
+
+        // Act
+        invalidator.evictUser(userId);
+
+        // Assert
+        assertNull(summaries.get(summaryKey));
+        assertNull(trends.get(trendKey));
+        assertNotNull(summaries.get(otherUserKey));
+        verify(metricsService).incrementCounter("report.cache.invalidations", "scope", "user");
+    }
+
+    @Test
+    void evictAll_ShouldClearEveryReportCache() {
+        // Arrange
+        ReportCacheKey key = new ReportCacheKey(UUID.randomUUID(), "breakdown");
+        for (String cacheName : CacheConfig.REPORT_CACHES) {
+            cacheManager.getCache(cacheName).put(key, cacheName);
+        }
+
+        // Act
+        invalidator.evictAll();
+
+        // Assert
+        for (String cacheName : CacheConfig.REPORT_CACHES) {
+            assertNull(cacheManager.getCache(cacheName).get(key));
+        }
+        verify(metricsService).incrementCounter("report.cache.invalidations", "scope", "all");
+    }
+}
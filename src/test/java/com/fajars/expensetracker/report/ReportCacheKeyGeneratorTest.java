@@ -0,0 +1,92 @@
+package com.fajars.expensetracker.report;
+
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.ReportCacheKeyGenerator.ReportCacheKey;
+import com.fajars.expensetracker.report.api.ReportFilter;
+import com.fajars.expensetracker.report.usecase.generatefinancialsummary.GenerateFinancialSummary;
+import com.fajars.expensetracker.report.usecase.getincomeexpensetrend.GetIncomeExpenseTrend;
+import com.fajars.expensetracker.report.usecase.getincomeexpensetrend.Granularity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportCacheKeyGeneratorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 11, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2025, 11, 30, 23, 59, 59);
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    private ReportCacheKeyGenerator keyGenerator;
+    private Method generate;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyGenerator = new ReportCacheKeyGenerator(currentUserProvider);
+        generate = GenerateFinancialSummary.class.getMethod("generate", ReportFilter.class);
+        userId = UUID.randomUUID();
+        when(currentUserProvider.getUserId()).thenReturn(userId);
+    }
+
+    @Test
+    void generate_ShouldReturnSameKey_ForEquivalentFilters() {
+        // Arrange - same wallets in another order with a duplicate, different page and type casing
+        UUID walletA = UUID.randomUUID();
+        UUID walletB = UUID.randomUUID();
+        ReportFilter filter = new ReportFilter(START, END, List.of(walletA, walletB), null, "EXPENSE", 0, 20);
+        ReportFilter equivalent = new ReportFilter(START, END, List.of(walletB, walletA, walletB), List.of(), " expense ", 3, 50);
+
+        // Act
+        Object key = keyGenerator.generate(null, generate, filter);
+        Object equivalentKey = keyGenerator.generate(null, generate, equivalent);
+
+        // Assert
+        assertEquals(key, equivalentKey);
+        assertEquals(userId, ((ReportCacheKey) key).userId());
+    }
+
+    @Test
+    void generate_ShouldReturnDifferentKeys_WhenWalletsDiffer() {
+        // Arrange
+        ReportFilter allWallets = new ReportFilter(START, END, null, null, null, 0, 20);
+        ReportFilter oneWallet = new ReportFilter(START, END, List.of(UUID.randomUUID()), null, null, 0, 20);
+
+        // Act & Assert
+        assertNotEquals(keyGenerator.generate(null, generate, allWallets),
+                        keyGenerator.generate(null, generate, oneWallet));
+    }
+
+    @Test
+    void generate_ShouldReturnDifferentKeys_ForDifferentUsersAndArguments() throws Exception {
+        // Arrange
+        ReportFilter filter = new ReportFilter(START, END, null, null, null, 0, 20);
+        Method getTrend = GetIncomeExpenseTrend.class.getMethod("get", ReportFilter.class, Granularity.class);
+
+        Object key = keyGenerator.generate(null, generate, filter);
+        Object dailyKey = keyGenerator.generate(null, getTrend, filter, Granularity.DAILY);
+        Object monthlyKey = keyGenerator.generate(null, getTrend, filter, Granularity.MONTHLY);
+
+        when(currentUserProvider.getUserId()).thenReturn(UUID.randomUUID());
+
+        // Act
+        Object otherUserKey = keyGenerator.generate(null, generate, filter);
+
+        // Assert
+        assertNotEquals(dailyKey, monthlyKey);
+        assertNotEquals(key, otherUserKey);
+        assertEquals(((ReportCacheKey) key).filterHash(), ((ReportCacheKey) otherUserKey).filterHash());
+    }
+}
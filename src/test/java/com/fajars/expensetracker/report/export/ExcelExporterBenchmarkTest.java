@@ -0,0 +1,179 @@
+package com.fajars.expensetracker.report.export;
+
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import com.fajars.expensetracker.transaction.projection.TransactionExportRow;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Heap and latency comparison of the streaming Excel exporter against the previous
+ * XSSFWorkbook + autoSizeColumn implementation, at 10k and 100k rows.
+ *
+ * <p>Skipped by default. Run with:
+ * <pre>
+ * RUN_BENCHMARKS=true ./gradlew test --tests '*ExcelExporterBenchmarkTest'
+ * </pre>
+ * Results are logged at INFO (see build/test-results). The legacy exporter gets its rows
+ * as a List (as it did before), the streaming exporter gets a lazy Stream (as it does from
+ * the DB cursor). An OutOfMemoryError of the legacy exporter is reported, not failed.
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class ExcelExporterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExcelExporterBenchmarkTest.class);
+    private static final String ROW_FORMAT = "%-10s %12s %16s %16s";
+
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+
+    private final ExcelExporter excelExporter = new ExcelExporter();
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = {10_000, 100_000})
+    void compareStreamingAndLegacyExporter(int rowCount) {
+        Result legacy = measure(() -> legacyExport(rows(rowCount).toList()));
+        Result streaming = measure(() ->
+            excelExporter.writeTransactionsExcel(rows(rowCount), OutputStream.nullOutputStream()));
+
+        log.info("=== Excel export, {} rows ===", String.format("%,d", rowCount));
+        log.info(String.format(ROW_FORMAT, "exporter", "median ms", "allocated MB", "peak heap MB"));
+        log.info(legacy.format("legacy"));
+        log.info(streaming.format("streaming"));
+    }
+
+    private Result measure(Runnable export) {
+        try {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                export.run();
+            }
+
+            long[] durations = new long[MEASURED_RUNS];
+            long allocated = 0;
+            long peakHeap = 0;
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                System.gc();
+                resetPeakHeap();
+                long allocatedBefore = threadAllocatedBytes();
+                long start = System.nanoTime();
+
+                export.run();
+
+                durations[i] = System.nanoTime() - start;
+                allocated = Math.max(allocated, threadAllocatedBytes() - allocatedBefore);
+                peakHeap = Math.max(peakHeap, peakHeap());
+            }
+
+            Arrays.sort(durations);
+            return new Result(durations[MEASURED_RUNS / 2] / 1_000_000, allocated, peakHeap, false);
+
+        } catch (OutOfMemoryError e) {
+            return new Result(-1, -1, -1, true);
+        }
+    }
+
+    private static long threadAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+            .getCurrentThreadAllocatedBytes();
+    }
+
+    private static void resetPeakHeap() {
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long peakHeap() {
+        return heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+    }
+
+    private static Stream<TransactionExportRow> rows(int count) {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+        return IntStream.range(0, count).mapToObj(i -> new TransactionExportRow(
+            UUID.randomUUID(),
+            start.plusMinutes(i * 7L),
+            10_000.0 + (i % 977) * 1_250.5,
+            i % 4 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+            "Dompet " + (i % 5),
+            "Kategori " + (i % 12),
+            i % 3 == 0 ? "Catatan transaksi nomor " + i : null
+        ));
+    }
+
+    /**
+     * The exporter as it was before switching to SXSSF: full DOM workbook, autoSizeColumn on
+     * every column and a second pass over the rows for the totals.
+     */
+    private static void legacyExport(List<TransactionExportRow> transactions) {
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Transaksi");
+            String[] headers = {"Tanggal", "Tipe", "Kategori", "Dompet", "Jumlah (IDR)", "Catatan"};
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < headers.length; i++) {
+                headerRow.createCell(i).setCellValue(headers[i]);
+            }
+
+            int rowNum = 1;
+            for (TransactionExportRow t : transactions) {
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(t.date().format(dateFormatter));
+                row.createCell(1).setCellValue(t.type().name());
+                row.createCell(2).setCellValue(t.categoryName() != null ? t.categoryName() : "-");
+                row.createCell(3).setCellValue(t.walletName() != null ? t.walletName() : "-");
+                row.createCell(4).setCellValue(t.amount());
+                row.createCell(5).setCellValue(t.note() != null ? t.note() : "");
+            }
+
+            for (int i = 0; i < headers.length; i++) {
+                sheet.autoSizeColumn(i);
+            }
+
+            double totalIncome = transactions.stream()
+                .filter(t -> t.type() == TransactionType.INCOME)
+                .mapToDouble(TransactionExportRow::amount).sum();
+            double totalExpense = transactions.stream()
+                .filter(t -> t.type() == TransactionType.EXPENSE)
+                .mapToDouble(TransactionExportRow::amount).sum();
+            sheet.createRow(rowNum + 1).createCell(4).setCellValue(totalIncome - totalExpense);
+
+            workbook.write(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Result(long medianMillis, long allocatedBytes, long peakHeapBytes, boolean outOfMemory) {
+
+        String format(String name) {
+            if (outOfMemory) {
+                return String.format(ROW_FORMAT, name, "OOM", "-", "-");
+            }
+            return String.format("%-10s %12d %16.1f %16.1f", name, medianMillis,
+                allocatedBytes / 1_048_576.0, peakHeapBytes / 1_048_576.0);
+        }
+    }
+}
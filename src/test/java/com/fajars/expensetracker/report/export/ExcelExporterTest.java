@@ -0,0 +1,95 @@
+package com.fajars.expensetracker.report.export;
+
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import com.fajars.expensetracker.transaction.projection.TransactionExportRow;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExcelExporter.
+ */
+class ExcelExporterTest {
+
+    private final ExcelExporter excelExporter = new ExcelExporter();
+
+    @Test
+    void exportTransactionsToExcel_ShouldWriteRowsAndTotalsInSinglePass() throws IOException {
+        // Arrange
+        List<TransactionExportRow> rows = List.of(
+            row(TransactionType.INCOME, 150000.0, "Salary", "Gaji bulan ini"),
+            row(TransactionType.EXPENSE, 25000.0, "Food & Dining", null),
+            row(TransactionType.EXPENSE, 5000.0, null, "Parkir")
+        );
+
+        // Act
+        byte[] content = excelExporter.exportTransactionsToExcel(rows);
+
+        // Assert
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(content))) {
+            Sheet sheet = workbook.getSheet("Transaksi");
+            assertEquals("Tanggal", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("Pemasukan", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("-", sheet.getRow(3).getCell(2).getStringCellValue());
+            assertEquals(25000.0, sheet.getRow(2).getCell(4).getNumericCellValue());
+
+            // Empty row after the data, then TOTAL row
+            assertNull(sheet.getRow(4));
+            assertEquals("TOTAL:", sheet.getRow(5).getCell(3).getStringCellValue());
+            assertEquals(120000.0, sheet.getRow(5).getCell(4).getNumericCellValue());
+        }
+    }
+
+    @Test
+    void exportTransactionsToExcel_ShouldSizeColumnsFromLongestValue() throws IOException {
+        // Arrange
+        String longNote = "Pembayaran cicilan kendaraan bulan Desember";
+        List<TransactionExportRow> rows = List.of(
+            row(TransactionType.EXPENSE, 1000.0, "Bills & Utilities", longNote)
+        );
+
+        // Act
+        byte[] content = excelExporter.exportTransactionsToExcel(rows);
+
+        // Assert
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(content))) {
+            Sheet sheet = workbook.getSheet("Transaksi");
+            assertEquals((longNote.length() + 2) * 256, sheet.getColumnWidth(5));
+            assertEquals(("Bills & Utilities".length() + 2) * 256, sheet.getColumnWidth(2));
+            // Header is longer than "1,000.00"
+            assertEquals(("Jumlah (IDR)".length() + 2) * 256, sheet.getColumnWidth(4));
+        }
+    }
+
+    @Test
+    void columnWidthTracker_ShouldCapAtExcelMaximum() {
+        // Arrange
+        ExcelExporter.ColumnWidthTracker tracker = new ExcelExporter.ColumnWidthTracker(1);
+
+        // Act
+        tracker.track(0, "x".repeat(1000));
+
+        // Assert
+        assertEquals(255 * 256, tracker.widthOf(0));
+    }
+
+    private TransactionExportRow row(TransactionType type, Double amount, String category, String note) {
+        return new TransactionExportRow(
+            UUID.randomUUID(),
+            LocalDateTime.of(2025, 12, 1, 10, 30),
+            amount,
+            type,
+            "Dompet Saya",
+            category,
+            note
+        );
+    }
+}
@@ -0,0 +1,218 @@
+package com.fajars.expensetracker.report.usecase;
+
+import com.fajars.expensetracker.common.exception.BusinessException;
+import com.fajars.expensetracker.common.exception.ResourceNotFoundException;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.api.ExportRequest;
+import com.fajars.expensetracker.report.api.ExportType;
+import com.fajars.expensetracker.report.export.ExportFileStore;
+import com.fajars.expensetracker.report.export.ExportJobProperties;
+import com.fajars.expensetracker.report.usecase.exporttransaction.ExportFormat;
+import com.fajars.expensetracker.report.usecase.exporttransaction.ExportTransaction;
+import com.fajars.expensetracker.report.usecase.exporttransaction.StreamingExport;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportJob;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportJobDownload;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportJobStatus;
+import com.fajars.expensetracker.report.usecase.exporttransactionjob.ExportTransactionJobUseCase;
+import com.fajars.expensetracker.transaction.domain.TransactionQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportTransactionJobUseCaseTest {
+
+    private static final byte[] CSV_CONTENT = "Tanggal,Tipe\n01/12/2025,INCOME\n".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private ExportTransaction exportTransaction;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @TempDir
+    private Path storageDir;
+
+    private ExportJobProperties properties;
+    private ExportFileStore fileStore;
+    private ExportTransactionJobUseCase useCase;
+
+    private UUID userId;
+    private ExportRequest request;
+    private StreamingExport streamingExport;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userId = UUID.randomUUID();
+        request = new ExportRequest(ExportFormat.CSV, ExportType.TRANSACTIONS, null);
+        streamingExport = new StreamingExport(
+            userId,
+            ExportFormat.CSV,
+            TransactionQuery.builder().userId(userId).build(),
+            10_000,
+            "transaksi_20251201_100000.csv",
+            ExportFormat.CSV.contentType()
+        );
+
+        properties = new ExportJobProperties();
+        properties.setStorageDir(storageDir.toString());
+        properties.setWorkerThreads(1);
+        properties.setMaxActivePerUser(1);
+
+        fileStore = new ExportFileStore(properties);
+        fileStore.init();
+
+        useCase = new ExportTransactionJobUseCase(
+            exportTransaction, fileStore, properties, metricsService, currentUserProvider);
+        useCase.init();
+
+        when(currentUserProvider.getUserId()).thenReturn(userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.shutdown();
+    }
+
+    @Test
+    void submit_ShouldRenderFileInBackground_AndServeItFromDisk() throws Exception {
+        // Arrange
+        when(exportTransaction.prepareStream(request)).thenReturn(streamingExport);
+        when(exportTransaction.writeStream(eq(streamingExport), any(OutputStream.class), any(IntConsumer.class)))
+            .thenAnswer(invocation -> {
+                invocation.<OutputStream>getArgument(1).write(CSV_CONTENT);
+                invocation.<IntConsumer>getArgument(2).accept(1);
+                return 1;
+            });
+
+        // Act
+        ExportJob job = useCase.submit(request);
+        awaitStatus(job, ExportJobStatus.COMPLETED);
+
+        ExportJobDownload download = useCase.getDownload(job.getId());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long bytes = useCase.transferTo(download, out);
+
+        // Assert
+        assertEquals(1, job.getRowsWritten());
+        assertEquals(CSV_CONTENT.length, job.getFileSize());
+        assertNotNull(job.getExpiresAt());
+        assertEquals("transaksi_20251201_100000.csv", download.fileName());
+        assertEquals(CSV_CONTENT.length, bytes);
+        assertArrayEquals(CSV_CONTENT, out.toByteArray());
+    }
+
+    @Test
+    void submit_ShouldRejectWithTooManyRequests_WhenUserLimitReached() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(exportTransaction.prepareStream(request)).thenReturn(streamingExport);
+        when(exportTransaction.writeStream(eq(streamingExport), any(OutputStream.class), any(IntConsumer.class)))
+            .thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return 0;
+            });
+
+        ExportJob first = useCase.submit(request);
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class, () -> useCase.submit(request));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatus());
+
+        // Slot is released once the running job finishes
+        release.countDown();
+        awaitStatus(first, ExportJobStatus.COMPLETED);
+        assertDoesNotThrow(() -> awaitStatus(useCase.submit(request), ExportJobStatus.COMPLETED));
+    }
+
+    @Test
+    void submit_ShouldMarkJobFailed_AndDeletePartialFile_WhenRenderingFails() throws Exception {
+        // Arrange
+        when(exportTransaction.prepareStream(request)).thenReturn(streamingExport);
+        when(exportTransaction.writeStream(eq(streamingExport), any(OutputStream.class), any(IntConsumer.class)))
+            .thenAnswer(invocation -> {
+                invocation.<OutputStream>getArgument(1).write(CSV_CONTENT);
+                throw new IllegalStateException("connection reset");
+            });
+
+        // Act
+        ExportJob job = useCase.submit(request);
+        awaitStatus(job, ExportJobStatus.FAILED);
+
+        // Assert
+        assertNotNull(job.getErrorMessage());
+        assertFalse(Files.exists(job.getFile()));
+        BusinessException exception = assertThrows(BusinessException.class, () -> useCase.getDownload(job.getId()));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+    }
+
+    @Test
+    void getJob_ShouldThrowNotFound_WhenJobBelongsToAnotherUser() throws Exception {
+        // Arrange
+        when(exportTransaction.prepareStream(request)).thenReturn(streamingExport);
+        when(exportTransaction.writeStream(eq(streamingExport), any(OutputStream.class), any(IntConsumer.class)))
+            .thenReturn(0);
+        ExportJob job = useCase.submit(request);
+        awaitStatus(job, ExportJobStatus.COMPLETED);
+
+        when(currentUserProvider.getUserId()).thenReturn(UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> useCase.getJob(job.getId()));
+        assertThrows(ResourceNotFoundException.class, () -> useCase.getDownload(job.getId()));
+    }
+
+    @Test
+    void purgeExpired_ShouldRemoveExpiredJobsAndFiles() throws Exception {
+        // Arrange - finished jobs expire immediately
+        properties.setTtl(Duration.ofSeconds(-1));
+        when(exportTransaction.prepareStream(request)).thenReturn(streamingExport);
+        when(exportTransaction.writeStream(eq(streamingExport), any(OutputStream.class), any(IntConsumer.class)))
+            .thenAnswer(invocation -> {
+                invocation.<OutputStream>getArgument(1).write(CSV_CONTENT);
+                return 1;
+            });
+        ExportJob job = useCase.submit(request);
+        awaitStatus(job, ExportJobStatus.COMPLETED);
+
+        // Act
+        int removed = useCase.purgeExpired();
+
+        // Assert
+        assertEquals(1, removed);
+        assertFalse(Files.exists(job.getFile()));
+        assertThrows(ResourceNotFoundException.class, () -> useCase.getJob(job.getId()));
+        verify(metricsService).incrementCounterBy("export.jobs.expired", 1);
+    }
+
+    private static void awaitStatus(ExportJob job, ExportJobStatus expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (job.getStatus() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, job.getStatus());
+    }
+}
@@ -0,0 +1,182 @@
+package com.fajars.expensetracker.report.usecase;
+
+import com.fajars.expensetracker.common.logging.BusinessEventLogger;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.api.FinancialSummaryResponse;
+import com.fajars.expensetracker.report.api.ReportFilter;
+import com.fajars.expensetracker.report.api.WalletBalanceResponse;
+import com.fajars.expensetracker.report.usecase.generatefinancialsummary.GenerateFinancialSummaryUseCase;
+import com.fajars.expensetracker.transaction.domain.TransactionDailyRollupRepository;
+import com.fajars.expensetracker.transaction.projection.FinancialSummaryRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GenerateFinancialSummaryUseCaseTest {
+
+    @Mock
+    private TransactionDailyRollupRepository rollupRepository;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private BusinessEventLogger businessEventLogger;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @InjectMocks
+    private GenerateFinancialSummaryUseCase useCase;
+
+    private UUID userId;
+    private UUID walletId;
+    private UUID salaryId;
+    private UUID foodId;
+    private UUID transportId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        walletId = UUID.randomUUID();
+        salaryId = UUID.randomUUID();
+        foodId = UUID.randomUUID();
+        transportId = UUID.randomUUID();
+        when(currentUserProvider.getUserId()).thenReturn(userId);
+    }
+
+    @Test
+    void generate_ShouldBuildSummaryFromSingleGroupedQuery_WithWalletAndCategoryFilters() {
+        // Arrange
+        List<UUID> categoryIds = List.of(salaryId, foodId, transportId);
+        ReportFilter filter = new ReportFilter(
+            LocalDateTime.of(2025, 11, 1, 0, 0), LocalDateTime.of(2025, 11, 30, 23, 59),
+            List.of(walletId), categoryIds, null, 0, 20);
+
+        when(rollupRepository.getFinancialSummary(
+            userId, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30), List.of(walletId), categoryIds))
+            .thenReturn(List.of(
+                new Row(FinancialSummaryRow.CATEGORY, "EXPENSE", foodId, "Food", null, 0, 300_000, 6, null),
+                new Row(FinancialSummaryRow.CATEGORY, "INCOME", salaryId, "Salary", null, 5_000_000, 0, 1, null),
+                new Row(FinancialSummaryRow.CATEGORY, "EXPENSE", transportId, "Transport", null, 0, 100_000, 2, null),
+                new Row(FinancialSummaryRow.TOTAL, null, null, null, null, 5_000_000, 400_000, 9, null),
+                new Row(FinancialSummaryRow.WALLET, null, walletId, "Main", "IDR", 5_000_000, 400_000, 9, 7_600_000.0)
+            ));
+
+        // Act
+        FinancialSummaryResponse response = useCase.generate(filter);
+
+        // Assert
+        assertEquals(5_000_000.0, response.totalIncome());
+        assertEquals(400_000.0, response.totalExpense());
+        assertEquals(4_600_000.0, response.netBalance());
+        assertEquals(9, response.transactionCount());
+
+        assertEquals(1, response.incomeByCategory().size());
+        assertEquals(100.0, response.incomeByCategory().getFirst().percentage());
+
+        assertEquals(2, response.expenseByCategory().size());
+        assertEquals("Food", response.expenseByCategory().getFirst().categoryName());
+        assertEquals(75.0, response.expenseByCategory().getFirst().percentage());
+        assertEquals(25.0, response.expenseByCategory().get(1).percentage());
+
+        WalletBalanceResponse wallet = response.walletBalances().getFirst();
+        assertEquals(walletId, wallet.walletId());
+        assertEquals(7_600_000.0, wallet.currentBalance());
+        assertEquals(4_600_000.0, wallet.periodNetChange());
+
+        verify(rollupRepository, times(1)).getFinancialSummary(any(), any(), any(), any(), any());
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    void generate_ShouldReturnZeroTotals_WhenNoTransactionsInRange() {
+        // Arrange
+        ReportFilter filter = new ReportFilter(
+            LocalDateTime.of(2025, 11, 1, 0, 0), LocalDateTime.of(2025, 11, 30, 23, 59),
+            null, null, null, 0, 20);
+
+        when(rollupRepository.getFinancialSummary(
+            userId, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30), List.of(), List.of()))
+            .thenReturn(List.of(
+                new Row(FinancialSummaryRow.TOTAL, null, null, null, null, 0, 0, 0, null),
+                new Row(FinancialSummaryRow.WALLET, null, walletId, "Main", "IDR", 0, 0, 0, 250_000.0)
+            ));
+
+        // Act
+        FinancialSummaryResponse response = useCase.generate(filter);
+
+        // Assert
+        assertEquals(0.0, response.totalIncome());
+        assertEquals(0, response.transactionCount());
+        assertTrue(response.incomeByCategory().isEmpty());
+        assertTrue(response.expenseByCategory().isEmpty());
+        assertEquals(250_000.0, response.walletBalances().getFirst().currentBalance());
+        assertEquals(0.0, response.walletBalances().getFirst().periodNetChange());
+    }
+
+    private record Row(
+        String rowType, String type, UUID refId, String name, String currency,
+        double income, double expense, long count, Double balance
+    ) implements FinancialSummaryRow {
+
+        @Override
+        public String getRowType() {
+            return rowType;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public UUID getRefId() {
+            return refId;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getCurrency() {
+            return currency;
+        }
+
+        @Override
+        public BigDecimal getTotalIncome() {
+            return BigDecimal.valueOf(income);
+        }
+
+        @Override
+        public BigDecimal getTotalExpense() {
+            return BigDecimal.valueOf(expense);
+        }
+
+        @Override
+        public Long getTransactionCount() {
+            return count;
+        }
+
+        @Override
+        public BigDecimal getCurrentBalance() {
+            return balance == null ? null : BigDecimal.valueOf(balance);
+        }
+    }
+}
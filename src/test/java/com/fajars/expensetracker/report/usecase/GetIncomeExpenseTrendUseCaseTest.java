@@ -0,0 +1,119 @@
+package com.fajars.expensetracker.report.usecase;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.report.api.ReportFilter;
+import com.fajars.expensetracker.report.api.TrendDataResponse;
+import com.fajars.expensetracker.report.usecase.getincomeexpensetrend.GetIncomeExpenseTrendUseCase;
+import com.fajars.expensetracker.report.usecase.getincomeexpensetrend.Granularity;
+import com.fajars.expensetracker.transaction.domain.TransactionDailyRollupRepository;
+import com.fajars.expensetracker.transaction.projection.TrendData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetIncomeExpenseTrendUseCaseTest {
+
+    @Mock
+    private TransactionDailyRollupRepository rollupRepository;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @InjectMocks
+    private GetIncomeExpenseTrendUseCase useCase;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        when(currentUserProvider.getUserId()).thenReturn(userId);
+    }
+
+    @Test
+    void get_ShouldReturnOneRowPerMonth_AsBucketedByTheQuery() {
+        // Arrange
+        UUID walletId = UUID.randomUUID();
+        ReportFilter filter = new ReportFilter(
+            LocalDateTime.of(2025, 9, 15, 0, 0), LocalDateTime.of(2025, 11, 30, 23, 59),
+            List.of(walletId), null, null, 0, 20);
+
+        when(rollupRepository.getTrendBuckets(
+            userId, LocalDate.of(2025, 9, 15), LocalDate.of(2025, 11, 30), "month", List.of(walletId)))
+            .thenReturn(List.of(
+                trendRow(LocalDate.of(2025, 11, 1), 5_000_000, 1_200_000),
+                trendRow(LocalDate.of(2025, 10, 1), 0, 0),
+                trendRow(LocalDate.of(2025, 9, 1), 2_500_000, 800_000)
+            ));
+
+        // Act
+        List<TrendDataResponse> trend = useCase.get(filter, Granularity.MONTHLY);
+
+        // Assert - order and zero periods come from the query unchanged
+        assertEquals(3, trend.size());
+        assertEquals(LocalDate.of(2025, 11, 1), trend.getFirst().date());
+        assertEquals(5_000_000.0, trend.getFirst().income());
+        assertEquals(0.0, trend.get(1).income());
+        assertEquals(LocalDate.of(2025, 9, 1), trend.get(2).date());
+        assertEquals(800_000.0, trend.get(2).expense());
+        verify(metricsService).recordTimer(eq("report.trend.generation.duration"), anyLong());
+    }
+
+    @Test
+    void get_ShouldUseDayBuckets_WithoutWalletFilter_ForDailyGranularity() {
+        // Arrange
+        ReportFilter filter = new ReportFilter(
+            LocalDateTime.of(2025, 11, 1, 0, 0), LocalDateTime.of(2025, 11, 2, 23, 59),
+            null, null, null, 0, 20);
+
+        when(rollupRepository.getTrendBuckets(
+            userId, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 2), "day", List.of()))
+            .thenReturn(List.of(
+                trendRow(LocalDate.of(2025, 11, 2), 0, 50_000),
+                trendRow(LocalDate.of(2025, 11, 1), 0, 0)
+            ));
+
+        // Act
+        List<TrendDataResponse> trend = useCase.get(filter, Granularity.DAILY);
+
+        // Assert
+        assertEquals(2, trend.size());
+        assertEquals(50_000.0, trend.getFirst().expense());
+    }
+
+    private static TrendData trendRow(LocalDate date, double income, double expense) {
+        return new TrendData() {
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public BigDecimal getTotalIncome() {
+                return BigDecimal.valueOf(income);
+            }
+
+            @Override
+            public BigDecimal getTotalExpense() {
+                return BigDecimal.valueOf(expense);
+            }
+        };
+    }
+}
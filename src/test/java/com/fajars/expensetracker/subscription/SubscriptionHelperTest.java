@@ -292,4 +292,93 @@ class SubscriptionHelperTest {
         // Assert
         assertEquals(90, result); // Defaults to FREE limit
     }
+
+    // ========== Tier Cache Tests ==========
+
+    @Test
+    void isPremiumUser_ShouldQueryOnce_WhenCalledRepeatedly() {
+        // Arrange
+        Subscription premiumSubscription = Subscription.builder()
+            .id(UUID.randomUUID())
+            .user(user)
+            .plan(SubscriptionTier.PREMIUM)
+            .status(SubscriptionStatus.ACTIVE)
+            .startedAt(LocalDateTime.now())
+            .endedAt(LocalDateTime.now().plusDays(30))
+            .build();
+
+        when(subscriptionRepository.findActiveSubscriptionByUserId(userId))
+            .thenReturn(Optional.of(premiumSubscription));
+
+        // Act
+        boolean premium = subscriptionHelper.isPremiumUser(userId);
+        int exportLimit = subscriptionHelper.getExportLimit(userId);
+        int dateRangeLimit = subscriptionHelper.getDateRangeLimit(userId);
+
+        // Assert
+        assertTrue(premium);
+        assertEquals(10000, exportLimit);
+        assertEquals(365, dateRangeLimit);
+        verify(subscriptionRepository, times(1)).findActiveSubscriptionByUserId(userId);
+    }
+
+    @Test
+    void isPremiumUser_ShouldReload_AfterEvictTier() {
+        // Arrange
+        Subscription freeSubscription = Subscription.builder()
+            .id(UUID.randomUUID())
+            .user(user)
+            .plan(SubscriptionTier.FREE)
+            .status(SubscriptionStatus.ACTIVE)
+            .build();
+        Subscription premiumSubscription = Subscription.builder()
+            .id(UUID.randomUUID())
+            .user(user)
+            .plan(SubscriptionTier.PREMIUM)
+            .status(SubscriptionStatus.ACTIVE)
+            .startedAt(LocalDateTime.now())
+            .endedAt(LocalDateTime.now().plusDays(30))
+            .build();
+
+        when(subscriptionRepository.findActiveSubscriptionByUserId(userId))
+            .thenReturn(Optional.of(freeSubscription))
+            .thenReturn(Optional.of(premiumSubscription));
+
+        // Act
+        boolean beforeUpgrade = subscriptionHelper.isPremiumUser(userId);
+        subscriptionHelper.evictTier(userId);
+        boolean afterUpgrade = subscriptionHelper.isPremiumUser(userId);
+
+        // Assert
+        assertFalse(beforeUpgrade);
+        assertTrue(afterUpgrade);
+        verify(subscriptionRepository, times(2)).findActiveSubscriptionByUserId(userId);
+    }
+
+    @Test
+    void isPremiumUser_ShouldReload_WhenCachedSubscriptionHasEnded() throws InterruptedException {
+        // Arrange - trial ending right after the first lookup
+        Subscription endingTrial = Subscription.builder()
+            .id(UUID.randomUUID())
+            .user(user)
+            .plan(SubscriptionTier.PREMIUM)
+            .status(SubscriptionStatus.TRIAL)
+            .startedAt(LocalDateTime.now().minusDays(14))
+            .endedAt(LocalDateTime.now().plusNanos(200_000_000))
+            .build();
+
+        when(subscriptionRepository.findActiveSubscriptionByUserId(userId))
+            .thenReturn(Optional.of(endingTrial))
+            .thenReturn(Optional.empty());
+
+        // Act
+        boolean duringTrial = subscriptionHelper.isPremiumUser(userId);
+        Thread.sleep(300);
+        boolean afterTrial = subscriptionHelper.isPremiumUser(userId);
+
+        // Assert
+        assertTrue(duringTrial);
+        assertFalse(afterTrial);
+        verify(subscriptionRepository, times(2)).findActiveSubscriptionByUserId(userId);
+    }
 }
@@ -0,0 +1,94 @@
+package com.fajars.expensetracker.subscription;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
+import com.fajars.expensetracker.subscription.domain.UserQuotaCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UsageQuota.
+ */
+@ExtendWith(MockitoExtension.class)
+class UsageQuotaTest {
+
+    @Mock
+    private UserQuotaCounterRepository counterRepository;
+
+    @Mock
+    private SubscriptionHelper subscriptionHelper;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @InjectMocks
+    private UsageQuota usageQuota;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void tryAcquire_ShouldIncrementBelowFreeLimit_WhenFreeUser() {
+        // Arrange
+        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
+        when(counterRepository.incrementIfBelow(userId, "ACTIVE_DEBTS", 10)).thenReturn(1);
+
+        // Act
+        boolean acquired = usageQuota.tryAcquire(userId, QuotaType.ACTIVE_DEBTS);
+
+        // Assert
+        assertTrue(acquired);
+        verifyNoInteractions(metricsService);
+    }
+
+    @Test
+    void tryAcquire_ShouldReject_WhenFreeUserIsAtLimit() {
+        // Arrange
+        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
+        when(counterRepository.incrementIfBelow(userId, "WALLETS", 1)).thenReturn(0);
+
+        // Act
+        boolean acquired = usageQuota.tryAcquire(userId, QuotaType.WALLETS);
+
+        // Assert
+        assertFalse(acquired);
+        verify(metricsService).incrementCounter("quota.rejected", "quota", "WALLETS");
+    }
+
+    @Test
+    void tryAcquire_ShouldCountWithoutLimit_WhenPremiumUser() {
+        // Arrange
+        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(true);
+
+        // Act
+        boolean acquired = usageQuota.tryAcquire(userId, QuotaType.WALLETS);
+
+        // Assert
+        assertTrue(acquired);
+        verify(counterRepository).incrementIfBelow(userId, "WALLETS", Integer.MAX_VALUE);
+    }
+
+    @Test
+    void tryAcquire_ShouldSkipTierLookup_WhenQuotaHasNoFreeLimit() {
+        // Act
+        boolean acquired = usageQuota.tryAcquire(userId, QuotaType.CUSTOM_CATEGORIES);
+
+        // Assert
+        assertTrue(acquired);
+        verifyNoInteractions(subscriptionHelper);
+        verify(counterRepository).incrementIfBelow(userId, "CUSTOM_CATEGORIES", Integer.MAX_VALUE);
+    }
+}
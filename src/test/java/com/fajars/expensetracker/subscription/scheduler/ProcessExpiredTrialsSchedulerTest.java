@@ -0,0 +1,154 @@
+package com.fajars.expensetracker.subscription.scheduler;
+
+import com.fajars.expensetracker.common.logging.BusinessEventLogger;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.subscription.SubscriptionHelper;
+import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
+import com.fajars.expensetracker.subscription.projection.ExpiredSubscription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProcessExpiredTrialsScheduler.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProcessExpiredTrialsSchedulerTest {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private BusinessEventLogger businessEventLogger;
+
+    @Mock
+    private SubscriptionHelper subscriptionHelper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProcessExpiredTrialsScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ProcessExpiredTrialsScheduler(
+            subscriptionRepository, metricsService, businessEventLogger, subscriptionHelper, transactionManager);
+    }
+
+    @Test
+    void processExpiredTrials_ShouldExpireInChunks_EachInItsOwnTransaction() {
+        // Arrange
+        ExpiredSubscription first = expired(UUID.randomUUID());
+        ExpiredSubscription last = expired(UUID.randomUUID());
+        when(subscriptionRepository.expireChunk(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+            .thenReturn(Collections.nCopies(CHUNK_SIZE, first))
+            .thenReturn(List.of(last));
+
+        // Act
+        int expired = scheduler.processExpiredTrials();
+
+        // Assert
+        assertEquals(CHUNK_SIZE + 1, expired);
+        verify(subscriptionRepository, times(2)).expireChunk(any(), anyInt());
+        verify(transactionManager, times(2)).commit(any());
+        verify(subscriptionHelper, times(CHUNK_SIZE)).evictTier(first.getUserId());
+        verify(subscriptionHelper).evictTier(last.getUserId());
+        verify(metricsService).incrementCounterBy("subscription.trial_expired", CHUNK_SIZE);
+        verify(metricsService, times(2)).incrementCounterBy("subscription.downgraded_to_free", 1);
+        verify(businessEventLogger, times(CHUNK_SIZE + 1))
+            .logBusinessEvent(eq("TRIAL_EXPIRED_TO_FREE"), eq("user@example.com"), anyMap());
+    }
+
+    @Test
+    void processExpiredTrials_ShouldKeepCommittedChunks_WhenLaterChunkFails() {
+        // Arrange
+        ExpiredSubscription first = expired(UUID.randomUUID());
+        when(subscriptionRepository.expireChunk(any(LocalDateTime.class), anyInt()))
+            .thenReturn(Collections.nCopies(CHUNK_SIZE, first))
+            .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        // Act & Assert
+        assertThrows(QueryTimeoutException.class, () -> scheduler.processExpiredTrials());
+        verify(transactionManager).commit(any());
+        verify(transactionManager).rollback(any());
+        verify(subscriptionHelper, times(CHUNK_SIZE)).evictTier(first.getUserId());
+        verify(metricsService).incrementCounter("subscription.trial_expired.job_failed");
+        verify(metricsService, never()).incrementCounter("subscription.trial_expired.job_completed");
+    }
+
+    @Test
+    void processExpiredTrials_ShouldDoNothing_WhenNothingExpired() {
+        // Arrange
+        when(subscriptionRepository.expireChunk(any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+
+        // Act
+        int expired = scheduler.processExpiredTrials();
+
+        // Assert
+        assertEquals(0, expired);
+        verifyNoInteractions(subscriptionHelper, businessEventLogger);
+        verify(metricsService, never()).incrementCounterBy(eq("subscription.trial_expired"), anyDouble());
+    }
+
+    private static ExpiredSubscription expired(UUID userId) {
+        return new Expired(UUID.randomUUID(), userId, UUID.randomUUID());
+    }
+
+    private record Expired(UUID id, UUID userId, UUID freeSubscriptionId) implements ExpiredSubscription {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public UUID getUserId() {
+            return userId;
+        }
+
+        @Override
+        public String getUserEmail() {
+            return "user@example.com";
+        }
+
+        @Override
+        public String getPlan() {
+            return "PREMIUM";
+        }
+
+        @Override
+        public LocalDateTime getStartedAt() {
+            return LocalDateTime.now().minusDays(44);
+        }
+
+        @Override
+        public LocalDateTime getEndedAt() {
+            return LocalDateTime.now().minusDays(14);
+        }
+
+        @Override
+        public UUID getFreeSubscriptionId() {
+            return freeSubscriptionId;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.fajars.expensetracker.subscription.usecase;
 import com.fajars.expensetracker.common.exception.BusinessException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.subscription.SubscriptionHelper;
 import com.fajars.expensetracker.subscription.domain.Subscription;
 import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
 import com.fajars.expensetracker.subscription.domain.SubscriptionStatus;
@@ -44,6 +45,9 @@ class ActivateSubscriptionUseCaseTest {
     @Mock
     private BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private SubscriptionHelper subscriptionHelper;
+
     @InjectMocks
     private ActivateSubscriptionUseCase useCase;
 
@@ -93,6 +97,7 @@ class ActivateSubscriptionUseCaseTest {
 
         verify(subscriptionRepository).save(any(Subscription.class));
         verify(metricsService).incrementCounter(eq("subscription.activated"));
+        verify(subscriptionHelper).evictTier(userId);
         verify(businessEventLogger).logBusinessEvent(eq("SUBSCRIPTION_ACTIVATED"), eq(user.getEmail()), any());
     }
 
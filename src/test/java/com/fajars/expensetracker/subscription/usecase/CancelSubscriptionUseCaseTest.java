@@ -11,6 +11,7 @@ import static org.mockito.Mockito.when;
 import com.fajars.expensetracker.common.exception.BusinessException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.subscription.SubscriptionHelper;
 import com.fajars.expensetracker.subscription.domain.Subscription;
 import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
 import com.fajars.expensetracker.subscription.domain.SubscriptionStatus;
@@ -46,6 +47,9 @@ class CancelSubscriptionUseCaseTest {
     @Mock
     private BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private SubscriptionHelper subscriptionHelper;
+
     @InjectMocks
     private CancelSubscriptionUseCase useCase;
 
@@ -84,6 +88,7 @@ class CancelSubscriptionUseCaseTest {
         verify(subscriptionRepository).findActiveSubscriptionByUserId(userId);
         verify(subscriptionRepository).save(any(Subscription.class));
         verify(metricsService).incrementCounter(eq("subscription.cancelled"));
+        verify(subscriptionHelper).evictTier(userId);
         verify(businessEventLogger).logBusinessEvent(eq("SUBSCRIPTION_CANCELLED"), eq(user.getEmail()), any());
     }
 
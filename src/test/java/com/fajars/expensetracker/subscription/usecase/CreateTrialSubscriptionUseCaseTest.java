@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 import com.fajars.expensetracker.common.exception.BusinessException;
 import com.fajars.expensetracker.common.logging.BusinessEventLogger;
 import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.subscription.SubscriptionHelper;
 import com.fajars.expensetracker.subscription.domain.Subscription;
 import com.fajars.expensetracker.subscription.domain.SubscriptionRepository;
 import com.fajars.expensetracker.subscription.domain.SubscriptionStatus;
@@ -53,6 +54,9 @@ class CreateTrialSubscriptionUseCaseTest {
     @Mock
     private BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private SubscriptionHelper subscriptionHelper;
+
     @InjectMocks
     private CreateTrialSubscriptionUseCase useCase;
 
@@ -100,6 +104,7 @@ class CreateTrialSubscriptionUseCaseTest {
         verify(userRepository).findById(userId);
         verify(subscriptionRepository).save(any(Subscription.class));
         verify(metricsService).incrementCounter(eq("subscription.trial_started"));
+        verify(subscriptionHelper).evictTier(userId);
         verify(businessEventLogger).logBusinessEvent(eq("TRIAL_STARTED"), eq(user.getEmail()), any());
     }
 
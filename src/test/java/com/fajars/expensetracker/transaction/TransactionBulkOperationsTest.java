@@ -0,0 +1,73 @@
+package com.fajars.expensetracker.transaction;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.transaction.domain.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBulkOperationsTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TransactionBulkOperations bulkOperations;
+
+    private UUID userId;
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        walletId = UUID.randomUUID();
+    }
+
+    @Test
+    void deleteByWallet_ShouldRunChunksInOwnTransactions_UntilAShortChunk() {
+        // Arrange
+        when(transactionRepository.deleteChunkByWalletId(userId, walletId, 1000)).thenReturn(1000, 1000, 3);
+
+        // Act
+        long deleted = bulkOperations.deleteByWallet(userId, walletId);
+
+        // Assert
+        assertEquals(2003, deleted);
+        verify(transactionRepository, times(3)).deleteChunkByWalletId(userId, walletId, 1000);
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(3)).commit(any());
+        verify(metricsService).incrementCounterBy("transactions.bulk.affected", 2003, "operation", "delete_by_wallet");
+    }
+
+    @Test
+    void reassignCategory_ShouldStopAfterOneStatement_WhenNothingToMove() {
+        // Arrange
+        UUID fromCategoryId = UUID.randomUUID();
+        UUID toCategoryId = UUID.randomUUID();
+        when(transactionRepository.reassignChunkToCategory(userId, fromCategoryId, toCategoryId, 1000)).thenReturn(0);
+
+        // Act
+        long moved = bulkOperations.reassignCategory(userId, fromCategoryId, toCategoryId);
+
+        // Assert
+        assertEquals(0, moved);
+        verify(transactionRepository, times(1)).reassignChunkToCategory(any(), any(), any(), anyInt());
+        verify(metricsService, never()).incrementCounterBy(anyString(), anyDouble(), any(String[].class));
+    }
+}
@@ -0,0 +1,142 @@
+package com.fajars.expensetracker.transaction.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fajars.expensetracker.category.domain.Category;
+import com.fajars.expensetracker.category.domain.CategoryType;
+import com.fajars.expensetracker.common.exception.BusinessException;
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.transaction.api.TransactionCursor;
+import com.fajars.expensetracker.transaction.api.TransactionCursorPageResponse;
+import com.fajars.expensetracker.transaction.api.TransactionFilter;
+import com.fajars.expensetracker.transaction.api.TransactionType;
+import com.fajars.expensetracker.transaction.domain.Transaction;
+import com.fajars.expensetracker.transaction.domain.TransactionQuery;
+import com.fajars.expensetracker.transaction.domain.TransactionRepository;
+import com.fajars.expensetracker.transaction.usecase.findalltransaction.FindAllTransactionsUseCase;
+import com.fajars.expensetracker.wallet.domain.Currency;
+import com.fajars.expensetracker.wallet.domain.Wallet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for cursor pagination in FindAllTransactionsUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class FindAllTransactionsUseCaseTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @InjectMocks
+    private FindAllTransactionsUseCase useCase;
+
+    private UUID userId;
+    private Wallet wallet;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        wallet = Wallet.builder()
+            .id(UUID.randomUUID())
+            .name("Main Wallet")
+            .currency(Currency.IDR)
+            .initialBalance(0.0)
+            .build();
+        category = Category.builder()
+            .id(UUID.randomUUID())
+            .name("Food")
+            .type(CategoryType.EXPENSE)
+            .build();
+        when(currentUserProvider.getUserId()).thenReturn(userId);
+    }
+
+    @Test
+    void scrollWithFilters_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        // Arrange
+        List<Transaction> rows = transactions(3);
+        when(transactionRepository.scrollByQuery(any(TransactionQuery.class), isNull(), isNull(), eq(3)))
+            .thenReturn(rows);
+        TransactionFilter filter = new TransactionFilter(null, null, null, null, null, 0, 2);
+
+        // Act
+        TransactionCursorPageResponse result = useCase.scrollWithFilters(filter, null, false);
+
+        // Assert
+        assertEquals(2, result.transactions().size());
+        assertTrue(result.hasMore());
+        assertNotNull(result.nextCursor());
+        TransactionCursor cursor = TransactionCursor.decode(result.nextCursor());
+        assertEquals(rows.get(1).getId(), cursor.id());
+        assertEquals(rows.get(1).getDate(), cursor.date());
+        assertNull(result.totalElements());
+        verify(transactionRepository, never()).getTotalsByQuery(any());
+    }
+
+    @Test
+    void scrollWithFilters_ShouldSeekAfterCursor_WhenCursorProvided() {
+        // Arrange
+        LocalDateTime afterDate = LocalDateTime.of(2024, 1, 15, 10, 30);
+        UUID afterId = UUID.randomUUID();
+        String after = new TransactionCursor(afterDate, afterId).encode();
+        when(transactionRepository.scrollByQuery(any(TransactionQuery.class), eq(afterDate), eq(afterId), eq(21)))
+            .thenReturn(transactions(1));
+        TransactionFilter filter = new TransactionFilter(null, null, null, null, null, 0, 20);
+
+        // Act
+        TransactionCursorPageResponse result = useCase.scrollWithFilters(filter, after, false);
+
+        // Assert
+        assertEquals(1, result.transactions().size());
+        assertFalse(result.hasMore());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void scrollWithFilters_ShouldRejectMalformedCursor() {
+        // Arrange
+        TransactionFilter filter = new TransactionFilter(null, null, null, null, null, 0, 20);
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> useCase.scrollWithFilters(filter, "not-a-cursor", false));
+    }
+
+    private List<Transaction> transactions(int count) {
+        List<Transaction> result = new ArrayList<>();
+        LocalDateTime date = LocalDateTime.of(2024, 1, 31, 12, 0);
+        for (int i = 0; i < count; i++) {
+            result.add(Transaction.builder()
+                .id(UUID.randomUUID())
+                .wallet(wallet)
+                .category(category)
+                .type(TransactionType.EXPENSE)
+                .amount(10000.0)
+                .date(date.minusDays(i))
+                .build());
+        }
+        return result;
+    }
+}
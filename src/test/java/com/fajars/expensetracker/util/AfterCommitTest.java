@@ -0,0 +1,44 @@
+package com.fajars.expensetracker.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fajars.expensetracker.common.util.AfterCommit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AfterCommitTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evict_ShouldRunOnce_WithoutTransaction() {
+        AtomicInteger evictions = new AtomicInteger();
+
+        AfterCommit.evict(evictions::incrementAndGet);
+
+        assertEquals(1, evictions.get());
+    }
+
+    @Test
+    void evict_ShouldRunAgainAfterCommit_InsideTransaction() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        AtomicInteger evictions = new AtomicInteger();
+
+        // Act
+        AfterCommit.evict(evictions::incrementAndGet);
+        assertEquals(1, evictions.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(2, evictions.get());
+    }
+}
@@ -0,0 +1,63 @@
+package com.fajars.expensetracker.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fajars.expensetracker.auth.AuthenticatedUser;
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.common.util.JwtUtil;
+import com.fajars.expensetracker.common.util.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private JwtUtil jwtUtil;
+    private MetricsService metricsService;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil("test-secret-for-unit-test-which-is-long-enough"));
+        metricsService = mock(MetricsService.class);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, metricsService);
+    }
+
+    @Test
+    void authenticate_ShouldVerifySignatureOnce_WhenSameTokenIsReused() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String token = jwtUtil.generateToken(userId, "test-user@example.com");
+
+        // Act
+        AuthenticatedUser first = verifiedTokenCache.authenticate(token);
+        AuthenticatedUser second = verifiedTokenCache.authenticate(token);
+
+        // Assert
+        assertEquals(userId, first.getUserId());
+        assertEquals("test-user@example.com", first.getEmail());
+        assertSame(first, second);
+        verify(jwtUtil, times(1)).validateAndGetClaims(token);
+        verify(metricsService).incrementCounter("auth.jwt.cache.requests", "result", "miss");
+        verify(metricsService).incrementCounter("auth.jwt.cache.requests", "result", "hit");
+    }
+
+    @Test
+    void authenticate_ShouldThrowAndNotCache_WhenSignatureIsInvalid() {
+        // Arrange - token signed with another key
+        String foreignToken = new JwtUtil("another-secret-for-unit-test-which-is-long-enough")
+            .generateToken(UUID.randomUUID(), "attacker@example.com");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> verifiedTokenCache.authenticate(foreignToken));
+        assertThrows(JwtException.class, () -> verifiedTokenCache.authenticate(foreignToken));
+        verify(jwtUtil, times(2)).validateAndGetClaims(foreignToken);
+    }
+}
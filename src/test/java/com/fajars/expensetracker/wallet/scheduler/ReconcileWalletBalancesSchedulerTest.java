@@ -0,0 +1,95 @@
+package com.fajars.expensetracker.wallet.scheduler;
+
+import com.fajars.expensetracker.common.metrics.MetricsService;
+import com.fajars.expensetracker.report.ReportCacheInvalidator;
+import com.fajars.expensetracker.wallet.domain.WalletRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReconcileWalletBalancesScheduler.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReconcileWalletBalancesSchedulerTest {
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Mock
+    private WalletRepository walletRepository;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private ReportCacheInvalidator reportCacheInvalidator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReconcileWalletBalancesScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ReconcileWalletBalancesScheduler(
+            walletRepository, metricsService, reportCacheInvalidator, transactionManager);
+    }
+
+    @Test
+    void reconcile_ShouldLockEachChunk_BeforeRebuildingItsTotals() {
+        // Arrange
+        List<UUID> firstChunk = Stream.generate(UUID::randomUUID).limit(CHUNK_SIZE).toList();
+        List<UUID> lastChunk = List.of(UUID.randomUUID());
+        UUID lastOfFirstChunk = firstChunk.get(CHUNK_SIZE - 1);
+        when(walletRepository.findIdsAfter(new UUID(0L, 0L), CHUNK_SIZE)).thenReturn(firstChunk);
+        when(walletRepository.findIdsAfter(lastOfFirstChunk, CHUNK_SIZE)).thenReturn(lastChunk);
+        when(walletRepository.reconcileLedgerTotals(firstChunk, ReconcileWalletBalancesScheduler.LEDGER_TOLERANCE))
+            .thenReturn(2);
+        when(walletRepository.reconcileLedgerTotals(lastChunk, ReconcileWalletBalancesScheduler.LEDGER_TOLERANCE))
+            .thenReturn(0);
+
+        // Act
+        int corrected = scheduler.reconcile();
+
+        // Assert
+        assertEquals(2, corrected);
+        InOrder inOrder = inOrder(walletRepository);
+        inOrder.verify(walletRepository).lockForLedgerReconcile(firstChunk);
+        inOrder.verify(walletRepository).reconcileLedgerTotals(eq(firstChunk), any());
+        inOrder.verify(walletRepository).lockForLedgerReconcile(lastChunk);
+        inOrder.verify(walletRepository).reconcileLedgerTotals(eq(lastChunk), any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(metricsService).incrementCounterBy("wallet.ledger.reconciled", 2);
+        verify(reportCacheInvalidator).evictAll();
+    }
+
+    @Test
+    void reconcile_ShouldNotEvictCaches_WhenNoWalletDrifted() {
+        // Arrange
+        List<UUID> walletIds = List.of(UUID.randomUUID());
+        when(walletRepository.findIdsAfter(any(), anyInt())).thenReturn(walletIds);
+        when(walletRepository.reconcileLedgerTotals(eq(walletIds), any())).thenReturn(0);
+
+        // Act
+        int corrected = scheduler.reconcile();
+
+        // Assert
+        assertEquals(0, corrected);
+        verify(walletRepository).findIdsAfter(any(), anyInt());
+        verifyNoInteractions(reportCacheInvalidator);
+    }
+}
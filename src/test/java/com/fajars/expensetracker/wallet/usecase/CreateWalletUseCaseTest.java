@@ -1,5 +1,7 @@
 package com.fajars.expensetracker.wallet.usecase;
 
+import com.fajars.expensetracker.subscription.UsageQuota;
+import com.fajars.expensetracker.subscription.domain.QuotaType;
 import com.fajars.expensetracker.user.domain.User;
 import com.fajars.expensetracker.wallet.api.CreateWalletRequest;
 import com.fajars.expensetracker.wallet.api.WalletResponse;
@@ -34,7 +36,10 @@ class CreateWalletUseCaseTest {
     private com.fajars.expensetracker.common.logging.BusinessEventLogger businessEventLogger;
 
     @Mock
-    private com.fajars.expensetracker.subscription.SubscriptionHelper subscriptionHelper;
+    private UsageQuota usageQuota;
+
+    @Mock
+    private com.fajars.expensetracker.report.ReportCacheInvalidator reportCacheInvalidator;
 
     @InjectMocks
     private CreateWalletUseCase useCase;
@@ -50,8 +55,7 @@ class CreateWalletUseCaseTest {
     void create_ShouldCreateWallet_WhenValidRequest() {
         // Arrange
         CreateWalletRequest request = new CreateWalletRequest("Main Wallet", Currency.IDR, 1000000.0);
-        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
-        when(walletRepository.countByUserId(userId)).thenReturn(0L);
+        when(usageQuota.tryAcquire(userId, QuotaType.WALLETS)).thenReturn(true);
 
         Wallet savedWallet = Wallet.builder()
                 .id(UUID.randomUUID())
@@ -73,20 +77,20 @@ class CreateWalletUseCaseTest {
         assertEquals("Main Wallet", result.name());
         assertEquals(Currency.IDR, result.currency());
         assertEquals(1000000.0, result.initialBalance());
-        verify(walletRepository).countByUserId(userId);
+        verify(usageQuota).tryAcquire(userId, QuotaType.WALLETS);
         verify(walletRepository).save(any(Wallet.class));
+        verify(reportCacheInvalidator).evictUser(userId);
     }
 
     @Test
     void create_ShouldThrowException_WhenWalletLimitExceeded() {
         // Arrange
         CreateWalletRequest request = new CreateWalletRequest("Second Wallet", Currency.IDR, 1000000.0);
-        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
-        when(walletRepository.countByUserId(userId)).thenReturn(1L);
+        when(usageQuota.tryAcquire(userId, QuotaType.WALLETS)).thenReturn(false);
 
         // Act & Assert
         assertThrows(IllegalStateException.class, () -> useCase.create(userId, request));
-        verify(walletRepository).countByUserId(userId);
+        verify(usageQuota).tryAcquire(userId, QuotaType.WALLETS);
         verify(walletRepository, never()).save(any());
     }
 
@@ -94,8 +98,7 @@ class CreateWalletUseCaseTest {
     void create_ShouldThrowException_WhenNameIsEmpty() {
         // Arrange
         CreateWalletRequest request = new CreateWalletRequest("", Currency.IDR, 1000000.0);
-        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
-        when(walletRepository.countByUserId(userId)).thenReturn(0L);
+        when(usageQuota.tryAcquire(userId, QuotaType.WALLETS)).thenReturn(true);
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> useCase.create(userId, request));
@@ -106,8 +109,7 @@ class CreateWalletUseCaseTest {
     void create_ShouldThrowException_WhenInitialBalanceIsNegative() {
         // Arrange
         CreateWalletRequest request = new CreateWalletRequest("Wallet", Currency.IDR, -100.0);
-        when(subscriptionHelper.isPremiumUser(userId)).thenReturn(false);
-        when(walletRepository.countByUserId(userId)).thenReturn(0L);
+        when(usageQuota.tryAcquire(userId, QuotaType.WALLETS)).thenReturn(true);
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> useCase.create(userId, request));
@@ -1,5 +1,7 @@
 package com.fajars.expensetracker.wallet.usecase;
 
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
+import com.fajars.expensetracker.transaction.TransactionBulkOperations;
 import com.fajars.expensetracker.user.domain.User;
 import com.fajars.expensetracker.wallet.domain.Currency;
 import com.fajars.expensetracker.wallet.domain.Wallet;
@@ -10,7 +12,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Date;
 import java.util.Optional;
@@ -28,6 +32,21 @@ class DeleteWalletUseCaseTest {
     @Mock
     private com.fajars.expensetracker.common.logging.BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private com.fajars.expensetracker.report.ReportCacheInvalidator reportCacheInvalidator;
+
+    @Mock
+    private TransactionBulkOperations transactionBulkOperations;
+
+    @Mock
+    private CurrentUserProvider userProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private com.fajars.expensetracker.subscription.UsageQuota usageQuota;
+
     @InjectMocks
     private DeleteWalletUseCase useCase;
 
@@ -49,19 +68,30 @@ class DeleteWalletUseCaseTest {
                 .createdAt(new Date())
                 .updatedAt(new Date())
                 .build();
+
+        when(userProvider.getUserId()).thenReturn(userId);
     }
 
     @Test
-    void delete_ShouldDeleteWallet_WhenValidRequest() {
+    void delete_ShouldBulkDeleteTransactionsThenWallet_WhenValidRequest() {
         // Arrange
         when(walletRepository.findByIdAndUserId(walletId, userId)).thenReturn(Optional.of(wallet));
+        when(transactionBulkOperations.deleteByWallet(userId, walletId)).thenReturn(10_000L, 0L);
+        when(walletRepository.deleteByIdAndUserId(walletId, userId)).thenReturn(1);
 
         // Act
-        useCase.delete(walletId, userId);
+        useCase.delete(walletId);
 
-        // Assert
-        verify(walletRepository).findByIdAndUserId(walletId, userId);
-        verify(walletRepository).delete(wallet);
+        // Assert - chunks first, then the remainder and the wallet in one final transaction
+        InOrder inOrder = inOrder(transactionBulkOperations, transactionManager, walletRepository, reportCacheInvalidator);
+        inOrder.verify(transactionBulkOperations).deleteByWallet(userId, walletId);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(transactionBulkOperations).deleteByWallet(userId, walletId);
+        inOrder.verify(walletRepository).deleteByIdAndUserId(walletId, userId);
+        inOrder.verify(reportCacheInvalidator).evictUser(userId);
+        inOrder.verify(transactionManager).commit(any());
+        verify(usageQuota).release(userId, com.fajars.expensetracker.subscription.domain.QuotaType.WALLETS);
+        verify(walletRepository, never()).delete(any());
     }
 
     @Test
@@ -70,7 +100,8 @@ class DeleteWalletUseCaseTest {
         when(walletRepository.findByIdAndUserId(walletId, userId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> useCase.delete(walletId, userId));
-        verify(walletRepository, never()).delete(any());
+        assertThrows(IllegalArgumentException.class, () -> useCase.delete(walletId));
+        verifyNoInteractions(transactionBulkOperations);
+        verify(walletRepository, never()).deleteByIdAndUserId(any(), any());
     }
 }
@@ -6,11 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.fajars.expensetracker.user.domain.User;
+import com.fajars.expensetracker.common.security.CurrentUserProvider;
 import com.fajars.expensetracker.wallet.api.WalletResponse;
 import com.fajars.expensetracker.wallet.domain.Currency;
-import com.fajars.expensetracker.wallet.domain.Wallet;
 import com.fajars.expensetracker.wallet.domain.WalletRepository;
+import com.fajars.expensetracker.wallet.projection.WalletSummary;
 import com.fajars.expensetracker.wallet.usecase.fetchwallet.FindAllWalletsUseCase;
 import java.util.Arrays;
 import java.util.Date;
@@ -29,6 +29,9 @@ class FindAllWalletsUseCaseTest {
     @Mock
     private WalletRepository walletRepository;
 
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
     @InjectMocks
     private FindAllWalletsUseCase useCase;
 
@@ -37,32 +40,16 @@ class FindAllWalletsUseCaseTest {
     @BeforeEach
     void setUp() {
         userId = UUID.randomUUID();
+        when(currentUserProvider.getUserId()).thenReturn(userId);
     }
 
     @Test
     void findAllByUserId_ShouldReturnWallets() {
         // Arrange
-        Wallet wallet1 = Wallet.builder()
-                .id(UUID.randomUUID())
-                .user(User.builder().id(userId).build())
-                .name("Main Wallet")
-                .currency(Currency.IDR)
-                .initialBalance(1000000.0)
-                .createdAt(new Date())
-                .updatedAt(new Date())
-                .build();
-
-        Wallet wallet2 = Wallet.builder()
-                .id(UUID.randomUUID())
-                .user(User.builder().id(userId).build())
-                .name("Savings")
-                .currency(Currency.USD)
-                .initialBalance(500.0)
-                .createdAt(new Date())
-                .updatedAt(new Date())
-                .build();
-
-        when(walletRepository.findByUserId(userId)).thenReturn(Arrays.asList(wallet1, wallet2));
+        WalletSummary wallet1 = new Summary(UUID.randomUUID(), "Main Wallet", Currency.IDR, 1000000.0, 250000.0, 50000.0);
+        WalletSummary wallet2 = new Summary(UUID.randomUUID(), "Savings", Currency.USD, 500.0, 0.0, 0.0);
+
+        when(walletRepository.findSummariesByUserId(userId)).thenReturn(Arrays.asList(wallet1, wallet2));
 
         // Act
         List<WalletResponse> result = useCase.findAllByUserId();
@@ -71,14 +58,17 @@ class FindAllWalletsUseCaseTest {
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("Main Wallet", result.get(0).name());
+        assertEquals(1200000.0, result.get(0).currentBalance());
+        assertEquals(250000.0, result.get(0).totalIncome());
+        assertEquals(50000.0, result.get(0).totalExpense());
         assertEquals("Savings", result.get(1).name());
-        verify(walletRepository).findByUserId(userId);
+        verify(walletRepository).findSummariesByUserId(userId);
     }
 
     @Test
     void findAllByUserId_ShouldReturnEmptyList_WhenNoWallets() {
         // Arrange
-        when(walletRepository.findByUserId(userId)).thenReturn(Arrays.asList());
+        when(walletRepository.findSummariesByUserId(userId)).thenReturn(Arrays.asList());
 
         // Act
         List<WalletResponse> result = useCase.findAllByUserId();
@@ -86,6 +76,51 @@ class FindAllWalletsUseCaseTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(walletRepository).findByUserId(userId);
+        verify(walletRepository).findSummariesByUserId(userId);
+    }
+
+    private record Summary(
+        UUID id, String name, Currency currency, Double initialBalance, Double totalIncome, Double totalExpense
+    ) implements WalletSummary {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Currency getCurrency() {
+            return currency;
+        }
+
+        @Override
+        public Double getInitialBalance() {
+            return initialBalance;
+        }
+
+        @Override
+        public Double getTotalIncome() {
+            return totalIncome;
+        }
+
+        @Override
+        public Double getTotalExpense() {
+            return totalExpense;
+        }
+
+        @Override
+        public Date getCreatedAt() {
+            return null;
+        }
+
+        @Override
+        public Date getUpdatedAt() {
+            return null;
+        }
     }
 }
@@ -7,9 +7,12 @@ import com.fajars.expensetracker.wallet.domain.Currency;
 import com.fajars.expensetracker.wallet.domain.Wallet;
 import com.fajars.expensetracker.wallet.domain.WalletRepository;
 import com.fajars.expensetracker.wallet.usecase.update.UpdateWalletUseCase;
+import jakarta.persistence.Column;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -31,6 +34,9 @@ class UpdateWalletUseCaseTest {
     @Mock
     private com.fajars.expensetracker.common.logging.BusinessEventLogger businessEventLogger;
 
+    @Mock
+    private com.fajars.expensetracker.report.ReportCacheInvalidator reportCacheInvalidator;
+
     @InjectMocks
     private UpdateWalletUseCase useCase;
 
@@ -68,6 +74,7 @@ class UpdateWalletUseCaseTest {
         assertNotNull(result);
         verify(walletRepository).findByIdAndUserId(walletId, userId);
         verify(walletRepository).save(any(Wallet.class));
+        verify(reportCacheInvalidator).evictUser(userId);
     }
 
     @Test
@@ -102,4 +109,15 @@ class UpdateWalletUseCaseTest {
         assertThrows(IllegalArgumentException.class, () -> useCase.update(walletId, userId, request));
         verify(walletRepository, never()).save(any());
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"totalIncome", "totalExpense"})
+    void ledgerTotals_ShouldBeMappedReadOnly(String fieldName) throws NoSuchFieldException {
+        // A save of a loaded wallet must not write back totals that WalletBalanceLedger changed meanwhile
+        Column column = Wallet.class.getDeclaredField(fieldName).getAnnotation(Column.class);
+
+        assertNotNull(column);
+        assertFalse(column.insertable());
+        assertFalse(column.updatable());
+    }
 }